@@ -31,6 +31,7 @@ import de.adorsys.psd2.aspsp.profile.domain.pis.PisAspspProfileBankSetting;
 import de.adorsys.psd2.aspsp.profile.domain.pis.PisAspspProfileSetting;
 import de.adorsys.psd2.aspsp.profile.domain.pis.PisRedirectLinkBankSetting;
 import de.adorsys.psd2.aspsp.profile.domain.pis.PisRedirectLinkSetting;
+import de.adorsys.psd2.aspsp.profile.event.AspspProfileChangedEvent;
 import de.adorsys.psd2.aspsp.profile.mapper.AspspSettingsToBankProfileSettingMapper;
 import de.adorsys.psd2.xs2a.core.ais.BookingStatus;
 import de.adorsys.psd2.xs2a.core.profile.*;
@@ -42,12 +43,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.*;
 
 import static de.adorsys.psd2.aspsp.profile.domain.SupportedAccountReferenceField.IBAN;
 import static de.adorsys.psd2.xs2a.core.ais.BookingStatus.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -106,6 +109,8 @@ class AspspProfileUpdateServiceImplTest {
 
     @Mock
     private ProfileConfigurations profileConfigurations;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @Spy
     private AspspSettingsToBankProfileSettingMapper profileSettingMapper = Mappers.getMapper(AspspSettingsToBankProfileSettingMapper.class);
@@ -122,6 +127,7 @@ class AspspProfileUpdateServiceImplTest {
 
         //Then:
         assertEquals(Collections.singletonList(REDIRECT_APPROACH), profileConfigurations.getSetting(INSTANCE_ID).getCommon().getScaApproachesSupported());
+        verify(applicationEventPublisher).publishEvent(new AspspProfileChangedEvent(INSTANCE_ID));
     }
 
     @Test
@@ -166,6 +172,7 @@ class AspspProfileUpdateServiceImplTest {
         assertEquals(AIS_PIS_SESSION_SUPPORTED, setting.getCommon().isAisPisSessionsSupported());
         assertEquals(XS2A_BASE_LINKS_URL, setting.getCommon().getXs2aBaseLinksUrl());
         assertEquals(SCA_REDIRECT_FLOW, setting.getCommon().getScaRedirectFlow());
+        verify(applicationEventPublisher).publishEvent(new AspspProfileChangedEvent(INSTANCE_ID));
     }
 
     private AspspSettings buildAspspSettings() {
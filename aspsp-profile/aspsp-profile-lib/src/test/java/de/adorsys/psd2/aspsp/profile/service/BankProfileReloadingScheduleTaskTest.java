@@ -7,6 +7,7 @@ import de.adorsys.psd2.aspsp.profile.domain.ais.*;
 import de.adorsys.psd2.aspsp.profile.domain.common.CommonAspspProfileBankSetting;
 import de.adorsys.psd2.aspsp.profile.domain.piis.PiisAspspProfileBankSetting;
 import de.adorsys.psd2.aspsp.profile.domain.pis.PisAspspProfileBankSetting;
+import de.adorsys.psd2.aspsp.profile.event.AspspProfileChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +15,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 
@@ -26,6 +28,8 @@ class BankProfileReloadingScheduleTaskTest {
     private BankProfileReadingService bankProfileReadingService;
     @Mock
     private ProfileConfigurations profileConfigurations;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks
     private BankProfileReloadingScheduleTask bankProfileReloadingScheduleTask;
@@ -46,6 +50,7 @@ class BankProfileReloadingScheduleTaskTest {
         ArgumentCaptor<ProfileConfigurations> profileConfigurationsArgumentCaptor = ArgumentCaptor.forClass(ProfileConfigurations.class);
         verify(profileConfigurations, times(1)).updateSettings(profileConfigurationsArgumentCaptor.capture());
         verify(profileConfigurations, times(1)).setDefaultProperties();
+        verify(applicationEventPublisher, times(1)).publishEvent(new AspspProfileChangedEvent(null));
 
         assertEquals(bankProfileReadingService.getProfileConfigurations().getSingleConfiguration(), newProfileConfiguration);
         assertEquals(profileConfigurationsArgumentCaptor.getValue().getSingleConfiguration().getSetting(), newProfileConfiguration.getSetting());
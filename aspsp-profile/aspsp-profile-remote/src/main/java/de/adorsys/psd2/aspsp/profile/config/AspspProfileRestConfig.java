@@ -15,13 +15,13 @@
  */
 package de.adorsys.psd2.aspsp.profile.config;
 
+import de.adorsys.psd2.http.client.PooledHttpClient;
+import de.adorsys.psd2.http.client.PooledHttpClientSettings;
 import de.adorsys.psd2.logger.web.LoggingContextInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
@@ -34,20 +34,38 @@ public class AspspProfileRestConfig {
     private int readTimeout;
     @Value("${http-client.connection-timeout.ms:10000}")
     private int connectionTimeout;
+    @Value("${http-client.pool.connection-request-timeout.ms:5000}")
+    private int connectionRequestTimeout;
+    @Value("${http-client.pool.max-total:20}")
+    private int maxTotalConnections;
+    @Value("${http-client.pool.max-per-route:20}")
+    private int maxConnectionsPerRoute;
+    @Value("${http-client.pool.idle-eviction.ms:30000}")
+    private long idleEvictionMs;
+    @Value("${http-client.gzip.enabled:false}")
+    private boolean gzipEnabled;
+
+    @Bean(name = "aspspProfileHttpClient")
+    public PooledHttpClient aspspProfileHttpClient() {
+        PooledHttpClientSettings settings = PooledHttpClientSettings.builder()
+                                                .connectionTimeoutMs(connectionTimeout)
+                                                .readTimeoutMs(readTimeout)
+                                                .connectionRequestTimeoutMs(connectionRequestTimeout)
+                                                .maxTotalConnections(maxTotalConnections)
+                                                .maxConnectionsPerRoute(maxConnectionsPerRoute)
+                                                .idleEvictionMs(idleEvictionMs)
+                                                .gzipEnabled(gzipEnabled)
+                                                .build();
+        return new PooledHttpClient("aspsp-profile", settings);
+    }
 
     @Bean(name = "aspspProfileRestTemplate")
     public RestTemplate aspspProfileRestTemplate() {
-        RestTemplate rest = new RestTemplate(clientHttpRequestFactory());
+        RestTemplate rest = new RestTemplate();
+        aspspProfileHttpClient().configure(rest);
         rest.getMessageConverters().removeIf(m -> m.getClass().isAssignableFrom(MappingJackson2XmlHttpMessageConverter.class));
         rest.setErrorHandler(new AspspProfileRestErrorHandler());
         rest.getInterceptors().add(loggingContextInterceptor);
         return rest;
     }
-
-    private ClientHttpRequestFactory clientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setReadTimeout(readTimeout);
-        factory.setConnectTimeout(connectionTimeout);
-        return factory;
-    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.integration.test;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of inserts, performed by given action, using Hibernate statistics.
+ * Statistics are enabled for the measured action only.
+ */
+public class InsertThroughputMeter {
+    private static final Logger log = LoggerFactory.getLogger(InsertThroughputMeter.class);
+
+    private final Statistics statistics;
+
+    public InsertThroughputMeter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Executes the action and reports the number of inserted rows per second
+     *
+     * @param name         name of the measurement, used in the report
+     * @param expectedRows number of rows, inserted by the action, including rows of element collections and join tables
+     * @param action       action to be measured
+     * @return result of the measurement
+     */
+    public Result measure(String name, long expectedRows, Runnable action) {
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            statistics.setStatisticsEnabled(statisticsEnabled);
+        }
+        long durationNanos = System.nanoTime() - start;
+
+        Result result = new Result(name, expectedRows, statistics.getEntityInsertCount(),
+                                   statistics.getPrepareStatementCount(), durationNanos);
+        log.info("{}", result);
+        return result;
+    }
+
+    public static class Result {
+        private final String name;
+        private final long rows;
+        private final long entityInserts;
+        private final long preparedStatements;
+        private final long durationNanos;
+
+        Result(String name, long rows, long entityInserts, long preparedStatements, long durationNanos) {
+            this.name = name;
+            this.rows = rows;
+            this.entityInserts = entityInserts;
+            this.preparedStatements = preparedStatements;
+            this.durationNanos = durationNanos;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getEntityInserts() {
+            return entityInserts;
+        }
+
+        /**
+         * @return number of JDBC statements prepared by Hibernate, including sequence calls.
+         * Batched statements are prepared only once per batch.
+         */
+        public long getPreparedStatements() {
+            return preparedStatements;
+        }
+
+        public long getDurationMs() {
+            return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        }
+
+        public double getRowsPerSecond() {
+            return durationNanos == 0 ? 0 : rows * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d rows (%d entities) in %d ms, %.0f inserts/sec, %d prepared statements",
+                                 name, rows, entityInserts, getDurationMs(), getRowsPerSecond(), preparedStatements);
+        }
+    }
+}
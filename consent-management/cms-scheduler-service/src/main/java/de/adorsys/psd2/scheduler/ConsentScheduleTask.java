@@ -16,51 +16,48 @@
 
 package de.adorsys.psd2.scheduler;
 
-import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
+import de.adorsys.psd2.scheduler.job.ChunkedJobExecutor;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Collections;
+import java.time.OffsetDateTime;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
-import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.RECEIVED;
-import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.VALID;
+import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.*;
 
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ConsentScheduleTask {
+    static final String JOB_NAME = "consent-expiration";
+    private static final Set<ConsentStatus> AVAILABLE_STATUSES = EnumSet.of(RECEIVED, VALID);
+
     private final ConsentJpaRepository consentJpaRepository;
+    private final ChunkedJobExecutor chunkedJobExecutor;
 
     @Scheduled(cron = "${xs2a.cms.consent.cron.expression}")
-    @Transactional
     public void checkConsentStatus() {
         log.info("Consent schedule task is run!");
-        List<ConsentEntity> availableConsents = Optional.ofNullable(consentJpaRepository.findByConsentStatusIn(EnumSet.of(RECEIVED, VALID)))
-                                                 .orElse(Collections.emptyList());
-        consentJpaRepository.saveAll(updateConsent(availableConsents));
+        chunkedJobExecutor.executeExclusively(JOB_NAME, () -> chunkedJobExecutor.processInChunks(JOB_NAME, this::expireNextChunk));
     }
 
-    private List<ConsentEntity> updateConsent(List<ConsentEntity> availableConsents) {
-        return availableConsents.stream()
-                   .filter(ConsentEntity::isExpiredByDate)
-                   .map(this::updateConsentParameters)
-                   .collect(Collectors.toList());
-    }
+    private int expireNextChunk(int chunkSize) {
+        LocalDate today = LocalDate.now();
+        List<Long> consentIds = consentJpaRepository.findIdsExpiredByDate(AVAILABLE_STATUSES, today, PageRequest.of(0, chunkSize));
+        if (consentIds.isEmpty()) {
+            return 0;
+        }
 
-    private ConsentEntity updateConsentParameters(ConsentEntity consent) {
-        consent.setConsentStatus(ConsentStatus.EXPIRED);
-        consent.setExpireDate(LocalDate.now());
-        return consent;
+        consentJpaRepository.expireConsentsByIds(consentIds, AVAILABLE_STATUSES, EXPIRED, today, OffsetDateTime.now());
+        return consentIds.size();
     }
 }
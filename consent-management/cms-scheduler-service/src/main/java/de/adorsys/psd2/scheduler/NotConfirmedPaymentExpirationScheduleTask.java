@@ -16,40 +16,36 @@
 
 package de.adorsys.psd2.scheduler;
 
-import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
 import de.adorsys.psd2.consent.repository.PisCommonPaymentDataRepository;
 import de.adorsys.psd2.consent.service.PisCommonPaymentConfirmationExpirationService;
+import de.adorsys.psd2.scheduler.job.ChunkedJobExecutor;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.EnumSet;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class NotConfirmedPaymentExpirationScheduleTask {
+    static final String JOB_NAME = "not-confirmed-payment-expiration";
+
     private final PisCommonPaymentConfirmationExpirationService pisCommonPaymentConfirmationExpirationService;
     private final PisCommonPaymentDataRepository paymentDataRepository;
+    private final ChunkedJobExecutor chunkedJobExecutor;
 
     @Scheduled(cron = "${xs2a.cms.not-confirmed-payment-expiration.cron.expression}")
-    @Transactional
     public void obsoleteNotConfirmedPaymentIfExpired() {
         log.info("Not confirmed payment expiration schedule task is run!");
+        chunkedJobExecutor.executeExclusively(JOB_NAME, this::obsoleteExpiredPayments);
+    }
 
-        List<PisCommonPaymentData> expiredNotConfirmedPaymentDatas = paymentDataRepository.findByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC))
-                                                                         .stream()
-                                                                         .filter(pisCommonPaymentConfirmationExpirationService::isConfirmationExpired)
-                                                                         .collect(Collectors.toList());
-
-        if (CollectionUtils.isNotEmpty(expiredNotConfirmedPaymentDatas)) {
-            pisCommonPaymentConfirmationExpirationService.updatePaymentDataListOnConfirmationExpiration(expiredNotConfirmedPaymentDatas);
-        }
+    private void obsoleteExpiredPayments() {
+        // expiration period is configured per instance in the ASPSP profile
+        paymentDataRepository.findInstanceIdsByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC))
+            .forEach(instanceId -> chunkedJobExecutor.processInChunks(JOB_NAME, chunkSize -> pisCommonPaymentConfirmationExpirationService.updateNextChunkOnConfirmationExpiration(instanceId, chunkSize)));
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.scheduler;
+
+import de.adorsys.psd2.scheduler.job.ChunkedJobExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Creates monthly partitions of event and consent_usage tables in advance and drops partitions older than retention period,
+ * instead of deleting old rows.
+ * <p>
+ * Applicable only to PostgreSQL databases with partitioning enabled by <code>cms.partitioning.enabled</code> changelog parameter,
+ * so the job is disabled by default and is to be enabled by <code>xs2a.cms.partition-maintenance.cron.expression</code>.
+ */
+@Slf4j
+@Component
+public class PartitionMaintenanceScheduleTask {
+    static final String JOB_NAME = "partition-maintenance";
+    static final String EVENT_TABLE = "event";
+    static final String CONSENT_USAGE_TABLE = "consent_usage";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChunkedJobExecutor chunkedJobExecutor;
+    private final String schemaName;
+    private final int monthsAhead;
+    private final int eventRetentionMonths;
+    private final int consentUsageRetentionMonths;
+
+    public PartitionMaintenanceScheduleTask(JdbcTemplate jdbcTemplate,
+                                            ChunkedJobExecutor chunkedJobExecutor,
+                                            @Value("${spring.jpa.properties.hibernate.default_schema:public}") String schemaName,
+                                            @Value("${xs2a.cms.partition-maintenance.months-ahead:2}") int monthsAhead,
+                                            @Value("${xs2a.cms.partition-maintenance.event.retention-months:0}") int eventRetentionMonths,
+                                            @Value("${xs2a.cms.partition-maintenance.consent-usage.retention-months:0}") int consentUsageRetentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkedJobExecutor = chunkedJobExecutor;
+        this.schemaName = schemaName;
+        this.monthsAhead = monthsAhead;
+        this.eventRetentionMonths = eventRetentionMonths;
+        this.consentUsageRetentionMonths = consentUsageRetentionMonths;
+    }
+
+    @Scheduled(cron = "${xs2a.cms.partition-maintenance.cron.expression:-}")
+    public void maintainPartitions() {
+        log.info("Partition maintenance schedule task is run!");
+        chunkedJobExecutor.executeExclusively(JOB_NAME, () -> {
+            LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+            chunkedJobExecutor.processInChunks(JOB_NAME, chunkSize -> maintainTable(EVENT_TABLE, eventRetentionMonths, currentMonth));
+            chunkedJobExecutor.processInChunks(JOB_NAME, chunkSize -> maintainTable(CONSENT_USAGE_TABLE, consentUsageRetentionMonths, currentMonth));
+        });
+    }
+
+    /**
+     * @return number of dropped partitions
+     */
+    private int maintainTable(String tableName, int retentionMonths, LocalDate currentMonth) {
+        String qualifiedTableName = schemaName + "." + tableName;
+
+        Integer created = jdbcTemplate.queryForObject("select " + schemaName + ".cms_create_monthly_partitions(?, ?, ?)", Integer.class,
+                                                      qualifiedTableName, Date.valueOf(currentMonth), Date.valueOf(currentMonth.plusMonths(monthsAhead)));
+        int dropped = 0;
+        if (retentionMonths > 0) {
+            Integer result = jdbcTemplate.queryForObject("select " + schemaName + ".cms_drop_monthly_partitions(?, ?)", Integer.class,
+                                                         qualifiedTableName, Date.valueOf(currentMonth.minusMonths(retentionMonths)));
+            dropped = result == null ? 0 : result;
+        }
+
+        log.info("Table [{}]: {} partitions created, {} partitions dropped", tableName, created, dropped);
+        return dropped;
+    }
+}
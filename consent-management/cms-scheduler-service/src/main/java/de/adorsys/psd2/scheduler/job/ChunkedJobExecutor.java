@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.scheduler.job;
+
+import de.adorsys.psd2.scheduler.lock.SchedulerLockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Executes scheduled jobs under cluster wide lock and processes their data in chunks of bounded size,
+ * each chunk being committed in its own transaction.
+ */
+@Slf4j
+@Component
+public class ChunkedJobExecutor {
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Map<String, JobStatistics> statistics = new ConcurrentHashMap<>();
+
+    public ChunkedJobExecutor(SchedulerLockService schedulerLockService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${xs2a.cms.scheduler.chunk-size:1000}") int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size should be positive: " + chunkSize);
+        }
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Runs the job, if no other node is running the job with the same name at the moment
+     *
+     * @param jobName name of the job, used as the name of the lock
+     * @param job     job to be executed, supposed to use {@link #processInChunks(String, IntUnaryOperator)}
+     * @return <code>true</code> if the job was executed, <code>false</code> if it was skipped
+     */
+    public boolean executeExclusively(String jobName, Runnable job) {
+        JobStatistics jobStatistics = getStatistics(jobName);
+        if (!schedulerLockService.tryLock(jobName)) {
+            log.info("Job [{}] is skipped, as it is being executed by another node", jobName);
+            jobStatistics.runSkipped();
+            return false;
+        }
+
+        long start = System.currentTimeMillis();
+        boolean successful = false;
+        jobStatistics.runStarted();
+        try {
+            job.run();
+            successful = true;
+        } finally {
+            long durationMs = System.currentTimeMillis() - start;
+            jobStatistics.runFinished(durationMs, successful);
+            schedulerLockService.unlock(jobName);
+            log.info("Job [{}] has {} in {} ms, {} items processed", jobName, successful ? "finished" : "failed",
+                     durationMs, jobStatistics.getCurrentRunProcessed());
+        }
+        return true;
+    }
+
+    /**
+     * Calls the chunk processor in separate transactions until it processes less items than the chunk size.
+     * Chunk processor is expected to take the next chunk of items itself, i.e. to select only not yet processed items.
+     *
+     * @param jobName        name of the job, used for statistics
+     * @param chunkProcessor takes the chunk size and returns the number of processed items
+     * @return total number of processed items
+     */
+    public long processInChunks(String jobName, IntUnaryOperator chunkProcessor) {
+        JobStatistics jobStatistics = getStatistics(jobName);
+        long total = 0;
+        int processed;
+        do {
+            Integer result = transactionTemplate.execute(status -> chunkProcessor.applyAsInt(chunkSize));
+            processed = result == null ? 0 : result;
+            total += processed;
+            jobStatistics.chunkProcessed(processed);
+            log.debug("Job [{}]: chunk of {} items processed, {} in total", jobName, processed, total);
+        } while (processed >= chunkSize);
+        return total;
+    }
+
+    public JobStatistics getStatistics(String jobName) {
+        return statistics.computeIfAbsent(jobName, k -> new JobStatistics());
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+}
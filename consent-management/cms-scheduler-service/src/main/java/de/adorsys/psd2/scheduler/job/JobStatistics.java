@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.scheduler.job;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress and duration metrics of one scheduled job on the current node
+ */
+public class JobStatistics {
+    private final AtomicLong currentRunProcessed = new AtomicLong();
+    private final AtomicLong lastRunProcessed = new AtomicLong();
+    private final AtomicLong lastRunDurationMs = new AtomicLong();
+    private final AtomicLong totalProcessed = new AtomicLong();
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong skippedRunCount = new AtomicLong();
+    private final AtomicLong failedRunCount = new AtomicLong();
+    private volatile OffsetDateTime lastRunTimestamp;
+
+    void runStarted() {
+        currentRunProcessed.set(0);
+        lastRunTimestamp = OffsetDateTime.now();
+    }
+
+    void chunkProcessed(long processed) {
+        currentRunProcessed.addAndGet(processed);
+        totalProcessed.addAndGet(processed);
+    }
+
+    void runFinished(long durationMs, boolean successful) {
+        lastRunProcessed.set(currentRunProcessed.get());
+        lastRunDurationMs.set(durationMs);
+        runCount.incrementAndGet();
+        if (!successful) {
+            failedRunCount.incrementAndGet();
+        }
+    }
+
+    void runSkipped() {
+        skippedRunCount.incrementAndGet();
+    }
+
+    /**
+     * @return number of items processed so far by the job running at the moment
+     */
+    public long getCurrentRunProcessed() {
+        return currentRunProcessed.get();
+    }
+
+    public long getLastRunProcessed() {
+        return lastRunProcessed.get();
+    }
+
+    public long getLastRunDurationMs() {
+        return lastRunDurationMs.get();
+    }
+
+    public long getTotalProcessed() {
+        return totalProcessed.get();
+    }
+
+    public long getRunCount() {
+        return runCount.get();
+    }
+
+    /**
+     * @return number of runs, skipped because another node was holding the lock
+     */
+    public long getSkippedRunCount() {
+        return skippedRunCount.get();
+    }
+
+    public long getFailedRunCount() {
+        return failedRunCount.get();
+    }
+
+    public OffsetDateTime getLastRunTimestamp() {
+        return lastRunTimestamp;
+    }
+}
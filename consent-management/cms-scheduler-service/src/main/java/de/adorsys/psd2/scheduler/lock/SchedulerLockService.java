@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.scheduler.lock;
+
+import de.adorsys.psd2.consent.domain.SchedulerLockEntity;
+import de.adorsys.psd2.consent.repository.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Database based lock, that prevents several CMS nodes from running the same scheduled job simultaneously.
+ * The lock is released automatically after the configured maximum duration, if the node holding it dies.
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxLockDuration;
+    private final String nodeId;
+
+    public SchedulerLockService(SchedulerLockRepository schedulerLockRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${xs2a.cms.scheduler.lock.max-duration.ms:3600000}") long maxLockDurationMs) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxLockDuration = Duration.ofMillis(maxLockDurationMs);
+        this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    }
+
+    /**
+     * Tries to acquire the lock with given name for the current node
+     *
+     * @param lockName name of the lock, usually the name of the job
+     * @return <code>true</code> if the lock was acquired, <code>false</code> if it is held by another node
+     */
+    public boolean tryLock(String lockName) {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime lockedUntil = now.plus(maxLockDuration);
+
+        try {
+            Boolean acquired = transactionTemplate.execute(status -> {
+                if (schedulerLockRepository.acquireLock(lockName, lockedUntil, now, nodeId) > 0) {
+                    return true;
+                }
+                if (schedulerLockRepository.existsById(lockName)) {
+                    return false;
+                }
+                schedulerLockRepository.save(new SchedulerLockEntity(lockName, lockedUntil, now, nodeId));
+                return true;
+            });
+            return Boolean.TRUE.equals(acquired);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Lock [{}] has been created by another node simultaneously", lockName);
+            return false;
+        }
+    }
+
+    /**
+     * Releases the lock with given name, if it is held by the current node
+     *
+     * @param lockName name of the lock
+     */
+    public void unlock(String lockName) {
+        transactionTemplate.executeWithoutResult(status -> schedulerLockRepository.releaseLock(lockName, OffsetDateTime.now(), nodeId));
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
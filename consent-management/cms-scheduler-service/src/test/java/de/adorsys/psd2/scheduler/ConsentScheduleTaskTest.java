@@ -16,98 +16,93 @@
 
 package de.adorsys.psd2.scheduler;
 
-import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
-import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
-import org.jetbrains.annotations.NotNull;
+import de.adorsys.psd2.scheduler.job.ChunkedJobExecutor;
+import de.adorsys.psd2.scheduler.lock.SchedulerLockService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.List;
 
 import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ConsentScheduleTaskTest {
+    private static final int CHUNK_SIZE = 2;
 
-    @InjectMocks
     private ConsentScheduleTask scheduleTask;
+    private ChunkedJobExecutor chunkedJobExecutor;
 
     @Mock
     private ConsentJpaRepository consentJpaRepository;
+    @Mock
+    private SchedulerLockService schedulerLockService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
-    @Captor
-    private ArgumentCaptor<ArrayList<ConsentEntity>> consentCaptor;
+    @BeforeEach
+    void setUp() {
+        chunkedJobExecutor = new ChunkedJobExecutor(schedulerLockService, transactionManager, CHUNK_SIZE);
+        scheduleTask = new ConsentScheduleTask(consentJpaRepository, chunkedJobExecutor);
+    }
 
     @Test
-    void checkConsentStatus_allConsentsExpired() {
-        List<ConsentEntity> availableConsents = new ArrayList<>();
-        availableConsents.add(createConsent(RECEIVED));
-        availableConsents.add(createConsent(VALID));
-        when(consentJpaRepository.findByConsentStatusIn(EnumSet.of(RECEIVED, VALID))).thenReturn(availableConsents);
-
-        when(consentJpaRepository.saveAll(consentCaptor.capture())).thenReturn(Collections.emptyList());
+    void checkConsentStatus_expiredConsentsInSeveralChunks() {
+        // Given
+        when(schedulerLockService.tryLock(ConsentScheduleTask.JOB_NAME)).thenReturn(true);
+        when(consentJpaRepository.findIdsExpiredByDate(EnumSet.of(RECEIVED, VALID), LocalDate.now(), PageRequest.of(0, CHUNK_SIZE)))
+            .thenReturn(Arrays.asList(1L, 2L), Collections.singletonList(3L));
 
+        // When
         scheduleTask.checkConsentStatus();
 
-        assertEquals(2, consentCaptor.getValue().size());
-        consentCaptor.getValue().forEach(c -> assertEquals(EXPIRED, c.getConsentStatus()));
-
-        verify(consentJpaRepository, times(1)).findByConsentStatusIn(EnumSet.of(RECEIVED, VALID));
-        verify(consentJpaRepository, times(1)).saveAll(anyList());
+        // Then
+        verify(consentJpaRepository).expireConsentsByIds(eq(Arrays.asList(1L, 2L)), eq(EnumSet.of(RECEIVED, VALID)), eq(EXPIRED), eq(LocalDate.now()), any(OffsetDateTime.class));
+        verify(consentJpaRepository).expireConsentsByIds(eq(Collections.singletonList(3L)), eq(EnumSet.of(RECEIVED, VALID)), eq(EXPIRED), eq(LocalDate.now()), any(OffsetDateTime.class));
+        verify(transactionManager, times(2)).commit(any());
+        verify(schedulerLockService).unlock(ConsentScheduleTask.JOB_NAME);
+        assertEquals(3, chunkedJobExecutor.getStatistics(ConsentScheduleTask.JOB_NAME).getLastRunProcessed());
     }
 
     @Test
-    void checkConsentStatus_notAllConsentsExpired() {
-        List<ConsentEntity> availableConsents = new ArrayList<>();
-        availableConsents.add(createConsent(RECEIVED));
-        ConsentEntity consent = createConsent(VALID);
-        consent.setValidUntil(LocalDate.now().plusDays(1));
-        availableConsents.add(consent);
-        when(consentJpaRepository.findByConsentStatusIn(EnumSet.of(RECEIVED, VALID))).thenReturn(availableConsents);
-
-        when(consentJpaRepository.saveAll(consentCaptor.capture())).thenReturn(Collections.emptyList());
+    void checkConsentStatus_noExpiredConsents() {
+        // Given
+        when(schedulerLockService.tryLock(ConsentScheduleTask.JOB_NAME)).thenReturn(true);
+        when(consentJpaRepository.findIdsExpiredByDate(EnumSet.of(RECEIVED, VALID), LocalDate.now(), PageRequest.of(0, CHUNK_SIZE)))
+            .thenReturn(Collections.emptyList());
 
+        // When
         scheduleTask.checkConsentStatus();
 
-        assertEquals(1, consentCaptor.getValue().size());
-        assertEquals("RECEIVED", consentCaptor.getValue().get(0).getExternalId());
-        consentCaptor.getValue().forEach(c -> assertEquals(EXPIRED, c.getConsentStatus()));
-
-        verify(consentJpaRepository, times(1)).findByConsentStatusIn(EnumSet.of(RECEIVED, VALID));
-        verify(consentJpaRepository, times(1)).saveAll(anyList());
+        // Then
+        verify(consentJpaRepository, never()).expireConsentsByIds(any(), any(), any(), any(), any());
+        verify(schedulerLockService).unlock(ConsentScheduleTask.JOB_NAME);
     }
 
     @Test
-    void checkConsentStatus_nullValue() {
-
-        when(consentJpaRepository.findByConsentStatusIn(EnumSet.of(RECEIVED, VALID))).thenReturn(null);
-
-        when(consentJpaRepository.saveAll(Collections.emptyList())).thenReturn(Collections.emptyList());
+    void checkConsentStatus_lockedByAnotherNode() {
+        // Given
+        when(schedulerLockService.tryLock(ConsentScheduleTask.JOB_NAME)).thenReturn(false);
 
+        // When
         scheduleTask.checkConsentStatus();
 
-        verify(consentJpaRepository, times(1)).findByConsentStatusIn(EnumSet.of(RECEIVED, VALID));
-        verify(consentJpaRepository, times(1)).saveAll(Collections.emptyList());
-    }
-
-    @NotNull
-    private ConsentEntity createConsent(ConsentStatus consentStatus) {
-        ConsentEntity aisConsent = new ConsentEntity();
-        aisConsent.setConsentStatus(consentStatus);
-        aisConsent.setExternalId(consentStatus.toString());
-        aisConsent.setValidUntil(LocalDate.now().minusDays(1));
-        return aisConsent;
+        // Then
+        verifyNoInteractions(consentJpaRepository);
+        verify(schedulerLockService, never()).unlock(any());
+        assertEquals(1, chunkedJobExecutor.getStatistics(ConsentScheduleTask.JOB_NAME).getSkippedRunCount());
     }
 }
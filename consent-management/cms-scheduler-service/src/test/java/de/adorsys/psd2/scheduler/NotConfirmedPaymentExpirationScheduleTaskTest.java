@@ -16,79 +16,96 @@
 
 package de.adorsys.psd2.scheduler;
 
-import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
 import de.adorsys.psd2.consent.repository.PisCommonPaymentDataRepository;
 import de.adorsys.psd2.consent.service.PisCommonPaymentConfirmationExpirationService;
+import de.adorsys.psd2.scheduler.job.ChunkedJobExecutor;
+import de.adorsys.psd2.scheduler.lock.SchedulerLockService;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class NotConfirmedPaymentExpirationScheduleTaskTest {
+    private static final int CHUNK_SIZE = 2;
+    private static final String INSTANCE_ID_1 = "instance 1";
+    private static final String INSTANCE_ID_2 = "instance 2";
 
-    @InjectMocks
     private NotConfirmedPaymentExpirationScheduleTask scheduleTask;
+    private ChunkedJobExecutor chunkedJobExecutor;
 
     @Mock
     private PisCommonPaymentConfirmationExpirationService pisCommonPaymentConfirmationExpirationService;
     @Mock
     private PisCommonPaymentDataRepository paymentDataRepository;
+    @Mock
+    private SchedulerLockService schedulerLockService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
-    @Captor
-    private ArgumentCaptor<ArrayList<PisCommonPaymentData>> commonPaymentDataCaptor;
+    @BeforeEach
+    void setUp() {
+        chunkedJobExecutor = new ChunkedJobExecutor(schedulerLockService, transactionManager, CHUNK_SIZE);
+        scheduleTask = new NotConfirmedPaymentExpirationScheduleTask(pisCommonPaymentConfirmationExpirationService, paymentDataRepository, chunkedJobExecutor);
+    }
 
     @Test
     void obsoleteNotConfirmedPaymentIfExpired() {
         // Given
-        List<PisCommonPaymentData> pisCommonPaymentDataList = new ArrayList<>();
-        pisCommonPaymentDataList.add(new PisCommonPaymentData());
-        pisCommonPaymentDataList.add(new PisCommonPaymentData());
-
-        when(paymentDataRepository.findByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC)))
-            .thenReturn(pisCommonPaymentDataList);
-        when(pisCommonPaymentConfirmationExpirationService.isConfirmationExpired(any(PisCommonPaymentData.class)))
-            .thenReturn(true, false);
-        when(pisCommonPaymentConfirmationExpirationService.updatePaymentDataListOnConfirmationExpiration(commonPaymentDataCaptor.capture()))
-            .thenReturn(Collections.emptyList());
+        when(schedulerLockService.tryLock(NotConfirmedPaymentExpirationScheduleTask.JOB_NAME)).thenReturn(true);
+        when(paymentDataRepository.findInstanceIdsByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC)))
+            .thenReturn(Arrays.asList(INSTANCE_ID_1, INSTANCE_ID_2));
+        when(pisCommonPaymentConfirmationExpirationService.updateNextChunkOnConfirmationExpiration(INSTANCE_ID_1, CHUNK_SIZE))
+            .thenReturn(2, 2, 0);
+        when(pisCommonPaymentConfirmationExpirationService.updateNextChunkOnConfirmationExpiration(INSTANCE_ID_2, CHUNK_SIZE))
+            .thenReturn(1);
 
         // When
         scheduleTask.obsoleteNotConfirmedPaymentIfExpired();
 
         // Then
-        verify(paymentDataRepository, times(1)).findByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC));
-        verify(pisCommonPaymentConfirmationExpirationService, times(2)).isConfirmationExpired(any(PisCommonPaymentData.class));
-        verify(pisCommonPaymentConfirmationExpirationService, times(1)).updatePaymentDataListOnConfirmationExpiration(anyList());
-
-        assertEquals(1, commonPaymentDataCaptor.getValue().size());
+        verify(pisCommonPaymentConfirmationExpirationService, times(3)).updateNextChunkOnConfirmationExpiration(INSTANCE_ID_1, CHUNK_SIZE);
+        verify(pisCommonPaymentConfirmationExpirationService, times(1)).updateNextChunkOnConfirmationExpiration(INSTANCE_ID_2, CHUNK_SIZE);
+        verify(schedulerLockService).unlock(NotConfirmedPaymentExpirationScheduleTask.JOB_NAME);
+        assertEquals(5, chunkedJobExecutor.getStatistics(NotConfirmedPaymentExpirationScheduleTask.JOB_NAME).getLastRunProcessed());
     }
 
     @Test
     void obsoleteNotConfirmedPaymentIfExpired_emptyList() {
         // Given
-        when(paymentDataRepository.findByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC)))
+        when(schedulerLockService.tryLock(NotConfirmedPaymentExpirationScheduleTask.JOB_NAME)).thenReturn(true);
+        when(paymentDataRepository.findInstanceIdsByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC)))
             .thenReturn(Collections.emptyList());
 
         // When
         scheduleTask.obsoleteNotConfirmedPaymentIfExpired();
 
         // Then
-        verify(paymentDataRepository, times(1)).findByTransactionStatusIn(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC));
-        verify(pisCommonPaymentConfirmationExpirationService, never()).isConfirmationExpired(any(PisCommonPaymentData.class));
-        verify(pisCommonPaymentConfirmationExpirationService, never()).updatePaymentDataListOnConfirmationExpiration(anyList());
+        verify(pisCommonPaymentConfirmationExpirationService, never()).updateNextChunkOnConfirmationExpiration(anyString(), anyInt());
+        verify(schedulerLockService).unlock(NotConfirmedPaymentExpirationScheduleTask.JOB_NAME);
+    }
+
+    @Test
+    void obsoleteNotConfirmedPaymentIfExpired_lockedByAnotherNode() {
+        // Given
+        when(schedulerLockService.tryLock(NotConfirmedPaymentExpirationScheduleTask.JOB_NAME)).thenReturn(false);
+
+        // When
+        scheduleTask.obsoleteNotConfirmedPaymentIfExpired();
+
+        // Then
+        verifyNoInteractions(paymentDataRepository, pisCommonPaymentConfirmationExpirationService);
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.scheduler;
+
+import de.adorsys.psd2.scheduler.job.ChunkedJobExecutor;
+import de.adorsys.psd2.scheduler.lock.SchedulerLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionMaintenanceScheduleTaskTest {
+    private static final String SCHEMA_NAME = "consent";
+    private static final String CREATE_SQL = "select consent.cms_create_monthly_partitions(?, ?, ?)";
+    private static final String DROP_SQL = "select consent.cms_drop_monthly_partitions(?, ?)";
+    private static final Date CURRENT_MONTH = Date.valueOf(LocalDate.now().withDayOfMonth(1));
+    private static final Date CREATE_UNTIL = Date.valueOf(LocalDate.now().withDayOfMonth(1).plusMonths(2));
+
+    private PartitionMaintenanceScheduleTask scheduleTask;
+    private ChunkedJobExecutor chunkedJobExecutor;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private SchedulerLockService schedulerLockService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        chunkedJobExecutor = new ChunkedJobExecutor(schedulerLockService, transactionManager, 10);
+        scheduleTask = new PartitionMaintenanceScheduleTask(jdbcTemplate, chunkedJobExecutor, SCHEMA_NAME, 2, 24, 0);
+    }
+
+    @Test
+    void maintainPartitions_createsPartitionsAndDropsExpiredOnes() {
+        // Given
+        when(schedulerLockService.tryLock(PartitionMaintenanceScheduleTask.JOB_NAME)).thenReturn(true);
+        when(jdbcTemplate.queryForObject(eq(CREATE_SQL), eq(Integer.class), any(), any(), any())).thenReturn(1);
+        when(jdbcTemplate.queryForObject(DROP_SQL, Integer.class, "consent.event", Date.valueOf(LocalDate.now().withDayOfMonth(1).minusMonths(24))))
+            .thenReturn(3);
+
+        // When
+        scheduleTask.maintainPartitions();
+
+        // Then
+        verify(jdbcTemplate).queryForObject(CREATE_SQL, Integer.class, "consent.event", CURRENT_MONTH, CREATE_UNTIL);
+        verify(jdbcTemplate).queryForObject(CREATE_SQL, Integer.class, "consent.consent_usage", CURRENT_MONTH, CREATE_UNTIL);
+        verify(jdbcTemplate, never()).queryForObject(eq(DROP_SQL), eq(Integer.class), eq("consent.consent_usage"), any());
+        verify(schedulerLockService).unlock(PartitionMaintenanceScheduleTask.JOB_NAME);
+        assertEquals(3, chunkedJobExecutor.getStatistics(PartitionMaintenanceScheduleTask.JOB_NAME).getLastRunProcessed());
+    }
+
+    @Test
+    void maintainPartitions_lockedByAnotherNode() {
+        // Given
+        when(schedulerLockService.tryLock(PartitionMaintenanceScheduleTask.JOB_NAME)).thenReturn(false);
+
+        // When
+        scheduleTask.maintainPartitions();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+        verify(schedulerLockService, never()).unlock(any());
+    }
+}
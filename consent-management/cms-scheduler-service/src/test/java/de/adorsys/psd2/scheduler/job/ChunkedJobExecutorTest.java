@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.scheduler.job;
+
+import de.adorsys.psd2.scheduler.lock.SchedulerLockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedJobExecutorTest {
+    private static final String JOB_NAME = "test-job";
+    private static final int CHUNK_SIZE = 10;
+
+    private ChunkedJobExecutor chunkedJobExecutor;
+
+    @Mock
+    private SchedulerLockService schedulerLockService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        chunkedJobExecutor = new ChunkedJobExecutor(schedulerLockService, transactionManager, CHUNK_SIZE);
+    }
+
+    @Test
+    void constructor_nonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedJobExecutor(schedulerLockService, transactionManager, 0));
+    }
+
+    @Test
+    void processInChunks_stopsOnIncompleteChunk() {
+        // Given
+        AtomicInteger remaining = new AtomicInteger(25);
+
+        // When
+        long actual = chunkedJobExecutor.processInChunks(JOB_NAME, chunkSize -> {
+            int processed = Math.min(chunkSize, remaining.get());
+            remaining.addAndGet(-processed);
+            return processed;
+        });
+
+        // Then
+        assertEquals(25, actual);
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(3)).commit(any());
+        assertEquals(25, chunkedJobExecutor.getStatistics(JOB_NAME).getTotalProcessed());
+    }
+
+    @Test
+    void processInChunks_exactlyOneChunk() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        long actual = chunkedJobExecutor.processInChunks(JOB_NAME, chunkSize -> calls.incrementAndGet() == 1 ? chunkSize : 0);
+
+        // Then
+        assertEquals(CHUNK_SIZE, actual);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void executeExclusively_success() {
+        // Given
+        when(schedulerLockService.tryLock(JOB_NAME)).thenReturn(true);
+
+        // When
+        boolean executed = chunkedJobExecutor.executeExclusively(JOB_NAME, () -> chunkedJobExecutor.processInChunks(JOB_NAME, chunkSize -> 3));
+
+        // Then
+        assertTrue(executed);
+        verify(schedulerLockService).unlock(JOB_NAME);
+        JobStatistics statistics = chunkedJobExecutor.getStatistics(JOB_NAME);
+        assertEquals(3, statistics.getLastRunProcessed());
+        assertEquals(1, statistics.getRunCount());
+        assertEquals(0, statistics.getFailedRunCount());
+        assertNotNull(statistics.getLastRunTimestamp());
+    }
+
+    @Test
+    void executeExclusively_lockedByAnotherNode() {
+        // Given
+        when(schedulerLockService.tryLock(JOB_NAME)).thenReturn(false);
+        Runnable job = mock(Runnable.class);
+
+        // When
+        boolean executed = chunkedJobExecutor.executeExclusively(JOB_NAME, job);
+
+        // Then
+        assertFalse(executed);
+        verifyNoInteractions(job);
+        verify(schedulerLockService, never()).unlock(any());
+        assertEquals(1, chunkedJobExecutor.getStatistics(JOB_NAME).getSkippedRunCount());
+        assertEquals(0, chunkedJobExecutor.getStatistics(JOB_NAME).getRunCount());
+    }
+
+    @Test
+    void executeExclusively_jobFails_lockIsReleased() {
+        // Given
+        when(schedulerLockService.tryLock(JOB_NAME)).thenReturn(true);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> chunkedJobExecutor.executeExclusively(JOB_NAME, () -> {
+            throw new IllegalStateException("test");
+        }));
+
+        // Then
+        verify(schedulerLockService).unlock(JOB_NAME);
+        assertEquals(1, chunkedJobExecutor.getStatistics(JOB_NAME).getFailedRunCount());
+    }
+}
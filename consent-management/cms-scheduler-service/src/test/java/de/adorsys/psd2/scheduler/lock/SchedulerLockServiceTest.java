@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.scheduler.lock;
+
+import de.adorsys.psd2.consent.domain.SchedulerLockEntity;
+import de.adorsys.psd2.consent.repository.SchedulerLockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLockServiceTest {
+    private static final String LOCK_NAME = "test-job";
+    private static final long MAX_LOCK_DURATION_MS = 60_000;
+
+    private SchedulerLockService schedulerLockService;
+
+    @Mock
+    private SchedulerLockRepository schedulerLockRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLockService = new SchedulerLockService(schedulerLockRepository, transactionManager, MAX_LOCK_DURATION_MS);
+    }
+
+    @Test
+    void tryLock_existingLockIsFree() {
+        // Given
+        ArgumentCaptor<OffsetDateTime> lockedUntilCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        ArgumentCaptor<OffsetDateTime> nowCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        when(schedulerLockRepository.acquireLock(eq(LOCK_NAME), lockedUntilCaptor.capture(), nowCaptor.capture(), eq(schedulerLockService.getNodeId())))
+            .thenReturn(1);
+
+        // When
+        boolean actual = schedulerLockService.tryLock(LOCK_NAME);
+
+        // Then
+        assertTrue(actual);
+        assertEquals(nowCaptor.getValue().plusSeconds(60), lockedUntilCaptor.getValue());
+        verify(schedulerLockRepository, never()).save(any());
+    }
+
+    @Test
+    void tryLock_lockIsHeldByAnotherNode() {
+        // Given
+        when(schedulerLockRepository.acquireLock(eq(LOCK_NAME), any(), any(), any())).thenReturn(0);
+        when(schedulerLockRepository.existsById(LOCK_NAME)).thenReturn(true);
+
+        // When
+        boolean actual = schedulerLockService.tryLock(LOCK_NAME);
+
+        // Then
+        assertFalse(actual);
+        verify(schedulerLockRepository, never()).save(any());
+    }
+
+    @Test
+    void tryLock_lockDoesNotExist_created() {
+        // Given
+        ArgumentCaptor<SchedulerLockEntity> lockCaptor = ArgumentCaptor.forClass(SchedulerLockEntity.class);
+        when(schedulerLockRepository.acquireLock(eq(LOCK_NAME), any(), any(), any())).thenReturn(0);
+        when(schedulerLockRepository.existsById(LOCK_NAME)).thenReturn(false);
+
+        // When
+        boolean actual = schedulerLockService.tryLock(LOCK_NAME);
+
+        // Then
+        assertTrue(actual);
+        verify(schedulerLockRepository).save(lockCaptor.capture());
+        assertEquals(LOCK_NAME, lockCaptor.getValue().getName());
+        assertEquals(schedulerLockService.getNodeId(), lockCaptor.getValue().getLockedBy());
+    }
+
+    @Test
+    void tryLock_lockCreatedByAnotherNodeSimultaneously() {
+        // Given
+        when(schedulerLockRepository.acquireLock(eq(LOCK_NAME), any(), any(), any())).thenReturn(0);
+        when(schedulerLockRepository.existsById(LOCK_NAME)).thenReturn(false);
+        when(schedulerLockRepository.save(any())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        boolean actual = schedulerLockService.tryLock(LOCK_NAME);
+
+        // Then
+        assertFalse(actual);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void unlock() {
+        // When
+        schedulerLockService.unlock(LOCK_NAME);
+
+        // Then
+        verify(schedulerLockRepository).releaseLock(eq(LOCK_NAME), any(OffsetDateTime.class), eq(schedulerLockService.getNodeId()));
+        verify(transactionManager).commit(any());
+    }
+}
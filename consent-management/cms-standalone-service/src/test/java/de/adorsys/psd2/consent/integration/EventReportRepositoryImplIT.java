@@ -37,6 +37,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -79,6 +80,23 @@ class EventReportRepositoryImplIT {
         assertEquals(expectedEvent, updateToUTC(eventsForPeriod.get(0)));
     }
 
+    @Test
+    void getEventsForPeriod_paged() {
+        List<ReportEvent> eventsForPeriod = new ArrayList<>();
+
+        int count = repository.getEventsForPeriod(START, END, INSTANCE_ID, null, null, 10, eventsForPeriod::add);
+
+        assertEquals(1, count);
+        assertEquals(1, eventsForPeriod.size());
+        assertEquals(expectedEvent, updateToUTC(eventsForPeriod.get(0)));
+
+        ReportEvent lastEvent = eventsForPeriod.get(0);
+        int nextPageCount = repository.getEventsForPeriod(START, END, INSTANCE_ID, lastEvent.getTimestamp(), lastEvent.getId(), 10, eventsForPeriod::add);
+
+        assertEquals(0, nextPageCount);
+        assertEquals(1, eventsForPeriod.size());
+    }
+
     @Test
     void getEventsForPeriodAndConsentId() {
         List<ReportEvent> eventsForPeriod = repository.getEventsForPeriodAndConsentId(START, END, CONSENT_ID, INSTANCE_ID);
@@ -23,6 +23,7 @@ import de.adorsys.psd2.consent.api.service.PisCommonPaymentService;
 import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
 import de.adorsys.psd2.consent.integration.config.IntegrationTestConfiguration;
 import de.adorsys.psd2.consent.repository.PisCommonPaymentDataRepository;
+import de.adorsys.psd2.consent.service.PisCommonPaymentConfirmationExpirationService;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.profile.PaymentType;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
@@ -40,6 +41,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceException;
+import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -65,6 +67,8 @@ public class PisCommonPaymentIT {
     private EntityManager entityManager;
     @Autowired
     private PisCommonPaymentDataRepository pisCommonPaymentDataRepository;
+    @Autowired
+    private PisCommonPaymentConfirmationExpirationService pisCommonPaymentConfirmationExpirationService;
     @MockBean
     private AspspProfileService aspspProfileService;
 
@@ -155,6 +159,38 @@ public class PisCommonPaymentIT {
         );
     }
 
+    @Test
+    public void updateNextChunkOnConfirmationExpiration_rejectsOnlyExpiredPayments() {
+        // Given
+        pisCommonPaymentService.createCommonPayment(buildPisPaymentInfo());
+        flushAndClearPersistenceContext();
+        PisCommonPaymentData savedEntity = pisCommonPaymentDataRepository.findByPaymentId(PAYMENT_ID).get();
+
+        // When
+        int notExpired = pisCommonPaymentConfirmationExpirationService.updateNextChunkOnConfirmationExpiration(DEFAULT_SERVICE_INSTANCE_ID, 10);
+
+        // Then
+        assertEquals(0, notExpired);
+
+        // Given
+        OffsetDateTime creationTimestamp = OffsetDateTime.now().minusMinutes(1);
+        savedEntity.setCreationTimestamp(creationTimestamp);
+        savedEntity.setStatusChangeTimestamp(creationTimestamp);
+        pisCommonPaymentDataRepository.save(savedEntity);
+        flushAndClearPersistenceContext();
+
+        // When
+        int expired = pisCommonPaymentConfirmationExpirationService.updateNextChunkOnConfirmationExpiration(DEFAULT_SERVICE_INSTANCE_ID, 10);
+        flushAndClearPersistenceContext();
+
+        // Then
+        assertEquals(1, expired);
+        PisCommonPaymentData updatedEntity = pisCommonPaymentDataRepository.findByPaymentId(PAYMENT_ID).get();
+        assertEquals(TransactionStatus.RJCT, updatedEntity.getTransactionStatus());
+        assertTrue(updatedEntity.getStatusChangeTimestamp().isAfter(updatedEntity.getCreationTimestamp()));
+        assertEquals(0, pisCommonPaymentConfirmationExpirationService.updateNextChunkOnConfirmationExpiration(DEFAULT_SERVICE_INSTANCE_ID, 10));
+    }
+
     private PisPaymentInfo buildPisPaymentInfo() {
         PisPaymentInfo pisPaymentInfo = new PisPaymentInfo();
         pisPaymentInfo.setPaymentProduct(PAYMENT_PRODUCT);
@@ -24,6 +24,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -47,4 +48,19 @@ public interface CmsAspspEventApi {
         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime end,
         @ApiParam(value = "Bank instance ID")
         @RequestHeader(value = "instance-id", required = false, defaultValue = DEFAULT_SERVICE_INSTANCE_ID) String instanceId);
+
+    @GetMapping(path = "/stream", produces = "application/x-ndjson")
+    @ApiOperation(value = "Returns Event objects between two dates as newline delimited JSON, one event per line",
+        notes = "Events are read and written page by page, so that long periods can be exported without loading them into memory")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "OK")})
+    ResponseEntity<StreamingResponseBody> streamEventsForDates(
+        @ApiParam(value = "Start date", example = "2010-01-01T00:00:00Z", required = true)
+        @RequestHeader(value = "start-date")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime start,
+        @ApiParam(value = "End date", example = "2030-01-01T00:00:00Z", required = true)
+        @RequestHeader(value = "end-date")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime end,
+        @ApiParam(value = "Bank instance ID")
+        @RequestHeader(value = "instance-id", required = false, defaultValue = DEFAULT_SERVICE_INSTANCE_ID) String instanceId);
 }
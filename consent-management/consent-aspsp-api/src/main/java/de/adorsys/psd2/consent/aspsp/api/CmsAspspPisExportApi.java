@@ -25,6 +25,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.Collection;
@@ -38,7 +39,9 @@ public interface CmsAspspPisExportApi {
     @GetMapping(path = "/tpp/{tpp-id}")
     @ApiOperation(value = "Returns a list of payments by given mandatory TPP ID, optional creation date, PSU ID Data and instance ID")
     @ApiResponses(value = {
-        @ApiResponse(code = 200, message = "OK")})
+        @ApiResponse(code = 200, message = "OK", responseHeaders = {
+            @ResponseHeader(name = "next-cursor", response = String.class,
+                description = "Cursor of the next page, if the page was requested and there are more items")})})
     ResponseEntity<Collection<CmsPayment>> getPaymentsByTpp(
         @ApiParam(value = "TPP ID", required = true, example = "12345987")
         @PathVariable("tpp-id") String tppId,
@@ -58,12 +61,20 @@ public interface CmsAspspPisExportApi {
         @ApiParam(value = "Might be mandated in the ASPSP's documentation. Only used in a corporate context. ")
         @RequestHeader(value = "psu-corporate-id-type", required = false) String psuCorporateIdType,
         @ApiParam(value = "ID of the particular service instance")
-        @RequestHeader(value = "instance-id", required = false, defaultValue = DEFAULT_SERVICE_INSTANCE_ID) String instanceId);
+        @RequestHeader(value = "instance-id", required = false, defaultValue = DEFAULT_SERVICE_INSTANCE_ID) String instanceId,
+        @ApiParam(value = "Maximum number of items on the page. If it's not provided, all items are returned at once", example = "100")
+        @RequestHeader(value = "items-per-page", required = false) Integer itemsPerPage,
+        @ApiParam(value = "Zero-based index of the page, ignored if cursor is provided", example = "0")
+        @RequestHeader(value = "page-index", required = false) Integer pageIndex,
+        @ApiParam(value = "Cursor of the page to continue after, as returned in the 'next-cursor' header of the previous page")
+        @RequestHeader(value = "cursor", required = false) String cursor);
 
     @GetMapping(path = "/psu")
     @ApiOperation(value = "Returns a list of payments by given mandatory PSU ID Data, optional creation date and instance ID")
     @ApiResponses(value = {
-        @ApiResponse(code = 200, message = "OK")})
+        @ApiResponse(code = 200, message = "OK", responseHeaders = {
+            @ResponseHeader(name = "next-cursor", response = String.class,
+                description = "Cursor of the next page, if the page was requested and there are more items")})})
     ResponseEntity<Collection<CmsPayment>> getPaymentsByPsu(
         @ApiParam(value = "Creation start date", example = "2010-01-01")
         @RequestHeader(value = "start-date", required = false)
@@ -80,13 +91,93 @@ public interface CmsAspspPisExportApi {
         @ApiParam(value = "Might be mandated in the ASPSP's documentation. Only used in a corporate context. ")
         @RequestHeader(value = "psu-corporate-id-type", required = false) String psuCorporateIdType,
         @ApiParam(value = "ID of the particular service instance")
-        @RequestHeader(value = "instance-id", required = false, defaultValue = DEFAULT_SERVICE_INSTANCE_ID) String instanceId);
+        @RequestHeader(value = "instance-id", required = false, defaultValue = DEFAULT_SERVICE_INSTANCE_ID) String instanceId,
+        @ApiParam(value = "Maximum number of items on the page. If it's not provided, all items are returned at once", example = "100")
+        @RequestHeader(value = "items-per-page", required = false) Integer itemsPerPage,
+        @ApiParam(value = "Zero-based index of the page, ignored if cursor is provided", example = "0")
+        @RequestHeader(value = "page-index", required = false) Integer pageIndex,
+        @ApiParam(value = "Cursor of the page to continue after, as returned in the 'next-cursor' header of the previous page")
+        @RequestHeader(value = "cursor", required = false) String cursor);
 
     @GetMapping(path = "/account/{account-id}")
     @ApiOperation(value = "Returns a list of payments by given mandatory aspsp account id, optional creation date and instance ID")
     @ApiResponses(value = {
-        @ApiResponse(code = 200, message = "OK")})
+        @ApiResponse(code = 200, message = "OK", responseHeaders = {
+            @ResponseHeader(name = "next-cursor", response = String.class,
+                description = "Cursor of the next page, if the page was requested and there are more items")})})
     ResponseEntity<Collection<CmsPayment>> getPaymentsByAccountId(
+        @ApiParam(value = "Bank specific account identifier.", required = true, example = "11111-99999")
+        @PathVariable("account-id") String aspspAccountId,
+        @ApiParam(value = "Creation start date", example = "2010-01-01")
+        @RequestHeader(value = "start-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @ApiParam(value = "Creation end date", example = "2030-01-01")
+        @RequestHeader(value = "end-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+        @ApiParam(value = "ID of the particular service instance")
+        @RequestHeader(value = "instance-id", required = false, defaultValue = DEFAULT_SERVICE_INSTANCE_ID) String instanceId,
+        @ApiParam(value = "Maximum number of items on the page. If it's not provided, all items are returned at once", example = "100")
+        @RequestHeader(value = "items-per-page", required = false) Integer itemsPerPage,
+        @ApiParam(value = "Zero-based index of the page, ignored if cursor is provided", example = "0")
+        @RequestHeader(value = "page-index", required = false) Integer pageIndex,
+        @ApiParam(value = "Cursor of the page to continue after, as returned in the 'next-cursor' header of the previous page")
+        @RequestHeader(value = "cursor", required = false) String cursor);
+
+    @GetMapping(path = "/tpp/{tpp-id}/stream", produces = "application/x-ndjson")
+    @ApiOperation(value = "Returns payments by given mandatory TPP ID, optional creation date, PSU ID Data and instance ID as newline delimited JSON, one object per line",
+        notes = "Objects are read and written page by page, so that large exports are not loaded into memory")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "OK")})
+    ResponseEntity<StreamingResponseBody> streamPaymentsByTpp(
+        @ApiParam(value = "TPP ID", required = true, example = "12345987")
+        @PathVariable("tpp-id") String tppId,
+        @ApiParam(value = "Creation start date", example = "2010-01-01")
+        @RequestHeader(value = "start-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @ApiParam(value = "Creation end date", example = "2030-01-01")
+        @RequestHeader(value = "end-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+        @ApiParam(value = "Client ID of the PSU in the ASPSP client interface. Might be mandated in the ASPSP's" +
+            " documentation. Is not contained if an OAuth2 based authentication was performed in a pre-step or an OAuth2 based SCA was performed in an preceding AIS service in the same session. ")
+        @RequestHeader(value = "psu-id", required = false) String psuId,
+        @ApiParam(value = "Type of the PSU-ID, needed in scenarios where PSUs have several PSU-IDs as access possibility. ")
+        @RequestHeader(value = "psu-id-type", required = false) String psuIdType,
+        @ApiParam(value = "Might be mandated in the ASPSP's documentation. Only used in a corporate context. ")
+        @RequestHeader(value = "psu-corporate-id", required = false) String psuCorporateId,
+        @ApiParam(value = "Might be mandated in the ASPSP's documentation. Only used in a corporate context. ")
+        @RequestHeader(value = "psu-corporate-id-type", required = false) String psuCorporateIdType,
+        @ApiParam(value = "ID of the particular service instance")
+        @RequestHeader(value = "instance-id", required = false, defaultValue = DEFAULT_SERVICE_INSTANCE_ID) String instanceId);
+
+    @GetMapping(path = "/psu/stream", produces = "application/x-ndjson")
+    @ApiOperation(value = "Returns payments by given mandatory PSU ID Data, optional creation date and instance ID as newline delimited JSON, one object per line",
+        notes = "Objects are read and written page by page, so that large exports are not loaded into memory")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "OK")})
+    ResponseEntity<StreamingResponseBody> streamPaymentsByPsu(
+        @ApiParam(value = "Creation start date", example = "2010-01-01")
+        @RequestHeader(value = "start-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+        @ApiParam(value = "Creation end date", example = "2030-01-01")
+        @RequestHeader(value = "end-date", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+        @ApiParam(value = "Client ID of the PSU in the ASPSP client interface. Might be mandated in the ASPSP's documentation. Is not contained if an OAuth2 based authentication was performed in a pre-step or an OAuth2 based SCA was performed in an preceding AIS service in the same session. ")
+        @RequestHeader(value = "psu-id", required = false) String psuId,
+        @ApiParam(value = "Type of the PSU-ID, needed in scenarios where PSUs have several PSU-IDs as access possibility. ")
+        @RequestHeader(value = "psu-id-type", required = false) String psuIdType,
+        @ApiParam(value = "Might be mandated in the ASPSP's documentation. Only used in a corporate context. ")
+        @RequestHeader(value = "psu-corporate-id", required = false) String psuCorporateId,
+        @ApiParam(value = "Might be mandated in the ASPSP's documentation. Only used in a corporate context. ")
+        @RequestHeader(value = "psu-corporate-id-type", required = false) String psuCorporateIdType,
+        @ApiParam(value = "ID of the particular service instance")
+        @RequestHeader(value = "instance-id", required = false, defaultValue = DEFAULT_SERVICE_INSTANCE_ID) String instanceId);
+
+    @GetMapping(path = "/account/{account-id}/stream", produces = "application/x-ndjson")
+    @ApiOperation(value = "Returns payments by given mandatory aspsp account id, optional creation date and instance ID as newline delimited JSON, one object per line",
+        notes = "Objects are read and written page by page, so that large exports are not loaded into memory")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "OK")})
+    ResponseEntity<StreamingResponseBody> streamPaymentsByAccountId(
         @ApiParam(value = "Bank specific account identifier.", required = true, example = "11111-99999")
         @PathVariable("account-id") String aspspAccountId,
         @ApiParam(value = "Creation start date", example = "2010-01-01")
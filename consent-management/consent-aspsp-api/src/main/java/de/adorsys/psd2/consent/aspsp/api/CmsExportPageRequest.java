@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.aspsp.api;
+
+import lombok.Value;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Page of an export requested by the ASPSP.
+ * <p>
+ * Pages are selected either by zero-based page index or, preferably for large exports, by the cursor returned with
+ * the previous page. Cursor takes precedence over page index.
+ */
+@Value
+public class CmsExportPageRequest {
+    private int pageIndex;
+    private int itemsPerPage;
+    @Nullable
+    private String cursor;
+
+    /**
+     * Creates request for the page with given index
+     *
+     * @param pageIndex    zero-based index of the page
+     * @param itemsPerPage maximum number of items on the page
+     * @return page request
+     */
+    @NotNull
+    public static CmsExportPageRequest ofPage(int pageIndex, int itemsPerPage) {
+        return new CmsExportPageRequest(pageIndex, itemsPerPage, null);
+    }
+
+    /**
+     * Creates request for the page following the page with given cursor
+     *
+     * @param cursor       cursor of the previous page, <code>null</code> for the first page
+     * @param itemsPerPage maximum number of items on the page
+     * @return page request
+     */
+    @NotNull
+    public static CmsExportPageRequest afterCursor(@Nullable String cursor, int itemsPerPage) {
+        return new CmsExportPageRequest(0, itemsPerPage, cursor);
+    }
+}
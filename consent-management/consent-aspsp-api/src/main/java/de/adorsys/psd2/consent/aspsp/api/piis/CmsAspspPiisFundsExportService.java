@@ -18,6 +18,8 @@ package de.adorsys.psd2.consent.aspsp.api.piis;
 
 
 import de.adorsys.psd2.consent.api.piis.v1.CmsPiisConsent;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
 import de.adorsys.psd2.consent.aspsp.api.TooManyResultsException;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import org.jetbrains.annotations.NotNull;
@@ -85,4 +87,53 @@ public interface CmsAspspPiisFundsExportService {
                                                          @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
                                                          @Nullable String instanceId);
 
+    /**
+     * Returns one page of consents by given criteria, ordered by the time of their storage in the CMS.
+     *
+     * @param tppAuthorisationNumber Mandatory TPP ID
+     * @param createDateFrom         Optional starting creation date criteria
+     * @param createDateTo           Optional ending creation date criteria
+     * @param psuIdData              Optional Psu information criteria
+     * @param instanceId             Optional id of particular service instance.
+     *                               If it's not provided, default value will be used instead.
+     * @param pageRequest            Mandatory page to be returned
+     * @return Page of consents for TPP by given criteria.
+     * By inconsistent criteria or page request an empty page will be returned
+     */
+    CmsExportPage<CmsPiisConsent> exportConsentsByTpp(String tppAuthorisationNumber,
+                                                      @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                      @Nullable PsuIdData psuIdData, @Nullable String instanceId,
+                                                      @NotNull CmsExportPageRequest pageRequest);
+
+    /**
+     * Returns one page of consents by given criteria, ordered by the time of their storage in the CMS.
+     *
+     * @param psuIdData      Mandatory Psu information criteria
+     * @param createDateFrom Optional starting creation date criteria
+     * @param createDateTo   Optional ending creation date criteria
+     * @param instanceId     Optional id of particular service instance.
+     *                       If it's not provided, default value will be used instead.
+     * @param pageRequest    Mandatory page to be returned
+     * @return Page of consents for PSU by given criteria.
+     * By inconsistent criteria or page request an empty page will be returned
+     */
+    CmsExportPage<CmsPiisConsent> exportConsentsByPsu(PsuIdData psuIdData,
+                                                      @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                      @Nullable String instanceId, @NotNull CmsExportPageRequest pageRequest);
+
+    /**
+     * Returns one page of consents by given criteria, ordered by the time of their storage in the CMS.
+     *
+     * @param aspspAccountId Bank specific account identifier
+     * @param createDateFrom Optional starting creation date criteria
+     * @param createDateTo   Optional ending creation date criteria
+     * @param instanceId     Optional id of particular service instance.
+     *                       If it's not provided, default value will be used instead.
+     * @param pageRequest    Mandatory page to be returned
+     * @return Page of consents by given criteria.
+     * By inconsistent criteria or page request an empty page will be returned
+     */
+    CmsExportPage<CmsPiisConsent> exportConsentsByAccountId(@NotNull String aspspAccountId,
+                                                            @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                            @Nullable String instanceId, @NotNull CmsExportPageRequest pageRequest);
 }
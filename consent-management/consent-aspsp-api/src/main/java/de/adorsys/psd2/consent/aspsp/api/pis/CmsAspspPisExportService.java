@@ -18,6 +18,8 @@ package de.adorsys.psd2.consent.aspsp.api.pis;
 
 
 import de.adorsys.psd2.consent.api.pis.CmsPayment;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
 import de.adorsys.psd2.consent.aspsp.api.TooManyResultsException;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import org.jetbrains.annotations.NotNull;
@@ -78,4 +80,50 @@ public interface CmsAspspPisExportService {
                                                      @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
                                                      @NotNull String instanceId);
 
+    /**
+     * Returns one page of payments by given criteria, ordered by the time of their storage in the CMS.
+     *
+     * @param tppAuthorisationNumber Mandatory TPP ID
+     * @param createDateFrom         Optional starting creation date criteria
+     * @param createDateTo           Optional ending creation date criteria
+     * @param psuIdData              Optional Psu information criteria
+     * @param instanceId             Mandatory id of particular service instance
+     * @param pageRequest            Mandatory page to be returned
+     * @return Page of payments for TPP by given criteria.
+     * By inconsistent criteria or page request an empty page will be returned
+     */
+    CmsExportPage<CmsPayment> exportPaymentsByTpp(String tppAuthorisationNumber,
+                                                  @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                  @Nullable PsuIdData psuIdData, @NotNull String instanceId,
+                                                  @NotNull CmsExportPageRequest pageRequest);
+
+    /**
+     * Returns one page of payments by given criteria, ordered by the time of their storage in the CMS.
+     *
+     * @param psuIdData      Mandatory Psu information criteria
+     * @param createDateFrom Optional starting creation date criteria
+     * @param createDateTo   Optional ending creation date criteria
+     * @param instanceId     Mandatory id of particular service instance
+     * @param pageRequest    Mandatory page to be returned
+     * @return Page of payments for PSU by given criteria.
+     * By inconsistent criteria or page request an empty page will be returned
+     */
+    CmsExportPage<CmsPayment> exportPaymentsByPsu(PsuIdData psuIdData,
+                                                  @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                  @NotNull String instanceId, @NotNull CmsExportPageRequest pageRequest);
+
+    /**
+     * Returns one page of payments by given criteria, ordered by the time of their storage in the CMS.
+     *
+     * @param aspspAccountId Bank specific account identifier
+     * @param createDateFrom Optional starting creation date criteria
+     * @param createDateTo   Optional ending creation date criteria
+     * @param instanceId     Mandatory id of particular service instance
+     * @param pageRequest    Mandatory page to be returned
+     * @return Page of payments by given criteria.
+     * By inconsistent criteria or page request an empty page will be returned
+     */
+    CmsExportPage<CmsPayment> exportPaymentsByAccountId(@NotNull String aspspAccountId,
+                                                        @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                        @NotNull String instanceId, @NotNull CmsExportPageRequest pageRequest);
 }
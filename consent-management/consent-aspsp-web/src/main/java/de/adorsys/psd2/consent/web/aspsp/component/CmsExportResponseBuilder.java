@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.web.aspsp.component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Builds responses of the ASPSP export endpoints: single pages with the cursor of the next page in the
+ * <code>next-cursor</code> header and newline delimited JSON streams of whole exports.
+ * <p>
+ * Streams read the export page by page after the cursor of the previous page, <code>xs2a.cms.aspsp-export.page-size</code>
+ * objects at a time, so that only one page is kept in memory.
+ */
+@Component
+public class CmsExportResponseBuilder {
+    public static final String NEXT_CURSOR_HEADER = "next-cursor";
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final byte[] NEW_LINE = {'\n'};
+
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+
+    public CmsExportResponseBuilder(ObjectMapper objectMapper,
+                                    @Value("${xs2a.cms.aspsp-export.page-size:500}") int pageSize) {
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Creates page request from the paging headers of the request
+     *
+     * @param itemsPerPage maximum number of items on the page
+     * @param pageIndex    optional zero-based index of the page
+     * @param cursor       optional cursor of the previous page
+     * @return page request or <code>null</code> if paging wasn't requested
+     */
+    @Nullable
+    public CmsExportPageRequest buildPageRequest(@Nullable Integer itemsPerPage, @Nullable Integer pageIndex, @Nullable String cursor) {
+        if (itemsPerPage == null) {
+            return null;
+        }
+
+        return cursor != null
+                   ? CmsExportPageRequest.afterCursor(cursor, itemsPerPage)
+                   : CmsExportPageRequest.ofPage(pageIndex == null ? 0 : pageIndex, itemsPerPage);
+    }
+
+    /**
+     * Builds response with the items of the page
+     *
+     * @param page exported page
+     * @param <T>  type of exported objects
+     * @return response with the items as body and the cursor of the next page as header
+     */
+    @NotNull
+    public <T> ResponseEntity<Collection<T>> buildPageResponse(@NotNull CmsExportPage<T> page) {
+        HttpHeaders headers = new HttpHeaders();
+        if (page.hasNext()) {
+            headers.add(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return new ResponseEntity<>(page.getItems(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * Builds response streaming all pages of an export as newline delimited JSON
+     *
+     * @param pageLoader function reading one page of the export
+     * @param <T>        type of exported objects
+     * @return streaming response
+     */
+    @NotNull
+    public <T> ResponseEntity<StreamingResponseBody> buildStreamResponse(@NotNull Function<CmsExportPageRequest, CmsExportPage<T>> pageLoader) {
+        StreamingResponseBody responseBody = outputStream -> {
+            OutputStream bufferedStream = new BufferedOutputStream(outputStream);
+            String cursor = null;
+            CmsExportPage<T> page;
+            do {
+                page = pageLoader.apply(CmsExportPageRequest.afterCursor(cursor, pageSize));
+                for (T item : page.getItems()) {
+                    bufferedStream.write(objectMapper.writeValueAsBytes(item));
+                    bufferedStream.write(NEW_LINE);
+                }
+                cursor = page.getNextCursor();
+            } while (page.hasNext());
+            bufferedStream.flush();
+        };
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(APPLICATION_NDJSON);
+        return new ResponseEntity<>(responseBody, headers, HttpStatus.OK);
+    }
+}
@@ -19,11 +19,14 @@ package de.adorsys.psd2.consent.web.aspsp.controller;
 import de.adorsys.psd2.consent.api.ais.CmsAisAccountConsent;
 import de.adorsys.psd2.consent.aspsp.api.CmsAspspAisExportApi;
 import de.adorsys.psd2.consent.aspsp.api.ais.CmsAspspAisExportService;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
+import de.adorsys.psd2.consent.web.aspsp.component.CmsExportResponseBuilder;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.Collection;
@@ -32,24 +35,57 @@ import java.util.Collection;
 @RequiredArgsConstructor
 public class CmsAspspAisExportController implements CmsAspspAisExportApi {
     private final CmsAspspAisExportService cmsAspspAisExportService;
+    private final CmsExportResponseBuilder cmsExportResponseBuilder;
 
     @Override
-    public ResponseEntity<Collection<CmsAisAccountConsent>> getConsentsByTpp(String tppId, LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId) {
+    public ResponseEntity<Collection<CmsAisAccountConsent>> getConsentsByTpp(String tppId, LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId, Integer itemsPerPage, Integer pageIndex, String cursor) {
         PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        CmsExportPageRequest pageRequest = cmsExportResponseBuilder.buildPageRequest(itemsPerPage, pageIndex, cursor);
+        if (pageRequest != null) {
+            return cmsExportResponseBuilder.buildPageResponse(cmsAspspAisExportService.exportConsentsByTpp(tppId, start, end, psuIdData, instanceId, pageRequest));
+        }
+
         Collection<CmsAisAccountConsent> consents = cmsAspspAisExportService.exportConsentsByTpp(tppId, start, end, psuIdData, instanceId);
         return new ResponseEntity<>(consents, HttpStatus.OK);
     }
 
     @Override
-    public ResponseEntity<Collection<CmsAisAccountConsent>> getConsentsByPsu(LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId) {
+    public ResponseEntity<Collection<CmsAisAccountConsent>> getConsentsByPsu(LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId, Integer itemsPerPage, Integer pageIndex, String cursor) {
         PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        CmsExportPageRequest pageRequest = cmsExportResponseBuilder.buildPageRequest(itemsPerPage, pageIndex, cursor);
+        if (pageRequest != null) {
+            return cmsExportResponseBuilder.buildPageResponse(cmsAspspAisExportService.exportConsentsByPsu(psuIdData, start, end, instanceId, pageRequest));
+        }
+
         Collection<CmsAisAccountConsent> consents = cmsAspspAisExportService.exportConsentsByPsu(psuIdData, start, end, instanceId);
         return new ResponseEntity<>(consents, HttpStatus.OK);
     }
 
     @Override
-    public ResponseEntity<Collection<CmsAisAccountConsent>> getConsentsByAccount(String aspspAccountId, LocalDate start, LocalDate end, String instanceId) {
+    public ResponseEntity<Collection<CmsAisAccountConsent>> getConsentsByAccount(String aspspAccountId, LocalDate start, LocalDate end, String instanceId, Integer itemsPerPage, Integer pageIndex, String cursor) {
+        CmsExportPageRequest pageRequest = cmsExportResponseBuilder.buildPageRequest(itemsPerPage, pageIndex, cursor);
+        if (pageRequest != null) {
+            return cmsExportResponseBuilder.buildPageResponse(cmsAspspAisExportService.exportConsentsByAccountId(aspspAccountId, start, end, instanceId, pageRequest));
+        }
+
         Collection<CmsAisAccountConsent> consents = cmsAspspAisExportService.exportConsentsByAccountId(aspspAccountId, start, end, instanceId);
         return new ResponseEntity<>(consents, HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamConsentsByTpp(String tppId, LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId) {
+        PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        return cmsExportResponseBuilder.buildStreamResponse(pageRequest -> cmsAspspAisExportService.exportConsentsByTpp(tppId, start, end, psuIdData, instanceId, pageRequest));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamConsentsByPsu(LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId) {
+        PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        return cmsExportResponseBuilder.buildStreamResponse(pageRequest -> cmsAspspAisExportService.exportConsentsByPsu(psuIdData, start, end, instanceId, pageRequest));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamConsentsByAccount(String aspspAccountId, LocalDate start, LocalDate end, String instanceId) {
+        return cmsExportResponseBuilder.buildStreamResponse(pageRequest -> cmsAspspAisExportService.exportConsentsByAccountId(aspspAccountId, start, end, instanceId, pageRequest));
+    }
 }
@@ -16,25 +16,62 @@
 
 package de.adorsys.psd2.consent.web.aspsp.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.adorsys.psd2.consent.aspsp.api.CmsAspspEventApi;
 import de.adorsys.psd2.event.service.AspspEventService;
 import de.adorsys.psd2.event.service.model.AspspEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.OffsetDateTime;
 import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class CmsAspspEventController implements CmsAspspEventApi {
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final byte[] NEW_LINE = {'\n'};
+
     private final AspspEventService aspspEventService;
+    private final ObjectMapper objectMapper;
 
     @Override
     public ResponseEntity<List<AspspEvent>> getEventsForDates(OffsetDateTime start, OffsetDateTime end, String instanceId) {
         List<AspspEvent> events = aspspEventService.getEventsForPeriod(start, end, instanceId);
         return new ResponseEntity<>(events, HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamEventsForDates(OffsetDateTime start, OffsetDateTime end, String instanceId) {
+        StreamingResponseBody responseBody = outputStream -> {
+            OutputStream bufferedStream = new BufferedOutputStream(outputStream);
+            try {
+                aspspEventService.forEachEventForPeriod(start, end, instanceId, event -> writeLine(bufferedStream, event));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            bufferedStream.flush();
+        };
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(APPLICATION_NDJSON);
+        return new ResponseEntity<>(responseBody, headers, HttpStatus.OK);
+    }
+
+    private void writeLine(OutputStream outputStream, AspspEvent event) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(event));
+            outputStream.write(NEW_LINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
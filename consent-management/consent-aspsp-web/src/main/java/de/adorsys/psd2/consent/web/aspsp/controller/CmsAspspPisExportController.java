@@ -19,11 +19,14 @@ package de.adorsys.psd2.consent.web.aspsp.controller;
 import de.adorsys.psd2.consent.api.pis.CmsPayment;
 import de.adorsys.psd2.consent.aspsp.api.CmsAspspPisExportApi;
 import de.adorsys.psd2.consent.aspsp.api.pis.CmsAspspPisExportService;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
+import de.adorsys.psd2.consent.web.aspsp.component.CmsExportResponseBuilder;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.Collection;
@@ -32,24 +35,57 @@ import java.util.Collection;
 @RequiredArgsConstructor
 public class CmsAspspPisExportController implements CmsAspspPisExportApi {
     private final CmsAspspPisExportService cmsAspspPisExportService;
+    private final CmsExportResponseBuilder cmsExportResponseBuilder;
 
     @Override
-    public ResponseEntity<Collection<CmsPayment>> getPaymentsByTpp(String tppId, LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId) {
+    public ResponseEntity<Collection<CmsPayment>> getPaymentsByTpp(String tppId, LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId, Integer itemsPerPage, Integer pageIndex, String cursor) {
         PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        CmsExportPageRequest pageRequest = cmsExportResponseBuilder.buildPageRequest(itemsPerPage, pageIndex, cursor);
+        if (pageRequest != null) {
+            return cmsExportResponseBuilder.buildPageResponse(cmsAspspPisExportService.exportPaymentsByTpp(tppId, start, end, psuIdData, instanceId, pageRequest));
+        }
+
         Collection<CmsPayment> payments = cmsAspspPisExportService.exportPaymentsByTpp(tppId, start, end, psuIdData, instanceId);
         return new ResponseEntity<>(payments, HttpStatus.OK);
     }
 
     @Override
-    public ResponseEntity<Collection<CmsPayment>> getPaymentsByPsu(LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId) {
+    public ResponseEntity<Collection<CmsPayment>> getPaymentsByPsu(LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId, Integer itemsPerPage, Integer pageIndex, String cursor) {
         PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        CmsExportPageRequest pageRequest = cmsExportResponseBuilder.buildPageRequest(itemsPerPage, pageIndex, cursor);
+        if (pageRequest != null) {
+            return cmsExportResponseBuilder.buildPageResponse(cmsAspspPisExportService.exportPaymentsByPsu(psuIdData, start, end, instanceId, pageRequest));
+        }
+
         Collection<CmsPayment> payments = cmsAspspPisExportService.exportPaymentsByPsu(psuIdData, start, end, instanceId);
         return new ResponseEntity<>(payments, HttpStatus.OK);
     }
 
     @Override
-    public ResponseEntity<Collection<CmsPayment>> getPaymentsByAccountId(String aspspAccountId, LocalDate start, LocalDate end, String instanceId) {
+    public ResponseEntity<Collection<CmsPayment>> getPaymentsByAccountId(String aspspAccountId, LocalDate start, LocalDate end, String instanceId, Integer itemsPerPage, Integer pageIndex, String cursor) {
+        CmsExportPageRequest pageRequest = cmsExportResponseBuilder.buildPageRequest(itemsPerPage, pageIndex, cursor);
+        if (pageRequest != null) {
+            return cmsExportResponseBuilder.buildPageResponse(cmsAspspPisExportService.exportPaymentsByAccountId(aspspAccountId, start, end, instanceId, pageRequest));
+        }
+
         Collection<CmsPayment> payments = cmsAspspPisExportService.exportPaymentsByAccountId(aspspAccountId, start, end, instanceId);
         return new ResponseEntity<>(payments, HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamPaymentsByTpp(String tppId, LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId) {
+        PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        return cmsExportResponseBuilder.buildStreamResponse(pageRequest -> cmsAspspPisExportService.exportPaymentsByTpp(tppId, start, end, psuIdData, instanceId, pageRequest));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamPaymentsByPsu(LocalDate start, LocalDate end, String psuId, String psuIdType, String psuCorporateId, String psuCorporateIdType, String instanceId) {
+        PsuIdData psuIdData = new PsuIdData(psuId, psuIdType, psuCorporateId, psuCorporateIdType, null);
+        return cmsExportResponseBuilder.buildStreamResponse(pageRequest -> cmsAspspPisExportService.exportPaymentsByPsu(psuIdData, start, end, instanceId, pageRequest));
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> streamPaymentsByAccountId(String aspspAccountId, LocalDate start, LocalDate end, String instanceId) {
+        return cmsExportResponseBuilder.buildStreamResponse(pageRequest -> cmsAspspPisExportService.exportPaymentsByAccountId(aspspAccountId, start, end, instanceId, pageRequest));
+    }
 }
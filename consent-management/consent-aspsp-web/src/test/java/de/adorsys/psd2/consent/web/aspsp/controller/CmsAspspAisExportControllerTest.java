@@ -18,6 +18,9 @@ package de.adorsys.psd2.consent.web.aspsp.controller;
 
 import de.adorsys.psd2.consent.api.ais.CmsAisAccountConsent;
 import de.adorsys.psd2.consent.aspsp.api.ais.CmsAspspAisExportService;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
+import de.adorsys.psd2.consent.web.aspsp.component.CmsExportResponseBuilder;
 import de.adorsys.psd2.consent.web.aspsp.config.ObjectMapperTestConfig;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.xs2a.reader.JsonReader;
@@ -26,21 +29,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -68,6 +78,10 @@ class CmsAspspAisExportControllerTest {
     @Mock
     private CmsAspspAisExportService cmsAspspAisExportService;
 
+    @Spy
+    private CmsExportResponseBuilder cmsExportResponseBuilder =
+        new CmsExportResponseBuilder(new ObjectMapperTestConfig().getXs2aObjectMapper(), 1);
+
     @BeforeEach
     void setUp() {
         ObjectMapperTestConfig objectMapperTestConfig = new ObjectMapperTestConfig();
@@ -129,4 +143,45 @@ class CmsAspspAisExportControllerTest {
 
         verify(cmsAspspAisExportService, times(1)).exportConsentsByAccountId(ACCOUNT_ID, START_DATE, END_DATE, INSTANCE_ID);
     }
+
+    @Test
+    void getConsentsByTpp_page() throws Exception {
+        CmsExportPageRequest pageRequest = CmsExportPageRequest.afterCursor("10", 1);
+        when(cmsAspspAisExportService.exportConsentsByTpp(TPP_ID, START_DATE, END_DATE, psuIdData, INSTANCE_ID, pageRequest))
+            .thenReturn(new CmsExportPage<>(new ArrayList<>(consents), "11"));
+
+        mockMvc.perform(get(EXPORT_AIS_CONSENT_BY_TPP)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .headers(httpHeaders)
+                            .header("items-per-page", 1)
+                            .header("cursor", "10"))
+            .andExpect(status().is(HttpStatus.OK.value()))
+            .andExpect(header().string("next-cursor", "11"))
+            .andExpect(content().json(jsonReader.getStringFromFile(LIST_OF_AIS_ACCOUNT_CONSENT_PATH)));
+
+        verify(cmsAspspAisExportService, never()).exportConsentsByTpp(TPP_ID, START_DATE, END_DATE, psuIdData, INSTANCE_ID);
+    }
+
+    @Test
+    void streamConsentsByPsu() throws Exception {
+        when(cmsAspspAisExportService.exportConsentsByPsu(psuIdData, START_DATE, END_DATE, INSTANCE_ID, CmsExportPageRequest.afterCursor(null, 1)))
+            .thenReturn(new CmsExportPage<>(new ArrayList<>(consents), "1"));
+        when(cmsAspspAisExportService.exportConsentsByPsu(psuIdData, START_DATE, END_DATE, INSTANCE_ID, CmsExportPageRequest.afterCursor("1", 1)))
+            .thenReturn(new CmsExportPage<>(new ArrayList<>(consents), null));
+
+        MvcResult mvcResult = mockMvc.perform(get(EXPORT_AIS_CONSENT_BY_PSU + "stream")
+                                                  .headers(httpHeaders))
+                                  .andExpect(request().asyncStarted())
+                                  .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(mvcResult))
+                               .andExpect(status().is(HttpStatus.OK.value()))
+                               .andExpect(content().contentType("application/x-ndjson"))
+                               .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(lines[0], lines[1]);
+        verify(cmsAspspAisExportService, times(2)).exportConsentsByPsu(eq(psuIdData), eq(START_DATE), eq(END_DATE), eq(INSTANCE_ID), any(CmsExportPageRequest.class));
+    }
 }
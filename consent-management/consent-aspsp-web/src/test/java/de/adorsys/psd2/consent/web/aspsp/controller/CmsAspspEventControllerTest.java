@@ -29,15 +29,21 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class CmsAspspEventControllerTest {
@@ -47,6 +53,7 @@ class CmsAspspEventControllerTest {
     private static final String INSTANCE_ID = "UNDEFINED";
     private static final String EVENT_LIST_PATH = "json/list-aspsp-event.json";
     private static final String GET_ASPSP_EVENT_LIST_URL = "/aspsp-api/v1/events/";
+    private static final String STREAM_ASPSP_EVENTS_URL = "/aspsp-api/v1/events/stream";
 
     @Mock
     private AspspEventService aspspEventService;
@@ -68,7 +75,7 @@ class CmsAspspEventControllerTest {
 
         MockitoAnnotations.initMocks(this);
         mockMvc = MockMvcBuilders
-                      .standaloneSetup(new CmsAspspEventController(aspspEventService))
+                      .standaloneSetup(new CmsAspspEventController(aspspEventService, objectMapperTestConfig.getXs2aObjectMapper()))
                       .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapperTestConfig.getXs2aObjectMapper()))
                       .build();
     }
@@ -103,4 +110,31 @@ class CmsAspspEventControllerTest {
 
         verify(aspspEventService, times(1)).getEventsForPeriod(eq(OffsetDateTime.parse(START)), eq(OffsetDateTime.parse(END)), eq(INSTANCE_ID));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamEventsForDates_success() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<AspspEvent> consumer = invocation.getArgument(3);
+            consumer.accept(events.get(0));
+            consumer.accept(events.get(0));
+            return null;
+        }).when(aspspEventService).forEachEventForPeriod(eq(OffsetDateTime.parse(START)), eq(OffsetDateTime.parse(END)), eq(INSTANCE_ID), any(Consumer.class));
+
+        MvcResult mvcResult = mockMvc.perform(get(STREAM_ASPSP_EVENTS_URL)
+                                                  .headers(httpHeaders)
+                                                  .header("instance-id", INSTANCE_ID))
+                                  .andExpect(request().asyncStarted())
+                                  .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(mvcResult))
+                               .andExpect(status().is(HttpStatus.OK.value()))
+                               .andExpect(content().contentType("application/x-ndjson"))
+                               .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(lines[0], lines[1]);
+        verify(aspspEventService, times(1)).forEachEventForPeriod(eq(OffsetDateTime.parse(START)), eq(OffsetDateTime.parse(END)), eq(INSTANCE_ID), any(Consumer.class));
+    }
 }
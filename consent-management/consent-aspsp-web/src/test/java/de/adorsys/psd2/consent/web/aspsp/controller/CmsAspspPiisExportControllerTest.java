@@ -18,6 +18,9 @@ package de.adorsys.psd2.consent.web.aspsp.controller;
 
 import de.adorsys.psd2.consent.api.piis.v1.CmsPiisConsent;
 import de.adorsys.psd2.consent.aspsp.api.piis.CmsAspspPiisFundsExportService;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
+import de.adorsys.psd2.consent.web.aspsp.component.CmsExportResponseBuilder;
 import de.adorsys.psd2.consent.web.aspsp.config.ObjectMapperTestConfig;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.xs2a.reader.JsonReader;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -35,12 +39,14 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -67,6 +73,9 @@ class CmsAspspPiisExportControllerTest {
 
     @Mock
     private CmsAspspPiisFundsExportService cmsAspspPiisExportService;
+    @Spy
+    private CmsExportResponseBuilder cmsExportResponseBuilder =
+        new CmsExportResponseBuilder(new ObjectMapperTestConfig().getXs2aObjectMapper(), 1);
 
     @BeforeEach
     void setUp() {
@@ -129,4 +138,22 @@ class CmsAspspPiisExportControllerTest {
 
         verify(cmsAspspPiisExportService, times(1)).exportConsentsByAccountId(ACCOUNT_ID, START_DATE, END_DATE, INSTANCE_ID);
     }
+
+    @Test
+    void getConsentsByAccountId_page() throws Exception {
+        CmsExportPageRequest pageRequest = CmsExportPageRequest.ofPage(3, 20);
+        when(cmsAspspPiisExportService.exportConsentsByAccountId(ACCOUNT_ID, START_DATE, END_DATE, INSTANCE_ID, pageRequest))
+            .thenReturn(new CmsExportPage<>(new ArrayList<>(cmsPiisConsents), null));
+
+        mockMvc.perform(get(EXPORT_PIIS_CONSENT_BY_ACCOUNT)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .headers(httpHeaders)
+                            .header("items-per-page", 20)
+                            .header("page-index", 3))
+            .andExpect(status().is(HttpStatus.OK.value()))
+            .andExpect(header().doesNotExist("next-cursor"))
+            .andExpect(content().json(jsonReader.getStringFromFile(LIST_OF_PIIS_CONSENTS_PATH)));
+
+        verify(cmsAspspPiisExportService, times(1)).exportConsentsByAccountId(ACCOUNT_ID, START_DATE, END_DATE, INSTANCE_ID, pageRequest);
+    }
 }
@@ -21,6 +21,9 @@ import de.adorsys.psd2.consent.api.pis.CmsAmount;
 import de.adorsys.psd2.consent.api.pis.CmsPayment;
 import de.adorsys.psd2.consent.api.pis.CmsSinglePayment;
 import de.adorsys.psd2.consent.aspsp.api.pis.CmsAspspPisExportService;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
+import de.adorsys.psd2.consent.web.aspsp.component.CmsExportResponseBuilder;
 import de.adorsys.psd2.consent.web.aspsp.config.ObjectMapperTestConfig;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.xs2a.reader.JsonReader;
@@ -29,23 +32,30 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Currency;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,6 +83,10 @@ class CmsAspspPisExportControllerTest {
     @Mock
     private CmsAspspPisExportService cmsAspspPisExportService;
 
+    @Spy
+    private CmsExportResponseBuilder cmsExportResponseBuilder =
+        new CmsExportResponseBuilder(new ObjectMapperTestConfig().getXs2aObjectMapper(), 1);
+
     @BeforeEach
     void setUp() {
         ObjectMapperTestConfig objectMapperTestConfig = new ObjectMapperTestConfig();
@@ -134,6 +148,26 @@ class CmsAspspPisExportControllerTest {
         verify(cmsAspspPisExportService, times(1)).exportPaymentsByAccountId(ACCOUNT_ID, START_DATE, END_DATE, INSTANCE_ID);
     }
 
+    @Test
+    void streamPaymentsByAccountId() throws Exception {
+        when(cmsAspspPisExportService.exportPaymentsByAccountId(ACCOUNT_ID, START_DATE, END_DATE, INSTANCE_ID, CmsExportPageRequest.afterCursor(null, 1)))
+            .thenReturn(new CmsExportPage<>(new ArrayList<>(cmsPayments), null));
+
+        MvcResult mvcResult = mockMvc.perform(get(EXPORT_PIS_CONSENT_BY_ACCOUNT + "/stream")
+                                                  .headers(httpHeaders))
+                                  .andExpect(request().asyncStarted())
+                                  .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(mvcResult))
+                               .andExpect(status().is(HttpStatus.OK.value()))
+                               .andExpect(content().contentType("application/x-ndjson"))
+                               .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(1, lines.length);
+        verify(cmsAspspPisExportService, never()).exportPaymentsByAccountId(ACCOUNT_ID, START_DATE, END_DATE, INSTANCE_ID);
+    }
+
     private CmsPayment getCmsPayment() {
         String paymentProduct = "paymentProduct";
         CmsSinglePayment result = new CmsSinglePayment(paymentProduct);
@@ -20,6 +20,7 @@ import de.adorsys.psd2.consent.repository.CryptoAlgorithmRepository;
 import de.adorsys.psd2.consent.service.security.provider.CryptoInstanceFactory;
 import de.adorsys.psd2.consent.service.security.provider.CryptoProvider;
 import de.adorsys.psd2.consent.service.security.provider.CryptoProviderHolder;
+import de.adorsys.psd2.consent.service.security.provider.DerivedKeyCache;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
@@ -40,9 +41,16 @@ public class CryptoConfig {
     @Value("${xs2a.cms.encryption.defaultProvider.idProvider:psGLvQpt9Q}")
     private String defaultIdProviderId;
 
+    @Value("${xs2a.cms.encryption.key-cache.max-size:1000}")
+    private int keyCacheMaxSize;
+
+    @Value("${xs2a.cms.encryption.key-cache.ttl.ms:600000}")
+    private long keyCacheTtlMs;
+
     @Bean
     public CryptoProviderHolder initCryptoProviders(CryptoAlgorithmRepository cryptoAlgorithmRepository) {
-        Map<String, CryptoProvider> providerMap = getInitializedProviderMap(cryptoAlgorithmRepository);
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(keyCacheMaxSize, keyCacheTtlMs);
+        Map<String, CryptoProvider> providerMap = getInitializedProviderMap(cryptoAlgorithmRepository, derivedKeyCache);
         CryptoProviderHolder cryptoProviderHolder = new CryptoProviderHolder(providerMap, defaultDataProviderId, defaultIdProviderId);
 
         validateDefaultProviders(cryptoProviderHolder.getDefaultDataProvider(), cryptoProviderHolder.getDefaultIdProvider());
@@ -54,22 +62,22 @@ public class CryptoConfig {
         return cryptoProviderHolder;
     }
 
-    private Map<String, CryptoProvider> getInitializedProviderMap(CryptoAlgorithmRepository cryptoAlgorithmRepository) {
+    private Map<String, CryptoProvider> getInitializedProviderMap(CryptoAlgorithmRepository cryptoAlgorithmRepository, DerivedKeyCache derivedKeyCache) {
         return StreamSupport.stream(cryptoAlgorithmRepository.findAll().spliterator(), false)
                    .filter(crp -> StringUtils.isNotBlank(crp.getEncryptorClass())
                                       && !crp.getEncryptorClass().equals("UNDEFINED"))
-                   .map(crp -> getCryptoProviderInstance(crp.getEncryptorClass(), crp.getCryptoProviderId(), crp.getEncryptorParams()))
+                   .map(crp -> getCryptoProviderInstance(crp.getEncryptorClass(), crp.getCryptoProviderId(), crp.getEncryptorParams(), derivedKeyCache))
                    .filter(Objects::nonNull)
                    .collect(Collectors.toMap(CryptoProvider::getCryptoProviderId, crp -> crp));
     }
 
-    private CryptoProvider getCryptoProviderInstance(String factoryClassName, String cryptoProviderId, String params) {
+    private CryptoProvider getCryptoProviderInstance(String factoryClassName, String cryptoProviderId, String params, DerivedKeyCache derivedKeyCache) {
         try {
             Class factoryClass = Class.forName(factoryClassName);
             Object factoryImpl = factoryClass.newInstance();
 
             if (factoryImpl instanceof CryptoInstanceFactory) {
-                return ((CryptoInstanceFactory) factoryImpl).initProvider(cryptoProviderId, params);
+                return ((CryptoInstanceFactory) factoryImpl).initProvider(cryptoProviderId, params, derivedKeyCache);
             }
         } catch (Exception ex) {
             log.info("Error creation {} factory: ", factoryClassName, ex);
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.config;
+
+import de.adorsys.psd2.consent.service.piis.PiisConsentLookupCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PiisConsentLookupConfig {
+    @Value("${xs2a.cms.piis.lookup-cache.max-size:1000}")
+    private int lookupCacheMaxSize;
+
+    @Value("${xs2a.cms.piis.lookup-cache.ttl.ms:60000}")
+    private long lookupCacheTtlMs;
+
+    @Bean
+    public PiisConsentLookupCache piisConsentLookupCache() {
+        return new PiisConsentLookupCache(lookupCacheMaxSize, lookupCacheTtlMs);
+    }
+}
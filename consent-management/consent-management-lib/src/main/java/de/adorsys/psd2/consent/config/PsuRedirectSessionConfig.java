@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.config;
+
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PsuRedirectSessionConfig {
+    @Value("${xs2a.cms.psu.redirect-session.max-size:1000}")
+    private int redirectSessionMaxSize;
+
+    @Value("${xs2a.cms.psu.redirect-session.cache.ttl.ms:0}")
+    private long redirectSessionCacheTtlMs;
+
+    @Value("${xs2a.cms.psu.redirect-session.timeout.ms:1800000}")
+    private long redirectSessionTimeoutMs;
+
+    @Bean
+    public RedirectSessionCache redirectSessionCache() {
+        return new RedirectSessionCache(redirectSessionMaxSize, redirectSessionCacheTtlMs, redirectSessionTimeoutMs);
+    }
+}
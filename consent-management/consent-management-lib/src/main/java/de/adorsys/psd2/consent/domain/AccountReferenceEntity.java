@@ -19,6 +19,8 @@ package de.adorsys.psd2.consent.domain;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Data;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.util.Currency;
@@ -30,7 +32,10 @@ public class AccountReferenceEntity {
     @Id
     @Column(name = "account_reference_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_reference_generator")
-    @SequenceGenerator(name = "account_reference_generator", sequenceName = "account_reference_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "account_reference_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "account_reference_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @ApiModelProperty(value = "IBAN: This data element can be used in the body of the CreateConsentReq Request Message for retrieving account access consent from this payment account", example = "DE89370400440532013000")
@@ -2,6 +2,8 @@ package de.adorsys.psd2.consent.domain;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 
@@ -11,7 +13,10 @@ import javax.persistence.*;
 public class AdditionalPsuData {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "additional_psu_data_generator")
-    @SequenceGenerator(name = "additional_psu_data_generator", sequenceName = "additional_psu_data_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "additional_psu_data_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "additional_psu_data_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
     @Column
     private String psuIpPort;
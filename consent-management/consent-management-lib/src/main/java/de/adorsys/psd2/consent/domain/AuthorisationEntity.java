@@ -22,6 +22,8 @@ import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.time.OffsetDateTime;
@@ -36,7 +38,10 @@ public class AuthorisationEntity extends InstanceDependableEntity {
     @Id
     @Column(name = "authorisation_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "authorisation_generator")
-    @SequenceGenerator(name = "authorisation_generator", sequenceName = "authorisation_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "authorisation_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "authorisation_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @Column(name = "external_id", nullable = false)
@@ -18,6 +18,8 @@ package de.adorsys.psd2.consent.domain;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 
@@ -29,8 +31,10 @@ public class AuthorisationTemplateEntity {
     @Id
     @Column(name = "authorisation_template_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "authorisation_template_generator")
-    @SequenceGenerator(name = "authorisation_template_generator", sequenceName = "authorisation_template_id_seq",
-        allocationSize = 1)
+    @GenericGenerator(name = "authorisation_template_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "authorisation_template_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @Column(name = "redirect_uri")
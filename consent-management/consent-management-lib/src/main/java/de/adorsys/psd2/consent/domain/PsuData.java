@@ -19,6 +19,8 @@ package de.adorsys.psd2.consent.domain;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.jetbrains.annotations.NotNull;
 
 import javax.persistence.*;
@@ -30,7 +32,10 @@ public class PsuData extends InstanceDependableEntity {
     @Id
     @Column(name = "id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "psu_data_generator")
-    @SequenceGenerator(name = "psu_data_generator", sequenceName = "psu_data_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "psu_data_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "psu_data_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @Column(name = "psu_id")
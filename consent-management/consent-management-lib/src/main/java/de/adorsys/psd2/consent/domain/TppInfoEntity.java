@@ -19,6 +19,8 @@ package de.adorsys.psd2.consent.domain;
 import de.adorsys.psd2.xs2a.core.tpp.TppRole;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.NaturalId;
 
 import javax.persistence.*;
@@ -31,7 +33,10 @@ public class TppInfoEntity extends InstanceDependableEntity {
     @Id
     @Column(name = "tpp_info_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tpp_info_generator")
-    @SequenceGenerator(name = "tpp_info_generator", sequenceName = "tpp_info_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "tpp_info_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "tpp_info_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @NaturalId
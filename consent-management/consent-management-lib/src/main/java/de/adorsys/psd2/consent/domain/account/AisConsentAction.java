@@ -20,6 +20,8 @@ import de.adorsys.psd2.consent.api.ActionStatus;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Data;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -30,7 +32,10 @@ import java.time.LocalDate;
 public class AisConsentAction {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ais_consent_action_generator")
-    @SequenceGenerator(name = "ais_consent_action_generator", sequenceName = "ais_consent_action_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "ais_consent_action_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "ais_consent_action_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @Column(name = "request_date", nullable = false)
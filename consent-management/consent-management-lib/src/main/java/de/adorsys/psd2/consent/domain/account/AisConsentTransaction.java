@@ -18,6 +18,8 @@ package de.adorsys.psd2.consent.domain.account;
 
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import lombok.Data;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 
@@ -28,7 +30,10 @@ public class AisConsentTransaction {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ais_consent_transaction_generator")
-    @SequenceGenerator(name = "ais_consent_transaction_generator", sequenceName = "ais_consent_transaction_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "ais_consent_transaction_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "ais_consent_transaction_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @ManyToOne(cascade = CascadeType.ALL)
@@ -19,6 +19,8 @@ package de.adorsys.psd2.consent.domain.account;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -32,7 +34,10 @@ import java.time.LocalDate;
 public class AisConsentUsage {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "consent_usage_generator")
-    @SequenceGenerator(name = "consent_usage_generator", sequenceName = "consent_usage_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "consent_usage_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "consent_usage_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @ManyToOne(cascade = CascadeType.ALL)
@@ -30,6 +30,8 @@ import de.adorsys.psd2.xs2a.core.consent.ConsentType;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.apache.commons.collections4.CollectionUtils;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -48,8 +50,10 @@ public class ConsentEntity extends InstanceDependableEntity implements Authorisa
     @Id
     @Column(name = "consent_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "consent_generator")
-    @SequenceGenerator(name = "consent_generator", sequenceName = "consent_id_seq",
-        allocationSize = 1)
+    @GenericGenerator(name = "consent_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "consent_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @Column(name = "external_id", nullable = false)
@@ -21,6 +21,8 @@ import de.adorsys.psd2.xs2a.core.profile.NotificationSupportedMode;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Data;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.util.List;
@@ -33,7 +35,10 @@ public class ConsentTppInformationEntity {
     @Id
     @Column(name = "consent_tpp_information_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "consent_tpp_information_generator")
-    @SequenceGenerator(name = "consent_tpp_information_generator", sequenceName = "consent_tpp_info_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "consent_tpp_information_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "consent_tpp_info_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @Column(name = "tpp_redirect_preferred", nullable = false)
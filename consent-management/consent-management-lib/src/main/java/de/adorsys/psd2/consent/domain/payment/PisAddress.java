@@ -20,6 +20,8 @@ import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 
@@ -31,7 +33,10 @@ public class PisAddress {
     @Id
     @Column(name = "address_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pis_address_generator")
-    @SequenceGenerator(name = "pis_address_generator", sequenceName = "pis_address_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "pis_address_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "pis_address_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @ApiModelProperty(value = "Street", example = "Herrnstraße")
@@ -23,6 +23,8 @@ import de.adorsys.psd2.xs2a.core.profile.NotificationSupportedMode;
 import de.adorsys.psd2.xs2a.core.profile.PaymentType;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.time.OffsetDateTime;
@@ -38,7 +40,10 @@ import java.util.Objects;
 public class PisCommonPaymentData extends InstanceDependableEntity implements Authorisable {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pis_common_payment_generator")
-    @SequenceGenerator(name = "pis_common_payment_generator", sequenceName = "pis_common_payment_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "pis_common_payment_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "pis_common_payment_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @Column(name = "payment_id", nullable = false)
@@ -20,6 +20,8 @@ import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 
@@ -31,7 +33,10 @@ public class PisRemittance {
     @Id
     @Column(name = "remittance_id")
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pis_remittance_generator")
-    @SequenceGenerator(name = "pis_remittance_generator", sequenceName = "pis_remittance_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "pis_remittance_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "pis_remittance_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @ApiModelProperty(value = "The actual reference", required = true, example = "Ref Number Merchant")
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.domain.piis;
+
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.util.Currency;
+
+/**
+ * Account reference of PIIS consent, used to look up consents by account in funds confirmation.
+ * <p>
+ * Contains the same account data as <code>aspsp_account_access</code> of the consent, but in a separate narrow table
+ * with index on account identifier, so that lookup doesn't need to join consents with their account accesses.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity(name = "piis_consent_account")
+@IdClass(PiisConsentAccountId.class)
+public class PiisConsentAccountEntity {
+
+    @Id
+    @Column(name = "consent_id", nullable = false)
+    private Long consentId;
+
+    @Id
+    @Column(name = "account_reference_type", nullable = false, length = 30)
+    @Enumerated(value = EnumType.STRING)
+    private AccountReferenceType accountReferenceType;
+
+    @Column(name = "account_identifier", nullable = false, length = 34)
+    private String accountIdentifier;
+
+    @Column(name = "currency", length = 3)
+    private Currency currency;
+}
@@ -22,6 +22,8 @@ import de.adorsys.psd2.consent.domain.PsuData;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.time.LocalDate;
@@ -38,7 +40,10 @@ import java.util.Objects;
 public class PiisConsentEntity extends InstanceDependableEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "piis_consent_generator")
-    @SequenceGenerator(name = "piis_consent_generator", sequenceName = "piis_consent_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "piis_consent_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "piis_consent_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @Column(name = "external_id", nullable = false)
@@ -18,9 +18,14 @@ package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.AuthorisationEntity;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -35,6 +40,20 @@ public interface AuthorisationRepository extends CrudRepository<AuthorisationEnt
     List<AuthorisationEntity> findAllByParentExternalIdAndType(String parentExternalId,
                                                                AuthorisationType authorisationType);
 
+    List<AuthorisationEntity> findAllByParentExternalIdInAndType(Collection<String> parentExternalIds,
+                                                                 AuthorisationType authorisationType);
+
     List<AuthorisationEntity> findAllByParentExternalIdAndTypeIn(String parentExternalId,
                                                                  Set<AuthorisationType> authorisationTypes);
+
+    @Modifying
+    @Query(
+        "update authorisation a " +
+            "set a.scaStatus = :scaStatus " +
+            "where a.parentExternalId in :parentExternalIds " +
+            "and a.type in :authorisationTypes"
+    )
+    int updateScaStatusByParentExternalIds(@Param("parentExternalIds") List<String> parentExternalIds,
+                                           @Param("authorisationTypes") Set<AuthorisationType> authorisationTypes,
+                                           @Param("scaStatus") ScaStatus scaStatus);
 }
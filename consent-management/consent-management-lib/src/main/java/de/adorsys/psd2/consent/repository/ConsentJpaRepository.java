@@ -18,12 +18,15 @@ package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -33,6 +36,12 @@ public interface ConsentJpaRepository extends CrudRepository<ConsentEntity, Long
 
     Optional<ConsentEntity> findByExternalId(String externalId);
 
+    @Query(
+        "select c.consentStatus from consent c " +
+            "where c.externalId = :externalId"
+    )
+    Optional<ConsentStatus> findConsentStatusByExternalId(@Param("externalId") String externalId);
+
     @Query(
         "select c from consent c " +
             "join c.psuDataList psuList " +
@@ -57,4 +66,27 @@ public interface ConsentJpaRepository extends CrudRepository<ConsentEntity, Long
     )
     List<ConsentEntity> findUsedNonRecurringConsents(@Param("consentStatuses") Set<ConsentStatus> consentStatuses,
                                                      @Param("currentDate") LocalDate currentDate);
+
+    @Query(
+        "select c.id from consent c " +
+            "where c.consentStatus in :consentStatuses " +
+            "and c.validUntil < :currentDate " +
+            "order by c.id"
+    )
+    List<Long> findIdsExpiredByDate(@Param("consentStatuses") Set<ConsentStatus> consentStatuses,
+                                    @Param("currentDate") LocalDate currentDate,
+                                    Pageable pageable);
+
+    @Modifying
+    @Query(
+        "update consent c " +
+            "set c.consentStatus = :newConsentStatus, c.expireDate = :expireDate, c.statusChangeTimestamp = :statusChangeTimestamp " +
+            "where c.id in :ids " +
+            "and c.consentStatus in :consentStatuses"
+    )
+    int expireConsentsByIds(@Param("ids") List<Long> ids,
+                            @Param("consentStatuses") Set<ConsentStatus> consentStatuses,
+                            @Param("newConsentStatus") ConsentStatus newConsentStatus,
+                            @Param("expireDate") LocalDate expireDate,
+                            @Param("statusChangeTimestamp") OffsetDateTime statusChangeTimestamp);
 }
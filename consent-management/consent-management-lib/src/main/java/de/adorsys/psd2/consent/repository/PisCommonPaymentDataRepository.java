@@ -18,9 +18,14 @@ package de.adorsys.psd2.consent.repository;
 
 import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -30,5 +35,41 @@ public interface PisCommonPaymentDataRepository extends CrudRepository<PisCommon
 
     Optional<PisCommonPaymentData> findByPaymentId(String paymentId);
 
+    @Query(
+        "select p.transactionStatus from pis_common_payment p " +
+            "where p.paymentId = :paymentId"
+    )
+    Optional<TransactionStatus> findTransactionStatusByPaymentId(@Param("paymentId") String paymentId);
+
     List<PisCommonPaymentData> findByTransactionStatusIn(Set<TransactionStatus> statuses);
+
+    @Query(
+        "select distinct p.instanceId from pis_common_payment p " +
+            "where p.transactionStatus in :transactionStatuses"
+    )
+    List<String> findInstanceIdsByTransactionStatusIn(@Param("transactionStatuses") Set<TransactionStatus> transactionStatuses);
+
+    @Query(
+        "select p.paymentId from pis_common_payment p " +
+            "where p.transactionStatus in :transactionStatuses " +
+            "and p.instanceId = :instanceId " +
+            "and p.creationTimestamp < :creationTimestamp " +
+            "order by p.id"
+    )
+    List<String> findPaymentIdsCreatedBefore(@Param("transactionStatuses") Set<TransactionStatus> transactionStatuses,
+                                             @Param("instanceId") String instanceId,
+                                             @Param("creationTimestamp") OffsetDateTime creationTimestamp,
+                                             Pageable pageable);
+
+    @Modifying
+    @Query(
+        "update pis_common_payment p " +
+            "set p.transactionStatus = :newTransactionStatus, p.statusChangeTimestamp = :statusChangeTimestamp " +
+            "where p.paymentId in :paymentIds " +
+            "and p.transactionStatus in :transactionStatuses"
+    )
+    int updateTransactionStatusByPaymentIds(@Param("paymentIds") List<String> paymentIds,
+                                            @Param("transactionStatuses") Set<TransactionStatus> transactionStatuses,
+                                            @Param("newTransactionStatus") TransactionStatus newTransactionStatus,
+                                            @Param("statusChangeTimestamp") OffsetDateTime statusChangeTimestamp);
 }
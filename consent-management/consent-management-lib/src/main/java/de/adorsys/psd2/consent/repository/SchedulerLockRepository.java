@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.repository;
+
+import de.adorsys.psd2.consent.domain.SchedulerLockEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.OffsetDateTime;
+
+public interface SchedulerLockRepository extends CrudRepository<SchedulerLockEntity, String> {
+
+    /**
+     * Takes over the lock with given name, if it is not held by any node at the moment
+     *
+     * @param name        name of the lock
+     * @param lockedUntil moment, when the lock will be released automatically
+     * @param now         current moment
+     * @param lockedBy    identifier of the node, that acquires the lock
+     * @return number of updated rows: 1 if the lock was acquired, 0 otherwise
+     */
+    @Modifying
+    @Query(
+        "update scheduler_lock l " +
+            "set l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :lockedBy " +
+            "where l.name = :name " +
+            "and l.lockedUntil <= :now"
+    )
+    int acquireLock(@Param("name") String name,
+                    @Param("lockedUntil") OffsetDateTime lockedUntil,
+                    @Param("now") OffsetDateTime now,
+                    @Param("lockedBy") String lockedBy);
+
+    /**
+     * Releases the lock with given name, if it is still held by given node
+     *
+     * @param name     name of the lock
+     * @param now      current moment
+     * @param lockedBy identifier of the node, that holds the lock
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query(
+        "update scheduler_lock l " +
+            "set l.lockedUntil = :now " +
+            "where l.name = :name " +
+            "and l.lockedBy = :lockedBy"
+    )
+    int releaseLock(@Param("name") String name,
+                    @Param("now") OffsetDateTime now,
+                    @Param("lockedBy") String lockedBy);
+}
@@ -28,5 +28,7 @@ import java.util.Optional;
 public interface TppStopListRepository extends CrudRepository<TppStopListEntity, Long> {
     Optional<TppStopListEntity> findByTppAuthorisationNumberAndInstanceId(@NotNull String tppAuthorisationNumber, @NotNull String instanceId);
 
+    List<TppStopListEntity> findAllByInstanceIdAndStatus(@NotNull String instanceId, @NotNull TppStatus tppStatus);
+
     List<TppStopListEntity> findAllByStatusAndBlockingExpirationTimestampLessThanEqual(@NotNull TppStatus tppStatus, @NotNull OffsetDateTime dateTimeToCompare);
 }
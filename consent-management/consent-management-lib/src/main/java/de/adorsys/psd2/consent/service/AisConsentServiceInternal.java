@@ -24,14 +24,17 @@ import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.api.service.AisConsentService;
 import de.adorsys.psd2.consent.domain.AuthorisationEntity;
 import de.adorsys.psd2.consent.domain.account.AisConsentAction;
+import de.adorsys.psd2.consent.domain.account.AisConsentTransaction;
 import de.adorsys.psd2.consent.domain.account.AspspAccountAccess;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.AisConsentActionRepository;
+import de.adorsys.psd2.consent.repository.AisConsentTransactionRepository;
 import de.adorsys.psd2.consent.repository.AisConsentVerifyingRepository;
 import de.adorsys.psd2.consent.repository.AuthorisationRepository;
 import de.adorsys.psd2.consent.service.account.AccountAccessUpdater;
 import de.adorsys.psd2.consent.service.mapper.AccessMapper;
 import de.adorsys.psd2.consent.service.mapper.CmsConsentMapper;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.core.data.AccountAccess;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
@@ -58,6 +61,7 @@ import static de.adorsys.psd2.xs2a.core.consent.ConsentStatus.EXPIRED;
 public class AisConsentServiceInternal implements AisConsentService {
     private final AisConsentVerifyingRepository aisConsentRepository;
     private final AisConsentActionRepository aisConsentActionRepository;
+    private final AisConsentTransactionRepository aisConsentTransactionRepository;
     private final AuthorisationRepository authorisationRepository;
     private final AisConsentConfirmationExpirationService aisConsentConfirmationExpirationService;
     private final AisConsentUsageService aisConsentUsageService;
@@ -65,9 +69,11 @@ public class AisConsentServiceInternal implements AisConsentService {
     private final CmsConsentMapper cmsConsentMapper;
     private final AccessMapper accessMapper;
     private final AccountAccessUpdater accountAccessUpdater;
+    private final RedirectSessionCache redirectSessionCache;
 
     /**
-     * Saves information about consent usage and consent's sub-resources usage.
+     * Saves information about consent usage and consent's sub-resources usage. Number of transactions, if present in
+     * the request, is saved before the usage is incremented, as it is needed for one-off consent expiration check.
      *
      * @param request {@link AisConsentActionRequest} needed parameters for logging usage AIS consent
      */
@@ -79,8 +85,10 @@ public class AisConsentServiceInternal implements AisConsentService {
             ConsentEntity consent = consentOpt.get();
             aisConsentConfirmationExpirationService.checkAndUpdateOnConfirmationExpiration(consent);
             checkAndUpdateOnExpiration(consent);
+            saveNumberOfTransactions(consent, request);
             updateAisConsentUsage(consent, request);
             logConsentAction(consent.getExternalId(), request.getActionStatus(), request.getTppId());
+            redirectSessionCache.parentChanged(consent.getExternalId());
         }
 
         return CmsResponse.<CmsResponse.VoidResponse>builder()
@@ -105,6 +113,7 @@ public class AisConsentServiceInternal implements AisConsentService {
         AccountAccess requestedAccessWithFilledAccounts = fillAccountsWithAllAccountReferences(request);
         ConsentEntity updatedConsent = updateConsentAccess(consentEntity, requestedAccessWithFilledAccounts);
         ConsentEntity savedConsent = aisConsentRepository.verifyAndUpdate(updatedConsent);
+        redirectSessionCache.parentChanged(consentId);
         CmsConsent cmsConsent = mapToCmsConsent(savedConsent);
 
         return CmsResponse.<CmsConsent>builder()
@@ -142,6 +151,18 @@ public class AisConsentServiceInternal implements AisConsentService {
         return consent;
     }
 
+    private void saveNumberOfTransactions(ConsentEntity consent, AisConsentActionRequest request) {
+        if (request.getNumberOfTransactions() == null || request.getTransactionsResourceId() == null) {
+            return;
+        }
+
+        AisConsentTransaction aisConsentTransaction = new AisConsentTransaction();
+        aisConsentTransaction.setConsentId(consent);
+        aisConsentTransaction.setResourceId(request.getTransactionsResourceId());
+        aisConsentTransaction.setNumberOfTransactions(request.getNumberOfTransactions());
+        aisConsentTransactionRepository.save(aisConsentTransaction);
+    }
+
     private void updateAisConsentUsage(ConsentEntity consent, AisConsentActionRequest request) throws WrongChecksumException {
         if (!request.isUpdateUsage()) {
             return;
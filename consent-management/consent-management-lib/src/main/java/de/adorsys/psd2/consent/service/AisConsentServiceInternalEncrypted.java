@@ -60,7 +60,9 @@ public class AisConsentServiceInternalEncrypted implements AisConsentServiceEncr
                                                                                encryptedRequest.getRequestUri(),
                                                                                encryptedRequest.isUpdateUsage(),
                                                                                encryptedRequest.getResourceId(),
-                                                                               encryptedRequest.getTransactionId());
+                                                                               encryptedRequest.getTransactionId(),
+                                                                               encryptedRequest.getTransactionsResourceId(),
+                                                                               encryptedRequest.getNumberOfTransactions());
         return aisConsentService.checkConsentAndSaveActionLog(decryptedRequest);
     }
 
@@ -32,6 +32,7 @@ import de.adorsys.psd2.consent.service.authorisation.AuthServiceResolver;
 import de.adorsys.psd2.consent.service.authorisation.AuthorisationClosingService;
 import de.adorsys.psd2.consent.service.mapper.AuthorisationMapper;
 import de.adorsys.psd2.consent.service.mapper.ScaMethodMapper;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.xs2a.core.authorisation.Authorisation;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
@@ -59,6 +60,7 @@ public class AuthorisationServiceInternal implements AuthorisationService {
     private final AuthorisationMapper authorisationMapper;
     private final AuthServiceResolver authServiceResolver;
     private final AuthorisationClosingService authorisationClosingService;
+    private final RedirectSessionCache redirectSessionCache;
 
     @Transactional
     @Override
@@ -80,6 +82,7 @@ public class AuthorisationServiceInternal implements AuthorisationService {
 
         Authorisable authorisationParent = parentOptional.get();
         AuthorisationEntity newAuthorisation = authService.saveAuthorisation(request, authorisationParent);
+        redirectSessionCache.parentChanged(parentId);
 
         CreateAuthorisationResponse response = new CreateAuthorisationResponse(newAuthorisation.getExternalId(), newAuthorisation.getScaStatus(), authorisationParent.getInternalRequestId(authorisationType), request.getPsuData());
         return CmsResponse.<CreateAuthorisationResponse>builder()
@@ -124,6 +127,7 @@ public class AuthorisationServiceInternal implements AuthorisationService {
         AuthorisationEntity authorisation = authorisationOptional.get();
         PsuIdData psuDataFromRequest = request.getPsuData();
         authorisationClosingService.closePreviousAuthorisationsByAuthorisation(authorisation, psuDataFromRequest);
+        redirectSessionCache.parentChanged(authorisation.getParentExternalId());
 
         if (authorisation.getScaStatus().isFinalisedStatus()) {
             log.info("Authorisation ID: [{}], SCA status: [{}]. Update authorisation has failed, because authorisation has finalised status",
@@ -156,6 +160,7 @@ public class AuthorisationServiceInternal implements AuthorisationService {
         AuthorisationEntity authorisationEntity = authorisationOptional.get();
         authorisationEntity.setScaStatus(scaStatus);
         authorisationRepository.save(authorisationEntity);
+        redirectSessionCache.parentChanged(authorisationEntity.getParentExternalId());
 
         return CmsResponse.<Boolean>builder()
                    .payload(true)
@@ -283,6 +288,7 @@ public class AuthorisationServiceInternal implements AuthorisationService {
 
         authorisation.setScaApproach(scaApproach);
         authorisationRepository.save(authorisation);
+        redirectSessionCache.parentChanged(authorisation.getParentExternalId());
         return CmsResponse.<Boolean>builder()
                    .payload(true)
                    .build();
@@ -34,6 +34,7 @@ import de.adorsys.psd2.consent.service.mapper.CmsConsentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.migration.AisConsentLazyMigrationService;
 import de.adorsys.psd2.consent.service.psu.CmsPsuService;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.consent.ConsentType;
@@ -67,6 +68,7 @@ public class ConsentServiceInternal implements ConsentService {
     private final CmsConsentMapper cmsConsentMapper;
     private final AisConsentLazyMigrationService aisConsentLazyMigrationService;
     private final AspspProfileService aspspProfileService;
+    private final RedirectSessionCache redirectSessionCache;
 
     /**
      * Creates consent.
@@ -108,7 +110,8 @@ public class ConsentServiceInternal implements ConsentService {
     }
 
     /**
-     * Reads status of consent by ID.
+     * Reads status of consent by ID. Finalised statuses are read from the status column only, as such consents can't
+     * expire anymore, the whole consent is loaded and checked for expiration otherwise.
      *
      * @param consentId ID of consent
      * @return ConsentStatus
@@ -116,10 +119,12 @@ public class ConsentServiceInternal implements ConsentService {
     @Override
     @Transactional
     public CmsResponse<ConsentStatus> getConsentStatusById(String consentId) {
-        Optional<ConsentStatus> consentStatusOptional = consentJpaRepository.findByExternalId(consentId)
-                                                            .map(aisConsentConfirmationExpirationService::checkAndUpdateOnConfirmationExpiration)
-                                                            .map(this::checkAndUpdateOnExpiration)
-                                                            .map(ConsentEntity::getConsentStatus);
+        Optional<ConsentStatus> consentStatusOptional = consentJpaRepository.findConsentStatusByExternalId(consentId)
+                                                            .filter(ConsentStatus::isFinalisedStatus)
+                                                            .or(() -> consentJpaRepository.findByExternalId(consentId)
+                                                                          .map(aisConsentConfirmationExpirationService::checkAndUpdateOnConfirmationExpiration)
+                                                                          .map(this::checkAndUpdateOnExpiration)
+                                                                          .map(ConsentEntity::getConsentStatus));
         if (consentStatusOptional.isPresent()) {
             return CmsResponse.<ConsentStatus>builder()
                        .payload(consentStatusOptional.get())
@@ -147,6 +152,9 @@ public class ConsentServiceInternal implements ConsentService {
         if (consentOptional.isPresent()) {
             ConsentEntity consent = consentOptional.get();
             boolean result = setStatusAndSaveConsent(consent, status);
+            if (result) {
+                redirectSessionCache.parentChanged(consentId);
+            }
 
             return CmsResponse.<Boolean>builder()
                        .payload(result)
@@ -244,6 +252,7 @@ public class ConsentServiceInternal implements ConsentService {
 
         oldConsentsWithExactPsuDataLists.forEach(this::updateStatus);
         consentJpaRepository.saveAll(oldConsentsWithExactPsuDataLists);
+        oldConsentsWithExactPsuDataLists.forEach(c -> redirectSessionCache.parentChanged(c.getExternalId()));
         return CmsResponse.<Boolean>builder()
                    .payload(true)
                    .build();
@@ -282,6 +291,7 @@ public class ConsentServiceInternal implements ConsentService {
         consent.setMultilevelScaRequired(multilevelScaRequired);
 
         aisConsentRepository.verifyAndSave(consent);
+        redirectSessionCache.parentChanged(consentId);
 
         return CmsResponse.<Boolean>builder()
                    .payload(true)
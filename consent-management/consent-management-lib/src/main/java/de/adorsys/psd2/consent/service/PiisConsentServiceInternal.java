@@ -19,16 +19,15 @@ package de.adorsys.psd2.consent.service;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.api.service.PiisConsentService;
-import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
-import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecification;
 import de.adorsys.psd2.consent.service.mapper.CmsConsentMapper;
 import de.adorsys.psd2.consent.service.migration.PiisConsentLazyMigrationService;
+import de.adorsys.psd2.consent.service.piis.PiisConsentAccountIndexService;
+import de.adorsys.psd2.consent.service.piis.PiisConsentLookupCache;
 import de.adorsys.psd2.xs2a.core.profile.AccountReferenceSelector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Nullable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +35,7 @@ import java.util.Collections;
 import java.util.Currency;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 
 @Slf4j
@@ -45,25 +45,30 @@ import java.util.stream.Collectors;
 public class PiisConsentServiceInternal implements PiisConsentService {
     private final ConsentJpaRepository consentJpaRepository;
     private final CmsConsentMapper cmsConsentMapper;
-    private final PiisConsentEntitySpecification piisConsentEntitySpecification;
     private final PiisConsentLazyMigrationService piisConsentLazyMigrationService;
+    private final PiisConsentAccountIndexService piisConsentAccountIndexService;
+    private final PiisConsentLookupCache piisConsentLookupCache;
 
     @Override
     @Transactional
     public CmsResponse<List<CmsConsent>> getPiisConsentListByAccountIdentifier(@Nullable Currency currency, AccountReferenceSelector accountReferenceSelector) {
-        Specification<ConsentEntity> specification;
-
-        specification = currency == null
-                            ? piisConsentEntitySpecification.byAccountReferenceSelector(accountReferenceSelector)
-                            : piisConsentEntitySpecification.byCurrencyAndAccountReferenceSelector(currency, accountReferenceSelector);
-
-        List<CmsConsent> consents = consentJpaRepository.findAll(specification).stream()
-            .map( piisConsentLazyMigrationService::migrateIfNeeded )
-            .map( consentEntity -> cmsConsentMapper.mapToCmsConsent(consentEntity, Collections.emptyList(), Collections.emptyMap()) )
-            .collect(Collectors.toList());
+        List<CmsConsent> consents = piisConsentLookupCache.getConsents(currency, accountReferenceSelector,
+                                                                        () -> findConsents(currency, accountReferenceSelector));
 
         return CmsResponse.<List<CmsConsent>>builder()
                    .payload(consents)
                    .build();
     }
+
+    private List<CmsConsent> findConsents(@Nullable Currency currency, AccountReferenceSelector accountReferenceSelector) {
+        List<Long> consentIds = piisConsentAccountIndexService.findConsentIds(currency, accountReferenceSelector);
+        if (consentIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return StreamSupport.stream(consentJpaRepository.findAllById(consentIds).spliterator(), false)
+                   .map(piisConsentLazyMigrationService::migrateIfNeeded)
+                   .map(consentEntity -> cmsConsentMapper.mapToCmsConsent(consentEntity, Collections.emptyList(), Collections.emptyMap()))
+                   .collect(Collectors.toList());
+    }
 }
@@ -22,4 +22,14 @@ import java.util.List;
 
 public interface PisCommonPaymentConfirmationExpirationService extends ConfirmationExpirationService<PisCommonPaymentData> {
     List<PisCommonPaymentData> updatePaymentDataListOnConfirmationExpiration(List<PisCommonPaymentData> pisCommonPaymentDataList);
+
+    /**
+     * Rejects next chunk of not confirmed payments of given instance, whose confirmation period has expired,
+     * and fails their authorisations
+     *
+     * @param instanceId instance ID of the payments
+     * @param chunkSize  maximum number of payments to be processed
+     * @return number of rejected payments
+     */
+    int updateNextChunkOnConfirmationExpiration(String instanceId, int chunkSize);
 }
@@ -26,17 +26,23 @@ import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.IterableUtils;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PisCommonPaymentConfirmationExpirationServiceImpl implements PisCommonPaymentConfirmationExpirationService {
+    private static final Set<TransactionStatus> NOT_CONFIRMED_STATUSES = EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC);
+    private static final Set<AuthorisationType> PAYMENT_AUTHORISATION_TYPES = EnumSet.of(AuthorisationType.PIS_CREATION, AuthorisationType.PIS_CANCELLATION);
+
     private final PisCommonPaymentDataRepository pisCommonPaymentDataRepository;
     private final AuthorisationRepository authorisationRepository;
     private final AspspProfileService aspspProfileService;
@@ -47,6 +53,23 @@ public class PisCommonPaymentConfirmationExpirationServiceImpl implements PisCom
         return IterableUtils.toList(pisCommonPaymentDataRepository.saveAll(obsoletePaymentDataList(pisCommonPaymentDataList)));
     }
 
+    @Transactional
+    @Override
+    public int updateNextChunkOnConfirmationExpiration(String instanceId, int chunkSize) {
+        long expirationPeriodMs = aspspProfileService.getAspspSettings(instanceId).getPis().getNotConfirmedPaymentExpirationTimeMs();
+        OffsetDateTime now = OffsetDateTime.now();
+        List<String> paymentIds = pisCommonPaymentDataRepository.findPaymentIdsCreatedBefore(NOT_CONFIRMED_STATUSES, instanceId,
+                                                                                             now.minus(expirationPeriodMs, ChronoUnit.MILLIS),
+                                                                                             PageRequest.of(0, chunkSize));
+        if (paymentIds.isEmpty()) {
+            return 0;
+        }
+
+        authorisationRepository.updateScaStatusByParentExternalIds(paymentIds, PAYMENT_AUTHORISATION_TYPES, ScaStatus.FAILED);
+        pisCommonPaymentDataRepository.updateTransactionStatusByPaymentIds(paymentIds, NOT_CONFIRMED_STATUSES, TransactionStatus.RJCT, now);
+        return paymentIds.size();
+    }
+
     private void failAuthorisation(AuthorisationEntity authorisation) {
         authorisation.setScaStatus(ScaStatus.FAILED);
         authorisation.setRedirectUrlExpirationTimestamp(OffsetDateTime.now());
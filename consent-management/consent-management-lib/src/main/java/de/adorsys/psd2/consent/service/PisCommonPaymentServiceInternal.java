@@ -30,6 +30,7 @@ import de.adorsys.psd2.consent.repository.PisPaymentDataRepository;
 import de.adorsys.psd2.consent.repository.TppInfoRepository;
 import de.adorsys.psd2.consent.service.mapper.PisCommonPaymentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
@@ -60,6 +61,7 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
     private final PisCommonPaymentConfirmationExpirationService pisCommonPaymentConfirmationExpirationService;
     private final CorePaymentsConvertService corePaymentsConvertService;
     private final AuthorisationRepository authorisationRepository;
+    private final RedirectSessionCache redirectSessionCache;
 
     /**
      * Creates new pis common payment with full information about payment
@@ -90,7 +92,8 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
     }
 
     /**
-     * Retrieves common payment status from pis common payment by payment identifier
+     * Retrieves common payment status from pis common payment by payment identifier. Finalised statuses are read from
+     * the status column only, the whole payment is loaded and checked for confirmation expiration otherwise.
      *
      * @param paymentId String representation of pis payment identifier
      * @return Information about the status of a common payment
@@ -98,9 +101,11 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
     @Override
     @Transactional
     public CmsResponse<TransactionStatus> getPisCommonPaymentStatusById(String paymentId) {
-        Optional<TransactionStatus> statusOptional = pisCommonPaymentDataRepository.findByPaymentId(paymentId)
-                                                         .map(pisCommonPaymentConfirmationExpirationService::checkAndUpdateOnConfirmationExpiration)
-                                                         .map(PisCommonPaymentData::getTransactionStatus);
+        Optional<TransactionStatus> statusOptional = pisCommonPaymentDataRepository.findTransactionStatusByPaymentId(paymentId)
+                                                         .filter(TransactionStatus::isFinalisedStatus)
+                                                         .or(() -> pisCommonPaymentDataRepository.findByPaymentId(paymentId)
+                                                                       .map(pisCommonPaymentConfirmationExpirationService::checkAndUpdateOnConfirmationExpiration)
+                                                                       .map(PisCommonPaymentData::getTransactionStatus));
 
         if (statusOptional.isPresent()) {
             return CmsResponse.<TransactionStatus>builder()
@@ -182,6 +187,7 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
                                                   .map(con -> con.getTransactionStatus() == status);
 
         if (isUpdatedOptional.isPresent()) {
+            redirectSessionCache.parentChanged(paymentId);
             return CmsResponse.<Boolean>builder()
                        .payload(isUpdatedOptional.get())
                        .build();
@@ -214,6 +220,7 @@ public class PisCommonPaymentServiceInternal implements PisCommonPaymentService
         PisCommonPaymentData payment = pisCommonPaymentDataOptional.get();
         payment.setMultilevelScaRequired(multilevelScaRequired);
         pisCommonPaymentDataRepository.save(payment);
+        redirectSessionCache.parentChanged(paymentId);
 
         return CmsResponse.<Boolean>builder()
                    .payload(true)
@@ -20,13 +20,16 @@ import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.service.TppStopListService;
 import de.adorsys.psd2.consent.domain.TppStopListEntity;
 import de.adorsys.psd2.consent.repository.TppStopListRepository;
+import de.adorsys.psd2.xs2a.core.tpp.TppStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -39,7 +42,7 @@ public class TppStopListServiceInternal implements TppStopListService {
 
     @Override
     public CmsResponse<Boolean> checkIfTppBlocked(String tppAuthorisationNumber, String instanceId) {
-        String requestedInstanceId = StringUtils.isBlank(instanceId) ? serviceInstanceId : instanceId;
+        String requestedInstanceId = resolveInstanceId(instanceId);
         Optional<TppStopListEntity> stopListEntityOptional = tppStopListRepository.findByTppAuthorisationNumberAndInstanceId(tppAuthorisationNumber,
                                                                                                                              requestedInstanceId);
 
@@ -56,4 +59,19 @@ public class TppStopListServiceInternal implements TppStopListService {
                    .payload(blocked)
                    .build();
     }
+
+    @Override
+    public CmsResponse<List<String>> getBlockedTppAuthorisationNumbers(String instanceId) {
+        List<String> blockedTpps = tppStopListRepository.findAllByInstanceIdAndStatus(resolveInstanceId(instanceId), TppStatus.BLOCKED).stream()
+                                       .map(TppStopListEntity::getTppAuthorisationNumber)
+                                       .collect(Collectors.toList());
+
+        return CmsResponse.<List<String>>builder()
+                   .payload(blockedTpps)
+                   .build();
+    }
+
+    private String resolveInstanceId(String instanceId) {
+        return StringUtils.isBlank(instanceId) ? serviceInstanceId : instanceId;
+    }
 }
@@ -19,6 +19,7 @@ package de.adorsys.psd2.consent.service;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.service.UpdatePaymentAfterSpiService;
 import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.tpp.TppRedirectUri;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +36,7 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class UpdatePaymentAfterSpiServiceInternal implements UpdatePaymentAfterSpiService {
     private final CommonPaymentDataService commonPaymentDataService;
+    private final RedirectSessionCache redirectSessionCache;
 
     @Override
     @Transactional
@@ -49,6 +51,7 @@ public class UpdatePaymentAfterSpiServiceInternal implements UpdatePaymentAfterS
         }
 
         boolean updated = commonPaymentDataService.updateStatusInPaymentData(paymentDataOptional.get(), status);
+        redirectSessionCache.parentChanged(paymentId);
         return CmsResponse.<Boolean>builder()
                    .payload(updated)
                    .build();
@@ -68,6 +71,7 @@ public class UpdatePaymentAfterSpiServiceInternal implements UpdatePaymentAfterS
         }
 
         boolean updated = commonPaymentDataService.updateCancelTppRedirectURIs(paymentDataOptional.get(), tppRedirectUri);
+        redirectSessionCache.parentChanged(paymentId);
         return CmsResponse.<Boolean>builder()
                    .payload(updated)
                    .build();
@@ -17,6 +17,8 @@
 package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.ais.CmsAisAccountConsent;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
 import de.adorsys.psd2.consent.aspsp.api.ais.CmsAspspAisExportService;
 import de.adorsys.psd2.consent.domain.AuthorisationEntity;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
@@ -29,6 +31,7 @@ import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -40,6 +43,7 @@ import java.time.LocalDate;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -47,6 +51,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CmsAspspAisExportServiceInternal implements CmsAspspAisExportService {
+    // Keeps IN clause of the authorisation query within the limits of all supported databases
+    private static final int AUTHORISATION_QUERY_CHUNK_SIZE = 1000;
+
     private final AisConsentSpecification aisConsentSpecification;
     private final ConsentJpaRepository consentJpaRepository;
     private final AisConsentMapper aisConsentMapper;
@@ -64,17 +71,13 @@ public class CmsAspspAisExportServiceInternal implements CmsAspspAisExportServic
             return Collections.emptyList();
         }
 
-        return consentJpaRepository.findAll(aisConsentSpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(
+        return exportConsents(consentJpaRepository.findAll(aisConsentSpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(
             tppAuthorisationNumber,
             createDateFrom,
             createDateTo,
             psuIdData,
             instanceId
-        ))
-                   .stream()
-                   .map(aisConsentLazyMigrationService::migrateIfNeeded)
-                   .map(this::mapToCmsAisAccountConsentWithAuthorisations)
-                   .collect(Collectors.toList());
+        )));
     }
 
     @Override
@@ -88,15 +91,11 @@ public class CmsAspspAisExportServiceInternal implements CmsAspspAisExportServic
             return Collections.emptyList();
         }
 
-        return consentJpaRepository.findAll(aisConsentSpecification.byPsuIdDataAndCreationPeriodAndInstanceId(psuIdData,
-                                                                                                              createDateFrom,
-                                                                                                              createDateTo,
-                                                                                                              instanceId
-        ))
-                   .stream()
-                   .map(aisConsentLazyMigrationService::migrateIfNeeded)
-                   .map(this::mapToCmsAisAccountConsentWithAuthorisations)
-                   .collect(Collectors.toList());
+        return exportConsents(consentJpaRepository.findAll(aisConsentSpecification.byPsuIdDataAndCreationPeriodAndInstanceId(psuIdData,
+                                                                                                                             createDateFrom,
+                                                                                                                             createDateTo,
+                                                                                                                             instanceId
+        )));
     }
 
     @Override
@@ -116,20 +115,90 @@ public class CmsAspspAisExportServiceInternal implements CmsAspspAisExportServic
                                                                                                                             createDateFrom,
                                                                                                                             createDateTo,
                                                                                                                             instanceId);
-        List<ConsentEntity> consents = consentJpaRepository.findAll(specification)
-                                           .stream()
-                                           .map(aisConsentLazyMigrationService::migrateIfNeeded)
-                                           .collect(Collectors.toList());
-
-        return consents
-                   .stream()
-                   .map(this::mapToCmsAisAccountConsentWithAuthorisations)
+        return exportConsents(consentJpaRepository.findAll(specification));
+    }
+
+    @Override
+    @Transactional
+    public CmsExportPage<CmsAisAccountConsent> exportConsentsByTpp(String tppAuthorisationNumber,
+                                                                   @Nullable LocalDate createDateFrom,
+                                                                   @Nullable LocalDate createDateTo,
+                                                                   @Nullable PsuIdData psuIdData, @NotNull String instanceId,
+                                                                   @NotNull CmsExportPageRequest pageRequest) {
+        if (StringUtils.isBlank(tppAuthorisationNumber) || StringUtils.isBlank(instanceId)
+                || !CmsExportPagination.isValid(pageRequest)) {
+            log.info("TPP ID: [{}], InstanceId: [{}]. Export Consents page by TPP: Some of these two values are empty or page request is invalid",
+                     tppAuthorisationNumber, instanceId);
+            return CmsExportPage.empty();
+        }
+
+        return exportConsentsPage(aisConsentSpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(tppAuthorisationNumber,
+                                                                                                            createDateFrom,
+                                                                                                            createDateTo,
+                                                                                                            psuIdData,
+                                                                                                            instanceId),
+                                  pageRequest);
+    }
+
+    @Override
+    @Transactional
+    public CmsExportPage<CmsAisAccountConsent> exportConsentsByPsu(PsuIdData psuIdData, @Nullable LocalDate createDateFrom,
+                                                                   @Nullable LocalDate createDateTo, @NotNull String instanceId,
+                                                                   @NotNull CmsExportPageRequest pageRequest) {
+        if (psuIdData == null || psuIdData.isEmpty() || StringUtils.isBlank(instanceId)
+                || !CmsExportPagination.isValid(pageRequest)) {
+            log.info("InstanceId: [{}]. Export consents page by Psu failed, psuIdData or instanceId is empty or null or page request is invalid.",
+                     instanceId);
+            return CmsExportPage.empty();
+        }
+
+        return exportConsentsPage(aisConsentSpecification.byPsuIdDataAndCreationPeriodAndInstanceId(psuIdData,
+                                                                                                    createDateFrom,
+                                                                                                    createDateTo,
+                                                                                                    instanceId),
+                                  pageRequest);
+    }
+
+    @Override
+    @Transactional
+    public CmsExportPage<CmsAisAccountConsent> exportConsentsByAccountId(@NotNull String aspspAccountId,
+                                                                         @Nullable LocalDate createDateFrom,
+                                                                         @Nullable LocalDate createDateTo,
+                                                                         @NotNull String instanceId,
+                                                                         @NotNull CmsExportPageRequest pageRequest) {
+        if (StringUtils.isBlank(instanceId) || !CmsExportPagination.isValid(pageRequest)) {
+            log.info("InstanceId: [{}], aspspAccountId: [{}]. Export consents page by accountId failed, instanceId is empty or null or page request is invalid.",
+                     instanceId, aspspAccountId);
+            return CmsExportPage.empty();
+        }
+
+        return exportConsentsPage(aisConsentSpecification.byAspspAccountIdAndCreationPeriodAndInstanceId(aspspAccountId,
+                                                                                                        createDateFrom,
+                                                                                                        createDateTo,
+                                                                                                        instanceId),
+                                  pageRequest);
+    }
+
+    private CmsExportPage<CmsAisAccountConsent> exportConsentsPage(Specification<ConsentEntity> specification,
+                                                                   CmsExportPageRequest pageRequest) {
+        List<ConsentEntity> consents = CmsExportPagination.findPage(consentJpaRepository, specification, pageRequest);
+        return CmsExportPagination.toExportPage(consents, exportConsents(consents), pageRequest, ConsentEntity::getId);
+    }
+
+    private List<CmsAisAccountConsent> exportConsents(List<ConsentEntity> consents) {
+        consents.forEach(aisConsentLazyMigrationService::migrateIfNeeded);
+        Map<String, List<AuthorisationEntity>> authorisations = getAuthorisationsByConsentId(consents);
+        return consents.stream()
+                   .map(c -> aisConsentMapper.mapToCmsAisAccountConsent(c, authorisations.getOrDefault(c.getExternalId(), Collections.emptyList())))
                    .collect(Collectors.toList());
     }
 
-    private CmsAisAccountConsent mapToCmsAisAccountConsentWithAuthorisations(ConsentEntity aisConsentEntity) {
-        List<AuthorisationEntity> authorisations =
-            authorisationRepository.findAllByParentExternalIdAndType(aisConsentEntity.getExternalId(), AuthorisationType.CONSENT);
-        return aisConsentMapper.mapToCmsAisAccountConsent(aisConsentEntity, authorisations);
+    private Map<String, List<AuthorisationEntity>> getAuthorisationsByConsentId(List<ConsentEntity> consents) {
+        List<String> consentIds = consents.stream()
+                                      .map(ConsentEntity::getExternalId)
+                                      .collect(Collectors.toList());
+        return ListUtils.partition(consentIds, AUTHORISATION_QUERY_CHUNK_SIZE).stream()
+                   .flatMap(ids -> authorisationRepository.findAllByParentExternalIdInAndType(ids, AuthorisationType.CONSENT).stream())
+                   .collect(Collectors.groupingBy(AuthorisationEntity::getParentExternalId));
     }
 }
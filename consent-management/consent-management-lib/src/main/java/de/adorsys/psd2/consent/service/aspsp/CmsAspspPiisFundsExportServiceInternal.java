@@ -17,6 +17,8 @@
 package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.piis.v1.CmsPiisConsent;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
 import de.adorsys.psd2.consent.aspsp.api.piis.CmsAspspPiisFundsExportService;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
@@ -97,9 +99,69 @@ public class CmsAspspPiisFundsExportServiceInternal implements CmsAspspPiisFunds
         return findAllBySpecification(piisConsentEntitySpecification.byAspspAccountIdAndCreationPeriodAndInstanceId(aspspAccountId, createDateFrom, createDateTo, actualInstanceId));
     }
 
+    @Override
+    @Transactional
+    public CmsExportPage<CmsPiisConsent> exportConsentsByTpp(String tppAuthorisationNumber,
+                                                             @Nullable LocalDate createDateFrom,
+                                                             @Nullable LocalDate createDateTo, @Nullable PsuIdData psuIdData,
+                                                             @Nullable String instanceId, @NotNull CmsExportPageRequest pageRequest) {
+        if (StringUtils.isBlank(tppAuthorisationNumber) || !CmsExportPagination.isValid(pageRequest)) {
+            log.info("TPP ID: [{}], instanceId: [{}]. Export consents page by TPP failed, TPP ID is empty or null or page request is invalid.",
+                     tppAuthorisationNumber, instanceId);
+            return CmsExportPage.empty();
+        }
+
+        String actualInstanceId = StringUtils.defaultIfEmpty(instanceId, DEFAULT_SERVICE_INSTANCE_ID);
+
+        return findPageBySpecification(piisConsentEntitySpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(tppAuthorisationNumber, createDateFrom, createDateTo, psuIdData, actualInstanceId),
+                                       pageRequest);
+    }
+
+    @Override
+    @Transactional
+    public CmsExportPage<CmsPiisConsent> exportConsentsByPsu(PsuIdData psuIdData, @Nullable LocalDate createDateFrom,
+                                                             @Nullable LocalDate createDateTo, @Nullable String instanceId,
+                                                             @NotNull CmsExportPageRequest pageRequest) {
+        if (psuIdData == null || psuIdData.isEmpty() || !CmsExportPagination.isValid(pageRequest)) {
+            log.info("InstanceId: [{}]. Export consents page by psu failed, psuIdData is empty or null or page request is invalid.", instanceId);
+            return CmsExportPage.empty();
+        }
+
+        String actualInstanceId = StringUtils.defaultIfEmpty(instanceId, DEFAULT_SERVICE_INSTANCE_ID);
+
+        return findPageBySpecification(piisConsentEntitySpecification.byPsuIdDataAndCreationPeriodAndInstanceId(psuIdData, createDateFrom, createDateTo, actualInstanceId),
+                                       pageRequest);
+    }
+
+    @Override
+    @Transactional
+    public CmsExportPage<CmsPiisConsent> exportConsentsByAccountId(@NotNull String aspspAccountId,
+                                                                   @Nullable LocalDate createDateFrom,
+                                                                   @Nullable LocalDate createDateTo,
+                                                                   @Nullable String instanceId,
+                                                                   @NotNull CmsExportPageRequest pageRequest) {
+        if (StringUtils.isBlank(aspspAccountId) || !CmsExportPagination.isValid(pageRequest)) {
+            log.info("InstanceId: [{}]. Export consents page by accountId failed, aspspAccountId is empty or null or page request is invalid.", instanceId);
+            return CmsExportPage.empty();
+        }
+
+        String actualInstanceId = StringUtils.defaultIfEmpty(instanceId, DEFAULT_SERVICE_INSTANCE_ID);
+
+        return findPageBySpecification(piisConsentEntitySpecification.byAspspAccountIdAndCreationPeriodAndInstanceId(aspspAccountId, createDateFrom, createDateTo, actualInstanceId),
+                                       pageRequest);
+    }
+
     private Collection<CmsPiisConsent> findAllBySpecification(Specification<ConsentEntity> specification) {
         List<ConsentEntity> piisConsentEntities = consentJpaRepository.findAll(specification);
         piisConsentLazyMigrationService.migrateIfNeeded(piisConsentEntities);
         return piisConsentMapper.mapToCmsPiisConsentList(piisConsentEntities);
     }
+
+    private CmsExportPage<CmsPiisConsent> findPageBySpecification(Specification<ConsentEntity> specification,
+                                                                  CmsExportPageRequest pageRequest) {
+        List<ConsentEntity> piisConsentEntities = CmsExportPagination.findPage(consentJpaRepository, specification, pageRequest);
+        piisConsentLazyMigrationService.migrateIfNeeded(piisConsentEntities);
+        return CmsExportPagination.toExportPage(piisConsentEntities, piisConsentMapper.mapToCmsPiisConsentList(piisConsentEntities),
+                                                pageRequest, ConsentEntity::getId);
+    }
 }
@@ -26,6 +26,7 @@ import de.adorsys.psd2.consent.repository.TppInfoRepository;
 import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecification;
 import de.adorsys.psd2.consent.service.mapper.PiisConsentMapper;
 import de.adorsys.psd2.consent.service.migration.PiisConsentLazyMigrationService;
+import de.adorsys.psd2.consent.service.piis.PiisConsentAccountIndexService;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.profile.AccountReference;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
@@ -56,6 +57,7 @@ public class CmsAspspPiisServiceInternal implements CmsAspspPiisService {
     private final PiisConsentEntitySpecification piisConsentEntitySpecification;
     private final PiisConsentMapper piisConsentMapper;
     private final PiisConsentLazyMigrationService piisConsentLazyMigrationService;
+    private final PiisConsentAccountIndexService piisConsentAccountIndexService;
 
     @Override
     @Transactional
@@ -72,6 +74,7 @@ public class CmsAspspPiisServiceInternal implements CmsAspspPiisService {
         ConsentEntity savedConsent = consentJpaRepository.save(consent);
 
         if (savedConsent.getId() != null) {
+            piisConsentAccountIndexService.indexConsent(savedConsent);
             return Optional.ofNullable(savedConsent.getExternalId());
         } else {
             log.info("External Consent ID: [{}]. PIIS consent cannot be created, because when saving to DB got null ID",
@@ -111,6 +114,7 @@ public class CmsAspspPiisServiceInternal implements CmsAspspPiisService {
 
         entity = piisConsentLazyMigrationService.migrateIfNeeded(entity);
         consentJpaRepository.save(entity);
+        piisConsentAccountIndexService.consentStatusChanged();
 
         return true;
     }
@@ -128,6 +132,9 @@ public class CmsAspspPiisServiceInternal implements CmsAspspPiisService {
         consentsToRevoke.forEach(entity -> changeStatusAndLastActionDate(entity, REVOKED_BY_PSU));
 
         consentJpaRepository.saveAll(consentsToRevoke);
+        if (!consentsToRevoke.isEmpty()) {
+            piisConsentAccountIndexService.consentStatusChanged();
+        }
     }
 
     private void changeStatusAndLastActionDate(ConsentEntity consentEntity, ConsentStatus consentStatus) {
@@ -17,6 +17,8 @@
 package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.pis.CmsPayment;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
 import de.adorsys.psd2.consent.aspsp.api.pis.CmsAspspPisExportService;
 import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
 import de.adorsys.psd2.consent.repository.PisCommonPaymentDataRepository;
@@ -28,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -81,4 +84,50 @@ public class CmsAspspPisExportServiceInternal implements CmsAspspPisExportServic
         List<PisCommonPaymentData> commonPayments = pisCommonPaymentDataRepository.findAll(pisCommonPaymentDataSpecification.byAspspAccountIdAndCreationPeriodAndInstanceId(aspspAccountId, createDateFrom, createDateTo, instanceId));
         return cmsPsuPisMapper.mapPaymentDataToCmsPayments(commonPayments);
     }
+
+    @Override
+    public CmsExportPage<CmsPayment> exportPaymentsByTpp(String tppAuthorisationNumber, @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                         @Nullable PsuIdData psuIdData, @NotNull String instanceId,
+                                                         @NotNull CmsExportPageRequest pageRequest) {
+        if (StringUtils.isBlank(tppAuthorisationNumber) || StringUtils.isBlank(instanceId) || !CmsExportPagination.isValid(pageRequest)) {
+            log.info("InstanceId: [{}], TPP ID: [{}]. Export payments page by TPP failed, TPP ID or instanceId is empty or null or page request is invalid.",
+                     instanceId, tppAuthorisationNumber);
+            return CmsExportPage.empty();
+        }
+
+        return exportPaymentsPage(pisCommonPaymentDataSpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(tppAuthorisationNumber, createDateFrom, createDateTo, psuIdData, instanceId),
+                                  pageRequest);
+    }
+
+    @Override
+    public CmsExportPage<CmsPayment> exportPaymentsByPsu(PsuIdData psuIdData, @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                         @NotNull String instanceId, @NotNull CmsExportPageRequest pageRequest) {
+        if (psuIdData == null || psuIdData.isEmpty() || StringUtils.isBlank(instanceId) || !CmsExportPagination.isValid(pageRequest)) {
+            log.info("InstanceId: [{}]. Export payments page by psu failed, psuIdData or instanceId is empty or null or page request is invalid.",
+                     instanceId);
+            return CmsExportPage.empty();
+        }
+
+        return exportPaymentsPage(pisCommonPaymentDataSpecification.byPsuIdDataAndCreationPeriodAndInstanceId(psuIdData, createDateFrom, createDateTo, instanceId),
+                                  pageRequest);
+    }
+
+    @Override
+    public CmsExportPage<CmsPayment> exportPaymentsByAccountId(@NotNull String aspspAccountId, @Nullable LocalDate createDateFrom, @Nullable LocalDate createDateTo,
+                                                               @NotNull String instanceId, @NotNull CmsExportPageRequest pageRequest) {
+        if (StringUtils.isBlank(aspspAccountId) || StringUtils.isBlank(instanceId) || !CmsExportPagination.isValid(pageRequest)) {
+            log.info("InstanceId: [{}], aspspAccountId: [{}]. Export payments page by accountId failed, aspspAccountId or instanceId is empty or null or page request is invalid.",
+                     instanceId, aspspAccountId);
+            return CmsExportPage.empty();
+        }
+
+        return exportPaymentsPage(pisCommonPaymentDataSpecification.byAspspAccountIdAndCreationPeriodAndInstanceId(aspspAccountId, createDateFrom, createDateTo, instanceId),
+                                  pageRequest);
+    }
+
+    private CmsExportPage<CmsPayment> exportPaymentsPage(Specification<PisCommonPaymentData> specification, CmsExportPageRequest pageRequest) {
+        List<PisCommonPaymentData> commonPayments = CmsExportPagination.findPage(pisCommonPaymentDataRepository, specification, pageRequest);
+        return CmsExportPagination.toExportPage(commonPayments, cmsPsuPisMapper.mapPaymentDataToCmsPayments(commonPayments),
+                                                pageRequest, PisCommonPaymentData::getId);
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.service.aspsp;
+
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static de.adorsys.psd2.consent.repository.specification.EntityAttribute.ID_ATTRIBUTE;
+
+/**
+ * Pagination of the ASPSP exports.
+ * <p>
+ * Exported entities are ordered by their database ID. Cursor of a page is the ID of its last entity, so the next page
+ * is read by an index range scan instead of skipping all preceding rows.
+ */
+final class CmsExportPagination {
+    private static final Sort BY_ID = Sort.by(ID_ATTRIBUTE);
+
+    private CmsExportPagination() {
+    }
+
+    /**
+     * Checks whether given page request can be executed
+     *
+     * @param pageRequest page request
+     * @return <code>true</code> if page size is positive and page index or cursor are valid
+     */
+    static boolean isValid(@NotNull CmsExportPageRequest pageRequest) {
+        return pageRequest.getItemsPerPage() > 0
+                   && pageRequest.getPageIndex() >= 0
+                   && (pageRequest.getCursor() == null || parseCursor(pageRequest.getCursor()) != null);
+    }
+
+    /**
+     * Reads entities of the requested page
+     *
+     * @param repository    repository to read the entities from
+     * @param specification criteria of the export
+     * @param pageRequest   valid page request
+     * @param <E>           type of the entities
+     * @return entities of the page
+     */
+    @NotNull
+    static <E> List<E> findPage(@NotNull JpaSpecificationExecutor<E> repository, @NotNull Specification<E> specification,
+                                @NotNull CmsExportPageRequest pageRequest) {
+        Long lastId = parseCursor(pageRequest.getCursor());
+        if (lastId == null) {
+            return repository.findAll(specification, PageRequest.of(pageRequest.getPageIndex(), pageRequest.getItemsPerPage(), BY_ID))
+                       .getContent();
+        }
+
+        Specification<E> afterCursor = specification.and((root, query, cb) -> cb.greaterThan(root.get(ID_ATTRIBUTE), lastId));
+        return repository.findAll(afterCursor, PageRequest.of(0, pageRequest.getItemsPerPage(), BY_ID))
+                   .getContent();
+    }
+
+    /**
+     * Builds export page from the entities of the page and their mapped representation
+     *
+     * @param entities     entities of the page, ordered by ID
+     * @param items        exported representation of the entities
+     * @param pageRequest  executed page request
+     * @param idExtractor  function returning ID of an entity
+     * @param <E>          type of the entities
+     * @param <T>          type of the exported items
+     * @return export page with the cursor of the next page, if the page is full
+     */
+    @NotNull
+    static <E, T> CmsExportPage<T> toExportPage(@NotNull List<E> entities, @NotNull List<T> items,
+                                                @NotNull CmsExportPageRequest pageRequest,
+                                                @NotNull Function<E, Long> idExtractor) {
+        if (entities.size() < pageRequest.getItemsPerPage()) {
+            return new CmsExportPage<>(items, null);
+        }
+
+        E lastEntity = entities.get(entities.size() - 1);
+        return new CmsExportPage<>(items, String.valueOf(idExtractor.apply(lastEntity)));
+    }
+
+    @Nullable
+    private static Long parseCursor(@Nullable String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        try {
+            return Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
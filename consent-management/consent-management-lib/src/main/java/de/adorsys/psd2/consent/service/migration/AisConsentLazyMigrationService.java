@@ -22,6 +22,7 @@ import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.migration.ObsoleteAisConsentJpaRepository;
 import de.adorsys.psd2.core.data.ais.AisConsentData;
 import de.adorsys.psd2.core.mapper.ConsentDataMapper;
+import de.adorsys.psd2.xs2a.core.consent.ConsentType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -46,10 +47,21 @@ public class AisConsentLazyMigrationService {
                 consentEntity.setData(consentData);
                 consentJpaRepository.save(consentEntity);
             }
+        } else if (isConsentDataReencodingNeeded(consentEntity)) {
+            AisConsentData aisConsentData = consentDataMapper.mapToAisConsentData(consentEntity.getData());
+            if (aisConsentData != null) {
+                consentEntity.setData(consentDataMapper.getBytesFromConsentData(aisConsentData));
+                consentJpaRepository.save(consentEntity);
+            }
         }
         return consentEntity;
     }
 
+    private boolean isConsentDataReencodingNeeded(ConsentEntity consentEntity) {
+        return ConsentType.getByValue(consentEntity.getConsentType()) == ConsentType.AIS
+                   && consentDataMapper.isReencodingNeeded(consentEntity.getData());
+    }
+
     private byte[] getConsentData(AisConsent aisConsent) {
         AisConsentData aisConsentData = new AisConsentData(aisConsent.getAvailableAccounts(), aisConsent.getAllPsd2(), aisConsent.getAvailableAccountsWithBalance(),
                                                            aisConsent.isCombinedServiceIndicator());
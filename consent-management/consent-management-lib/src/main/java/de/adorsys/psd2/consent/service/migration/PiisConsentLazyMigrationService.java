@@ -22,6 +22,7 @@ import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.migration.ObsoletePiisConsentJpaRepository;
 import de.adorsys.psd2.core.data.piis.PiisConsentData;
 import de.adorsys.psd2.core.mapper.ConsentDataMapper;
+import de.adorsys.psd2.xs2a.core.consent.ConsentType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -45,6 +46,12 @@ public class PiisConsentLazyMigrationService {
                 consentEntity.setData(consentData);
                 consentJpaRepository.save(consentEntity);
             }
+        } else if (isConsentDataReencodingNeeded(consentEntity)) {
+            PiisConsentData piisConsentData = consentDataMapper.mapToPiisConsentData(consentEntity.getData());
+            if (piisConsentData != null) {
+                consentEntity.setData(consentDataMapper.getBytesFromConsentData(piisConsentData));
+                consentJpaRepository.save(consentEntity);
+            }
         }
         return consentEntity;
     }
@@ -54,6 +61,12 @@ public class PiisConsentLazyMigrationService {
         return consentEntities;
     }
 
+    private boolean isConsentDataReencodingNeeded(ConsentEntity consentEntity) {
+        ConsentType consentType = ConsentType.getByValue(consentEntity.getConsentType());
+        return (consentType == ConsentType.PIIS_ASPSP || consentType == ConsentType.PIIS_TPP)
+                   && consentDataMapper.isReencodingNeeded(consentEntity.getData());
+    }
+
     private byte[] getConsentData(PiisConsentEntity piisConsent) {
         PiisConsentData piisConsentData = new PiisConsentData(piisConsent.getCardNumber(), piisConsent.getCardExpiryDate(),
                                                               piisConsent.getCardInformation(), piisConsent.getRegistrationInformation());
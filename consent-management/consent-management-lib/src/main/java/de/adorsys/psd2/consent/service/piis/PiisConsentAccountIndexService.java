@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.piis;
+
+import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
+import de.adorsys.psd2.consent.domain.piis.PiisConsentAccountEntity;
+import de.adorsys.psd2.consent.repository.PiisConsentAccountRepository;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceSelector;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains account references of PIIS consents in <code>piis_consent_account</code> table
+ * and invalidates {@link PiisConsentLookupCache} on changes of PIIS consents.
+ * <p>
+ * References are kept for consents in any status, as funds confirmation distinguishes between missing and invalid consents.
+ */
+@Service
+@RequiredArgsConstructor
+public class PiisConsentAccountIndexService {
+    private final PiisConsentAccountRepository piisConsentAccountRepository;
+    private final PiisConsentLookupCache piisConsentLookupCache;
+
+    /**
+     * Saves account references of newly created PIIS consent
+     *
+     * @param consent saved consent entity
+     */
+    public void indexConsent(@NotNull ConsentEntity consent) {
+        Map<?, PiisConsentAccountEntity> accounts = consent.getAspspAccountAccesses().stream()
+                                                        .map(access -> new PiisConsentAccountEntity(consent.getId(), access.getAccountReferenceType(),
+                                                                                                    access.getAccountIdentifier(), access.getCurrency()))
+                                                        .collect(Collectors.toMap(PiisConsentAccountEntity::getAccountReferenceType, Function.identity(), (first, second) -> first));
+        piisConsentAccountRepository.saveAll(accounts.values());
+        piisConsentLookupCache.invalidateAll();
+    }
+
+    /**
+     * Invalidates cached lookups after status of PIIS consent has been changed
+     */
+    public void consentStatusChanged() {
+        piisConsentLookupCache.invalidateAll();
+    }
+
+    /**
+     * Finds IDs of PIIS consents given to the account
+     *
+     * @param currency                 currency of the account, consents for all currencies are found if <code>null</code>
+     * @param accountReferenceSelector account reference
+     * @return list of internal consent IDs
+     */
+    public List<Long> findConsentIds(@Nullable Currency currency, @NotNull AccountReferenceSelector accountReferenceSelector) {
+        return currency == null
+                   ? piisConsentAccountRepository.findConsentIds(accountReferenceSelector.getAccountValue(), accountReferenceSelector.getAccountReferenceType())
+                   : piisConsentAccountRepository.findConsentIdsByCurrency(accountReferenceSelector.getAccountValue(), accountReferenceSelector.getAccountReferenceType(), currency);
+    }
+}
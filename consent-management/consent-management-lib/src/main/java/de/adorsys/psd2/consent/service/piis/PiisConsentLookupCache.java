@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.piis;
+
+import de.adorsys.psd2.consent.api.ais.CmsConsent;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceSelector;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache of PIIS consents found by account reference and currency for funds confirmation.
+ * <p>
+ * Entries expire after given time to live, the least recently used entry is evicted if cache exceeds its maximum size.
+ * The whole cache is invalidated on every change of PIIS consents: immediately and once more after completion of the
+ * current transaction, so that consents read before the change is committed are not kept. Consents loaded
+ * concurrently with invalidation are returned to the caller, but not put into the cache.
+ * <p>
+ * Changes made by other CMS instances are only visible after expiration of cached entries.
+ */
+public class PiisConsentLookupCache {
+    private final int maxSize;
+    private final long ttlMs;
+    private final LinkedHashMap<LookupKey, CachedConsents> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+
+    /**
+     * @param maxSize maximum number of cached lookups, <code>0</code> disables caching
+     * @param ttlMs   time to live of cached lookup in milliseconds, <code>0</code> disables caching
+     */
+    public PiisConsentLookupCache(int maxSize, long ttlMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Returns consents for given currency and account reference, loading them if they are not cached yet
+     *
+     * @param currency                 currency of the account, may be <code>null</code>
+     * @param accountReferenceSelector account reference
+     * @param loader                   lookup to be used on cache miss
+     * @return unmodifiable list of consents
+     */
+    public List<CmsConsent> getConsents(@Nullable Currency currency, AccountReferenceSelector accountReferenceSelector,
+                                        Supplier<List<CmsConsent>> loader) {
+        if (maxSize <= 0 || ttlMs <= 0) {
+            return loader.get();
+        }
+
+        LookupKey lookupKey = new LookupKey(currency, accountReferenceSelector);
+        long now = System.currentTimeMillis();
+        long loadedGeneration;
+
+        synchronized (entries) {
+            CachedConsents cachedConsents = entries.get(lookupKey);
+            if (cachedConsents != null) {
+                if (now < cachedConsents.expiresAt) {
+                    return cachedConsents.consents;
+                }
+                entries.remove(lookupKey);
+            }
+            loadedGeneration = generation;
+        }
+
+        List<CmsConsent> consents = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+        synchronized (entries) {
+            if (loadedGeneration == generation) {
+                entries.put(lookupKey, new CachedConsents(consents, now + ttlMs));
+                evictExpired(now);
+            }
+        }
+        return consents;
+    }
+
+    /**
+     * Removes all lookups from the cache, to be called on every change of PIIS consents
+     */
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void clear() {
+        synchronized (entries) {
+            entries.clear();
+            generation++;
+        }
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<LookupKey, CachedConsents>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            CachedConsents cachedConsents = iterator.next().getValue();
+            if (entries.size() > maxSize || now >= cachedConsents.expiresAt) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @Value
+    private static class LookupKey {
+        private Currency currency;
+        private AccountReferenceSelector accountReferenceSelector;
+    }
+
+    private static class CachedConsents {
+        private final List<CmsConsent> consents;
+        private final long expiresAt;
+
+        private CachedConsents(List<CmsConsent> consents, long expiresAt) {
+            this.consents = consents;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
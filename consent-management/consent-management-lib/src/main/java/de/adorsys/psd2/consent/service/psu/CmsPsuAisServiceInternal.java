@@ -43,6 +43,7 @@ import de.adorsys.psd2.consent.service.mapper.AisConsentMapper;
 import de.adorsys.psd2.consent.service.mapper.CmsPsuAuthorisationMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.migration.AisConsentLazyMigrationService;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.consent.service.psu.util.PsuDataUpdater;
 import de.adorsys.psd2.core.data.AccountAccess;
 import de.adorsys.psd2.core.data.ais.AisConsentData;
@@ -96,12 +97,19 @@ public class CmsPsuAisServiceInternal implements CmsPsuAisService {
     private final PsuDataUpdater psuDataUpdater;
     private final CmsConsentAuthorisationServiceInternal consentAuthorisationService;
     private final CmsPsuConsentServiceInternal cmsPsuConsentServiceInternal;
+    private final RedirectSessionCache redirectSessionCache;
 
     @Override
     @Transactional
     public boolean updatePsuDataInConsent(@NotNull PsuIdData psuIdData, @NotNull String authorisationId, @NotNull String instanceId) throws AuthorisationIsExpiredException {
         return getAuthorisationByExternalId(authorisationId, instanceId)
-                   .map(auth -> cmsPsuConsentServiceInternal.updatePsuData(auth, psuIdData, ConsentType.AIS))
+                   .map(auth -> {
+                       boolean updated = cmsPsuConsentServiceInternal.updatePsuData(auth, psuIdData, ConsentType.AIS);
+                       if (updated) {
+                           redirectSessionCache.authorisationUpdated(authorisationId, instanceId, auth.getParentExternalId());
+                       }
+                       return updated;
+                   })
                    .orElseGet(() -> {
                        log.info("Authorisation ID [{}], Instance ID: [{}]. Update PSU  in consent failed, because authorisation not found",
                                 authorisationId, instanceId);
@@ -113,26 +121,28 @@ public class CmsPsuAisServiceInternal implements CmsPsuAisService {
     @Transactional
     public @NotNull Optional<CmsAisConsentResponse> checkRedirectAndGetConsent(@NotNull String redirectId,
                                                                                @NotNull String instanceId) throws RedirectUrlIsExpiredException {
-
-        Optional<AuthorisationEntity> optionalAuthorisation = authorisationRepository
-                                                                  .findOne(authorisationSpecification.byExternalIdAndInstanceId(redirectId, instanceId));
-
-        if (optionalAuthorisation.isPresent()) {
-            AuthorisationEntity authorisation = optionalAuthorisation.get();
-
-            if (!authorisation.isRedirectUrlNotExpired()) {
-                log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get consent failed, because authorisation is expired",
-                         redirectId, instanceId);
-                authorisation.setScaStatus(ScaStatus.FAILED);
-
-                throw new RedirectUrlIsExpiredException(authorisation.getTppNokRedirectUri());
+        return redirectSessionCache.getOrLoad(redirectId, instanceId, CmsAisConsentResponse.class, loadContext -> {
+            Optional<AuthorisationEntity> optionalAuthorisation = authorisationRepository
+                                                                      .findOne(authorisationSpecification.byExternalIdAndInstanceId(redirectId, instanceId));
+
+            if (optionalAuthorisation.isPresent()) {
+                AuthorisationEntity authorisation = optionalAuthorisation.get();
+
+                if (!authorisation.isRedirectUrlNotExpired()) {
+                    log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get consent failed, because authorisation is expired",
+                             redirectId, instanceId);
+                    authorisation.setScaStatus(ScaStatus.FAILED);
+
+                    throw new RedirectUrlIsExpiredException(authorisation.getTppNokRedirectUri());
+                }
+                loadContext.bind(authorisation.getParentExternalId(), authorisation.getRedirectUrlExpirationTimestamp());
+                return createCmsAisConsentResponseFromAuthorisation(authorisation, redirectId);
             }
-            return createCmsAisConsentResponseFromAuthorisation(authorisation, redirectId);
-        }
 
-        log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get consent failed, because authorisation not found or has finalised status",
-                 redirectId, instanceId);
-        return Optional.empty();
+            log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get consent failed, because authorisation not found or has finalised status",
+                     redirectId, instanceId);
+            return Optional.empty();
+        });
     }
 
     @Override
@@ -146,19 +156,21 @@ public class CmsPsuAisServiceInternal implements CmsPsuAisService {
 
     @Override
     public @NotNull Optional<CmsPsuAuthorisation> getAuthorisationByAuthorisationId(@NotNull String authorisationId, @NotNull String instanceId) {
-        Optional<AuthorisationEntity> optionalAuthorisation = authorisationRepository
-                                                                  .findOne(authorisationSpecification.byExternalIdAndInstanceId(authorisationId, instanceId));
-
-        if (optionalAuthorisation.isPresent()) {
-            AuthorisationEntity authorisation = optionalAuthorisation.get();
-            return Optional.of(cmsPsuAuthorisationMapper.mapToCmsPsuAuthorisation(authorisation));
-        }
-
-        log.info("Authorisation ID: [{}], Instance ID: [{}]. Get authorisation failed, because authorisation not found",
-                 authorisationId, instanceId);
+        return redirectSessionCache.getOrLoad(authorisationId, instanceId, CmsPsuAuthorisation.class, loadContext -> {
+            Optional<AuthorisationEntity> optionalAuthorisation = authorisationRepository
+                                                                      .findOne(authorisationSpecification.byExternalIdAndInstanceId(authorisationId, instanceId));
+
+            if (optionalAuthorisation.isPresent()) {
+                AuthorisationEntity authorisation = optionalAuthorisation.get();
+                loadContext.bind(authorisation.getParentExternalId(), null);
+                return Optional.of(cmsPsuAuthorisationMapper.mapToCmsPsuAuthorisation(authorisation));
+            }
 
-        return Optional.empty();
+            log.info("Authorisation ID: [{}], Instance ID: [{}]. Get authorisation failed, because authorisation not found",
+                     authorisationId, instanceId);
 
+            return Optional.empty();
+        });
     }
 
     @Override
@@ -174,7 +186,13 @@ public class CmsPsuAisServiceInternal implements CmsPsuAisService {
         }
 
         return consentAuthorisationService.getAuthorisationByAuthorisationId(authorisationId, instanceId)
-                   .map(authorisation -> consentAuthorisationService.updateScaStatusAndAuthenticationData(status, authorisation, authenticationDataHolder))
+                   .map(authorisation -> {
+                       boolean updated = consentAuthorisationService.updateScaStatusAndAuthenticationData(status, authorisation, authenticationDataHolder);
+                       if (updated) {
+                           redirectSessionCache.scaStatusUpdated(authorisationId, instanceId, consentId, status);
+                       }
+                       return updated;
+                   })
                    .orElseGet(() -> {
                        log.info("Authorisation ID [{}], Instance ID: [{}]. Update authorisation status failed, because authorisation not found",
                                 authorisationId, instanceId);
@@ -230,7 +248,11 @@ public class CmsPsuAisServiceInternal implements CmsPsuAisService {
     public boolean updateAccountAccessInConsent(@NotNull String consentId, @NotNull CmsAisConsentAccessRequest accountAccessRequest, @NotNull String instanceId) {
         Optional<ConsentEntity> aisConsentOptional = getActualAisConsent(consentId, instanceId);
         if (aisConsentOptional.isPresent()) {
-            return updateAccountAccessInConsent(aisConsentOptional.get(), accountAccessRequest);
+            boolean updated = updateAccountAccessInConsent(aisConsentOptional.get(), accountAccessRequest);
+            if (updated) {
+                redirectSessionCache.parentUpdated(consentId);
+            }
+            return updated;
         }
         log.info("Consent ID [{}], Instance ID: [{}]. Update account access in consent failed, because consent not found or has finalised status",
                  consentId, instanceId);
@@ -326,7 +348,11 @@ public class CmsPsuAisServiceInternal implements CmsPsuAisService {
 
         if (aisConsentOptional.isPresent()) {
             ConsentEntity entity = aisConsentLazyMigrationService.migrateIfNeeded(aisConsentOptional.get());
-            return updateConsentStatus(entity, status);
+            boolean updated = updateConsentStatus(entity, status);
+            if (updated) {
+                redirectSessionCache.parentUpdated(consentId);
+            }
+            return updated;
         }
 
         log.info("Consent ID [{}], Instance ID: [{}]. Change consent status failed, because AIS consent not found",
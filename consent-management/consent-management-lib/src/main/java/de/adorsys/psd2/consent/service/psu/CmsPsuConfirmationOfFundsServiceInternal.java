@@ -27,6 +27,7 @@ import de.adorsys.psd2.consent.repository.specification.ConfirmationOfFundsConse
 import de.adorsys.psd2.consent.service.authorisation.CmsConsentAuthorisationServiceInternal;
 import de.adorsys.psd2.consent.service.mapper.CmsConfirmationOfFundsMapper;
 import de.adorsys.psd2.consent.service.mapper.CmsPsuAuthorisationMapper;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.consent.ConsentType;
 import de.adorsys.psd2.xs2a.core.exception.AuthorisationIsExpiredException;
@@ -54,6 +55,7 @@ public class CmsPsuConfirmationOfFundsServiceInternal implements CmsPsuConfirmat
     private final CmsConfirmationOfFundsMapper consentMapper;
     private final CmsPsuConsentServiceInternal cmsPsuConsentServiceInternal;
     private final CmsPsuAuthorisationMapper cmsPsuAuthorisationMapper;
+    private final RedirectSessionCache redirectSessionCache;
 
     @Override
     @Transactional
@@ -68,7 +70,13 @@ public class CmsPsuConfirmationOfFundsServiceInternal implements CmsPsuConfirmat
         }
 
         return consentAuthorisationService.getAuthorisationByAuthorisationId(authorisationId, instanceId)
-                   .map(authorisation -> consentAuthorisationService.updateScaStatusAndAuthenticationData(status, authorisation, authenticationDataHolder))
+                   .map(authorisation -> {
+                       boolean updated = consentAuthorisationService.updateScaStatusAndAuthenticationData(status, authorisation, authenticationDataHolder);
+                       if (updated) {
+                           redirectSessionCache.scaStatusUpdated(authorisationId, instanceId, consentId, status);
+                       }
+                       return updated;
+                   })
                    .orElseGet(() -> {
                        log.info("Authorisation ID [{}], Instance ID: [{}]. Update authorisation status failed, because authorisation not found",
                                 authorisationId, instanceId);
@@ -80,7 +88,13 @@ public class CmsPsuConfirmationOfFundsServiceInternal implements CmsPsuConfirmat
     @Transactional
     public boolean updatePsuDataInConsent(@NotNull PsuIdData psuIdData, @NotNull String authorisationId, @NotNull String instanceId) throws AuthorisationIsExpiredException {
         return consentAuthorisationService.getAuthorisationByAuthorisationId(authorisationId, instanceId)
-                   .map(auth -> cmsPsuConsentServiceInternal.updatePsuData(auth, psuIdData, ConsentType.PIIS_ASPSP))
+                   .map(auth -> {
+                       boolean updated = cmsPsuConsentServiceInternal.updatePsuData(auth, psuIdData, ConsentType.PIIS_ASPSP);
+                       if (updated) {
+                           redirectSessionCache.authorisationUpdated(authorisationId, instanceId, auth.getParentExternalId());
+                       }
+                       return updated;
+                   })
                    .orElseGet(() -> {
                        log.info("Authorisation ID [{}], Instance ID: [{}]. Update PSU  in consent failed, because authorisation not found",
                                 authorisationId, instanceId);
@@ -100,22 +114,29 @@ public class CmsPsuConfirmationOfFundsServiceInternal implements CmsPsuConfirmat
     @Override
     @Transactional
     public Optional<CmsConfirmationOfFundsResponse> checkRedirectAndGetConsent(String redirectId, String instanceId) throws RedirectUrlIsExpiredException {
-        Optional<AuthorisationEntity> optionalAuthorisation = consentAuthorisationService.getAuthorisationByRedirectId(redirectId, instanceId);
+        return redirectSessionCache.getOrLoad(redirectId, instanceId, CmsConfirmationOfFundsResponse.class, loadContext -> {
+            Optional<AuthorisationEntity> optionalAuthorisation = consentAuthorisationService.getAuthorisationByRedirectId(redirectId, instanceId);
 
-        if (optionalAuthorisation.isPresent()) {
-            AuthorisationEntity authorisation = optionalAuthorisation.get();
-            return createCmsConsentResponseFromAuthorisation(authorisation, redirectId);
-        }
+            if (optionalAuthorisation.isPresent()) {
+                AuthorisationEntity authorisation = optionalAuthorisation.get();
+                loadContext.bind(authorisation.getParentExternalId(), authorisation.getRedirectUrlExpirationTimestamp());
+                return createCmsConsentResponseFromAuthorisation(authorisation, redirectId);
+            }
 
-        log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get consent failed, because authorisation not found or has finalised status",
-                 redirectId, instanceId);
-        return Optional.empty();
+            log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get consent failed, because authorisation not found or has finalised status",
+                     redirectId, instanceId);
+            return Optional.empty();
+        });
     }
 
     @Override
     public @NotNull Optional<CmsPsuConfirmationOfFundsAuthorisation> getAuthorisationByAuthorisationId(@NotNull String authorisationId, @NotNull String instanceId) throws AuthorisationIsExpiredException {
-        Optional<CmsPsuConfirmationOfFundsAuthorisation> cmsPsuConfirmationOfFundsAuthorisation = consentAuthorisationService.getAuthorisationByAuthorisationId(authorisationId, instanceId)
-                                                                                                      .map(cmsPsuAuthorisationMapper::mapToCmsPsuConfirmationOfFundsAuthorisation);
+        Optional<CmsPsuConfirmationOfFundsAuthorisation> cmsPsuConfirmationOfFundsAuthorisation =
+            redirectSessionCache.getOrLoad(authorisationId, instanceId, CmsPsuConfirmationOfFundsAuthorisation.class, loadContext -> {
+                Optional<AuthorisationEntity> authorisation = consentAuthorisationService.getAuthorisationByAuthorisationId(authorisationId, instanceId);
+                authorisation.ifPresent(a -> loadContext.bind(a.getParentExternalId(), a.getAuthorisationExpirationTimestamp()));
+                return authorisation.map(cmsPsuAuthorisationMapper::mapToCmsPsuConfirmationOfFundsAuthorisation);
+            });
         if (cmsPsuConfirmationOfFundsAuthorisation.isEmpty()) {
             log.info("Authorisation ID [{}], Instance ID: [{}]. Get authorisation failed, because authorisation not found", authorisationId, instanceId);
         }
@@ -135,6 +156,7 @@ public class CmsPsuConfirmationOfFundsServiceInternal implements CmsPsuConfirmat
 
         ConsentEntity consentEntity = consentEntityOptional.get();
         consentEntity.setConsentStatus(status);
+        redirectSessionCache.parentUpdated(consentId);
         return true;
     }
 
@@ -24,6 +24,7 @@ import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecifi
 import de.adorsys.psd2.consent.service.mapper.PiisConsentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.migration.PiisConsentLazyMigrationService;
+import de.adorsys.psd2.consent.service.piis.PiisConsentAccountIndexService;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import lombok.RequiredArgsConstructor;
@@ -48,6 +49,7 @@ public class CmsPsuPiisServiceInternal implements CmsPsuPiisService {
     private final PsuDataMapper psuDataMapper;
     private final PiisConsentEntitySpecification piisConsentEntitySpecification;
     private final PiisConsentLazyMigrationService piisConsentLazyMigrationService;
+    private final PiisConsentAccountIndexService piisConsentAccountIndexService;
 
     @Override
     public @NotNull Optional<CmsPiisConsent> getConsent(@NotNull PsuIdData psuIdData, @NotNull String consentId, @NotNull String instanceId) {
@@ -99,5 +101,6 @@ public class CmsPsuPiisServiceInternal implements CmsPsuPiisService {
     private void revokeConsent(ConsentEntity consent) {
         consent.setLastActionDate(LocalDate.now());
         consent.setConsentStatus(ConsentStatus.REVOKED_BY_PSU);
+        piisConsentAccountIndexService.consentStatusChanged();
     }
 }
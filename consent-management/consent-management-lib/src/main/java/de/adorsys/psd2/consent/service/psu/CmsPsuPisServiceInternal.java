@@ -38,6 +38,7 @@ import de.adorsys.psd2.consent.service.CorePaymentsConvertService;
 import de.adorsys.psd2.consent.service.mapper.CmsPsuAuthorisationMapper;
 import de.adorsys.psd2.consent.service.mapper.CmsPsuPisMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.consent.service.psu.util.PsuDataUpdater;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.exception.AuthorisationIsExpiredException;
@@ -77,12 +78,19 @@ public class CmsPsuPisServiceInternal implements CmsPsuPisService {
     private final CmsPsuAuthorisationMapper cmsPsuPisAuthorisationMapper;
     private final CorePaymentsConvertService corePaymentsConvertService;
     private final PsuDataUpdater psuDataUpdater;
+    private final RedirectSessionCache redirectSessionCache;
 
     @Override
     @Transactional
     public boolean updatePsuInPayment(@NotNull PsuIdData psuIdData, @NotNull String authorisationId, @NotNull String instanceId) throws AuthorisationIsExpiredException {
         return getAuthorisationByExternalId(authorisationId, instanceId)
-                   .map(auth -> updatePsuData(auth, psuIdData))
+                   .map(auth -> {
+                       boolean updated = updatePsuData(auth, psuIdData);
+                       if (updated) {
+                           redirectSessionCache.authorisationUpdated(authorisationId, instanceId, auth.getParentExternalId());
+                       }
+                       return updated;
+                   })
                    .orElseGet(() -> {
                        log.info("Authorisation ID [{}], Instance ID: [{}]. Update PSU  in Payment failed, because authorisation not found",
                                 authorisationId, instanceId);
@@ -95,25 +103,27 @@ public class CmsPsuPisServiceInternal implements CmsPsuPisService {
     public @NotNull Optional<CmsPaymentResponse> checkRedirectAndGetPayment(@NotNull String redirectId,
                                                                             @NotNull String instanceId)
         throws RedirectUrlIsExpiredException {
-
-        Optional<AuthorisationEntity> optionalAuthorisation = authorisationRepository
-                                                                  .findOne(authorisationSpecification.byExternalIdAndInstanceId(redirectId, instanceId));
-
-        if (optionalAuthorisation.isPresent()) {
-            AuthorisationEntity authorisation = optionalAuthorisation.get();
-            if (!authorisation.isRedirectUrlNotExpired()) {
-                log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get payment failed, because redirect URL is expired",
-                         authorisation.getExternalId(), instanceId);
-                authorisation.setScaStatus(ScaStatus.FAILED);
-
-                throw new RedirectUrlIsExpiredException(authorisation.getTppNokRedirectUri());
+        return redirectSessionCache.getOrLoad(redirectId, instanceId, CmsPaymentResponse.class, loadContext -> {
+            Optional<AuthorisationEntity> optionalAuthorisation = authorisationRepository
+                                                                      .findOne(authorisationSpecification.byExternalIdAndInstanceId(redirectId, instanceId));
+
+            if (optionalAuthorisation.isPresent()) {
+                AuthorisationEntity authorisation = optionalAuthorisation.get();
+                if (!authorisation.isRedirectUrlNotExpired()) {
+                    log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get payment failed, because redirect URL is expired",
+                             authorisation.getExternalId(), instanceId);
+                    authorisation.setScaStatus(ScaStatus.FAILED);
+
+                    throw new RedirectUrlIsExpiredException(authorisation.getTppNokRedirectUri());
+                }
+                loadContext.bind(authorisation.getParentExternalId(), authorisation.getRedirectUrlExpirationTimestamp());
+                return buildCmsPaymentResponse(authorisation);
             }
-            return buildCmsPaymentResponse(authorisation);
-        }
 
-        log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get payment failed, because authorisation not found or has finalised status",
-                 redirectId, instanceId);
-        return Optional.empty();
+            log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get payment failed, because authorisation not found or has finalised status",
+                     redirectId, instanceId);
+            return Optional.empty();
+        });
     }
 
     @Transactional
@@ -142,41 +152,46 @@ public class CmsPsuPisServiceInternal implements CmsPsuPisService {
     public @NotNull Optional<CmsPaymentResponse> checkRedirectAndGetPaymentForCancellation(@NotNull String redirectId,
                                                                                            @NotNull String instanceId)
         throws RedirectUrlIsExpiredException {
-
-        Optional<AuthorisationEntity> optionalAuthorisation = authorisationRepository
-                                                                  .findOne(authorisationSpecification.byExternalIdAndInstanceId(redirectId, instanceId))
-                                                                  .filter(a -> !a.getScaStatus().isFinalisedStatus());
-
-        if (optionalAuthorisation.isPresent()) {
-            AuthorisationEntity authorisation = optionalAuthorisation.get();
-            if (!authorisation.isRedirectUrlNotExpired()) {
-                log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get payment cancellation failed, because authorisation not found or has finalised status",
-                         redirectId, instanceId);
-                authorisation.setScaStatus(ScaStatus.FAILED);
-
-                throw new RedirectUrlIsExpiredException(authorisation.getTppNokRedirectUri());
+        return redirectSessionCache.getOrLoad(redirectId, instanceId, CmsPaymentResponse.class, loadContext -> {
+            Optional<AuthorisationEntity> optionalAuthorisation = authorisationRepository
+                                                                      .findOne(authorisationSpecification.byExternalIdAndInstanceId(redirectId, instanceId))
+                                                                      .filter(a -> !a.getScaStatus().isFinalisedStatus());
+
+            if (optionalAuthorisation.isPresent()) {
+                AuthorisationEntity authorisation = optionalAuthorisation.get();
+                if (!authorisation.isRedirectUrlNotExpired()) {
+                    log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get payment cancellation failed, because authorisation not found or has finalised status",
+                             redirectId, instanceId);
+                    authorisation.setScaStatus(ScaStatus.FAILED);
+
+                    throw new RedirectUrlIsExpiredException(authorisation.getTppNokRedirectUri());
+                }
+                loadContext.bind(authorisation.getParentExternalId(), authorisation.getRedirectUrlExpirationTimestamp());
+                return buildCmsPaymentResponse(authorisation);
             }
-            return buildCmsPaymentResponse(authorisation);
-        }
-        log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get payment cancellation failed, because authorisation not found or has finalised status",
-                 redirectId, instanceId);
-        return Optional.empty();
+            log.info("Authorisation ID [{}], Instance ID: [{}]. Check redirect URL and get payment cancellation failed, because authorisation not found or has finalised status",
+                     redirectId, instanceId);
+            return Optional.empty();
+        });
     }
 
     @Override
     public @NotNull Optional<CmsPsuAuthorisation> getAuthorisationByAuthorisationId(@NotNull String authorisationId, @NotNull String instanceId) {
-        Optional<AuthorisationEntity> optionalAuthorisation = authorisationRepository
-                                                                  .findOne(authorisationSpecification.byExternalIdAndInstanceId(authorisationId, instanceId));
-
-        if (optionalAuthorisation.isPresent()) {
-            AuthorisationEntity authorisation = optionalAuthorisation.get();
-            return Optional.of(cmsPsuPisAuthorisationMapper.mapToCmsPsuAuthorisation(authorisation));
-        }
+        return redirectSessionCache.getOrLoad(authorisationId, instanceId, CmsPsuAuthorisation.class, loadContext -> {
+            Optional<AuthorisationEntity> optionalAuthorisation = authorisationRepository
+                                                                      .findOne(authorisationSpecification.byExternalIdAndInstanceId(authorisationId, instanceId));
+
+            if (optionalAuthorisation.isPresent()) {
+                AuthorisationEntity authorisation = optionalAuthorisation.get();
+                loadContext.bind(authorisation.getParentExternalId(), null);
+                return Optional.of(cmsPsuPisAuthorisationMapper.mapToCmsPsuAuthorisation(authorisation));
+            }
 
-        log.info("Authorisation ID: [{}], Instance ID: [{}]. Get authorisation failed, because authorisation not found",
-                 authorisationId, instanceId);
+            log.info("Authorisation ID: [{}], Instance ID: [{}]. Get authorisation failed, because authorisation not found",
+                     authorisationId, instanceId);
 
-        return Optional.empty();
+            return Optional.empty();
+        });
     }
 
     @Override
@@ -203,7 +218,11 @@ public class CmsPsuPisServiceInternal implements CmsPsuPisService {
             return false;
         }
 
-        return updateAuthorisationStatusAndSaveAuthorisation(pisAuthorisation.get(), status, authenticationDataHolder);
+        boolean updated = updateAuthorisationStatusAndSaveAuthorisation(pisAuthorisation.get(), status, authenticationDataHolder);
+        if (updated) {
+            redirectSessionCache.scaStatusUpdated(authorisationId, instanceId, paymentId, status);
+        }
+        return updated;
     }
 
     @Override
@@ -213,7 +232,13 @@ public class CmsPsuPisServiceInternal implements CmsPsuPisService {
 
         return paymentDataOptional
                    .filter(p -> p.getTransactionStatus().isNotFinalisedStatus())
-                   .map(pd -> commonPaymentDataService.updateStatusInPaymentData(pd, status))
+                   .map(pd -> {
+                       boolean updated = commonPaymentDataService.updateStatusInPaymentData(pd, status);
+                       if (updated) {
+                           redirectSessionCache.parentUpdated(paymentId);
+                       }
+                       return updated;
+                   })
                    .orElseGet(() -> {
                        log.info("Payment ID [{}], Instance ID: [{}]. Update payment status failed, because PIS common payment data not found",
                                 paymentId, instanceId);
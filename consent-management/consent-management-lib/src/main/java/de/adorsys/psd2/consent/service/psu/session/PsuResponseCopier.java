@@ -0,0 +1,395 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.service.psu.session;
+
+import de.adorsys.psd2.consent.api.CmsAddress;
+import de.adorsys.psd2.consent.api.ais.AisAccountAccess;
+import de.adorsys.psd2.consent.api.ais.AisAccountConsentAuthorisation;
+import de.adorsys.psd2.consent.api.ais.CmsAisAccountConsent;
+import de.adorsys.psd2.consent.api.ais.CmsAisConsentResponse;
+import de.adorsys.psd2.consent.api.piis.v2.CmsConfirmationOfFundsAuthorisation;
+import de.adorsys.psd2.consent.api.piis.v2.CmsConfirmationOfFundsConsent;
+import de.adorsys.psd2.consent.api.piis.v2.CmsConfirmationOfFundsResponse;
+import de.adorsys.psd2.consent.api.pis.BaseCmsPayment;
+import de.adorsys.psd2.consent.api.pis.CmsBulkPayment;
+import de.adorsys.psd2.consent.api.pis.CmsCommonPayment;
+import de.adorsys.psd2.consent.api.pis.CmsPayment;
+import de.adorsys.psd2.consent.api.pis.CmsPaymentResponse;
+import de.adorsys.psd2.consent.api.pis.CmsPeriodicPayment;
+import de.adorsys.psd2.consent.api.pis.CmsRemittance;
+import de.adorsys.psd2.consent.api.pis.CmsSinglePayment;
+import de.adorsys.psd2.consent.psu.api.CmsPsuAuthorisation;
+import de.adorsys.psd2.consent.psu.api.CmsPsuConfirmationOfFundsAuthorisation;
+import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationTemplate;
+import de.adorsys.psd2.xs2a.core.profile.AccountReference;
+import de.adorsys.psd2.xs2a.core.profile.AdditionalInformationAccess;
+import de.adorsys.psd2.xs2a.core.psu.AdditionalPsuIdData;
+import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
+import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Creates deep copies of PSU API responses cached by {@link RedirectSessionCache}, so that neither the caller of the
+ * lookup nor later callers can modify the cached response. Immutable parts of the responses (e.g. amounts or redirect
+ * URIs) are shared.
+ */
+class PsuResponseCopier {
+
+    /**
+     * @param value PSU API response
+     * @return deep copy of the response
+     * @throws IllegalArgumentException if copying of responses of this type is not supported
+     */
+    Object copy(Object value) {
+        if (value instanceof CmsAisConsentResponse) {
+            return copyAisConsentResponse((CmsAisConsentResponse) value);
+        } else if (value instanceof CmsPaymentResponse) {
+            return copyPaymentResponse((CmsPaymentResponse) value);
+        } else if (value instanceof CmsConfirmationOfFundsResponse) {
+            return copyConfirmationOfFundsResponse((CmsConfirmationOfFundsResponse) value);
+        } else if (value instanceof CmsPsuAuthorisation) {
+            return copyPsuAuthorisation((CmsPsuAuthorisation) value);
+        } else if (value instanceof CmsPsuConfirmationOfFundsAuthorisation) {
+            return copyPsuConfirmationOfFundsAuthorisation((CmsPsuConfirmationOfFundsAuthorisation) value);
+        }
+
+        throw new IllegalArgumentException("Copying of " + value.getClass().getName() + " is not supported");
+    }
+
+    private CmsAisConsentResponse copyAisConsentResponse(CmsAisConsentResponse response) {
+        return new CmsAisConsentResponse(copyAisAccountConsent(response.getAccountConsent()), response.getAuthorisationId(),
+                                         response.getTppOkRedirectUri(), response.getTppNokRedirectUri());
+    }
+
+    private CmsPaymentResponse copyPaymentResponse(CmsPaymentResponse response) {
+        return new CmsPaymentResponse(copyPayment(response.getPayment()), response.getAuthorisationId(),
+                                      response.getTppOkRedirectUri(), response.getTppNokRedirectUri());
+    }
+
+    private CmsConfirmationOfFundsResponse copyConfirmationOfFundsResponse(CmsConfirmationOfFundsResponse response) {
+        return new CmsConfirmationOfFundsResponse(copyConfirmationOfFundsConsent(response.getConsent()), response.getAuthorisationId(),
+                                                  response.getTppOkRedirectUri(), response.getTppNokRedirectUri());
+    }
+
+    private CmsPsuAuthorisation copyPsuAuthorisation(CmsPsuAuthorisation authorisation) {
+        CmsPsuAuthorisation copy = new CmsPsuAuthorisation();
+        copy.setPsuId(authorisation.getPsuId());
+        copy.setAuthorisationId(authorisation.getAuthorisationId());
+        copy.setScaStatus(authorisation.getScaStatus());
+        copy.setType(authorisation.getType());
+        copy.setRedirectUrlExpirationTimestamp(authorisation.getRedirectUrlExpirationTimestamp());
+        copy.setAuthorisationExpirationTimestamp(authorisation.getAuthorisationExpirationTimestamp());
+        copy.setScaApproach(authorisation.getScaApproach());
+        copy.setTppOkRedirectUri(authorisation.getTppOkRedirectUri());
+        copy.setTppNokRedirectUri(authorisation.getTppNokRedirectUri());
+        return copy;
+    }
+
+    private CmsPsuConfirmationOfFundsAuthorisation copyPsuConfirmationOfFundsAuthorisation(CmsPsuConfirmationOfFundsAuthorisation authorisation) {
+        CmsPsuConfirmationOfFundsAuthorisation copy = new CmsPsuConfirmationOfFundsAuthorisation();
+        copy.setPsuIdData(copyPsuIdData(authorisation.getPsuIdData()));
+        copy.setPiisConsentId(authorisation.getPiisConsentId());
+        copy.setAuthorisationId(authorisation.getAuthorisationId());
+        copy.setScaStatus(authorisation.getScaStatus());
+        copy.setScaApproach(authorisation.getScaApproach());
+        copy.setType(authorisation.getType());
+        copy.setRedirectUrlExpirationTimestamp(authorisation.getRedirectUrlExpirationTimestamp());
+        copy.setAuthorisationExpirationTimestamp(authorisation.getAuthorisationExpirationTimestamp());
+        copy.setTppOkRedirectUri(authorisation.getTppOkRedirectUri());
+        copy.setTppNokRedirectUri(authorisation.getTppNokRedirectUri());
+        return copy;
+    }
+
+    private CmsAisAccountConsent copyAisAccountConsent(@Nullable CmsAisAccountConsent consent) {
+        if (consent == null) {
+            return null;
+        }
+
+        CmsAisAccountConsent copy = new CmsAisAccountConsent();
+        copy.setId(consent.getId());
+        copy.setAccess(copyAisAccountAccess(consent.getAccess()));
+        copy.setRecurringIndicator(consent.isRecurringIndicator());
+        copy.setValidUntil(consent.getValidUntil());
+        copy.setExpireDate(consent.getExpireDate());
+        copy.setFrequencyPerDay(consent.getFrequencyPerDay());
+        copy.setLastActionDate(consent.getLastActionDate());
+        copy.setConsentStatus(consent.getConsentStatus());
+        copy.setWithBalance(consent.isWithBalance());
+        copy.setTppRedirectPreferred(consent.isTppRedirectPreferred());
+        copy.setAisConsentRequestType(consent.getAisConsentRequestType());
+        copy.setPsuIdDataList(copyList(consent.getPsuIdDataList(), this::copyPsuIdData));
+        copy.setTppInfo(copyTppInfo(consent.getTppInfo()));
+        copy.setAuthorisationTemplate(copyAuthorisationTemplate(consent.getAuthorisationTemplate()));
+        copy.setMultilevelScaRequired(consent.isMultilevelScaRequired());
+        copy.setAccountConsentAuthorizations(copyList(consent.getAccountConsentAuthorizations(), this::copyAisAccountConsentAuthorisation));
+        copy.setUsageCounterMap(consent.getUsageCounterMap() == null ? null : new HashMap<>(consent.getUsageCounterMap()));
+        copy.setCreationTimestamp(consent.getCreationTimestamp());
+        copy.setStatusChangeTimestamp(consent.getStatusChangeTimestamp());
+        copy.setTppBrandLoggingInformation(consent.getTppBrandLoggingInformation());
+        return copy;
+    }
+
+    private AisAccountAccess copyAisAccountAccess(@Nullable AisAccountAccess access) {
+        if (access == null) {
+            return null;
+        }
+
+        return new AisAccountAccess(copyList(access.getAccounts(), this::copyAccountReference),
+                                    copyList(access.getBalances(), this::copyAccountReference),
+                                    copyList(access.getTransactions(), this::copyAccountReference),
+                                    access.getAvailableAccounts(),
+                                    access.getAllPsd2(),
+                                    access.getAvailableAccountsWithBalance(),
+                                    copyAdditionalInformationAccess(access.getAccountAdditionalInformationAccess()));
+    }
+
+    private AdditionalInformationAccess copyAdditionalInformationAccess(@Nullable AdditionalInformationAccess access) {
+        if (access == null) {
+            return null;
+        }
+
+        return new AdditionalInformationAccess(copyList(access.getOwnerName(), this::copyAccountReference),
+                                               copyList(access.getTrustedBeneficiaries(), this::copyAccountReference));
+    }
+
+    private AisAccountConsentAuthorisation copyAisAccountConsentAuthorisation(AisAccountConsentAuthorisation authorisation) {
+        return new AisAccountConsentAuthorisation(authorisation.getId(), copyPsuIdData(authorisation.getPsuIdData()), authorisation.getScaStatus());
+    }
+
+    private CmsConfirmationOfFundsConsent copyConfirmationOfFundsConsent(@Nullable CmsConfirmationOfFundsConsent consent) {
+        if (consent == null) {
+            return null;
+        }
+
+        CmsConfirmationOfFundsConsent copy = new CmsConfirmationOfFundsConsent();
+        copy.setId(consent.getId());
+        copy.setAccount(copyAccountReference(consent.getAccount()));
+        copy.setValidUntil(consent.getValidUntil());
+        copy.setExpireDate(consent.getExpireDate());
+        copy.setLastActionDate(consent.getLastActionDate());
+        copy.setConsentStatus(consent.getConsentStatus());
+        copy.setTppRedirectPreferred(consent.isTppRedirectPreferred());
+        copy.setPsuIdDataList(copyList(consent.getPsuIdDataList(), this::copyPsuIdData));
+        copy.setTppInfo(copyTppInfo(consent.getTppInfo()));
+        copy.setAuthorisationTemplate(copyAuthorisationTemplate(consent.getAuthorisationTemplate()));
+        copy.setMultilevelScaRequired(consent.isMultilevelScaRequired());
+        copy.setCreationTimestamp(consent.getCreationTimestamp());
+        copy.setStatusChangeTimestamp(consent.getStatusChangeTimestamp());
+        copy.setAuthorisations(copyList(consent.getAuthorisations(), this::copyConfirmationOfFundsAuthorisation));
+        copy.setCardNumber(consent.getCardNumber());
+        copy.setCardExpiryDate(consent.getCardExpiryDate());
+        copy.setCardInformation(consent.getCardInformation());
+        copy.setRegistrationInformation(consent.getRegistrationInformation());
+        return copy;
+    }
+
+    private CmsConfirmationOfFundsAuthorisation copyConfirmationOfFundsAuthorisation(CmsConfirmationOfFundsAuthorisation authorisation) {
+        return new CmsConfirmationOfFundsAuthorisation(authorisation.getId(), copyPsuIdData(authorisation.getPsuIdData()), authorisation.getScaStatus());
+    }
+
+    private CmsPayment copyPayment(@Nullable CmsPayment payment) {
+        if (payment == null) {
+            return null;
+        }
+
+        if (payment instanceof CmsPeriodicPayment) {
+            CmsPeriodicPayment periodicPayment = (CmsPeriodicPayment) payment;
+            CmsPeriodicPayment copy = new CmsPeriodicPayment(periodicPayment.getPaymentProduct());
+            fillSinglePayment(copy, periodicPayment);
+            copy.setStartDate(periodicPayment.getStartDate());
+            copy.setEndDate(periodicPayment.getEndDate());
+            copy.setExecutionRule(periodicPayment.getExecutionRule());
+            copy.setFrequency(periodicPayment.getFrequency());
+            copy.setDayOfExecution(periodicPayment.getDayOfExecution());
+            return copy;
+        } else if (payment instanceof CmsSinglePayment) {
+            return copySinglePayment((CmsSinglePayment) payment);
+        } else if (payment instanceof CmsBulkPayment) {
+            CmsBulkPayment bulkPayment = (CmsBulkPayment) payment;
+            CmsBulkPayment copy = new CmsBulkPayment();
+            fillBasePayment(copy, bulkPayment);
+            copy.setBatchBookingPreferred(bulkPayment.isBatchBookingPreferred());
+            copy.setDebtorAccount(copyAccountReference(bulkPayment.getDebtorAccount()));
+            copy.setRequestedExecutionDate(bulkPayment.getRequestedExecutionDate());
+            copy.setPaymentStatus(bulkPayment.getPaymentStatus());
+            copy.setPayments(copyList(bulkPayment.getPayments(), this::copySinglePayment));
+            return copy;
+        } else if (payment instanceof CmsCommonPayment) {
+            CmsCommonPayment commonPayment = (CmsCommonPayment) payment;
+            CmsCommonPayment copy = new CmsCommonPayment(commonPayment.getPaymentProduct());
+            fillBasePayment(copy, commonPayment);
+            copy.setPaymentType(commonPayment.getPaymentType());
+            copy.setTransactionStatus(commonPayment.getTransactionStatus());
+            copy.setPaymentData(commonPayment.getPaymentData() == null ? null : commonPayment.getPaymentData().clone());
+            return copy;
+        }
+
+        throw new IllegalArgumentException("Copying of " + payment.getClass().getName() + " is not supported");
+    }
+
+    private CmsSinglePayment copySinglePayment(CmsSinglePayment payment) {
+        CmsSinglePayment copy = new CmsSinglePayment(payment.getPaymentProduct());
+        fillSinglePayment(copy, payment);
+        return copy;
+    }
+
+    private void fillSinglePayment(CmsSinglePayment copy, CmsSinglePayment payment) {
+        fillBasePayment(copy, payment);
+        copy.setEndToEndIdentification(payment.getEndToEndIdentification());
+        copy.setInstructionIdentification(payment.getInstructionIdentification());
+        copy.setDebtorAccount(copyAccountReference(payment.getDebtorAccount()));
+        copy.setInstructedAmount(payment.getInstructedAmount());
+        copy.setCreditorAccount(copyAccountReference(payment.getCreditorAccount()));
+        copy.setCreditorAgent(payment.getCreditorAgent());
+        copy.setCreditorName(payment.getCreditorName());
+        copy.setCreditorAddress(copyAddress(payment.getCreditorAddress()));
+        copy.setRemittanceInformationUnstructured(payment.getRemittanceInformationUnstructured());
+        copy.setPaymentStatus(payment.getPaymentStatus());
+        copy.setRequestedExecutionDate(payment.getRequestedExecutionDate());
+        copy.setRequestedExecutionTime(payment.getRequestedExecutionTime());
+        copy.setUltimateDebtor(payment.getUltimateDebtor());
+        copy.setUltimateCreditor(payment.getUltimateCreditor());
+        copy.setPurposeCode(payment.getPurposeCode());
+        copy.setRemittanceInformationStructured(copyRemittance(payment.getRemittanceInformationStructured()));
+        copy.setRemittanceInformationStructuredArray(copyList(payment.getRemittanceInformationStructuredArray(), this::copyRemittance));
+    }
+
+    private void fillBasePayment(BaseCmsPayment copy, BaseCmsPayment payment) {
+        copy.setPaymentId(payment.getPaymentId());
+        copy.setPaymentProduct(payment.getPaymentProduct());
+        copy.setPsuIdDatas(copyList(payment.getPsuIdDatas(), this::copyPsuIdData));
+        copy.setTppInfo(copyTppInfo(payment.getTppInfo()));
+        copy.setCreationTimestamp(payment.getCreationTimestamp());
+        copy.setStatusChangeTimestamp(payment.getStatusChangeTimestamp());
+        copy.setTppBrandLoggingInformation(payment.getTppBrandLoggingInformation());
+    }
+
+    private CmsAddress copyAddress(@Nullable CmsAddress address) {
+        if (address == null) {
+            return null;
+        }
+
+        CmsAddress copy = new CmsAddress();
+        copy.setStreetName(address.getStreetName());
+        copy.setBuildingNumber(address.getBuildingNumber());
+        copy.setTownName(address.getTownName());
+        copy.setPostCode(address.getPostCode());
+        copy.setCountry(address.getCountry());
+        return copy;
+    }
+
+    private CmsRemittance copyRemittance(@Nullable CmsRemittance remittance) {
+        if (remittance == null) {
+            return null;
+        }
+
+        CmsRemittance copy = new CmsRemittance();
+        copy.setReference(remittance.getReference());
+        copy.setReferenceType(remittance.getReferenceType());
+        copy.setReferenceIssuer(remittance.getReferenceIssuer());
+        return copy;
+    }
+
+    private AccountReference copyAccountReference(@Nullable AccountReference reference) {
+        if (reference == null) {
+            return null;
+        }
+
+        AccountReference copy = new AccountReference();
+        copy.setAspspAccountId(reference.getAspspAccountId());
+        copy.setResourceId(reference.getResourceId());
+        copy.setIban(reference.getIban());
+        copy.setBban(reference.getBban());
+        copy.setPan(reference.getPan());
+        copy.setMaskedPan(reference.getMaskedPan());
+        copy.setMsisdn(reference.getMsisdn());
+        copy.setCurrency(reference.getCurrency());
+        return copy;
+    }
+
+    private PsuIdData copyPsuIdData(@Nullable PsuIdData psuIdData) {
+        if (psuIdData == null) {
+            return null;
+        }
+
+        return new PsuIdData(psuIdData.getPsuId(), psuIdData.getPsuIdType(), psuIdData.getPsuCorporateId(),
+                             psuIdData.getPsuCorporateIdType(), psuIdData.getPsuIpAddress(),
+                             copyAdditionalPsuIdData(psuIdData.getAdditionalPsuIdData()));
+    }
+
+    private AdditionalPsuIdData copyAdditionalPsuIdData(@Nullable AdditionalPsuIdData additionalPsuIdData) {
+        if (additionalPsuIdData == null) {
+            return null;
+        }
+
+        return new AdditionalPsuIdData(additionalPsuIdData.getPsuIpPort(), additionalPsuIdData.getPsuUserAgent(),
+                                       additionalPsuIdData.getPsuGeoLocation(), additionalPsuIdData.getPsuAccept(),
+                                       additionalPsuIdData.getPsuAcceptCharset(), additionalPsuIdData.getPsuAcceptEncoding(),
+                                       additionalPsuIdData.getPsuAcceptLanguage(), additionalPsuIdData.getPsuHttpMethod(),
+                                       additionalPsuIdData.getPsuDeviceId());
+    }
+
+    private TppInfo copyTppInfo(@Nullable TppInfo tppInfo) {
+        if (tppInfo == null) {
+            return null;
+        }
+
+        TppInfo copy = new TppInfo();
+        copy.setAuthorisationNumber(tppInfo.getAuthorisationNumber());
+        copy.setTppName(tppInfo.getTppName());
+        copy.setTppRoles(tppInfo.getTppRoles() == null ? null : new ArrayList<>(tppInfo.getTppRoles()));
+        copy.setAuthorityId(tppInfo.getAuthorityId());
+        copy.setAuthorityName(tppInfo.getAuthorityName());
+        copy.setCountry(tppInfo.getCountry());
+        copy.setOrganisation(tppInfo.getOrganisation());
+        copy.setOrganisationUnit(tppInfo.getOrganisationUnit());
+        copy.setCity(tppInfo.getCity());
+        copy.setState(tppInfo.getState());
+        copy.setCancelTppRedirectUri(tppInfo.getCancelTppRedirectUri());
+        copy.setIssuerCN(tppInfo.getIssuerCN());
+        copy.setDnsList(tppInfo.getDnsList() == null ? null : new ArrayList<>(tppInfo.getDnsList()));
+        return copy;
+    }
+
+    private AuthorisationTemplate copyAuthorisationTemplate(@Nullable AuthorisationTemplate authorisationTemplate) {
+        if (authorisationTemplate == null) {
+            return null;
+        }
+
+        AuthorisationTemplate copy = new AuthorisationTemplate();
+        copy.setTppRedirectUri(authorisationTemplate.getTppRedirectUri());
+        copy.setCancelTppRedirectUri(authorisationTemplate.getCancelTppRedirectUri());
+        return copy;
+    }
+
+    private <T> List<T> copyList(@Nullable List<T> list, UnaryOperator<T> elementCopier) {
+        if (list == null) {
+            return null;
+        }
+
+        return list.stream()
+                   .map(element -> element == null ? null : elementCopier.apply(element))
+                   .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
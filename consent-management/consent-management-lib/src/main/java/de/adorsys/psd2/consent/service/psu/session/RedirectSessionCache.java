@@ -0,0 +1,335 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.psu.session;
+
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Short-lived cache of read-only PSU API responses of one redirect SCA, keyed by authorisation ID.
+ * <p>
+ * The online banking resolves the same authorisation several times during a redirect flow (check redirect, get
+ * authorisation, update PSU data, update authorisation status), every call loading authorisation and consent or payment
+ * from the database. Responses are cached per authorisation until given time to live, redirect URL expiration or
+ * authorisation expiration passes, whatever comes first. Only mapped responses are cached, never entities.
+ * <p>
+ * Cached responses of all authorisations of a consent or payment are invalidated on every change of it made via
+ * PSU API or via XS2A: immediately and once more after completion of the current transaction. Responses loaded
+ * concurrently with invalidation are returned to the caller, but not put into the cache. Changes made by other CMS
+ * instances are only visible after expiration of cached responses, that's why caching is disabled by default.
+ * Responses are copied when they are put into the cache and every time they are served from it, so callers can't
+ * modify cached responses.
+ * <p>
+ * Calls with and without database access are counted per authorisation and added to {@link RedirectSessionStatistics}
+ * once the authorisation reaches finalised SCA status.
+ */
+@Slf4j
+public class RedirectSessionCache {
+    private final int maxSize;
+    private final long ttlMs;
+    private final long sessionTimeoutMs;
+    private final LinkedHashMap<SessionKey, Session> sessions = new LinkedHashMap<>(16, 0.75f, true);
+    private final RedirectSessionStatistics statistics = new RedirectSessionStatistics();
+    private final PsuResponseCopier responseCopier = new PsuResponseCopier();
+    private long generation;
+
+    /**
+     * @param maxSize          maximum number of tracked redirect sessions, <code>0</code> disables caching and statistics
+     * @param ttlMs            time to live of cached response in milliseconds, <code>0</code> disables caching, but keeps statistics
+     * @param sessionTimeoutMs time in milliseconds after which an idle redirect session is dropped without being counted as completed
+     */
+    public RedirectSessionCache(int maxSize, long ttlMs, long sessionTimeoutMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.sessionTimeoutMs = sessionTimeoutMs;
+    }
+
+    /**
+     * Returns response of given type for the authorisation, loading it if it is not cached yet.
+     * The loader has to {@link LoadContext#bind bind} the response to the consent or payment of the authorisation,
+     * otherwise the response is not cached.
+     *
+     * @param authorisationId ID of the authorisation
+     * @param instanceId      ID of the particular service instance
+     * @param valueType       type of the response, one response per type is cached for every authorisation
+     * @param loader          database lookup to be used on cache miss
+     * @param <T>             type of the response
+     * @param <E>             exception thrown by the loader
+     * @return cached or loaded response
+     * @throws E if thrown by the loader
+     */
+    public <T, E extends Exception> Optional<T> getOrLoad(@NotNull String authorisationId, @NotNull String instanceId,
+                                                          @NotNull Class<T> valueType, @NotNull Loader<T, E> loader) throws E {
+        if (maxSize <= 0) {
+            return loader.load(new LoadContext());
+        }
+
+        SessionKey sessionKey = new SessionKey(authorisationId, instanceId);
+        long now = System.currentTimeMillis();
+        long loadedGeneration;
+
+        synchronized (sessions) {
+            Session session = sessions.get(sessionKey);
+            if (session != null) {
+                session.lastAccessedAt = now;
+                CachedValue cachedValue = session.values.get(valueType);
+                if (cachedValue != null) {
+                    if (now < cachedValue.expiresAt) {
+                        session.cachedCalls++;
+                        statistics.cachedCall();
+                        return Optional.of(valueType.cast(responseCopier.copy(cachedValue.value)));
+                    }
+                    session.values.remove(valueType);
+                }
+            }
+            loadedGeneration = generation;
+        }
+
+        LoadContext loadContext = new LoadContext();
+        Optional<T> value = loader.load(loadContext);
+        synchronized (sessions) {
+            statistics.databaseCall();
+            if (loadContext.parentId != null) {
+                Session session = getOrCreateSession(sessionKey, now);
+                session.parentId = loadContext.parentId;
+                session.databaseCalls++;
+                if (ttlMs > 0 && value.isPresent() && loadedGeneration == generation) {
+                    session.values.put(valueType, new CachedValue(responseCopier.copy(value.get()), expiresAt(now, loadContext.validUntil)));
+                }
+                evictIdle(now);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Invalidates responses of all authorisations of the consent or payment, to be called after authorisation was
+     * changed via PSU API (e.g. PSU data was updated)
+     *
+     * @param authorisationId ID of the changed authorisation
+     * @param instanceId      ID of the particular service instance
+     * @param parentId        ID of the consent or payment of the authorisation
+     */
+    public void authorisationUpdated(@NotNull String authorisationId, @NotNull String instanceId, @Nullable String parentId) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        SessionKey sessionKey = new SessionKey(authorisationId, instanceId);
+        long now = System.currentTimeMillis();
+        synchronized (sessions) {
+            statistics.databaseCall();
+            Session session = getOrCreateSession(sessionKey, now);
+            session.databaseCalls++;
+            if (parentId != null) {
+                session.parentId = parentId;
+            }
+            evictIdle(now);
+        }
+        invalidate(sessionKey, parentId);
+    }
+
+    /**
+     * Invalidates responses of all authorisations of the consent or payment, to be called after SCA status of
+     * authorisation was changed via PSU API. Redirect session of the authorisation is completed if the status is finalised.
+     *
+     * @param authorisationId ID of the changed authorisation
+     * @param instanceId      ID of the particular service instance
+     * @param parentId        ID of the consent or payment of the authorisation
+     * @param scaStatus       new SCA status of the authorisation
+     */
+    public void scaStatusUpdated(@NotNull String authorisationId, @NotNull String instanceId, @Nullable String parentId,
+                                 @NotNull ScaStatus scaStatus) {
+        authorisationUpdated(authorisationId, instanceId, parentId);
+        if (maxSize <= 0 || !scaStatus.isFinalisedStatus()) {
+            return;
+        }
+
+        Session session;
+        synchronized (sessions) {
+            session = sessions.remove(new SessionKey(authorisationId, instanceId));
+        }
+        if (session != null) {
+            statistics.scaCompleted(session.cachedCalls, session.databaseCalls);
+            log.debug("Authorisation ID [{}], Instance ID: [{}]. Redirect SCA completed with status [{}] after {} PSU API calls with database access and {} cached calls",
+                      authorisationId, instanceId, scaStatus.getValue(), session.databaseCalls, session.cachedCalls);
+        }
+    }
+
+    /**
+     * Invalidates responses of all authorisations of the consent or payment, to be called after the consent or payment
+     * was changed via PSU API (e.g. its status was updated)
+     *
+     * @param parentId ID of the changed consent or payment
+     */
+    public void parentUpdated(@NotNull String parentId) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        synchronized (sessions) {
+            statistics.databaseCall();
+            for (Session session : sessions.values()) {
+                if (parentId.equals(session.parentId)) {
+                    session.databaseCalls++;
+                }
+            }
+        }
+        invalidate(null, parentId);
+    }
+
+    /**
+     * Invalidates responses of all authorisations of the consent or payment, to be called after the consent or payment
+     * or one of its authorisations was changed outside of PSU API (e.g. by XS2A). Such changes are not counted as
+     * database calls of redirect sessions.
+     *
+     * @param parentId ID of the changed consent or payment
+     */
+    public void parentChanged(@NotNull String parentId) {
+        if (maxSize <= 0 || ttlMs <= 0) {
+            return;
+        }
+
+        invalidate(null, parentId);
+    }
+
+    public RedirectSessionStatistics getStatistics() {
+        return statistics;
+    }
+
+    public int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    private void invalidate(@Nullable SessionKey sessionKey, @Nullable String parentId) {
+        clear(sessionKey, parentId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear(sessionKey, parentId);
+                }
+            });
+        }
+    }
+
+    private void clear(@Nullable SessionKey sessionKey, @Nullable String parentId) {
+        synchronized (sessions) {
+            for (Map.Entry<SessionKey, Session> entry : sessions.entrySet()) {
+                Session session = entry.getValue();
+                if (entry.getKey().equals(sessionKey) || parentId != null && parentId.equals(session.parentId)) {
+                    session.values.clear();
+                }
+            }
+            generation++;
+        }
+    }
+
+    private Session getOrCreateSession(SessionKey sessionKey, long now) {
+        Session session = sessions.get(sessionKey);
+        if (session == null) {
+            session = new Session();
+            sessions.put(sessionKey, session);
+        }
+        session.lastAccessedAt = now;
+        return session;
+    }
+
+    private void evictIdle(long now) {
+        Iterator<Session> iterator = sessions.values().iterator();
+        while (iterator.hasNext()) {
+            Session session = iterator.next();
+            if (sessions.size() <= maxSize && now - session.lastAccessedAt < sessionTimeoutMs) {
+                // sessions are ordered by access, all following sessions are more recent
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private long expiresAt(long now, @Nullable OffsetDateTime validUntil) {
+        long expiresAt = now + ttlMs;
+        return validUntil == null
+                   ? expiresAt
+                   : Math.min(expiresAt, validUntil.toInstant().toEpochMilli());
+    }
+
+    /**
+     * Database lookup of PSU API response
+     *
+     * @param <T> type of the response
+     * @param <E> exception thrown by the lookup
+     */
+    @FunctionalInterface
+    public interface Loader<T, E extends Exception> {
+        Optional<T> load(LoadContext loadContext) throws E;
+    }
+
+    public static class LoadContext {
+        private String parentId;
+        private OffsetDateTime validUntil;
+
+        /**
+         * Binds loaded response to the consent or payment of the authorisation, only bound responses are cached
+         *
+         * @param parentId   ID of the consent or payment
+         * @param validUntil time after which the response must not be used anymore (e.g. redirect URL expiration), may be <code>null</code>
+         */
+        public void bind(String parentId, @Nullable OffsetDateTime validUntil) {
+            this.parentId = parentId;
+            this.validUntil = validUntil;
+        }
+    }
+
+    @Value
+    private static class SessionKey {
+        private String authorisationId;
+        private String instanceId;
+    }
+
+    private static class Session {
+        private final Map<Class<?>, CachedValue> values = new HashMap<>();
+        private String parentId;
+        private long lastAccessedAt;
+        private long cachedCalls;
+        private long databaseCalls;
+    }
+
+    private static class CachedValue {
+        private final Object value;
+        private final long expiresAt;
+
+        private CachedValue(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
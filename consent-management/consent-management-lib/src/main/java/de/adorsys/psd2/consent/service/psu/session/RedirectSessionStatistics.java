@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.psu.session;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Database usage of CMS PSU API redirect flows on the current node
+ */
+public class RedirectSessionStatistics {
+    private final AtomicLong cachedCalls = new AtomicLong();
+    private final AtomicLong databaseCalls = new AtomicLong();
+    private final AtomicLong completedScaCount = new AtomicLong();
+    private final AtomicLong completedScaCachedCalls = new AtomicLong();
+    private final AtomicLong completedScaDatabaseCalls = new AtomicLong();
+
+    void cachedCall() {
+        cachedCalls.incrementAndGet();
+    }
+
+    void databaseCall() {
+        databaseCalls.incrementAndGet();
+    }
+
+    void scaCompleted(long cachedCalls, long databaseCalls) {
+        completedScaCount.incrementAndGet();
+        completedScaCachedCalls.addAndGet(cachedCalls);
+        completedScaDatabaseCalls.addAndGet(databaseCalls);
+    }
+
+    /**
+     * @return number of PSU API calls answered from the cache
+     */
+    public long getCachedCalls() {
+        return cachedCalls.get();
+    }
+
+    /**
+     * @return number of PSU API calls which had to load or update authorisation, consent or payment in the database
+     */
+    public long getDatabaseCalls() {
+        return databaseCalls.get();
+    }
+
+    /**
+     * @return number of authorisations which reached finalised SCA status via PSU API
+     */
+    public long getCompletedScaCount() {
+        return completedScaCount.get();
+    }
+
+    public long getCompletedScaCachedCalls() {
+        return completedScaCachedCalls.get();
+    }
+
+    public long getCompletedScaDatabaseCalls() {
+        return completedScaDatabaseCalls.get();
+    }
+
+    /**
+     * @return average number of PSU API calls with database access per completed SCA, <code>0</code> if no SCA was completed yet
+     */
+    public double getDatabaseCallsPerCompletedSca() {
+        long count = completedScaCount.get();
+        return count == 0 ? 0 : (double) completedScaDatabaseCalls.get() / count;
+    }
+}
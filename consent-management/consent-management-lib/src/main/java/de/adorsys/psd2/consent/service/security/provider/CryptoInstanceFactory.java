@@ -26,4 +26,16 @@ public interface CryptoInstanceFactory {
      * @return instance of crypto provider
      */
     CryptoProvider initProvider(String cryptoProviderId, String parameters);
+
+    /**
+     * Creates new instance of Crypto provider using given parameters and shared cache of derived keys
+     *
+     * @param cryptoProviderId Id of Crypto provider
+     * @param parameters Data for creating and initializing crypto providers
+     * @param derivedKeyCache Cache for keys derived from passwords
+     * @return instance of crypto provider
+     */
+    default CryptoProvider initProvider(String cryptoProviderId, String parameters, DerivedKeyCache derivedKeyCache) {
+        return initProvider(cryptoProviderId, parameters);
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.security.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of secret keys derived from passwords by crypto providers.
+ * <p>
+ * Entries are identified by crypto provider ID and SHA-256 digest of the password, so plain passwords are never stored.
+ * Keys expire after given time to live, the least recently used key is evicted if cache exceeds its maximum size.
+ * Raw key bytes are overwritten with zeros as soon as the key leaves the cache.
+ */
+public class DerivedKeyCache {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final byte KEY_SEPARATOR = 0;
+
+    private final int maxSize;
+    private final long ttlMs;
+    private final LinkedHashMap<String, CachedKey> keys = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * @param maxSize maximum number of cached keys, <code>0</code> disables caching
+     * @param ttlMs   time to live of cached key in milliseconds, <code>0</code> disables caching
+     */
+    public DerivedKeyCache(int maxSize, long ttlMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Returns raw bytes of the secret key for given provider and password, deriving the key if it is not cached yet.
+     * Returned array is a copy owned by the caller, so that it can be wiped after usage.
+     *
+     * @param cryptoProviderId ID of crypto provider that uses the key
+     * @param password         password the key is derived from
+     * @param keyDerivation    derivation function to be used on cache miss
+     * @return raw key bytes
+     * @throws GeneralSecurityException if key derivation fails
+     */
+    public byte[] getKey(String cryptoProviderId, String password, KeyDerivation keyDerivation) throws GeneralSecurityException {
+        if (maxSize <= 0 || ttlMs <= 0) {
+            return keyDerivation.derive(password);
+        }
+
+        String cacheKey = buildCacheKey(cryptoProviderId, password);
+        long now = System.currentTimeMillis();
+
+        synchronized (keys) {
+            CachedKey cachedKey = keys.get(cacheKey);
+            if (cachedKey != null) {
+                if (now < cachedKey.expiresAt) {
+                    return cachedKey.key.clone();
+                }
+                keys.remove(cacheKey);
+                cachedKey.destroy();
+            }
+        }
+
+        byte[] derivedKey = keyDerivation.derive(password);
+        synchronized (keys) {
+            CachedKey previous = keys.put(cacheKey, new CachedKey(derivedKey.clone(), now + ttlMs));
+            if (previous != null) {
+                previous.destroy();
+            }
+            evictExpired(now);
+        }
+        return derivedKey;
+    }
+
+    /**
+     * Removes all keys from the cache and overwrites them with zeros
+     */
+    public void clear() {
+        synchronized (keys) {
+            keys.values().forEach(CachedKey::destroy);
+            keys.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (keys) {
+            return keys.size();
+        }
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<String, CachedKey>> iterator = keys.entrySet().iterator();
+        while (iterator.hasNext()) {
+            CachedKey cachedKey = iterator.next().getValue();
+            if (keys.size() > maxSize || now >= cachedKey.expiresAt) {
+                iterator.remove();
+                cachedKey.destroy();
+            }
+        }
+    }
+
+    private String buildCacheKey(String cryptoProviderId, String password) throws NoSuchAlgorithmException {
+        MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        messageDigest.update(cryptoProviderId.getBytes(StandardCharsets.UTF_8));
+        messageDigest.update(KEY_SEPARATOR);
+        messageDigest.update(password.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(messageDigest.digest());
+    }
+
+    @FunctionalInterface
+    public interface KeyDerivation {
+        byte[] derive(String password) throws GeneralSecurityException;
+    }
+
+    private static class CachedKey {
+        private final byte[] key;
+        private final long expiresAt;
+
+        private CachedKey(byte[] key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+
+        private void destroy() {
+            Arrays.fill(key, (byte) 0);
+        }
+    }
+}
@@ -19,6 +19,7 @@ package de.adorsys.psd2.consent.service.security.provider.aes;
 import de.adorsys.psd2.consent.service.security.DecryptedData;
 import de.adorsys.psd2.consent.service.security.EncryptedData;
 import de.adorsys.psd2.consent.service.security.provider.CryptoProvider;
+import de.adorsys.psd2.consent.service.security.provider.DerivedKeyCache;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.crypto.BadPaddingException;
@@ -28,9 +29,7 @@ import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
 import java.security.GeneralSecurityException;
-import java.security.Key;
-import java.security.NoSuchAlgorithmException;
-import java.security.spec.InvalidKeySpecException;
+import java.util.Arrays;
 import java.util.Optional;
 
 @Slf4j
@@ -40,23 +39,27 @@ public class AesEcbCryptoProviderImpl implements CryptoProvider {
     private final int keyLength;
     private final int hashIterations;
     private final String skfAlgorithm;
+    private final DerivedKeyCache derivedKeyCache;
+    private final ThreadLocal<Cipher> cipherHolder = new ThreadLocal<>();
 
     public AesEcbCryptoProviderImpl(String cryptoProviderId, String algorithm, int keyLength, int hashIterations, String skfAlgorithm) {
+        this(cryptoProviderId, algorithm, keyLength, hashIterations, skfAlgorithm, new DerivedKeyCache(0, 0));
+    }
+
+    public AesEcbCryptoProviderImpl(String cryptoProviderId, String algorithm, int keyLength, int hashIterations, String skfAlgorithm,
+                                    DerivedKeyCache derivedKeyCache) {
         this.cryptoProviderId = cryptoProviderId;
         this.algorithm = algorithm;
         this.keyLength = keyLength;
         this.hashIterations = hashIterations;
         this.skfAlgorithm = skfAlgorithm;
+        this.derivedKeyCache = derivedKeyCache;
     }
 
     @Override
     public Optional<EncryptedData> encryptData(byte[] data, String password) {
         try {
-            Key secretKey = getSecretKey(password);
-
-            Cipher cipher = Cipher.getInstance(algorithm);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-            byte[] encryptedData = cipher.doFinal(data);
+            byte[] encryptedData = doFinal(Cipher.ENCRYPT_MODE, data, password);
 
             return Optional.of(new EncryptedData(encryptedData));
 
@@ -69,11 +72,7 @@ public class AesEcbCryptoProviderImpl implements CryptoProvider {
     @Override
     public Optional<DecryptedData> decryptData(byte[] data, String password) {
         try {
-            Key secretKey = getSecretKey(password);
-
-            Cipher cipher = Cipher.getInstance(algorithm);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            byte[] decryptedData = cipher.doFinal(data);
+            byte[] decryptedData = doFinal(Cipher.DECRYPT_MODE, data, password);
 
             return Optional.of(new DecryptedData(decryptedData));
         } catch (BadPaddingException e) {
@@ -90,13 +89,33 @@ public class AesEcbCryptoProviderImpl implements CryptoProvider {
         return cryptoProviderId;
     }
 
-    private SecretKey getSecretKey(String password) throws InvalidKeySpecException, NoSuchAlgorithmException {
+    private byte[] doFinal(int mode, byte[] data, String password) throws GeneralSecurityException {
+        byte[] rawKey = derivedKeyCache.getKey(cryptoProviderId, password, this::deriveKey);
+        try {
+            Cipher cipher = getCipher();
+            cipher.init(mode, new SecretKeySpec(rawKey, "AES"));
+            return cipher.doFinal(data);
+        } finally {
+            Arrays.fill(rawKey, (byte) 0);
+        }
+    }
+
+    private Cipher getCipher() throws GeneralSecurityException {
+        Cipher cipher = cipherHolder.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(algorithm);
+            cipherHolder.set(cipher);
+        }
+        return cipher;
+    }
+
+    private byte[] deriveKey(String password) throws GeneralSecurityException {
         byte[] salt = new byte[16];
         PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, hashIterations, keyLength);
         try {
             SecretKeyFactory factory = SecretKeyFactory.getInstance(skfAlgorithm);
             SecretKey secretKey = factory.generateSecret(keySpec);
-            return new SecretKeySpec(secretKey.getEncoded(), "AES");
+            return secretKey.getEncoded();
         } finally {
             keySpec.clearPassword();
         }
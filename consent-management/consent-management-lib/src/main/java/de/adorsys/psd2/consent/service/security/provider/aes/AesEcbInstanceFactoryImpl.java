@@ -18,6 +18,7 @@ package de.adorsys.psd2.consent.service.security.provider.aes;
 
 import de.adorsys.psd2.consent.service.security.provider.CryptoInstanceFactory;
 import de.adorsys.psd2.consent.service.security.provider.CryptoProvider;
+import de.adorsys.psd2.consent.service.security.provider.DerivedKeyCache;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
@@ -27,6 +28,11 @@ public class AesEcbInstanceFactoryImpl implements CryptoInstanceFactory {
 
     @Override
     public CryptoProvider initProvider(String cryptoProviderId, String parameters) throws IllegalArgumentException {
+        return initProvider(cryptoProviderId, parameters, new DerivedKeyCache(0, 0));
+    }
+
+    @Override
+    public CryptoProvider initProvider(String cryptoProviderId, String parameters, DerivedKeyCache derivedKeyCache) throws IllegalArgumentException {
         String[] paramsArr = StringUtils.split(parameters, SEPARATOR);
 
         String algorithm = getStringValueByIndex(paramsArr, 0, "AES/ECB/PKCS5Padding");
@@ -34,7 +40,7 @@ public class AesEcbInstanceFactoryImpl implements CryptoInstanceFactory {
         int hashIterations = getIntegerValueByIndex(paramsArr, 3, 65536);
         String skfAlgorithm = getStringValueByIndex(paramsArr, 4, "PBKDF2WithHmacSHA256");
 
-        return new AesEcbCryptoProviderImpl(cryptoProviderId, algorithm, keyLength, hashIterations, skfAlgorithm);
+        return new AesEcbCryptoProviderImpl(cryptoProviderId, algorithm, keyLength, hashIterations, skfAlgorithm, derivedKeyCache);
     }
 
     private String getStringValueByIndex(String[] paramsArr, int index, String defaultValue) {
@@ -22,16 +22,14 @@ import com.nimbusds.jose.crypto.AESEncrypter;
 import de.adorsys.psd2.consent.service.security.DecryptedData;
 import de.adorsys.psd2.consent.service.security.EncryptedData;
 import de.adorsys.psd2.consent.service.security.provider.CryptoProvider;
+import de.adorsys.psd2.consent.service.security.provider.DerivedKeyCache;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.PBEKeySpec;
-import javax.crypto.spec.SecretKeySpec;
 import java.security.GeneralSecurityException;
-import java.security.Key;
-import java.security.NoSuchAlgorithmException;
-import java.security.spec.InvalidKeySpecException;
+import java.util.Arrays;
 import java.util.Optional;
 
 @Slf4j
@@ -42,23 +40,30 @@ public class JweCryptoProviderImpl implements CryptoProvider {
     private final int keyLength;
     private final int hashIterations;
     private final String skfAlgorithm;
+    private final DerivedKeyCache derivedKeyCache;
 
     public JweCryptoProviderImpl(String cryptoProviderId, int keyLength, int hashIterations, String skfAlgorithm) {
+        this(cryptoProviderId, keyLength, hashIterations, skfAlgorithm, new DerivedKeyCache(0, 0));
+    }
+
+    public JweCryptoProviderImpl(String cryptoProviderId, int keyLength, int hashIterations, String skfAlgorithm, DerivedKeyCache derivedKeyCache) {
         this.cryptoProviderId = cryptoProviderId;
         this.keyLength = keyLength;
         this.hashIterations = hashIterations;
         this.skfAlgorithm = skfAlgorithm;
+        this.derivedKeyCache = derivedKeyCache;
     }
 
     @Override
     public Optional<EncryptedData> encryptData(byte[] data, String password) {
+        byte[] rawKey = null;
         try {
             Payload payload = new Payload(data);
-            Key secretKey = getSecretKey(password);
+            rawKey = derivedKeyCache.getKey(cryptoProviderId, password, this::deriveKey);
 
             JWEHeader header = new JWEHeader(ALGORITHM, METHOD);
             JWEObject jweObject = new JWEObject(header, payload);
-            JWEEncrypter encrypter = new AESEncrypter(secretKey.getEncoded());
+            JWEEncrypter encrypter = new AESEncrypter(rawKey);
 
             jweObject.encrypt(encrypter);
             String encryptedData = jweObject.serialize();
@@ -67,6 +72,8 @@ public class JweCryptoProviderImpl implements CryptoProvider {
 
         } catch (GeneralSecurityException | JOSEException e) {
             log.info("Error encryption data: {}", e);
+        } finally {
+            wipe(rawKey);
         }
 
         return Optional.empty();
@@ -74,16 +81,19 @@ public class JweCryptoProviderImpl implements CryptoProvider {
 
     @Override
     public Optional<DecryptedData> decryptData(byte[] data, String password) {
+        byte[] rawKey = null;
         try {
-            Key secretKey = getSecretKey(password);
+            rawKey = derivedKeyCache.getKey(cryptoProviderId, password, this::deriveKey);
 
             JWEObject jweObject = JWEObject.parse(new String(data));
-            JWEDecrypter decrypter = new AESDecrypter(secretKey.getEncoded());
+            JWEDecrypter decrypter = new AESDecrypter(rawKey);
             jweObject.decrypt(decrypter);
 
             return Optional.of(new DecryptedData(jweObject.getPayload().toBytes()));
         } catch (Exception e) {
             log.info("Error encryption data. Data can't be parsed : {}", e);
+        } finally {
+            wipe(rawKey);
         }
 
         return Optional.empty();
@@ -94,15 +104,21 @@ public class JweCryptoProviderImpl implements CryptoProvider {
         return cryptoProviderId;
     }
 
-    private SecretKey getSecretKey(String password) throws InvalidKeySpecException, NoSuchAlgorithmException {
+    private byte[] deriveKey(String password) throws GeneralSecurityException {
         byte[] salt = new byte[16];
         PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt, hashIterations, keyLength);
         try {
             SecretKeyFactory factory = SecretKeyFactory.getInstance(skfAlgorithm);
             SecretKey secretKey = factory.generateSecret(keySpec);
-            return new SecretKeySpec(secretKey.getEncoded(), "AES");
+            return secretKey.getEncoded();
         } finally {
             keySpec.clearPassword();
         }
     }
+
+    private void wipe(byte[] rawKey) {
+        if (rawKey != null) {
+            Arrays.fill(rawKey, (byte) 0);
+        }
+    }
 }
@@ -18,6 +18,7 @@ package de.adorsys.psd2.consent.service.sha;
 
 
 import de.adorsys.psd2.consent.service.sha.v3.AisChecksumCalculatingServiceV3;
+import de.adorsys.psd2.consent.service.sha.v4.AisChecksumCalculatingServiceV4;
 import de.adorsys.psd2.xs2a.core.consent.ConsentType;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.keyvalue.MultiKey;
@@ -36,6 +37,8 @@ public class ChecksumCalculatingFactory {
     @Autowired
     private AisChecksumCalculatingServiceV3 aisV3;
     @Autowired
+    private AisChecksumCalculatingServiceV4 aisV4;
+    @Autowired
     private NoProcessingChecksumService  noProcessingService;
 
     @PostConstruct
@@ -44,7 +47,9 @@ public class ChecksumCalculatingFactory {
         services.put(new MultiKey("001", ConsentType.AIS), noProcessingService);
         services.put(new MultiKey("002", ConsentType.AIS), noProcessingService);
 
+        // consents with v3 checksums are still verified and recalculated by v3 service, new consents get v4 checksums
         services.put(new MultiKey(aisV3.getVersion(), ConsentType.AIS), aisV3);
+        services.put(new MultiKey(aisV4.getVersion(), ConsentType.AIS), aisV4);
     }
 
     /** Provides an appropriate checksum calculator by checksum and consent type
@@ -72,7 +77,7 @@ public class ChecksumCalculatingFactory {
 
     private Optional<ChecksumCalculatingService> getDefaultService(ConsentType consentType) {
         if (ConsentType.AIS == consentType) {
-            return Optional.of(aisV3);
+            return Optional.of(aisV4);
         }
         return Optional.empty();
     }
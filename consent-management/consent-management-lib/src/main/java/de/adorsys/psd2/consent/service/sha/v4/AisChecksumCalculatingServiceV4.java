@@ -0,0 +1,212 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.sha.v4;
+
+import de.adorsys.psd2.consent.service.sha.ChecksumCalculatingService;
+import de.adorsys.psd2.consent.service.sha.ChecksumConstant;
+import de.adorsys.psd2.core.data.AccountAccess;
+import de.adorsys.psd2.core.data.Consent;
+import de.adorsys.psd2.core.data.ais.AisConsent;
+import de.adorsys.psd2.xs2a.core.consent.ConsentType;
+import de.adorsys.psd2.xs2a.core.profile.AccountReference;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
+import de.adorsys.psd2.xs2a.core.profile.AdditionalInformationAccess;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Calculates the same checksums as {@link de.adorsys.psd2.consent.service.sha.v3.AisChecksumCalculatingServiceV3},
+ * but hashes a canonical binary encoding of the consent instead of its JSON representation and groups
+ * the ASPSP account references by type in a single pass.
+ * <p>
+ * Checksum format: <code>004_%_{consent checksum}[_%_{type}:{references checksum};{type}:{references checksum}...]</code>,
+ * all checksums are SHA-512 hashes encoded in Base64.
+ */
+@Service
+public class AisChecksumCalculatingServiceV4 implements ChecksumCalculatingService {
+    private static final String VERSION = "004";
+    private static final String HASHING_ALGORITHM = "SHA-512";
+    private static final String TYPE_SEPARATOR = ":";
+    private static final String ENTRY_SEPARATOR = ";";
+    private static final AccountReferenceType[] TYPES_BY_ORDER = Arrays.stream(AccountReferenceType.values())
+                                                                     .sorted(Comparator.comparingInt(AccountReferenceType::getOrder))
+                                                                     .toArray(AccountReferenceType[]::new);
+    private static final Comparator<String> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final Comparator<AccountReference> CANONICAL_ORDER =
+        Comparator.comparing(AccountReference::getIban, NULLS_FIRST)
+            .thenComparing(AccountReference::getBban, NULLS_FIRST)
+            .thenComparing(AccountReference::getPan, NULLS_FIRST)
+            .thenComparing(AccountReference::getMsisdn, NULLS_FIRST)
+            .thenComparing(AccountReference::getMaskedPan, NULLS_FIRST)
+            .thenComparing(r -> r.getCurrency() == null ? null : r.getCurrency().getCurrencyCode(), NULLS_FIRST)
+            .thenComparing(AccountReference::getResourceId, NULLS_FIRST)
+            .thenComparing(AccountReference::getAspspAccountId, NULLS_FIRST);
+
+    private final ThreadLocal<CanonicalDigest> digestHolder = ThreadLocal.withInitial(() -> new CanonicalDigest(HASHING_ALGORITHM));
+
+    @Override
+    public boolean verifyConsentWithChecksum(Consent<?> consent, byte[] checksum) {
+        if (consent == null || checksum == null || ConsentType.AIS != consent.getConsentType()) {
+            return false;
+        }
+
+        String[] elements = new String(checksum, StandardCharsets.UTF_8).split(ChecksumConstant.DELIMITER);
+        if (elements.length == 1) {
+            return false;
+        }
+
+        AisConsent aisConsent = (AisConsent) consent;
+        if (!elements[ChecksumConstant.CONSENT_CHECKSUM_START_POSITION].equals(calculateCommonChecksum(aisConsent))) {
+            return false;
+        }
+
+        return elements.length <= ChecksumConstant.ASPSP_ACCESS_CHECKSUM_START_POSITION
+                   || isAspspAccessChecksumValid(elements[ChecksumConstant.ASPSP_ACCESS_CHECKSUM_START_POSITION], aisConsent.getAspspAccountAccesses());
+    }
+
+    @Override
+    public byte[] calculateChecksumForConsent(Consent<?> consent) {
+        if (consent == null || ConsentType.AIS != consent.getConsentType()) {
+            return new byte[0];
+        }
+
+        AisConsent aisConsent = (AisConsent) consent;
+        StringBuilder checksum = new StringBuilder(VERSION)
+                                     .append(ChecksumConstant.DELIMITER)
+                                     .append(calculateCommonChecksum(aisConsent));
+
+        AccountAccess aspspAccountAccess = aisConsent.getAspspAccountAccesses();
+        if (aspspAccountAccess.isNotEmpty(aisConsent.getConsentData())) {
+            Map<AccountReferenceType, String> checksumsByType = calculateChecksumsByType(aspspAccountAccess);
+            if (!checksumsByType.isEmpty()) {
+                checksum.append(ChecksumConstant.DELIMITER);
+                appendChecksumsByType(checksum, checksumsByType);
+            }
+        }
+
+        return checksum.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    private String calculateCommonChecksum(AisConsent aisConsent) {
+        CanonicalDigest digest = digestHolder.get()
+                                     .reset()
+                                     .putBoolean(aisConsent.isRecurringIndicator())
+                                     .putBoolean(aisConsent.getConsentData().isCombinedServiceIndicator())
+                                     .putDate(aisConsent.getValidUntil())
+                                     .putInteger(aisConsent.getFrequencyPerDay());
+        putAccess(digest, aisConsent.getTppAccountAccesses());
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private void putAccess(CanonicalDigest digest, @Nullable AccountAccess access) {
+        digest.putBoolean(access != null);
+        if (access == null) {
+            return;
+        }
+        digest.putReferences(access.getAccounts())
+            .putReferences(access.getBalances())
+            .putReferences(access.getTransactions());
+
+        AdditionalInformationAccess additionalInformationAccess = access.getAdditionalInformationAccess();
+        digest.putBoolean(additionalInformationAccess != null);
+        if (additionalInformationAccess != null) {
+            digest.putReferences(additionalInformationAccess.getOwnerName())
+                .putReferences(additionalInformationAccess.getTrustedBeneficiaries());
+        }
+    }
+
+    private boolean isAspspAccessChecksumValid(String checksumsFromDb, AccountAccess aspspAccess) {
+        Map<AccountReferenceType, String> currentChecksums = calculateChecksumsByType(aspspAccess);
+
+        for (String entry : StringUtils.split(checksumsFromDb, ENTRY_SEPARATOR)) {
+            String typeValue = StringUtils.substringBefore(entry, TYPE_SEPARATOR);
+            Optional<AccountReferenceType> type = AccountReferenceType.getByValue(typeValue);
+            if (!type.isPresent()
+                    || !StringUtils.substringAfter(entry, TYPE_SEPARATOR).equals(currentChecksums.get(type.get()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculates checksum of the references with ASPSP identifiers (resource ID or ASPSP account ID) for each reference type
+     */
+    private Map<AccountReferenceType, String> calculateChecksumsByType(AccountAccess aspspAccess) {
+        Map<AccountReferenceType, Set<AccountReference>> referencesByType = new EnumMap<>(AccountReferenceType.class);
+        groupReferences(referencesByType, aspspAccess.getAccounts());
+        groupReferences(referencesByType, aspspAccess.getBalances());
+        groupReferences(referencesByType, aspspAccess.getTransactions());
+
+        Map<AccountReferenceType, String> checksumsByType = new EnumMap<>(AccountReferenceType.class);
+        CanonicalDigest digest = digestHolder.get();
+        for (Map.Entry<AccountReferenceType, Set<AccountReference>> entry : referencesByType.entrySet()) {
+            List<AccountReference> references = new ArrayList<>(entry.getValue());
+            references.sort(CANONICAL_ORDER);
+            digest.reset()
+                .putReferences(references);
+            checksumsByType.put(entry.getKey(), Base64.getEncoder().encodeToString(digest.digest()));
+        }
+        return checksumsByType;
+    }
+
+    private void groupReferences(Map<AccountReferenceType, Set<AccountReference>> referencesByType, @Nullable List<AccountReference> references) {
+        if (references == null) {
+            return;
+        }
+        for (AccountReference reference : references) {
+            if (StringUtils.isNotBlank(reference.getResourceId()) || StringUtils.isNotBlank(reference.getAspspAccountId())) {
+                referencesByType.computeIfAbsent(getReferenceType(reference), t -> new HashSet<>())
+                    .add(reference);
+            }
+        }
+    }
+
+    /**
+     * Same as {@link AccountReference#getAccountReferenceType()}, but without creating streams for every reference
+     */
+    private AccountReferenceType getReferenceType(AccountReference reference) {
+        for (AccountReferenceType type : TYPES_BY_ORDER) {
+            if (StringUtils.isNotBlank(type.getFieldValue(reference))) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("At least one account reference property must be set!");
+    }
+
+    private void appendChecksumsByType(StringBuilder checksum, Map<AccountReferenceType, String> checksumsByType) {
+        Iterator<Map.Entry<AccountReferenceType, String>> iterator = checksumsByType.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<AccountReferenceType, String> entry = iterator.next();
+            checksum.append(entry.getKey().getValue())
+                .append(TYPE_SEPARATOR)
+                .append(entry.getValue());
+            if (iterator.hasNext()) {
+                checksum.append(ENTRY_SEPARATOR);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.sha.v4;
+
+import de.adorsys.psd2.xs2a.core.profile.AccountReference;
+import org.jetbrains.annotations.Nullable;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.List;
+
+/**
+ * Feeds values into a reusable {@link MessageDigest} in a canonical binary form: fixed-size big-endian numbers,
+ * strings as their length followed by UTF-16 code units and a marker for <code>null</code> values,
+ * so that different values can never produce the same byte sequence.
+ * <p>
+ * Not thread-safe, every thread should use its own instance.
+ */
+class CanonicalDigest {
+    private static final byte NULL_MARKER = 0;
+    private static final byte VALUE_MARKER = 1;
+
+    private final MessageDigest messageDigest;
+    private final byte[] buffer = new byte[Long.BYTES];
+
+    CanonicalDigest(String algorithm) {
+        try {
+            this.messageDigest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException("No such hashing algorithm: " + algorithm);
+        }
+    }
+
+    /**
+     * Discards values put since the previous {@link #digest()}, has to be called before every hash computation, as a
+     * computation interrupted by an exception leaves its values in the digest
+     *
+     * @return this instance
+     */
+    CanonicalDigest reset() {
+        messageDigest.reset();
+        return this;
+    }
+
+    CanonicalDigest putBoolean(boolean value) {
+        messageDigest.update((byte) (value ? 1 : 0));
+        return this;
+    }
+
+    CanonicalDigest putInt(int value) {
+        for (int i = 0; i < Integer.BYTES; i++) {
+            buffer[i] = (byte) (value >>> (Integer.BYTES - 1 - i) * Byte.SIZE);
+        }
+        messageDigest.update(buffer, 0, Integer.BYTES);
+        return this;
+    }
+
+    CanonicalDigest putLong(long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            buffer[i] = (byte) (value >>> (Long.BYTES - 1 - i) * Byte.SIZE);
+        }
+        messageDigest.update(buffer, 0, Long.BYTES);
+        return this;
+    }
+
+    CanonicalDigest putInteger(@Nullable Integer value) {
+        if (putNullMarker(value)) {
+            putInt(value);
+        }
+        return this;
+    }
+
+    CanonicalDigest putDate(@Nullable LocalDate value) {
+        if (putNullMarker(value)) {
+            putLong(value.toEpochDay());
+        }
+        return this;
+    }
+
+    CanonicalDigest putString(@Nullable String value) {
+        if (putNullMarker(value)) {
+            int length = value.length();
+            putInt(length);
+            for (int i = 0; i < length; i++) {
+                char character = value.charAt(i);
+                messageDigest.update((byte) (character >>> Byte.SIZE));
+                messageDigest.update((byte) character);
+            }
+        }
+        return this;
+    }
+
+    CanonicalDigest putCurrency(@Nullable Currency value) {
+        return putString(value == null ? null : value.getCurrencyCode());
+    }
+
+    CanonicalDigest putReference(AccountReference reference) {
+        return putString(reference.getAspspAccountId())
+                   .putString(reference.getResourceId())
+                   .putString(reference.getIban())
+                   .putString(reference.getBban())
+                   .putString(reference.getPan())
+                   .putString(reference.getMaskedPan())
+                   .putString(reference.getMsisdn())
+                   .putCurrency(reference.getCurrency());
+    }
+
+    CanonicalDigest putReferences(@Nullable List<AccountReference> references) {
+        if (putNullMarker(references)) {
+            putInt(references.size());
+            for (AccountReference reference : references) {
+                putReference(reference);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Completes the hash computation and resets the digest, so that the instance can be reused
+     *
+     * @return hash of the values put since the previous call
+     */
+    byte[] digest() {
+        return messageDigest.digest();
+    }
+
+    private boolean putNullMarker(@Nullable Object value) {
+        messageDigest.update(value == null ? NULL_MARKER : VALUE_MARKER);
+        return value != null;
+    }
+}
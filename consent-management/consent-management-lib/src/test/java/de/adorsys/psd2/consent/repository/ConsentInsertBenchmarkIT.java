@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.repository;
+
+import de.adorsys.psd2.consent.api.TypeAccess;
+import de.adorsys.psd2.consent.domain.PsuData;
+import de.adorsys.psd2.consent.domain.TppInfoEntity;
+import de.adorsys.psd2.consent.domain.account.AspspAccountAccess;
+import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
+import de.adorsys.psd2.integration.test.BaseTest;
+import de.adorsys.psd2.integration.test.InsertThroughputMeter;
+import de.adorsys.psd2.integration.test.TestDBConfiguration;
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.consent.ConsentType;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Reports throughput of consent creation with the JDBC batching and pooled ID allocation, used in production setup.
+ * Number of consents and account accesses per consent can be changed with system properties
+ * <code>cms.benchmark.consents</code> and <code>cms.benchmark.account-accesses</code>.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true",
+    "spring.jpa.properties.hibernate.order_updates=true"
+})
+@ContextConfiguration(classes = TestDBConfiguration.class,
+    initializers = {ConsentInsertBenchmarkIT.Initializer.class})
+class ConsentInsertBenchmarkIT extends BaseTest {
+    private static final int CONSENTS = Integer.getInteger("cms.benchmark.consents", 500);
+    private static final int ACCOUNT_ACCESSES = Integer.getInteger("cms.benchmark.account-accesses", 10);
+    private static final int CONSENTS_PER_TRANSACTION = 100;
+    // consent, authorisation template, consent TPP information, PSU data and consent-PSU data link
+    private static final int ROWS_PER_CONSENT = 5;
+
+    @Autowired
+    private ConsentJpaRepository consentJpaRepository;
+    @Autowired
+    private TppInfoRepository tppInfoRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String tppAuthorisationNumber;
+
+    @BeforeEach
+    void setUp() {
+        clearData();
+
+        TppInfoEntity tppInfo = tppInfoRepository.save(
+            jsonReader.getObjectFromFile("json/specification/tpp-info-entity.json", TppInfoEntity.class));
+        tppAuthorisationNumber = tppInfo.getAuthorisationNumber();
+    }
+
+    @Test
+    void createConsentsWithAccountAccesses() {
+        // Given
+        InsertThroughputMeter meter = new InsertThroughputMeter(entityManagerFactory);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long expectedRows = (long) CONSENTS * (ROWS_PER_CONSENT + ACCOUNT_ACCESSES);
+
+        // When
+        InsertThroughputMeter.Result result = meter.measure(
+            String.format("%d consents with %d account accesses", CONSENTS, ACCOUNT_ACCESSES), expectedRows,
+            () -> IntStream.iterate(0, i -> i < CONSENTS, i -> i + CONSENTS_PER_TRANSACTION)
+                      .forEach(i -> transactionTemplate.executeWithoutResult(status -> saveConsents(Math.min(CONSENTS_PER_TRANSACTION, CONSENTS - i)))));
+
+        // Then
+        assertEquals(CONSENTS, consentJpaRepository.count());
+        assertTrue(result.getPreparedStatements() < result.getRows());
+    }
+
+    private void saveConsents(int count) {
+        TppInfoEntity tppInfo = tppInfoRepository.findByAuthorisationNumber(tppAuthorisationNumber).orElseThrow(IllegalStateException::new);
+        List<ConsentEntity> consents = IntStream.range(0, count)
+                                           .mapToObj(i -> buildConsent(tppInfo))
+                                           .collect(Collectors.toList());
+        consentJpaRepository.saveAll(consents);
+    }
+
+    private ConsentEntity buildConsent(TppInfoEntity tppInfo) {
+        ConsentEntity consent = new ConsentEntity();
+        consent.setExternalId(UUID.randomUUID().toString());
+        consent.setConsentStatus(ConsentStatus.RECEIVED);
+        consent.setConsentType(ConsentType.AIS.getName());
+        consent.setFrequencyPerDay(4);
+        consent.setRecurringIndicator(true);
+        consent.setValidUntil(LocalDate.now().plusDays(90));
+        consent.setRequestDateTime(OffsetDateTime.now());
+        consent.getTppInformation().setTppInfo(tppInfo);
+        consent.getPsuDataList().add(new PsuData("PSU-" + UUID.randomUUID(), null, null, null, null));
+        consent.setAspspAccountAccesses(buildAccountAccesses());
+        return consent;
+    }
+
+    private List<AspspAccountAccess> buildAccountAccesses() {
+        List<AspspAccountAccess> accesses = new ArrayList<>();
+        for (int i = 0; i < ACCOUNT_ACCESSES; i++) {
+            accesses.add(new AspspAccountAccess(String.format("DE%020d", i), TypeAccess.ACCOUNT, AccountReferenceType.IBAN,
+                                                Currency.getInstance("EUR"), "resource-" + i, "aspsp-account-" + i));
+        }
+        return accesses;
+    }
+}
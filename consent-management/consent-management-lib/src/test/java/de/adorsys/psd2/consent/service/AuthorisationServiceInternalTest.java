@@ -32,6 +32,7 @@ import de.adorsys.psd2.consent.service.authorisation.AuthServiceResolver;
 import de.adorsys.psd2.consent.service.authorisation.AuthorisationClosingService;
 import de.adorsys.psd2.consent.service.mapper.AuthorisationMapper;
 import de.adorsys.psd2.consent.service.mapper.ScaMethodMapper;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.xs2a.core.authorisation.Authorisation;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
@@ -61,6 +62,7 @@ class AuthorisationServiceInternalTest {
     private static final PsuIdData PSU_ID_DATA = new PsuIdData(PSU_ID, null, null, null, null);
     private static final String AUTHORISATION_ID = "9304a6a0-8f02-4b79-aeab-00aa7e03a06d";
     private static final String WRONG_AUTHORISATION_ID = "00000000-0000-4b79-aeab-00aa7e03a06d";
+    private static final String PARENT_ID = "ed4190c7-64ee-42fb-b671-d62645f54672";
     private static final ScaStatus SCA_STATUS = ScaStatus.RECEIVED;
     private static final ScaApproach SCA_APPROACH = ScaApproach.EMBEDDED;
     private static final String AUTHENTICATION_METHOD_ID = "SMS";
@@ -84,6 +86,8 @@ class AuthorisationServiceInternalTest {
     private AuthService authService;
     @Mock
     private AuthorisationClosingService authorisationClosingService;
+    @Mock
+    private RedirectSessionCache redirectSessionCache;
 
     @InjectMocks
     private AuthorisationServiceInternal authorisationServiceInternal;
@@ -239,6 +243,7 @@ class AuthorisationServiceInternalTest {
         // Given
         AuthorisationEntity authorisationEntity = new AuthorisationEntity();
         authorisationEntity.setScaStatus(ScaStatus.RECEIVED);
+        authorisationEntity.setParentExternalId(PARENT_ID);
         when(authorisationRepository.findByExternalId(AUTHORISATION_ID)).thenReturn(Optional.of(authorisationEntity));
 
         ScaStatus newScaStatus = ScaStatus.PSUIDENTIFIED;
@@ -255,6 +260,7 @@ class AuthorisationServiceInternalTest {
 
         AuthorisationEntity capturedAuthorisation = authorisationCaptor.getValue();
         assertEquals(newScaStatus, capturedAuthorisation.getScaStatus());
+        verify(redirectSessionCache).parentChanged(PARENT_ID);
     }
 
     @Test
@@ -269,6 +275,7 @@ class AuthorisationServiceInternalTest {
         assertTrue(actualResponse.isSuccessful());
         assertFalse(actualResponse.getPayload());
         verify(authorisationRepository, never()).save(any());
+        verify(redirectSessionCache, never()).parentChanged(any());
     }
 
     @Test
@@ -41,6 +41,7 @@ import de.adorsys.psd2.consent.service.mapper.CmsConsentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.migration.AisConsentLazyMigrationService;
 import de.adorsys.psd2.consent.service.psu.CmsPsuService;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
@@ -112,6 +113,8 @@ class ConsentServiceInternalTest {
     private AuthorisationRepository authorisationRepository;
     @Mock
     private AspspProfileService aspspProfileService;
+    @Mock
+    private RedirectSessionCache redirectSessionCache;
 
     @BeforeEach
     void setUp() {
@@ -408,6 +411,7 @@ class ConsentServiceInternalTest {
 
         // Then
         assertLogicalError(actual);
+        verify(redirectSessionCache, never()).parentChanged(any());
     }
 
     @Test
@@ -617,6 +621,21 @@ class ConsentServiceInternalTest {
         verify(aisConsentConfirmationExpirationService, atLeastOnce()).expireConsent(consent);
     }
 
+    @Test
+    void getConsentStatusById_finalisedStatus_shouldNotLoadConsent() {
+        // Given
+        when(consentJpaRepository.findConsentStatusByExternalId(EXTERNAL_CONSENT_ID))
+            .thenReturn(Optional.of(ConsentStatus.REJECTED));
+
+        // When
+        CmsResponse<ConsentStatus> actual = consentServiceInternal.getConsentStatusById(EXTERNAL_CONSENT_ID);
+
+        // Then
+        assertTrue(actual.isSuccessful());
+        assertEquals(ConsentStatus.REJECTED, actual.getPayload());
+        verify(consentJpaRepository, never()).findByExternalId(any());
+    }
+
     @Test
     void getConsentStatusById_noEntity_shouldReturnLogicalError() {
         // Given
@@ -21,9 +21,10 @@ import de.adorsys.psd2.consent.api.ais.CmsConsent;
 import de.adorsys.psd2.consent.domain.PsuData;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
-import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecification;
 import de.adorsys.psd2.consent.service.mapper.CmsConsentMapper;
 import de.adorsys.psd2.consent.service.migration.PiisConsentLazyMigrationService;
+import de.adorsys.psd2.consent.service.piis.PiisConsentAccountIndexService;
+import de.adorsys.psd2.consent.service.piis.PiisConsentLookupCache;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.profile.AccountReferenceSelector;
 import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
@@ -32,8 +33,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.jpa.domain.Specification;
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -42,7 +43,7 @@ import java.util.Currency;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PiisConsentServiceInternalTest {
@@ -56,7 +57,7 @@ class PiisConsentServiceInternalTest {
     private static final String PSU_IP_ADDRESS = "Some ip address";
     private static final OffsetDateTime CREATION_TIMESTAMP = OffsetDateTime.of(2019, 2, 4, 12, 0, 0, 0, ZoneOffset.UTC);
     private static final AccountReferenceSelector SELECTOR_IBAN = new AccountReferenceSelector(AccountReferenceType.IBAN, IBAN);
-    private static final Specification<ConsentEntity> SPECIFICATION_IBAN = (root, cq, cb) -> null;
+    private static final List<Long> CONSENT_IDS = Collections.singletonList(1L);
 
     @InjectMocks
     private PiisConsentServiceInternal piisConsentServiceInternal;
@@ -66,17 +67,19 @@ class PiisConsentServiceInternalTest {
     @Mock
     private CmsConsentMapper cmsConsentMapper;
     @Mock
-    private PiisConsentEntitySpecification piisConsentEntitySpecification;
-    @Mock
     private PiisConsentLazyMigrationService piisConsentLazyMigrationService;
+    @Mock
+    private PiisConsentAccountIndexService piisConsentAccountIndexService;
+    @Spy
+    private PiisConsentLookupCache piisConsentLookupCache = new PiisConsentLookupCache(100, 60000);
 
     @Test
     void getPiisConsentListByAccountIdentifier() {
         // Given
-        when(piisConsentEntitySpecification.byCurrencyAndAccountReferenceSelector(CURRENCY, SELECTOR_IBAN))
-            .thenReturn(SPECIFICATION_IBAN);
+        when(piisConsentAccountIndexService.findConsentIds(CURRENCY, SELECTOR_IBAN))
+            .thenReturn(CONSENT_IDS);
         ConsentEntity validConsentEntity = buildConsentEntity();
-        when(consentJpaRepository.findAll(SPECIFICATION_IBAN))
+        when(consentJpaRepository.findAllById(CONSENT_IDS))
             .thenReturn(Collections.singletonList(validConsentEntity));
         CmsConsent validConsent = buildCmsConsent();
         when(cmsConsentMapper.mapToCmsConsent(validConsentEntity, Collections.emptyList(), Collections.emptyMap()))
@@ -99,10 +102,10 @@ class PiisConsentServiceInternalTest {
     @Test
     void getPiisConsentListByAccountIdentifier_noCurrency() {
         // Given
-        when(piisConsentEntitySpecification.byAccountReferenceSelector(SELECTOR_IBAN))
-            .thenReturn(SPECIFICATION_IBAN);
+        when(piisConsentAccountIndexService.findConsentIds(null, SELECTOR_IBAN))
+            .thenReturn(CONSENT_IDS);
         ConsentEntity validConsentEntity = buildConsentEntity();
-        when(consentJpaRepository.findAll(SPECIFICATION_IBAN))
+        when(consentJpaRepository.findAllById(CONSENT_IDS))
             .thenReturn(Collections.singletonList(validConsentEntity));
         CmsConsent validConsent = buildCmsConsent();
         when(cmsConsentMapper.mapToCmsConsent(validConsentEntity, Collections.emptyList(), Collections.emptyMap()))
@@ -122,6 +125,29 @@ class PiisConsentServiceInternalTest {
         assertEquals(expected, piisConsents.get(0));
     }
 
+    @Test
+    void getPiisConsentListByAccountIdentifier_cached() {
+        // Given
+        when(piisConsentAccountIndexService.findConsentIds(CURRENCY, SELECTOR_IBAN))
+            .thenReturn(CONSENT_IDS);
+        ConsentEntity validConsentEntity = buildConsentEntity();
+        when(consentJpaRepository.findAllById(CONSENT_IDS))
+            .thenReturn(Collections.singletonList(validConsentEntity));
+        when(cmsConsentMapper.mapToCmsConsent(validConsentEntity, Collections.emptyList(), Collections.emptyMap()))
+            .thenReturn(buildCmsConsent());
+        when(piisConsentLazyMigrationService.migrateIfNeeded(validConsentEntity))
+            .thenReturn(validConsentEntity);
+        piisConsentServiceInternal.getPiisConsentListByAccountIdentifier(CURRENCY, SELECTOR_IBAN);
+
+        // When
+        CmsResponse<List<CmsConsent>> piisConsentsResponse = piisConsentServiceInternal.getPiisConsentListByAccountIdentifier(CURRENCY, SELECTOR_IBAN);
+
+        // Then
+        assertEquals(Collections.singletonList(buildCmsConsent()), piisConsentsResponse.getPayload());
+        verify(piisConsentAccountIndexService, times(1)).findConsentIds(CURRENCY, SELECTOR_IBAN);
+        verify(consentJpaRepository, times(1)).findAllById(CONSENT_IDS);
+    }
+
     @Test
     void getPiisConsentListByAccountIdentifier_wrongIban() {
         // When
@@ -129,6 +155,7 @@ class PiisConsentServiceInternalTest {
                                                                                                                               new AccountReferenceSelector(AccountReferenceType.IBAN, WRONG_IBAN));
         // Then
         assertTrue(piisConsentsResponse.getPayload().isEmpty());
+        verify(consentJpaRepository, never()).findAllById(any());
     }
 
     private ConsentEntity buildConsentEntity() {
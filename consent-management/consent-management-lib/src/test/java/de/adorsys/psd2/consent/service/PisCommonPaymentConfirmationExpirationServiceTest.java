@@ -29,6 +29,8 @@ import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.data.domain.PageRequest;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -37,14 +39,18 @@ import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PisCommonPaymentConfirmationExpirationServiceTest {
     private static final String PAYMENT_ID = "some payment id";
+    private static final String INSTANCE_ID = "some instance id";
+    private static final int CHUNK_SIZE = 100;
 
     @InjectMocks
     private PisCommonPaymentConfirmationExpirationServiceImpl service;
@@ -172,6 +178,45 @@ class PisCommonPaymentConfirmationExpirationServiceTest {
         verify(pisCommonPaymentDataRepository).saveAll(Collections.singletonList(pisCommonPaymentData));
     }
 
+    @Test
+    void updateNextChunkOnConfirmationExpiration() {
+        // Given
+        List<String> paymentIds = Collections.singletonList(PAYMENT_ID);
+        ArgumentCaptor<OffsetDateTime> creationTimestampCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(aspspSettings);
+        when(aspspSettings.getPis()).thenReturn(getPisAspspProfileSetting(60_000L));
+        when(pisCommonPaymentDataRepository.findPaymentIdsCreatedBefore(eq(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC)), eq(INSTANCE_ID),
+                                                                        creationTimestampCaptor.capture(), eq(PageRequest.of(0, CHUNK_SIZE))))
+            .thenReturn(paymentIds);
+
+        // When
+        int actual = service.updateNextChunkOnConfirmationExpiration(INSTANCE_ID, CHUNK_SIZE);
+
+        // Then
+        assertEquals(1, actual);
+        assertTrue(creationTimestampCaptor.getValue().isBefore(OffsetDateTime.now().minusSeconds(59)));
+        verify(authorisationRepository).updateScaStatusByParentExternalIds(paymentIds, EnumSet.of(AuthorisationType.PIS_CREATION, AuthorisationType.PIS_CANCELLATION), ScaStatus.FAILED);
+        verify(pisCommonPaymentDataRepository).updateTransactionStatusByPaymentIds(eq(paymentIds), eq(EnumSet.of(TransactionStatus.RCVD, TransactionStatus.PATC)),
+                                                                                   eq(TransactionStatus.RJCT), any(OffsetDateTime.class));
+    }
+
+    @Test
+    void updateNextChunkOnConfirmationExpiration_nothingExpired() {
+        // Given
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(aspspSettings);
+        when(aspspSettings.getPis()).thenReturn(getPisAspspProfileSetting(60_000L));
+        when(pisCommonPaymentDataRepository.findPaymentIdsCreatedBefore(any(), eq(INSTANCE_ID), any(OffsetDateTime.class), eq(PageRequest.of(0, CHUNK_SIZE))))
+            .thenReturn(Collections.emptyList());
+
+        // When
+        int actual = service.updateNextChunkOnConfirmationExpiration(INSTANCE_ID, CHUNK_SIZE);
+
+        // Then
+        assertEquals(0, actual);
+        verify(authorisationRepository, never()).updateScaStatusByParentExternalIds(any(), any(), any());
+        verify(pisCommonPaymentDataRepository, never()).updateTransactionStatusByPaymentIds(any(), any(), any(), any());
+    }
+
     @NotNull
     private PisAspspProfileSetting getPisAspspProfileSetting(long notConfirmedPaymentExpirationTimeMs) {
         return new PisAspspProfileSetting(new HashMap<>(), 0, notConfirmedPaymentExpirationTimeMs,
@@ -32,6 +32,7 @@ import de.adorsys.psd2.consent.repository.PisPaymentDataRepository;
 import de.adorsys.psd2.consent.repository.TppInfoRepository;
 import de.adorsys.psd2.consent.service.mapper.PisCommonPaymentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
@@ -72,6 +73,8 @@ class PisCommonPaymentServiceInternalTest {
     private CorePaymentsConvertService corePaymentsConvertService;
     @Mock
     private AuthorisationRepository authorisationRepository;
+    @Mock
+    private RedirectSessionCache redirectSessionCache;
 
     private PisCommonPaymentData pisCommonPaymentData;
     private static final String PAYMENT_ID = "5bbde955ca10e8e4035a10c2";
@@ -153,6 +156,20 @@ class PisCommonPaymentServiceInternalTest {
         assertEquals(TransactionStatus.RCVD, actual.getPayload());
     }
 
+    @Test
+    void getPisCommonPaymentStatusById_finalisedStatus_shouldNotLoadPayment() {
+        // Given
+        when(pisCommonPaymentDataRepository.findTransactionStatusByPaymentId(PAYMENT_ID)).thenReturn(Optional.of(TransactionStatus.RJCT));
+
+        // When
+        CmsResponse<TransactionStatus> actual = pisCommonPaymentService.getPisCommonPaymentStatusById(PAYMENT_ID);
+
+        // Then
+        assertTrue(actual.isSuccessful());
+        assertEquals(TransactionStatus.RJCT, actual.getPayload());
+        verify(pisCommonPaymentDataRepository, never()).findByPaymentId(any());
+    }
+
     @Test
     void getPisCommonPaymentStatusById_logicalError() {
         // Given
@@ -221,6 +238,7 @@ class PisCommonPaymentServiceInternalTest {
         assertEquals(TransactionStatus.RCVD, pisCommonPaymentData.getTransactionStatus());
 
         verify(pisCommonPaymentDataRepository).save(pisCommonPaymentData);
+        verify(redirectSessionCache).parentChanged(PAYMENT_ID);
     }
 
     @Test
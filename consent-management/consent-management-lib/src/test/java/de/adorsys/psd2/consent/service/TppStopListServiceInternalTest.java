@@ -19,14 +19,18 @@ package de.adorsys.psd2.consent.service;
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.domain.TppStopListEntity;
 import de.adorsys.psd2.consent.repository.TppStopListRepository;
+import de.adorsys.psd2.xs2a.core.tpp.TppStatus;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
@@ -87,5 +91,19 @@ class TppStopListServiceInternalTest {
 
         assertTrue(isTppBlocked.getPayload());
     }
-}
 
+    @Test
+    void getBlockedTppAuthorisationNumbers() {
+        when(tppStopListRepository.findAllByInstanceIdAndStatus(INSTANCE_ID, TppStatus.BLOCKED))
+            .thenReturn(Collections.singletonList(tppStopListEntity));
+
+        when(tppStopListEntity.getTppAuthorisationNumber())
+            .thenReturn(AUTHORISATION_NUMBER);
+
+        CmsResponse<List<String>> blockedTpps = tppStopListService.getBlockedTppAuthorisationNumbers(INSTANCE_ID);
+
+        assertTrue(blockedTpps.isSuccessful());
+
+        assertEquals(Collections.singletonList(AUTHORISATION_NUMBER), blockedTpps.getPayload());
+    }
+}
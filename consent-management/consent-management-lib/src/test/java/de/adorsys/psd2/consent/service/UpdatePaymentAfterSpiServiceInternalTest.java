@@ -18,6 +18,7 @@ package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
+import de.adorsys.psd2.consent.service.psu.session.RedirectSessionCache;
 import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import de.adorsys.psd2.xs2a.core.tpp.TppRedirectUri;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,6 +46,8 @@ class UpdatePaymentAfterSpiServiceInternalTest {
 
     @Mock
     private CommonPaymentDataService commonPaymentDataService;
+    @Mock
+    private RedirectSessionCache redirectSessionCache;
     private TppRedirectUri tppRedirectUri;
     private PisCommonPaymentData pisCommonPaymentData;
 
@@ -71,6 +74,7 @@ class UpdatePaymentAfterSpiServiceInternalTest {
         assertTrue(actual.getPayload());
         verify(commonPaymentDataService, times(1)).getPisCommonPaymentData(anyString(), isNull());
         verify(commonPaymentDataService, times(1)).updateStatusInPaymentData(any(PisCommonPaymentData.class), eq(TransactionStatus.ACSP));
+        verify(redirectSessionCache).parentChanged(PAYMENT_ID);
     }
 
     @Test
@@ -17,6 +17,8 @@
 package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.ais.CmsAisAccountConsent;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
 import de.adorsys.psd2.consent.domain.AuthorisationEntity;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.AuthorisationRepository;
@@ -33,6 +35,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
@@ -58,6 +64,7 @@ class CmsAspspAisExportServiceInternalTest {
     private static final String WRONG_ASPSP_ACCOUNT_ID = "00000000aa-n2131-13nw";
     private static final OffsetDateTime CREATION_DATE_TIME = OffsetDateTime.now();
     private static final OffsetDateTime STATUS_CHANGE_DATE_TIME = OffsetDateTime.now();
+    private static final long CONSENT_ID = 42L;
 
     private PsuIdData psuIdData;
     private PsuIdData wrongPsuIdData;
@@ -100,8 +107,8 @@ class CmsAspspAisExportServiceInternalTest {
             .thenReturn(Collections.singletonList(consentEntity));
         CmsAisAccountConsent expectedConsent = buildAisAccountConsent();
 
-        List<AuthorisationEntity> authorisations = Collections.singletonList(new AuthorisationEntity());
-        when(authorisationRepository.findAllByParentExternalIdAndType(EXTERNAL_CONSENT_ID, AuthorisationType.CONSENT))
+        List<AuthorisationEntity> authorisations = Collections.singletonList(buildAuthorisationEntity());
+        when(authorisationRepository.findAllByParentExternalIdInAndType(Collections.singletonList(EXTERNAL_CONSENT_ID), AuthorisationType.CONSENT))
             .thenReturn(authorisations);
         when(aisConsentLazyMigrationService.migrateIfNeeded(consentEntity))
             .thenReturn(consentEntity);
@@ -162,8 +169,8 @@ class CmsAspspAisExportServiceInternalTest {
         when(consentJpaRepository.findAll(any())).thenReturn(Collections.singletonList(consentEntity));
         CmsAisAccountConsent expectedConsent = buildAisAccountConsent();
 
-        List<AuthorisationEntity> authorisations = Collections.singletonList(new AuthorisationEntity());
-        when(authorisationRepository.findAllByParentExternalIdAndType(EXTERNAL_CONSENT_ID, AuthorisationType.CONSENT))
+        List<AuthorisationEntity> authorisations = Collections.singletonList(buildAuthorisationEntity());
+        when(authorisationRepository.findAllByParentExternalIdInAndType(Collections.singletonList(EXTERNAL_CONSENT_ID), AuthorisationType.CONSENT))
             .thenReturn(authorisations);
         when(aisConsentMapper.mapToCmsAisAccountConsent(consentEntity, authorisations))
             .thenReturn(buildAisAccountConsent());
@@ -234,8 +241,8 @@ class CmsAspspAisExportServiceInternalTest {
         ConsentEntity consentEntity = buildConsentEntity();
         when(consentJpaRepository.findAll(any()))
             .thenReturn(Collections.singletonList(consentEntity));
-        List<AuthorisationEntity> authorisations = Collections.singletonList(new AuthorisationEntity());
-        when(authorisationRepository.findAllByParentExternalIdAndType(EXTERNAL_CONSENT_ID, AuthorisationType.CONSENT))
+        List<AuthorisationEntity> authorisations = Collections.singletonList(buildAuthorisationEntity());
+        when(authorisationRepository.findAllByParentExternalIdInAndType(Collections.singletonList(EXTERNAL_CONSENT_ID), AuthorisationType.CONSENT))
             .thenReturn(authorisations);
         when(aisConsentLazyMigrationService.migrateIfNeeded(consentEntity))
             .thenReturn(consentEntity);
@@ -276,6 +283,79 @@ class CmsAspspAisExportServiceInternalTest {
             .byAspspAccountIdAndCreationPeriodAndInstanceId(WRONG_ASPSP_ACCOUNT_ID, CREATION_DATE_FROM, CREATION_DATE_TO, DEFAULT_SERVICE_INSTANCE_ID);
     }
 
+    @Test
+    void exportConsentsByTpp_page_success() {
+        // Given
+        ConsentEntity consentEntity = buildConsentEntity();
+        consentEntity.setId(CONSENT_ID);
+
+        when(aisConsentSpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(TPP_AUTHORISATION_NUMBER, CREATION_DATE_FROM,
+                                                                                       CREATION_DATE_TO, psuIdData, DEFAULT_SERVICE_INSTANCE_ID))
+            .thenReturn((root, criteriaQuery, criteriaBuilder) -> null);
+        //noinspection unchecked
+        when(consentJpaRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(Collections.singletonList(consentEntity)));
+        List<AuthorisationEntity> authorisations = Collections.singletonList(buildAuthorisationEntity());
+        when(authorisationRepository.findAllByParentExternalIdInAndType(Collections.singletonList(EXTERNAL_CONSENT_ID), AuthorisationType.CONSENT))
+            .thenReturn(authorisations);
+        when(aisConsentMapper.mapToCmsAisAccountConsent(consentEntity, authorisations))
+            .thenReturn(buildAisAccountConsent());
+
+        // When
+        CmsExportPage<CmsAisAccountConsent> page =
+            cmsAspspAisExportServiceInternal.exportConsentsByTpp(TPP_AUTHORISATION_NUMBER, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                 psuIdData, DEFAULT_SERVICE_INSTANCE_ID, CmsExportPageRequest.afterCursor("5", 1));
+
+        // Then
+        assertEquals(Collections.singletonList(buildAisAccountConsent()), page.getItems());
+        assertEquals(String.valueOf(CONSENT_ID), page.getNextCursor());
+        verify(aisConsentLazyMigrationService).migrateIfNeeded(consentEntity);
+        verify(consentJpaRepository).findAll(any(Specification.class), eq(PageRequest.of(0, 1, Sort.by("id"))));
+    }
+
+    @Test
+    void exportConsentsByPsu_page_lastPage() {
+        // Given
+        ConsentEntity consentEntity = buildConsentEntity();
+
+        when(aisConsentSpecification.byPsuIdDataAndCreationPeriodAndInstanceId(psuIdData, CREATION_DATE_FROM, CREATION_DATE_TO, DEFAULT_SERVICE_INSTANCE_ID))
+            .thenReturn((root, criteriaQuery, criteriaBuilder) -> null);
+        //noinspection unchecked
+        when(consentJpaRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(Collections.singletonList(consentEntity)));
+        when(aisConsentMapper.mapToCmsAisAccountConsent(consentEntity, Collections.emptyList()))
+            .thenReturn(buildAisAccountConsent());
+
+        // When
+        CmsExportPage<CmsAisAccountConsent> page =
+            cmsAspspAisExportServiceInternal.exportConsentsByPsu(psuIdData, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                 DEFAULT_SERVICE_INSTANCE_ID, CmsExportPageRequest.ofPage(2, 10));
+
+        // Then
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.hasNext());
+        verify(consentJpaRepository).findAll(any(Specification.class), eq(PageRequest.of(2, 10, Sort.by("id"))));
+    }
+
+    @Test
+    void exportConsentsByAccountId_page_invalidCursor() {
+        // When
+        CmsExportPage<CmsAisAccountConsent> page =
+            cmsAspspAisExportServiceInternal.exportConsentsByAccountId(ASPSP_ACCOUNT_ID, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                       DEFAULT_SERVICE_INSTANCE_ID, CmsExportPageRequest.afterCursor("not a cursor", 10));
+
+        // Then
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.hasNext());
+        verifyNoInteractions(consentJpaRepository, authorisationRepository);
+    }
+
+    private AuthorisationEntity buildAuthorisationEntity() {
+        AuthorisationEntity authorisationEntity = new AuthorisationEntity();
+        authorisationEntity.setParentExternalId(EXTERNAL_CONSENT_ID);
+        return authorisationEntity;
+    }
+
     private PsuIdData buildPsuIdData(String psuId) {
         return new PsuIdData(psuId, null, null, null, null);
     }
@@ -17,6 +17,8 @@
 package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.piis.v1.CmsPiisConsent;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
 import de.adorsys.psd2.consent.domain.PsuData;
 import de.adorsys.psd2.consent.domain.consent.ConsentEntity;
 import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
@@ -30,6 +32,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
@@ -38,6 +42,7 @@ import java.time.ZoneOffset;
 import java.util.Collection;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
@@ -356,6 +361,30 @@ class CmsAspspPiisFundsExportServiceInternalTest {
             .byAspspAccountIdAndCreationPeriodAndInstanceId(any(), any(), any(), any());
     }
 
+    @Test
+    void exportConsentsByAccountId_page_nullInstanceId() {
+        // Given
+        when(piisConsentEntitySpecification.byAspspAccountIdAndCreationPeriodAndInstanceId(ASPSP_ACCOUNT_ID,
+                                                                                          CREATION_DATE_FROM,
+                                                                                          CREATION_DATE_TO,
+                                                                                          DEFAULT_SERVICE_INSTANCE_ID)).thenReturn((root, criteriaQuery, criteriaBuilder) -> null);
+        //noinspection unchecked
+        when(consentJpaRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(Collections.singletonList(buildPiisConsentEntity())));
+        when(piisConsentMapper.mapToCmsPiisConsentList(Collections.singletonList(buildPiisConsentEntity())))
+            .thenReturn(Collections.singletonList(buildCmsPiisConsent()));
+
+        // When
+        CmsExportPage<CmsPiisConsent> page =
+            cmsAspspPiisFundsExportServiceInternal.exportConsentsByAccountId(ASPSP_ACCOUNT_ID, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                             null, CmsExportPageRequest.afterCursor(null, 10));
+
+        // Then
+        assertEquals(Collections.singletonList(buildCmsPiisConsent()), page.getItems());
+        assertFalse(page.hasNext());
+        verify(piisConsentLazyMigrationService).migrateIfNeeded(Collections.singletonList(buildPiisConsentEntity()));
+    }
+
     private ConsentEntity buildPiisConsentEntity() {
         ConsentEntity piisConsentEntity = new ConsentEntity();
         piisConsentEntity.setPsuDataList(Collections.singletonList(buildPsuData()));
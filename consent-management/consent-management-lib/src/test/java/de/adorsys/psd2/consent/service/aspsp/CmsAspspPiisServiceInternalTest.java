@@ -29,6 +29,7 @@ import de.adorsys.psd2.consent.repository.TppInfoRepository;
 import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecification;
 import de.adorsys.psd2.consent.service.mapper.PiisConsentMapper;
 import de.adorsys.psd2.consent.service.migration.PiisConsentLazyMigrationService;
+import de.adorsys.psd2.consent.service.piis.PiisConsentAccountIndexService;
 import de.adorsys.psd2.core.data.piis.PiisConsentData;
 import de.adorsys.psd2.core.mapper.ConsentDataMapper;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
@@ -86,6 +87,8 @@ class CmsAspspPiisServiceInternalTest {
     private PiisConsentMapper piisConsentMapper;
     @Mock
     private PiisConsentEntitySpecification piisConsentEntitySpecification;
+    @Mock
+    private PiisConsentAccountIndexService piisConsentAccountIndexService;
     @InjectMocks
     private CmsAspspPiisServiceInternal cmsAspspPiisServiceInternal;
     private PsuIdData psuIdData;
@@ -120,6 +123,7 @@ class CmsAspspPiisServiceInternalTest {
         assertEquals(Collections.singletonList(buildAspspAccountAccess(buildAccountReference())), piisConsent.getAspspAccountAccesses());
         assertEquals(VALID_UNTIL_DATE, piisConsent.getValidUntil());
         assertEquals(DATA, piisConsent.getData());
+        verify(piisConsentAccountIndexService).indexConsent(piisConsentEntity);
     }
 
     @Test
@@ -162,6 +166,7 @@ class CmsAspspPiisServiceInternalTest {
 
         assertEquals(1, consentStatuses.size());
         assertTrue(consentStatuses.contains(ConsentStatus.REVOKED_BY_PSU));
+        verify(piisConsentAccountIndexService).consentStatusChanged();
     }
 
     @Test
@@ -231,6 +236,7 @@ class CmsAspspPiisServiceInternalTest {
 
         // Then
         assertFalse(actual.isPresent());
+        verify(piisConsentAccountIndexService, never()).indexConsent(any());
     }
 
     @Test
@@ -379,6 +385,7 @@ class CmsAspspPiisServiceInternalTest {
         assertEquals(ConsentStatus.TERMINATED_BY_ASPSP, argumentCaptor.getValue().getConsentStatus());
         verify(piisConsentEntitySpecification, times(1))
             .byConsentIdAndInstanceId(CONSENT_EXTERNAL_ID, DEFAULT_SERVICE_INSTANCE_ID);
+        verify(piisConsentAccountIndexService).consentStatusChanged();
     }
 
     @Test
@@ -18,6 +18,8 @@ package de.adorsys.psd2.consent.service.aspsp;
 
 import de.adorsys.psd2.consent.api.pis.CmsPayment;
 import de.adorsys.psd2.consent.api.pis.CmsSinglePayment;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPage;
+import de.adorsys.psd2.consent.aspsp.api.CmsExportPageRequest;
 import de.adorsys.psd2.consent.domain.PsuData;
 import de.adorsys.psd2.consent.domain.payment.PisCommonPaymentData;
 import de.adorsys.psd2.consent.domain.payment.PisPaymentData;
@@ -33,6 +35,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
@@ -44,6 +48,7 @@ import java.util.Collections;
 import java.util.Currency;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
@@ -63,6 +68,7 @@ class CmsAspspPisExportServiceInternalTest {
 
     private static final String PAYMENT_ID = "payment id";
     private static final String PAYMENT_PRODUCT = "sepa-credit-transfers";
+    private static final long COMMON_PAYMENT_ID = 7L;
 
     private PsuIdData psuIdData;
     private PsuIdData wrongPsuIdData;
@@ -270,6 +276,44 @@ class CmsAspspPisExportServiceInternalTest {
             .byPsuIdDataAndCreationPeriodAndInstanceId(any(), any(), any(), any());
     }
 
+    @Test
+    void exportPaymentsByTpp_page_success() {
+        // Given
+        when(pisCommonPaymentDataSpecification.byTppIdAndCreationPeriodAndPsuIdDataAndInstanceId(TPP_AUTHORISATION_NUMBER,
+                                                                                                 CREATION_DATE_FROM,
+                                                                                                 CREATION_DATE_TO,
+                                                                                                 psuIdData,
+                                                                                                 DEFAULT_SERVICE_INSTANCE_ID)).thenReturn((root, criteriaQuery, criteriaBuilder) -> null);
+        PisCommonPaymentData pisCommonPaymentData = buildPisCommonPaymentData();
+        pisCommonPaymentData.setId(COMMON_PAYMENT_ID);
+        //noinspection unchecked
+        when(pisCommonPaymentDataRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(Collections.singletonList(pisCommonPaymentData)));
+        when(cmsPsuPisMapper.mapPaymentDataToCmsPayments(Collections.singletonList(pisCommonPaymentData)))
+            .thenReturn(Collections.singletonList(buildCmsPayment()));
+
+        // When
+        CmsExportPage<CmsPayment> page =
+            cmsAspspPisExportServiceInternal.exportPaymentsByTpp(TPP_AUTHORISATION_NUMBER, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                 psuIdData, DEFAULT_SERVICE_INSTANCE_ID, CmsExportPageRequest.ofPage(0, 1));
+
+        // Then
+        assertEquals(Collections.singletonList(buildCmsPayment()), page.getItems());
+        assertEquals(String.valueOf(COMMON_PAYMENT_ID), page.getNextCursor());
+    }
+
+    @Test
+    void exportPaymentsByPsu_page_invalidPageSize() {
+        // When
+        CmsExportPage<CmsPayment> page =
+            cmsAspspPisExportServiceInternal.exportPaymentsByPsu(psuIdData, CREATION_DATE_FROM, CREATION_DATE_TO,
+                                                                 DEFAULT_SERVICE_INSTANCE_ID, CmsExportPageRequest.ofPage(0, 0));
+
+        // Then
+        assertTrue(page.getItems().isEmpty());
+        verifyNoInteractions(pisCommonPaymentDataRepository);
+    }
+
     private PsuIdData buildPsuIdData(String psuId) {
         return new PsuIdData(psuId, null, null, null, null);
     }
@@ -22,7 +22,9 @@ import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.migration.ObsoleteAisConsentJpaRepository;
 import de.adorsys.psd2.core.data.ais.AisConsentData;
 import de.adorsys.psd2.core.mapper.ConsentDataMapper;
+import de.adorsys.psd2.core.mapper.codec.BinaryConsentDataCodec;
 import de.adorsys.psd2.xs2a.core.ais.AccountAccessType;
+import de.adorsys.psd2.xs2a.core.consent.ConsentType;
 import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -94,4 +96,39 @@ class AisConsentLazyMigrationServiceTest {
         verify(obsoleteAisConsentJpaRepository, never()).findByExternalId(any());
         verify(consentJpaRepository, never()).save(any());
     }
+
+    @Test
+    void migrateIfNeeded_jsonConsentData_binaryEncodingEnabled_shouldReencode() {
+        // Given
+        ConsentDataMapper binaryConsentDataMapper = new ConsentDataMapper(true);
+        aisConsentLazyMigrationService = new AisConsentLazyMigrationService(obsoleteAisConsentJpaRepository, consentJpaRepository, binaryConsentDataMapper);
+        AisConsentData aisConsentData = new AisConsentData(null, AccountAccessType.ALL_ACCOUNTS, null, true);
+        ConsentEntity consentEntity = new ConsentEntity();
+        consentEntity.setConsentType(ConsentType.AIS.getName());
+        consentEntity.setData(consentDataMapper.getBytesFromConsentData(aisConsentData));
+
+        // When
+        aisConsentLazyMigrationService.migrateIfNeeded(consentEntity);
+
+        // Then
+        verify(consentJpaRepository).save(consentEntity);
+        assertEquals(BinaryConsentDataCodec.HEADER, consentEntity.getData()[0]);
+        assertEquals(aisConsentData, binaryConsentDataMapper.mapToAisConsentData(consentEntity.getData()));
+    }
+
+    @Test
+    void migrateIfNeeded_piisConsent_binaryEncodingEnabled_shouldNotReencode() {
+        // Given
+        aisConsentLazyMigrationService = new AisConsentLazyMigrationService(obsoleteAisConsentJpaRepository, consentJpaRepository, new ConsentDataMapper(true));
+        ConsentEntity consentEntity = new ConsentEntity();
+        consentEntity.setConsentType(ConsentType.PIIS_TPP.getName());
+        consentEntity.setData("{}".getBytes());
+
+        // When
+        aisConsentLazyMigrationService.migrateIfNeeded(consentEntity);
+
+        // Then
+        verify(consentJpaRepository, never()).save(any());
+        assertArrayEquals("{}".getBytes(), consentEntity.getData());
+    }
 }
@@ -22,6 +22,8 @@ import de.adorsys.psd2.consent.repository.ConsentJpaRepository;
 import de.adorsys.psd2.consent.repository.migration.ObsoletePiisConsentJpaRepository;
 import de.adorsys.psd2.core.data.piis.PiisConsentData;
 import de.adorsys.psd2.core.mapper.ConsentDataMapper;
+import de.adorsys.psd2.core.mapper.codec.BinaryConsentDataCodec;
+import de.adorsys.psd2.xs2a.core.consent.ConsentType;
 import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +32,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -91,4 +94,23 @@ class PiisConsentLazyMigrationServiceTest {
         verify(obsoletePiisConsentJpaRepository, never()).findByExternalId(any());
         verify(consentJpaRepository, never()).save(any());
     }
+
+    @Test
+    void migrateIfNeeded_jsonConsentData_binaryEncodingEnabled_shouldReencode() {
+        // Given
+        ConsentDataMapper binaryConsentDataMapper = new ConsentDataMapper(true);
+        piisConsentLazyMigrationService = new PiisConsentLazyMigrationService(obsoletePiisConsentJpaRepository, consentJpaRepository, binaryConsentDataMapper);
+        PiisConsentData piisConsentData = new PiisConsentData("1234567891234", LocalDate.of(2030, 12, 31), "card information", null);
+        ConsentEntity consentEntity = new ConsentEntity();
+        consentEntity.setConsentType(ConsentType.PIIS_ASPSP.getName());
+        consentEntity.setData(consentDataMapper.getBytesFromConsentData(piisConsentData));
+
+        // When
+        piisConsentLazyMigrationService.migrateIfNeeded(consentEntity);
+
+        // Then
+        verify(consentJpaRepository).save(consentEntity);
+        assertEquals(BinaryConsentDataCodec.HEADER, consentEntity.getData()[0]);
+        assertEquals(piisConsentData, binaryConsentDataMapper.mapToPiisConsentData(consentEntity.getData()));
+    }
 }
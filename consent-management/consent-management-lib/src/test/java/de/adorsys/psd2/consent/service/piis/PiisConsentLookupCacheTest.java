@@ -0,0 +1,154 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.piis;
+
+import de.adorsys.psd2.consent.api.ais.CmsConsent;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceSelector;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiisConsentLookupCacheTest {
+    private static final Currency EUR = Currency.getInstance("EUR");
+    private static final Currency USD = Currency.getInstance("USD");
+    private static final AccountReferenceSelector SELECTOR_IBAN = new AccountReferenceSelector(AccountReferenceType.IBAN, "DE62500105179972514662");
+    private static final AccountReferenceSelector SELECTOR_MASKED_PAN = new AccountReferenceSelector(AccountReferenceType.MASKED_PAN, "DE62500105179972514662");
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    void getConsents_shouldLoadOncePerCurrencyAndAccountReference() {
+        // Given
+        PiisConsentLookupCache cache = new PiisConsentLookupCache(10, 60_000);
+
+        // When
+        List<CmsConsent> first = cache.getConsents(EUR, SELECTOR_IBAN, this::load);
+        List<CmsConsent> second = cache.getConsents(EUR, SELECTOR_IBAN, this::load);
+        cache.getConsents(USD, SELECTOR_IBAN, this::load);
+        cache.getConsents(null, SELECTOR_IBAN, this::load);
+        cache.getConsents(EUR, SELECTOR_MASKED_PAN, this::load);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(4, loadCount.get());
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    void getConsents_shouldReturnUnmodifiableList() {
+        // Given
+        PiisConsentLookupCache cache = new PiisConsentLookupCache(10, 60_000);
+
+        // When
+        List<CmsConsent> consents = cache.getConsents(EUR, SELECTOR_IBAN, this::load);
+
+        // Then
+        assertThrows(UnsupportedOperationException.class, consents::clear);
+    }
+
+    @Test
+    void getConsents_maxSizeExceeded_shouldEvictLeastRecentlyUsed() {
+        // Given
+        PiisConsentLookupCache cache = new PiisConsentLookupCache(1, 60_000);
+        cache.getConsents(EUR, SELECTOR_IBAN, this::load);
+
+        // When
+        cache.getConsents(EUR, SELECTOR_MASKED_PAN, this::load);
+        cache.getConsents(EUR, SELECTOR_IBAN, this::load);
+
+        // Then
+        assertEquals(3, loadCount.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void getConsents_cacheDisabled_shouldAlwaysLoad() {
+        // Given
+        PiisConsentLookupCache cache = new PiisConsentLookupCache(0, 0);
+
+        // When
+        cache.getConsents(EUR, SELECTOR_IBAN, this::load);
+        cache.getConsents(EUR, SELECTOR_IBAN, this::load);
+
+        // Then
+        assertEquals(2, loadCount.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidateAll_shouldRemoveAllLookups() {
+        // Given
+        PiisConsentLookupCache cache = new PiisConsentLookupCache(10, 60_000);
+        cache.getConsents(EUR, SELECTOR_IBAN, this::load);
+
+        // When
+        cache.invalidateAll();
+        cache.getConsents(EUR, SELECTOR_IBAN, this::load);
+
+        // Then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void invalidateAll_duringLoad_shouldNotCacheLoadedConsents() {
+        // Given
+        PiisConsentLookupCache cache = new PiisConsentLookupCache(10, 60_000);
+
+        // When
+        cache.getConsents(EUR, SELECTOR_IBAN, () -> {
+            cache.invalidateAll();
+            return load();
+        });
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidateAll_inTransaction_shouldRemoveLookupsAfterCompletion() {
+        // Given
+        PiisConsentLookupCache cache = new PiisConsentLookupCache(10, 60_000);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAll();
+            cache.getConsents(EUR, SELECTOR_IBAN, this::load);
+            assertEquals(1, cache.size());
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+
+    private List<CmsConsent> load() {
+        loadCount.incrementAndGet();
+        return Collections.singletonList(new CmsConsent());
+    }
+}
@@ -24,6 +24,7 @@ import de.adorsys.psd2.consent.repository.specification.PiisConsentEntitySpecifi
 import de.adorsys.psd2.consent.service.mapper.PiisConsentMapper;
 import de.adorsys.psd2.consent.service.mapper.PsuDataMapper;
 import de.adorsys.psd2.consent.service.migration.PiisConsentLazyMigrationService;
+import de.adorsys.psd2.consent.service.piis.PiisConsentAccountIndexService;
 import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
 import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
 import de.adorsys.xs2a.reader.JsonReader;
@@ -68,6 +69,8 @@ class CmsPsuPiisServiceInternalTest {
     private PsuDataMapper psuDataMapper;
     @Mock
     private PiisConsentLazyMigrationService piisConsentLazyMigrationService;
+    @Mock
+    private PiisConsentAccountIndexService piisConsentAccountIndexService;
 
     private JsonReader jsonReader = new JsonReader();
 
@@ -209,6 +212,7 @@ class CmsPsuPiisServiceInternalTest {
 
         assertTrue(revokeConsent);
         verify(piisConsentEntitySpecification).byConsentIdAndInstanceId(EXTERNAL_CONSENT_ID, DEFAULT_SERVICE_INSTANCE_ID);
+        verify(piisConsentAccountIndexService).consentStatusChanged();
     }
 
     @Test
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.consent.service.psu.session;
+
+import de.adorsys.psd2.consent.api.ais.AisAccountAccess;
+import de.adorsys.psd2.consent.api.ais.CmsAisAccountConsent;
+import de.adorsys.psd2.consent.api.ais.CmsAisConsentResponse;
+import de.adorsys.psd2.consent.api.pis.CmsBulkPayment;
+import de.adorsys.psd2.consent.api.pis.CmsCommonPayment;
+import de.adorsys.psd2.consent.api.pis.CmsPaymentResponse;
+import de.adorsys.psd2.consent.api.pis.CmsPeriodicPayment;
+import de.adorsys.psd2.consent.api.pis.CmsSinglePayment;
+import de.adorsys.psd2.consent.psu.api.CmsPsuAuthorisation;
+import de.adorsys.psd2.xs2a.core.profile.AccountReference;
+import de.adorsys.psd2.xs2a.core.psu.PsuIdData;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
+import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PsuResponseCopierTest {
+    private static final String CONSENT_ID = "consent id";
+    private static final String PAYMENT_ID = "payment id";
+    private static final String PAYMENT_PRODUCT = "sepa-credit-transfers";
+    private static final String AUTHORISATION_ID = "authorisation id";
+    private static final String IBAN = "DE52500105173911841934";
+    private static final String TPP_OK_REDIRECT_URI = "tpp ok redirect uri";
+    private static final String TPP_NOK_REDIRECT_URI = "tpp nok redirect uri";
+
+    private final PsuResponseCopier psuResponseCopier = new PsuResponseCopier();
+
+    @Test
+    void copy_aisConsentResponse() {
+        // Given
+        CmsAisConsentResponse response = new CmsAisConsentResponse(buildAisAccountConsent(), AUTHORISATION_ID,
+                                                                   TPP_OK_REDIRECT_URI, TPP_NOK_REDIRECT_URI);
+
+        // When
+        CmsAisConsentResponse actual = (CmsAisConsentResponse) psuResponseCopier.copy(response);
+
+        // Then
+        assertEquals(response, actual);
+        assertNotSame(response.getAccountConsent(), actual.getAccountConsent());
+        assertNotSame(response.getAccountConsent().getAccess().getAccounts().get(0), actual.getAccountConsent().getAccess().getAccounts().get(0));
+        assertNotSame(response.getAccountConsent().getPsuIdDataList(), actual.getAccountConsent().getPsuIdDataList());
+        assertNotSame(response.getAccountConsent().getTppInfo(), actual.getAccountConsent().getTppInfo());
+        assertNotSame(response.getAccountConsent().getUsageCounterMap(), actual.getAccountConsent().getUsageCounterMap());
+    }
+
+    @Test
+    void copy_paymentResponse_singlePayment() {
+        // Given
+        CmsPaymentResponse response = new CmsPaymentResponse(buildSinglePayment(), AUTHORISATION_ID, TPP_OK_REDIRECT_URI, TPP_NOK_REDIRECT_URI);
+
+        // When
+        CmsPaymentResponse actual = (CmsPaymentResponse) psuResponseCopier.copy(response);
+
+        // Then
+        assertEquals(response, actual);
+        assertNotSame(response.getPayment(), actual.getPayment());
+        CmsSinglePayment actualPayment = (CmsSinglePayment) actual.getPayment();
+        actualPayment.getDebtorAccount().setIban("changed");
+        assertEquals(IBAN, ((CmsSinglePayment) response.getPayment()).getDebtorAccount().getIban());
+    }
+
+    @Test
+    void copy_paymentResponse_periodicPayment() {
+        // Given
+        CmsPeriodicPayment payment = new CmsPeriodicPayment(PAYMENT_PRODUCT);
+        payment.setPaymentId(PAYMENT_ID);
+        payment.setDebtorAccount(buildAccountReference());
+        CmsPaymentResponse response = new CmsPaymentResponse(payment, AUTHORISATION_ID, TPP_OK_REDIRECT_URI, TPP_NOK_REDIRECT_URI);
+
+        // When
+        CmsPaymentResponse actual = (CmsPaymentResponse) psuResponseCopier.copy(response);
+
+        // Then
+        assertEquals(response, actual);
+        assertTrue(actual.getPayment() instanceof CmsPeriodicPayment);
+        assertNotSame(payment, actual.getPayment());
+    }
+
+    @Test
+    void copy_paymentResponse_bulkPayment() {
+        // Given
+        CmsBulkPayment payment = new CmsBulkPayment();
+        payment.setPaymentId(PAYMENT_ID);
+        payment.setPaymentProduct(PAYMENT_PRODUCT);
+        payment.setPayments(Collections.singletonList(buildSinglePayment()));
+        CmsPaymentResponse response = new CmsPaymentResponse(payment, AUTHORISATION_ID, TPP_OK_REDIRECT_URI, TPP_NOK_REDIRECT_URI);
+
+        // When
+        CmsPaymentResponse actual = (CmsPaymentResponse) psuResponseCopier.copy(response);
+
+        // Then
+        assertEquals(response, actual);
+        CmsBulkPayment actualPayment = (CmsBulkPayment) actual.getPayment();
+        assertNotSame(payment.getPayments().get(0), actualPayment.getPayments().get(0));
+    }
+
+    @Test
+    void copy_paymentResponse_commonPayment() {
+        // Given
+        CmsCommonPayment payment = new CmsCommonPayment(PAYMENT_PRODUCT);
+        payment.setPaymentId(PAYMENT_ID);
+        payment.setPaymentData(new byte[]{1, 2, 3});
+        CmsPaymentResponse response = new CmsPaymentResponse(payment, AUTHORISATION_ID, TPP_OK_REDIRECT_URI, TPP_NOK_REDIRECT_URI);
+
+        // When
+        CmsPaymentResponse actual = (CmsPaymentResponse) psuResponseCopier.copy(response);
+
+        // Then
+        assertEquals(response, actual);
+        assertNotSame(payment.getPaymentData(), ((CmsCommonPayment) actual.getPayment()).getPaymentData());
+    }
+
+    @Test
+    void copy_psuAuthorisation() {
+        // Given
+        CmsPsuAuthorisation authorisation = new CmsPsuAuthorisation();
+        authorisation.setAuthorisationId(AUTHORISATION_ID);
+        authorisation.setScaStatus(ScaStatus.RECEIVED);
+
+        // When
+        CmsPsuAuthorisation actual = (CmsPsuAuthorisation) psuResponseCopier.copy(authorisation);
+        actual.setScaStatus(ScaStatus.FAILED);
+
+        // Then
+        assertEquals(ScaStatus.RECEIVED, authorisation.getScaStatus());
+        assertEquals(AUTHORISATION_ID, actual.getAuthorisationId());
+    }
+
+    @Test
+    void copy_unsupportedType_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> psuResponseCopier.copy(new Object()));
+    }
+
+    private CmsAisAccountConsent buildAisAccountConsent() {
+        CmsAisAccountConsent consent = new CmsAisAccountConsent();
+        consent.setId(CONSENT_ID);
+        List<AccountReference> accounts = Collections.singletonList(buildAccountReference());
+        consent.setAccess(new AisAccountAccess(accounts, accounts, accounts, null, null, null, null));
+        consent.setPsuIdDataList(new ArrayList<>(Collections.singletonList(new PsuIdData("psu id", null, null, null, null))));
+        consent.setTppInfo(buildTppInfo());
+        consent.setUsageCounterMap(Collections.singletonMap("/accounts", 3));
+        consent.setAccountConsentAuthorizations(new ArrayList<>());
+        return consent;
+    }
+
+    private CmsSinglePayment buildSinglePayment() {
+        CmsSinglePayment payment = new CmsSinglePayment(PAYMENT_PRODUCT);
+        payment.setPaymentId(PAYMENT_ID);
+        payment.setDebtorAccount(buildAccountReference());
+        payment.setCreditorAccount(buildAccountReference());
+        payment.setTppInfo(buildTppInfo());
+        return payment;
+    }
+
+    private AccountReference buildAccountReference() {
+        AccountReference accountReference = new AccountReference();
+        accountReference.setIban(IBAN);
+        return accountReference;
+    }
+
+    private TppInfo buildTppInfo() {
+        TppInfo tppInfo = new TppInfo();
+        tppInfo.setAuthorisationNumber("12345987");
+        return tppInfo;
+    }
+}
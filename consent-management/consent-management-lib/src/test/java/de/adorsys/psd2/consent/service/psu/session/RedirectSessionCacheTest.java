@@ -0,0 +1,300 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.psu.session;
+
+import de.adorsys.psd2.consent.psu.api.CmsPsuAuthorisation;
+import de.adorsys.psd2.xs2a.core.exception.RedirectUrlIsExpiredException;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedirectSessionCacheTest {
+    private static final String AUTHORISATION_ID = "authorisation id";
+    private static final String ANOTHER_AUTHORISATION_ID = "another authorisation id";
+    private static final String INSTANCE_ID = "UNDEFINED";
+    private static final String CONSENT_ID = "consent id";
+    private static final String TPP_NOK_REDIRECT_URI = "tpp nok redirect uri";
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    void getOrLoad_shouldLoadOncePerAuthorisation() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+
+        // When
+        Optional<CmsPsuAuthorisation> first = cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        Optional<CmsPsuAuthorisation> second = cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.getOrLoad(ANOTHER_AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // Then
+        assertTrue(first.isPresent());
+        assertEquals(first.get(), second.get());
+        assertNotSame(first.get(), second.get());
+        assertEquals(2, loadCount.get());
+        assertEquals(1, cache.getStatistics().getCachedCalls());
+        assertEquals(2, cache.getStatistics().getDatabaseCalls());
+    }
+
+    @Test
+    void getOrLoad_returnedResponseModified_shouldServeUnmodifiedResponse() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+        CmsPsuAuthorisation loaded = cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load).orElseThrow();
+        loaded.setScaStatus(ScaStatus.FAILED);
+        CmsPsuAuthorisation cached = cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load).orElseThrow();
+        cached.setScaStatus(ScaStatus.FAILED);
+
+        // When
+        Optional<CmsPsuAuthorisation> actual = cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // Then
+        assertTrue(actual.isPresent());
+        assertEquals(ScaStatus.RECEIVED, actual.get().getScaStatus());
+        assertEquals(1, loadCount.get());
+    }
+
+    @Test
+    void getOrLoad_notBound_shouldNotCache() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+
+        // When
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, loadContext -> Optional.empty());
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, loadContext -> Optional.empty());
+
+        // Then
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getStatistics().getDatabaseCalls());
+    }
+
+    @Test
+    void getOrLoad_validUntilPassed_shouldLoadAgain() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+        OffsetDateTime redirectUrlExpirationTimestamp = OffsetDateTime.now().minusSeconds(1);
+
+        // When
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, loadContext -> load(loadContext, redirectUrlExpirationTimestamp));
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, loadContext -> load(loadContext, redirectUrlExpirationTimestamp));
+
+        // Then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void getOrLoad_loaderThrowsException_shouldPropagateException() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+
+        // When
+        RedirectUrlIsExpiredException exception = assertThrows(RedirectUrlIsExpiredException.class,
+                                                               () -> cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, loadContext -> {
+                                                                   throw new RedirectUrlIsExpiredException(TPP_NOK_REDIRECT_URI);
+                                                               }));
+
+        // Then
+        assertEquals(TPP_NOK_REDIRECT_URI, exception.getNokRedirectUri());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void getOrLoad_cacheTtlZero_shouldAlwaysLoadButCountCalls() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 0, 60_000);
+
+        // When
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.scaStatusUpdated(AUTHORISATION_ID, INSTANCE_ID, CONSENT_ID, ScaStatus.FINALISED);
+
+        // Then
+        assertEquals(2, loadCount.get());
+        assertEquals(1, cache.getStatistics().getCompletedScaCount());
+        assertEquals(3, cache.getStatistics().getCompletedScaDatabaseCalls());
+    }
+
+    @Test
+    void getOrLoad_cacheDisabled_shouldAlwaysLoad() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(0, 0, 0);
+
+        // When
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.scaStatusUpdated(AUTHORISATION_ID, INSTANCE_ID, CONSENT_ID, ScaStatus.FINALISED);
+
+        // Then
+        assertEquals(2, loadCount.get());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getStatistics().getDatabaseCalls());
+        assertEquals(0, cache.getStatistics().getCompletedScaCount());
+    }
+
+    @Test
+    void getOrLoad_maxSizeExceeded_shouldEvictLeastRecentlyUsed() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(1, 60_000, 60_000);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // When
+        cache.getOrLoad(ANOTHER_AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // Then
+        assertEquals(3, loadCount.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void authorisationUpdated_shouldInvalidateAllAuthorisationsOfParent() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.getOrLoad(ANOTHER_AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // When
+        cache.authorisationUpdated(AUTHORISATION_ID, INSTANCE_ID, CONSENT_ID);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.getOrLoad(ANOTHER_AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // Then
+        assertEquals(4, loadCount.get());
+    }
+
+    @Test
+    void parentUpdated_shouldInvalidateAllAuthorisationsOfParent() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // When
+        cache.parentUpdated(CONSENT_ID);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // Then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void parentChanged_shouldInvalidateAllAuthorisationsOfParentWithoutCountingCall() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.getOrLoad(ANOTHER_AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // When
+        cache.parentChanged(CONSENT_ID);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.getOrLoad(ANOTHER_AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // Then
+        assertEquals(4, loadCount.get());
+        assertEquals(4, cache.getStatistics().getDatabaseCalls());
+        assertEquals(0, cache.getStatistics().getCachedCalls());
+    }
+
+    @Test
+    void parentUpdated_duringLoad_shouldNotCacheLoadedResponse() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+
+        // When
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, loadContext -> {
+            cache.parentUpdated(CONSENT_ID);
+            return load(loadContext);
+        });
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // Then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void parentUpdated_inTransaction_shouldInvalidateAfterCompletion() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.parentUpdated(CONSENT_ID);
+            cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+
+        // Then
+        assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void scaStatusUpdated_finalisedStatus_shouldRecordCompletedSca() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.getOrLoad(AUTHORISATION_ID, INSTANCE_ID, CmsPsuAuthorisation.class, this::load);
+        cache.authorisationUpdated(AUTHORISATION_ID, INSTANCE_ID, CONSENT_ID);
+        cache.scaStatusUpdated(AUTHORISATION_ID, INSTANCE_ID, CONSENT_ID, ScaStatus.PSUAUTHENTICATED);
+
+        // When
+        cache.scaStatusUpdated(AUTHORISATION_ID, INSTANCE_ID, CONSENT_ID, ScaStatus.FINALISED);
+
+        // Then
+        RedirectSessionStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getCompletedScaCount());
+        assertEquals(1, statistics.getCompletedScaCachedCalls());
+        assertEquals(4, statistics.getCompletedScaDatabaseCalls());
+        assertEquals(4.0, statistics.getDatabaseCallsPerCompletedSca());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void scaStatusUpdated_notFinalisedStatus_shouldKeepSession() {
+        // Given
+        RedirectSessionCache cache = new RedirectSessionCache(10, 60_000, 60_000);
+
+        // When
+        cache.scaStatusUpdated(AUTHORISATION_ID, INSTANCE_ID, CONSENT_ID, ScaStatus.SCAMETHODSELECTED);
+
+        // Then
+        assertEquals(0, cache.getStatistics().getCompletedScaCount());
+        assertEquals(1, cache.size());
+    }
+
+    private Optional<CmsPsuAuthorisation> load(RedirectSessionCache.LoadContext loadContext) {
+        return load(loadContext, null);
+    }
+
+    private Optional<CmsPsuAuthorisation> load(RedirectSessionCache.LoadContext loadContext, OffsetDateTime validUntil) {
+        loadCount.incrementAndGet();
+        loadContext.bind(CONSENT_ID, validUntil);
+        CmsPsuAuthorisation authorisation = new CmsPsuAuthorisation();
+        authorisation.setScaStatus(ScaStatus.RECEIVED);
+        return Optional.of(authorisation);
+    }
+}
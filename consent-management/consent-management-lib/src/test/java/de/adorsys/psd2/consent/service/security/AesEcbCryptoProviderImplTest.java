@@ -17,6 +17,7 @@
 package de.adorsys.psd2.consent.service.security;
 
 
+import de.adorsys.psd2.consent.service.security.provider.DerivedKeyCache;
 import de.adorsys.psd2.consent.service.security.provider.aes.AesEcbCryptoProviderImpl;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.Test;
@@ -52,6 +53,31 @@ class AesEcbCryptoProviderImplTest {
         encryptionDecryptionTest(SERVER_KEY_80);
     }
 
+    @Test
+    void encryptionDecryptionTest_cachedKey() {
+        // Given
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(10, 60_000);
+        AesEcbCryptoProviderImpl cachingProvider = new AesEcbCryptoProviderImpl("bS6p6XvTWI", "AES/ECB/PKCS5Padding", 256, 65536, "PBKDF2WithHmacSHA256", derivedKeyCache);
+        String data = UUID.randomUUID().toString();
+
+        // When
+        Optional<EncryptedData> encryptData = cachingProvider.encryptData(data.getBytes(), SERVER_KEY_16);
+        Optional<EncryptedData> encryptDataAgain = cachingProvider.encryptData(data.getBytes(), SERVER_KEY_16);
+
+        // Then
+        assertTrue(encryptData.isPresent());
+        assertTrue(encryptDataAgain.isPresent());
+        assertEquals(1, derivedKeyCache.size());
+        assertArrayEquals(encryptData.get().getData(), encryptDataAgain.get().getData());
+
+        // When
+        Optional<DecryptedData> decryptData = aesGcmCryptoProvider.decryptData(encryptData.get().getData(), SERVER_KEY_16);
+
+        // Then
+        assertTrue(decryptData.isPresent());
+        assertEquals(data, new String(decryptData.get().getData()));
+    }
+
     @Test
     void encryptionDecryptionTest_wrong_password() {
         // Given
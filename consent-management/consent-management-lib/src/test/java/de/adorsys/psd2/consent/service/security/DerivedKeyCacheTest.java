@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.security;
+
+import de.adorsys.psd2.consent.service.security.provider.DerivedKeyCache;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DerivedKeyCacheTest {
+    private static final String PROVIDER_ID = "bS6p6XvTWI";
+    private static final String ANOTHER_PROVIDER_ID = "gQ8wkMeo93";
+    private static final String PASSWORD = "password";
+    private static final String ANOTHER_PASSWORD = "another password";
+
+    private final AtomicInteger derivationCount = new AtomicInteger();
+
+    @Test
+    void getKey_shouldDeriveOncePerProviderAndPassword() throws GeneralSecurityException {
+        // Given
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(10, 60_000);
+
+        // When
+        byte[] first = derivedKeyCache.getKey(PROVIDER_ID, PASSWORD, this::derive);
+        byte[] second = derivedKeyCache.getKey(PROVIDER_ID, PASSWORD, this::derive);
+        derivedKeyCache.getKey(ANOTHER_PROVIDER_ID, PASSWORD, this::derive);
+        derivedKeyCache.getKey(PROVIDER_ID, ANOTHER_PASSWORD, this::derive);
+
+        // Then
+        assertArrayEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals(3, derivationCount.get());
+        assertEquals(3, derivedKeyCache.size());
+    }
+
+    @Test
+    void getKey_returnedKeyWiped_shouldNotAffectCachedKey() throws GeneralSecurityException {
+        // Given
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(10, 60_000);
+        byte[] first = derivedKeyCache.getKey(PROVIDER_ID, PASSWORD, this::derive);
+
+        // When
+        first[0] = 0;
+        byte[] second = derivedKeyCache.getKey(PROVIDER_ID, PASSWORD, this::derive);
+
+        // Then
+        assertArrayEquals(derive(PASSWORD), second);
+    }
+
+    @Test
+    void getKey_maxSizeExceeded_shouldEvictLeastRecentlyUsed() throws GeneralSecurityException {
+        // Given
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(1, 60_000);
+        derivedKeyCache.getKey(PROVIDER_ID, PASSWORD, this::derive);
+
+        // When
+        derivedKeyCache.getKey(PROVIDER_ID, ANOTHER_PASSWORD, this::derive);
+        derivedKeyCache.getKey(PROVIDER_ID, PASSWORD, this::derive);
+
+        // Then
+        assertEquals(3, derivationCount.get());
+        assertEquals(1, derivedKeyCache.size());
+    }
+
+    @Test
+    void getKey_cacheDisabled_shouldAlwaysDerive() throws GeneralSecurityException {
+        // Given
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(0, 0);
+
+        // When
+        derivedKeyCache.getKey(PROVIDER_ID, PASSWORD, this::derive);
+        derivedKeyCache.getKey(PROVIDER_ID, PASSWORD, this::derive);
+
+        // Then
+        assertEquals(2, derivationCount.get());
+        assertEquals(0, derivedKeyCache.size());
+    }
+
+    private byte[] derive(String password) {
+        derivationCount.incrementAndGet();
+        return password.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.sha.v4;
+
+import de.adorsys.psd2.consent.service.sha.ChecksumConstant;
+import de.adorsys.psd2.core.data.AccountAccess;
+import de.adorsys.psd2.core.data.Consent;
+import de.adorsys.psd2.core.data.ais.AisConsent;
+import de.adorsys.psd2.xs2a.core.consent.ConsentType;
+import de.adorsys.psd2.xs2a.core.profile.AccountReference;
+import de.adorsys.xs2a.reader.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AisChecksumCalculatingServiceV4Test {
+    private static final String VERSION_04 = "004";
+    private static final byte[] WRONG_CHECKSUM = "checksum in consent".getBytes();
+    private static final byte[] WRONG_CHECKSUM_WITH_2_PARTS = ("004" + ChecksumConstant.DELIMITER + "second part==").getBytes();
+    private static final String CHANGED_RESOURCE_ID = "changed resource ID";
+
+    private JsonReader jsonReader = new JsonReader();
+
+    private final AisChecksumCalculatingServiceV4 aisChecksumCalculatingServiceV4 = new AisChecksumCalculatingServiceV4();
+
+    @Test
+    void calculateChecksumForConsent_tppAccesses() {
+        // given
+        AisConsent aisConsent = buildConsentTppIban();
+
+        // when
+        String actualResult = new String(aisChecksumCalculatingServiceV4.calculateChecksumForConsent(aisConsent));
+
+        // then
+        String[] elements = actualResult.split(ChecksumConstant.DELIMITER);
+        assertEquals(2, elements.length);
+        assertEquals(VERSION_04, elements[ChecksumConstant.VERSION_START_POSITION]);
+    }
+
+    @Test
+    void calculateChecksumForConsent_aspspAccesses() {
+        // given
+        AisConsent aisConsent = buildConsentAspspIbanAndMaskedPan();
+
+        // when
+        String actualResult = new String(aisChecksumCalculatingServiceV4.calculateChecksumForConsent(aisConsent));
+
+        // then
+        String[] elements = actualResult.split(ChecksumConstant.DELIMITER);
+        assertEquals(3, elements.length);
+        assertEquals(VERSION_04, elements[ChecksumConstant.VERSION_START_POSITION]);
+        String aspspAccessChecksum = elements[ChecksumConstant.ASPSP_ACCESS_CHECKSUM_START_POSITION];
+        assertTrue(aspspAccessChecksum.startsWith("iban:"));
+        assertTrue(aspspAccessChecksum.contains(";maskedPan:"));
+    }
+
+    @Test
+    void calculateChecksumForConsent_isStable() {
+        // given
+        AisConsent aisConsent = buildConsentAspspIbanAndMaskedPan();
+        byte[] expectedResult = aisChecksumCalculatingServiceV4.calculateChecksumForConsent(aisConsent);
+
+        // when
+        byte[] actualResult = aisChecksumCalculatingServiceV4.calculateChecksumForConsent(buildConsentAspspIbanAndMaskedPan());
+
+        // then
+        assertArrayEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    void calculateChecksumForConsent_afterFailedCalculation_isStable() {
+        // given
+        byte[] expectedResult = aisChecksumCalculatingServiceV4.calculateChecksumForConsent(buildConsentAspspIbanAndMaskedPan());
+        AisConsent brokenConsent = buildConsentAspspIbanAndMaskedPan();
+        brokenConsent.setConsentData(null);
+        assertThrows(NullPointerException.class, () -> aisChecksumCalculatingServiceV4.calculateChecksumForConsent(brokenConsent));
+
+        // when
+        byte[] actualResult = aisChecksumCalculatingServiceV4.calculateChecksumForConsent(buildConsentAspspIbanAndMaskedPan());
+
+        // then
+        assertArrayEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    void verifyConsentWithChecksum_success_tppAccesses() {
+        // given
+        AisConsent aisConsent = buildConsentTppIban();
+        byte[] checksum = aisChecksumCalculatingServiceV4.calculateChecksumForConsent(aisConsent);
+
+        // when
+        boolean actualResult = aisChecksumCalculatingServiceV4.verifyConsentWithChecksum(buildConsentTppIban(), checksum);
+
+        // then
+        assertTrue(actualResult);
+    }
+
+    @Test
+    void verifyConsentWithChecksum_success_aspspAccesses() {
+        // given
+        AisConsent aisConsent = buildConsentAspspIbanAndMaskedPan();
+        byte[] checksum = aisChecksumCalculatingServiceV4.calculateChecksumForConsent(aisConsent);
+
+        // when
+        boolean actualResult = aisChecksumCalculatingServiceV4.verifyConsentWithChecksum(buildConsentAspspIbanAndMaskedPan(), checksum);
+
+        // then
+        assertTrue(actualResult);
+    }
+
+    @Test
+    void verifyConsentWithChecksum_success_aspspAccessesInDifferentOrder() {
+        // given
+        AisConsent aisConsent = buildConsentAspspIbanAndMaskedPan();
+        byte[] checksum = aisChecksumCalculatingServiceV4.calculateChecksumForConsent(aisConsent);
+        AisConsent reorderedConsent = buildConsentAspspIbanAndMaskedPan();
+        AccountAccess aspspAccess = reorderedConsent.getAspspAccountAccesses();
+        List<AccountReference> reversedAccounts = new ArrayList<>(aspspAccess.getAccounts());
+        Collections.reverse(reversedAccounts);
+        reorderedConsent.setAspspAccountAccesses(new AccountAccess(reversedAccounts, aspspAccess.getBalances(), aspspAccess.getTransactions(),
+                                                                   aspspAccess.getAdditionalInformationAccess()));
+
+        // when
+        boolean actualResult = aisChecksumCalculatingServiceV4.verifyConsentWithChecksum(reorderedConsent, checksum);
+
+        // then
+        assertTrue(actualResult);
+    }
+
+    @Test
+    void verifyConsentWithChecksum_changedConsent() {
+        // given
+        AisConsent aisConsent = buildConsentTppIban();
+        byte[] checksum = aisChecksumCalculatingServiceV4.calculateChecksumForConsent(aisConsent);
+        AisConsent changedConsent = buildConsentTppIban();
+        changedConsent.setValidUntil(changedConsent.getValidUntil().plusDays(1));
+
+        // when
+        boolean actualResult = aisChecksumCalculatingServiceV4.verifyConsentWithChecksum(changedConsent, checksum);
+
+        // then
+        assertFalse(actualResult);
+    }
+
+    @Test
+    void verifyConsentWithChecksum_changedTppAccess() {
+        // given
+        AisConsent aisConsent = buildConsentTppIban();
+        byte[] checksum = aisChecksumCalculatingServiceV4.calculateChecksumForConsent(aisConsent);
+        AisConsent changedConsent = buildConsentTppIban();
+        changedConsent.getTppAccountAccesses().getAccounts().get(0).setIban("DE89370400440532013000");
+
+        // when
+        boolean actualResult = aisChecksumCalculatingServiceV4.verifyConsentWithChecksum(changedConsent, checksum);
+
+        // then
+        assertFalse(actualResult);
+    }
+
+    @Test
+    void verifyConsentWithChecksum_changedAspspAccess() {
+        // given
+        AisConsent aisConsent = buildConsentAspspIbanAndMaskedPan();
+        byte[] checksum = aisChecksumCalculatingServiceV4.calculateChecksumForConsent(aisConsent);
+        AisConsent changedConsent = buildConsentAspspIbanAndMaskedPan();
+        changedConsent.getAspspAccountAccesses().getTransactions().get(0).setResourceId(CHANGED_RESOURCE_ID);
+
+        // when
+        boolean actualResult = aisChecksumCalculatingServiceV4.verifyConsentWithChecksum(changedConsent, checksum);
+
+        // then
+        assertFalse(actualResult);
+    }
+
+    @Test
+    void verifyConsentWithChecksum_wrongChecksum() {
+        // given
+        AisConsent aisConsent = buildConsentTppIban();
+
+        // when
+        boolean actualResult = aisChecksumCalculatingServiceV4.verifyConsentWithChecksum(aisConsent, WRONG_CHECKSUM);
+
+        // then
+        assertFalse(actualResult);
+    }
+
+    @Test
+    void verifyConsentWithChecksum_wrongChecksumWithTwoParts() {
+        // given
+        AisConsent aisConsent = buildConsentTppIban();
+
+        // when
+        boolean actualResult = aisChecksumCalculatingServiceV4.verifyConsentWithChecksum(aisConsent, WRONG_CHECKSUM_WITH_2_PARTS);
+
+        // then
+        assertFalse(actualResult);
+    }
+
+    @Test
+    void verifyConsentWithChecksum_consent_is_null() {
+        // when
+        boolean actualResult = aisChecksumCalculatingServiceV4.verifyConsentWithChecksum(null, WRONG_CHECKSUM_WITH_2_PARTS);
+
+        // then
+        assertFalse(actualResult);
+    }
+
+    @Test
+    void verifyConsentWithChecksum_checksum_is_null() {
+        // given
+        AisConsent aisConsent = buildConsentTppIban();
+
+        // when
+        boolean actualResult = aisChecksumCalculatingServiceV4.verifyConsentWithChecksum(aisConsent, null);
+
+        // then
+        assertFalse(actualResult);
+    }
+
+    @Test
+    void verifyConsentWithChecksum_consent_is_unknown_object() {
+        // when
+        boolean actualResult = aisChecksumCalculatingServiceV4.verifyConsentWithChecksum(new TestObject(), WRONG_CHECKSUM_WITH_2_PARTS);
+
+        // then
+        assertFalse(actualResult);
+    }
+
+    @Test
+    void calculateChecksumForConsent_consent_is_null() {
+        // when
+        byte[] actualResult = aisChecksumCalculatingServiceV4.calculateChecksumForConsent(null);
+
+        // then
+        assertArrayEquals(new byte[0], actualResult);
+    }
+
+    @Test
+    void getVersion() {
+        // when
+        String actualResult = aisChecksumCalculatingServiceV4.getVersion();
+
+        //then
+        assertEquals(VERSION_04, actualResult);
+    }
+
+    private AisConsent buildConsentTppIban() {
+        return jsonReader.getObjectFromFile("json/dedicated-ais-consent_tpp_access.json", AisConsent.class);
+    }
+
+    private AisConsent buildConsentAspspIbanAndMaskedPan() {
+        return jsonReader.getObjectFromFile("json/dedicated-ais-consent_aspsp_access_iban&maskedpan.json", AisConsent.class);
+    }
+
+    private class TestObject extends Consent {
+        @Override
+        public ConsentType getConsentType() {
+            return null;
+        }
+    }
+}
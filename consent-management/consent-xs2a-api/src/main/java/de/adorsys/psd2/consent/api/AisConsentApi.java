@@ -28,7 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public interface AisConsentApi {
 
     @PostMapping(path = "/action")
-    @ApiOperation(value = "Save information about uses of consent")
+    @ApiOperation(value = "Save information about uses of consent and, optionally, number of read transactions")
     ResponseEntity<Object> saveConsentActionLog(@RequestBody AisConsentActionRequest request);
 
     @PutMapping(path = "/{encrypted-consent-id}/access")
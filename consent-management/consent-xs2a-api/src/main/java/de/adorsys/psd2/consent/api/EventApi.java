@@ -27,6 +27,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import java.util.List;
+
 @RequestMapping(path = "api/v1/events")
 @Api(value = "api/v1/events", tags = InternalCmsXs2aApiTagName.EVENTS)
 public interface EventApi {
@@ -37,4 +39,11 @@ public interface EventApi {
         @ApiResponse(code = 200, message = "OK"),
         @ApiResponse(code = 400, message = "Bad Request")})
     ResponseEntity<Boolean> recordEvent(@RequestBody EventBO event);
+
+    @PostMapping(path = "/batch")
+    @ApiOperation(value = "Creates several new events at once")
+    @ApiResponses(value = {
+        @ApiResponse(code = 200, message = "OK"),
+        @ApiResponse(code = 400, message = "Bad Request")})
+    ResponseEntity<Boolean> recordEvents(@RequestBody List<EventBO> events);
 }
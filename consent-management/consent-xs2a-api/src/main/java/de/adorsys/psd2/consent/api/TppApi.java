@@ -25,6 +25,8 @@ import io.swagger.annotations.ApiResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RequestMapping(path = "api/v1/tpp")
 @Api(value = "api/v1/tpp", tags = InternalCmsXs2aApiTagName.TPP)
 public interface TppApi {
@@ -42,4 +44,11 @@ public interface TppApi {
         @RequestHeader(value = "tpp-authorisation-number") String tppAuthorisationNumber,
         @ApiParam(value = "ID of the particular service instance")
         @RequestHeader(value = "instance-id", required = false, defaultValue = "") String instanceId);
+
+    @GetMapping(path = "/stop-list/blocked")
+    @ApiOperation(value = "Returns authorisation numbers of all blocked TPPs")
+    @ApiResponse(code = 200, message = "OK")
+    ResponseEntity<List<String>> getBlockedTppAuthorisationNumbers(
+        @ApiParam(value = "ID of the particular service instance")
+        @RequestHeader(value = "instance-id", required = false, defaultValue = "") String instanceId);
 }
@@ -33,4 +33,16 @@ public class AisConsentActionRequest {
     // ID and/or transaction ID in path parameters.
     private String resourceId;
     private String transactionId;
+
+    // Optional number of transactions read for the account with given ID. If both are present, the number is stored within
+    // the same CMS transaction as the usage and the action log, so that transaction reads need no separate call for saving
+    // the number of transactions. The account ID is the one from the request path, which is also used for one-off consent
+    // expiration check, it may differ from resource ID of the account reference in the transaction report.
+    private String transactionsResourceId;
+    private Integer numberOfTransactions;
+
+    public AisConsentActionRequest(String tppId, String consentId, ActionStatus actionStatus, String requestUri, boolean updateUsage,
+                                   String resourceId, String transactionId) {
+        this(tppId, consentId, actionStatus, requestUri, updateUsage, resourceId, transactionId, null, null);
+    }
 }
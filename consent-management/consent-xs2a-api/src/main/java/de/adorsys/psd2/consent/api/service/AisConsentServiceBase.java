@@ -25,7 +25,8 @@ import de.adorsys.psd2.core.data.AccountAccess;
 public interface AisConsentServiceBase {
 
     /**
-     * Saves information about uses of consent
+     * Saves information about uses of consent. If the request contains number of transactions, it is stored within
+     * the same call.
      *
      * @param request needed parameters for logging usage AIS consent
      * @return VoidResponse
@@ -18,6 +18,8 @@ package de.adorsys.psd2.consent.api.service;
 
 import de.adorsys.psd2.consent.api.CmsResponse;
 
+import java.util.List;
+
 public interface TppStopListService {
 
     /**
@@ -28,4 +30,12 @@ public interface TppStopListService {
      * @return <code>true</code> if TPP is found and has status BLOCKED, <code>false</code> if TPP is not found or its status is not BLOCKED
      */
     CmsResponse<Boolean> checkIfTppBlocked(String tppAuthorisationNumber, String instanceId);
+
+    /**
+     * Returns authorisation numbers of all blocked TPPs.
+     *
+     * @param instanceId instance ID
+     * @return authorisation numbers of TPPs with status BLOCKED
+     */
+    CmsResponse<List<String>> getBlockedTppAuthorisationNumbers(String instanceId);
 }
@@ -16,13 +16,13 @@
 
 package de.adorsys.psd2.consent.config;
 
+import de.adorsys.psd2.http.client.PooledHttpClient;
+import de.adorsys.psd2.http.client.PooledHttpClientSettings;
 import de.adorsys.psd2.logger.web.LoggingContextInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.ClientHttpRequestFactory;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
@@ -35,20 +35,38 @@ public class ConsentRestConfig {
     private int readTimeout;
     @Value("${xs2a.rest-consent-config.connection-timeout.ms:10000}")
     private int connectionTimeout;
+    @Value("${xs2a.rest-consent-config.pool.connection-request-timeout.ms:5000}")
+    private int connectionRequestTimeout;
+    @Value("${xs2a.rest-consent-config.pool.max-total:100}")
+    private int maxTotalConnections;
+    @Value("${xs2a.rest-consent-config.pool.max-per-route:50}")
+    private int maxConnectionsPerRoute;
+    @Value("${xs2a.rest-consent-config.pool.idle-eviction.ms:30000}")
+    private long idleEvictionMs;
+    @Value("${xs2a.rest-consent-config.gzip.enabled:false}")
+    private boolean gzipEnabled;
+
+    @Bean
+    public PooledHttpClient consentHttpClient() {
+        PooledHttpClientSettings settings = PooledHttpClientSettings.builder()
+                                                .connectionTimeoutMs(connectionTimeout)
+                                                .readTimeoutMs(readTimeout)
+                                                .connectionRequestTimeoutMs(connectionRequestTimeout)
+                                                .maxTotalConnections(maxTotalConnections)
+                                                .maxConnectionsPerRoute(maxConnectionsPerRoute)
+                                                .idleEvictionMs(idleEvictionMs)
+                                                .gzipEnabled(gzipEnabled)
+                                                .build();
+        return new PooledHttpClient("consent", settings);
+    }
 
     @Bean
     public RestTemplate consentRestTemplate() {
-        RestTemplate rest = new RestTemplate(clientHttpRequestFactory());
+        RestTemplate rest = new RestTemplate();
+        consentHttpClient().configure(rest);
         rest.getMessageConverters().removeIf(m -> m.getClass().isAssignableFrom(MappingJackson2XmlHttpMessageConverter.class));
         rest.setErrorHandler(new ConsentRestErrorHandler());
         rest.getInterceptors().add(loggingContextInterceptor);
         return rest;
     }
-
-    private ClientHttpRequestFactory clientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setReadTimeout(readTimeout);
-        factory.setConnectTimeout(connectionTimeout);
-        return factory;
-    }
 }
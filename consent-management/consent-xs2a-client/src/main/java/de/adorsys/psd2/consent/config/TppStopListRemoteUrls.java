@@ -32,4 +32,13 @@ public class TppStopListRemoteUrls {
     public String checkIfTppBlocked() {
         return consentServiceBaseUrl + "/tpp/stop-list";
     }
+
+    /**
+     * Returns URL-string to CMS endpoint that gets authorisation numbers of all blocked TPPs
+     *
+     * @return String
+     */
+    public String getBlockedTppAuthorisationNumbers() {
+        return consentServiceBaseUrl + "/tpp/stop-list/blocked";
+    }
 }
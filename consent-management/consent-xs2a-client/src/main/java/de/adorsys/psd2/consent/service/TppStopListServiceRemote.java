@@ -18,9 +18,12 @@ package de.adorsys.psd2.consent.service;
 
 import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.service.TppStopListService;
+import de.adorsys.psd2.consent.config.CmsRestException;
 import de.adorsys.psd2.consent.config.TppStopListRemoteUrls;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -30,6 +33,11 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+
+import static de.adorsys.psd2.consent.api.CmsError.TECHNICAL_ERROR;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TppStopListServiceRemote implements TppStopListService {
@@ -55,4 +63,25 @@ public class TppStopListServiceRemote implements TppStopListService {
                    .payload(body)
                    .build();
     }
+
+    @Override
+    public CmsResponse<List<String>> getBlockedTppAuthorisationNumbers(String instanceId) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(INSTANCE, instanceId);
+
+        try {
+            List<String> body = consentRestTemplate.exchange(tppStopListRemoteUrls.getBlockedTppAuthorisationNumbers(), HttpMethod.GET, new HttpEntity<>(headers),
+                                                             new ParameterizedTypeReference<List<String>>() {
+                                                             })
+                                    .getBody();
+            return CmsResponse.<List<String>>builder()
+                       .payload(body)
+                       .build();
+        } catch (CmsRestException e) {
+            log.info("Instance ID: [{}]. Failed to retrieve blocked TPPs", instanceId);
+            return CmsResponse.<List<String>>builder()
+                       .error(TECHNICAL_ERROR)
+                       .build();
+        }
+    }
 }
@@ -24,6 +24,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class EventController implements EventApi {
@@ -33,4 +35,9 @@ public class EventController implements EventApi {
     public ResponseEntity<Boolean> recordEvent(EventBO event) {
         return new ResponseEntity<>(eventService.recordEvent(event), HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<Boolean> recordEvents(List<EventBO> events) {
+        return new ResponseEntity<>(eventService.recordEvents(events), HttpStatus.OK);
+    }
 }
@@ -26,6 +26,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class TppController implements TppApi {
@@ -43,4 +45,12 @@ public class TppController implements TppApi {
         CmsResponse<Boolean> response = tppStopListService.checkIfTppBlocked(tppAuthorisationNumber, instanceId);
         return new ResponseEntity<>(response.isSuccessful() && response.getPayload(), HttpStatus.OK);
     }
+
+    @Override
+    public ResponseEntity<List<String>> getBlockedTppAuthorisationNumbers(String instanceId) {
+        CmsResponse<List<String>> response = tppStopListService.getBlockedTppAuthorisationNumbers(instanceId);
+        return response.isSuccessful()
+                   ? new ResponseEntity<>(response.getPayload(), HttpStatus.OK)
+                   : new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
 }
@@ -24,6 +24,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Base version of AspspEventService that contains all method declarations.
@@ -41,6 +42,17 @@ public interface AspspEventService {
      */
     List<AspspEvent> getEventsForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId);
 
+    /**
+     * Passes all Event objects, recorded in given time period, to the consumer one by one ordered by timestamp.
+     * Events are read from the storage page by page, so that the whole period is never loaded into memory.
+     *
+     * @param start      First date of the period
+     * @param end        Last date of the period
+     * @param instanceId The id of particular service instance
+     * @param consumer   Consumer of the events
+     */
+    void forEachEventForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId, @NotNull Consumer<AspspEvent> consumer);
+
     /**
      * Returns a list of Event objects, recorded in given time period and with the given consentId
      *
@@ -25,10 +25,12 @@ import de.adorsys.psd2.event.service.model.AspspEvent;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -36,12 +38,29 @@ public class AspspEventServiceImpl implements AspspEventService {
     private final EventReportRepository eventReportRepository;
     private final AspspEventMapper eventBOMapper;
 
+    @Value("${xs2a.cms.event-report.page-size:1000}")
+    private int pageSize;
+
     @Override
     public List<AspspEvent> getEventsForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId) {
         List<ReportEvent> events = eventReportRepository.getEventsForPeriod(start, end, instanceId);
         return eventBOMapper.toAspspEventList(events);
     }
 
+    @Override
+    public void forEachEventForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId, @NotNull Consumer<AspspEvent> consumer) {
+        ReportEvent[] lastEvent = new ReportEvent[1];
+        Consumer<ReportEvent> pageConsumer = event -> {
+            lastEvent[0] = event;
+            consumer.accept(eventBOMapper.toAspspEvent(event));
+        };
+
+        int passedEvents = eventReportRepository.getEventsForPeriod(start, end, instanceId, null, null, pageSize, pageConsumer);
+        while (passedEvents == pageSize) {
+            passedEvents = eventReportRepository.getEventsForPeriod(start, end, instanceId, lastEvent[0].getTimestamp(), lastEvent[0].getId(), pageSize, pageConsumer);
+        }
+    }
+
     @Override
     public List<AspspEvent> getEventsForPeriodAndConsentId(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @NotNull String consentId, @Nullable String instanceId) {
         List<ReportEvent> result = eventReportRepository.getEventsForPeriodAndConsentId(start, end, consentId, instanceId);
@@ -19,7 +19,10 @@ package de.adorsys.psd2.event.service;
 import de.adorsys.psd2.event.core.model.EventOrigin;
 import de.adorsys.psd2.event.core.model.EventType;
 import de.adorsys.psd2.event.persist.EventReportRepository;
+import de.adorsys.psd2.event.persist.model.ReportEvent;
 import de.adorsys.psd2.event.service.mapper.AspspEventMapper;
+import de.adorsys.psd2.event.service.model.AspspEvent;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
@@ -27,11 +30,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -94,4 +104,42 @@ class AspspEventServiceImplTest {
 
         verify(eventReportRepository, times(1)).getEventsForPeriodAndEventType(eq(START), eq(END), eq(EventType.CREATE_AIS_CONSENT_REQUEST_RECEIVED), eq(INSTANCE_ID));
     }
+
+    @Test
+    void forEachEventForPeriod_readsPageByPage() {
+        // Given
+        ReflectionTestUtils.setField(aspspEventService, "pageSize", 2);
+        ReflectionTestUtils.setField(mapper, "xs2aObjectMapper", new Xs2aObjectMapper());
+        ReportEvent first = buildReportEvent(1L, START.plusMinutes(1));
+        ReportEvent second = buildReportEvent(2L, START.plusMinutes(1));
+        ReportEvent third = buildReportEvent(3L, START.plusMinutes(2));
+        when(eventReportRepository.getEventsForPeriod(eq(START), eq(END), eq(INSTANCE_ID), isNull(), isNull(), eq(2), any()))
+            .thenAnswer(invocation -> passEvents(invocation.getArgument(6), first, second));
+        when(eventReportRepository.getEventsForPeriod(eq(START), eq(END), eq(INSTANCE_ID), eq(second.getTimestamp()), eq(2L), eq(2), any()))
+            .thenAnswer(invocation -> passEvents(invocation.getArgument(6), third));
+        List<AspspEvent> actual = new ArrayList<>();
+
+        // When
+        aspspEventService.forEachEventForPeriod(START, END, INSTANCE_ID, actual::add);
+
+        // Then
+        assertEquals(3, actual.size());
+        assertEquals(third.getTimestamp(), actual.get(2).getTimestamp());
+        verify(eventReportRepository, times(2)).getEventsForPeriod(eq(START), eq(END), eq(INSTANCE_ID), any(), any(), eq(2), any());
+    }
+
+    private int passEvents(Consumer<ReportEvent> consumer, ReportEvent... events) {
+        for (ReportEvent event : events) {
+            consumer.accept(event);
+        }
+        return events.length;
+    }
+
+    private ReportEvent buildReportEvent(Long id, OffsetDateTime timestamp) {
+        ReportEvent reportEvent = new ReportEvent();
+        reportEvent.setId(id);
+        reportEvent.setTimestamp(timestamp);
+        reportEvent.setPayload("{}".getBytes());
+        return reportEvent;
+    }
 }
@@ -31,6 +31,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
@@ -45,6 +47,19 @@ public class EventReportRepositoryImpl implements EventReportRepository {
         return eventReportDBMapper.mapToAspspReportEvents(events);
     }
 
+    @Override
+    public int getEventsForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId,
+                                  @Nullable OffsetDateTime afterTimestamp, @Nullable Long afterId, int limit,
+                                  @NotNull Consumer<ReportEvent> consumer) {
+        if (limit <= 0) {
+            return 0;
+        }
+
+        MergingEventHandler eventHandler = new MergingEventHandler(limit, consumer);
+        eventReportJPARepository.readEventsForPeriod(start, end, instanceId, afterTimestamp, afterId, eventHandler);
+        return eventHandler.complete();
+    }
+
     @Override
     public List<ReportEvent> getEventsForPeriodAndConsentId(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @NotNull String consentId, @Nullable String instanceId) {
         List<EventEntityForReport> events = eventReportJPARepository.findByTimestampBetweenAndConsentIdAndInstanceIdOrderByTimestampAsc(start, end, consentId, instanceId);
@@ -68,4 +83,47 @@ public class EventReportRepositoryImpl implements EventReportRepository {
         List<EventEntityForReport> events = eventReportJPARepository.findByTimestampBetweenAndEventOriginAndInstanceIdOrderByTimestampAsc(start, end, eventOrigin, instanceId);
         return eventReportDBMapper.mapToAspspReportEvents(events);
     }
+
+    /**
+     * Merges consecutive rows of the same event (one row per PSU of the consent or payment) into one report event
+     * and passes it to the consumer as soon as all its rows are read
+     */
+    private class MergingEventHandler implements Predicate<EventEntityForReport> {
+        private final int limit;
+        private final Consumer<ReportEvent> consumer;
+        private ReportEvent currentEvent;
+        private int passedEvents;
+
+        private MergingEventHandler(int limit, Consumer<ReportEvent> consumer) {
+            this.limit = limit;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public boolean test(EventEntityForReport row) {
+            ReportEvent event = eventReportDBMapper.mapToReportEvent(row);
+            if (currentEvent != null && currentEvent.getId().equals(event.getId())) {
+                currentEvent.merge(event);
+                return true;
+            }
+
+            if (currentEvent != null) {
+                pass(currentEvent);
+            }
+            currentEvent = event;
+            return passedEvents < limit;
+        }
+
+        private int complete() {
+            if (currentEvent != null && passedEvents < limit) {
+                pass(currentEvent);
+            }
+            return passedEvents;
+        }
+
+        private void pass(ReportEvent event) {
+            consumer.accept(event);
+            passedEvents++;
+        }
+    }
 }
@@ -21,21 +21,35 @@ import de.adorsys.psd2.event.core.model.EventType;
 import de.adorsys.psd2.report.entity.EventEntityForReport;
 import de.adorsys.psd2.report.jpa.builder.EventReportSqlParameterSourceBuilder;
 import de.adorsys.psd2.report.jpa.builder.SqlEventReportBuilder;
-import lombok.RequiredArgsConstructor;
+import de.adorsys.psd2.report.jpa.builder.SqlEventReportTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.function.Predicate;
 
 @Repository
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class EventReportJPARepository {
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final SqlEventReportBuilder sqlEventReportBuilder;
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+    private final SqlEventReportTemplate sqlEventReportTemplate;
+
+    public EventReportJPARepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                    SqlEventReportTemplate sqlEventReportTemplate,
+                                    @Value("${xs2a.cms.event-report.fetch-size:500}") int fetchSize) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.sqlEventReportTemplate = sqlEventReportTemplate;
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(namedParameterJdbcTemplate.getJdbcTemplate().getDataSource());
+        jdbcTemplate.setFetchSize(fetchSize);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
 
     public List<EventEntityForReport> getEventsForPeriod(OffsetDateTime periodFrom, OffsetDateTime periodTo, String instanceId) {
         EventReportSqlParameterSourceBuilder parameters = new EventReportSqlParameterSourceBuilder()
@@ -44,7 +58,7 @@ public class EventReportJPARepository {
                                                               .instanceId(instanceId)
                                                               .build();
 
-        String sqlRequest = sqlEventReportBuilder
+        String sqlRequest = sqlEventReportTemplate
                                 .baseRequest()
                                 .period()
                                 .instanceId()
@@ -53,6 +67,49 @@ public class EventReportJPARepository {
         return namedParameterJdbcTemplate.query(sqlRequest, parameters, new BeanPropertyRowMapper<>(EventEntityForReport.class));
     }
 
+    /**
+     * Reads events recorded in given period row by row with a forward-only cursor, ordered by timestamp and id.
+     * Rows are fetched from the database in portions of <code>xs2a.cms.event-report.fetch-size</code> rows.
+     *
+     * @param periodFrom     first date of the period
+     * @param periodTo       last date of the period
+     * @param instanceId     the id of particular service instance
+     * @param afterTimestamp timestamp of the last already read event, <code>null</code> to read from the beginning of the period
+     * @param afterId        id of the last already read event, ignored if <code>afterTimestamp</code> is <code>null</code>
+     * @param rowHandler     handler of the read rows, reading stops as soon as it returns <code>false</code>
+     */
+    public void readEventsForPeriod(OffsetDateTime periodFrom, OffsetDateTime periodTo, String instanceId,
+                                    OffsetDateTime afterTimestamp, Long afterId, Predicate<EventEntityForReport> rowHandler) {
+        EventReportSqlParameterSourceBuilder parameters = new EventReportSqlParameterSourceBuilder()
+                                                              .periodFrom(periodFrom)
+                                                              .periodTo(periodTo)
+                                                              .instanceId(instanceId);
+
+        SqlEventReportBuilder sqlRequestBuilder = sqlEventReportTemplate
+                                                      .baseRequest()
+                                                      .period()
+                                                      .instanceId();
+        if (afterTimestamp != null) {
+            parameters.afterTimestamp(afterTimestamp)
+                .afterId(afterId);
+            sqlRequestBuilder.afterEvent();
+        }
+        String sqlRequest = sqlRequestBuilder
+                                .orderedById()
+                                .build();
+
+        BeanPropertyRowMapper<EventEntityForReport> rowMapper = new BeanPropertyRowMapper<>(EventEntityForReport.class);
+        streamingJdbcTemplate.query(sqlRequest, parameters.build(), resultSet -> {
+            int rowNumber = 0;
+            while (resultSet.next()) {
+                if (!rowHandler.test(rowMapper.mapRow(resultSet, rowNumber++))) {
+                    break;
+                }
+            }
+            return null;
+        });
+    }
+
     public List<EventEntityForReport> findByTimestampBetweenAndConsentIdAndInstanceIdOrderByTimestampAsc(OffsetDateTime periodFrom, OffsetDateTime periodTo, String consentId, String instanceId) {
         EventReportSqlParameterSourceBuilder parameters = new EventReportSqlParameterSourceBuilder()
                                                               .periodFrom(periodFrom)
@@ -61,7 +118,7 @@ public class EventReportJPARepository {
                                                               .consentId(consentId)
                                                               .build();
 
-        String sqlRequest = sqlEventReportBuilder
+        String sqlRequest = sqlEventReportTemplate
                                 .baseRequest()
                                 .period()
                                 .instanceId()
@@ -79,7 +136,7 @@ public class EventReportJPARepository {
                                                               .paymentId(paymentId)
                                                               .build();
 
-        String sqlRequest = sqlEventReportBuilder
+        String sqlRequest = sqlEventReportTemplate
                                 .baseRequest()
                                 .period()
                                 .instanceId()
@@ -97,7 +154,7 @@ public class EventReportJPARepository {
                                                               .eventType(eventType)
                                                               .build();
 
-        String sqlRequest = sqlEventReportBuilder
+        String sqlRequest = sqlEventReportTemplate
                                 .baseRequest()
                                 .period()
                                 .instanceId()
@@ -115,7 +172,7 @@ public class EventReportJPARepository {
                                                               .eventOrigin(eventOrigin)
                                                               .build();
 
-        String sqlRequest = sqlEventReportBuilder
+        String sqlRequest = sqlEventReportTemplate
                                 .baseRequest()
                                 .period()
                                 .instanceId()
@@ -16,38 +16,18 @@
 
 package de.adorsys.psd2.report.jpa.builder;
 
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
-import org.springframework.stereotype.Component;
-
-import java.io.IOException;
-
-@Slf4j
-@Component
-public class SqlEventReportBuilder extends MapSqlParameterSource {
-    private static final String PLACEHOLDER = "<schema_name>";
-
-    @Value("${spring.jpa.properties.hibernate.default_schema}")
-    private String schemaName;
-    @Value("base_event_report_db.sql")
-    private String sqlRequestFileName;
-    private StringBuilder sqlRequest;
-    private StringBuilder filterRequest;
-
-    public String getBasePartOfRequest() throws IOException {
-        return IOUtils.toString(getClass().getClassLoader().getResource(sqlRequestFileName).openStream()).replace(PLACEHOLDER, schemaName);
-    }
+/**
+ * Builder of a single event report query, created by {@link SqlEventReportTemplate#baseRequest()}.
+ * <p>
+ * Not thread-safe, a new builder has to be used for every query.
+ */
+public class SqlEventReportBuilder {
+    private final StringBuilder sqlRequest;
+    private final StringBuilder filterRequest = new StringBuilder();
+    private boolean orderById;
 
-    public SqlEventReportBuilder baseRequest() {
-        try {
-            sqlRequest = new StringBuilder(getBasePartOfRequest());
-        } catch (IOException e) {
-            log.error("Request query was not found!");
-        }
-        filterRequest = new StringBuilder();
-        return this;
+    SqlEventReportBuilder(String basePartOfRequest) {
+        this.sqlRequest = new StringBuilder(basePartOfRequest);
     }
 
     public SqlEventReportBuilder period() {
@@ -80,10 +60,26 @@ public class SqlEventReportBuilder extends MapSqlParameterSource {
         return this;
     }
 
+    /**
+     * Selects only events that follow the event with given timestamp and id in the order of {@link #orderedById()}
+     */
+    public SqlEventReportBuilder afterEvent() {
+        appendToRequest("(timestamp > :afterTimestamp or (timestamp = :afterTimestamp and ev.id > :afterId)) ");
+        return this;
+    }
+
+    /**
+     * Orders events with the same timestamp by their id, so that the result can be read page by page
+     */
+    public SqlEventReportBuilder orderedById() {
+        orderById = true;
+        return this;
+    }
+
     public String build() {
         return sqlRequest
                    .append(filterRequest)
-                   .append("order by timestamp ")
+                   .append(orderById ? "order by timestamp, ev.id " : "order by timestamp ")
                    .toString();
     }
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018-2019 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.report.jpa.builder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Base part of the event report request, shared by all queries. Every query is built by its own
+ * {@link SqlEventReportBuilder} created by {@link #baseRequest()}, so concurrent reports don't share any state.
+ */
+@Slf4j
+@Component
+public class SqlEventReportTemplate implements InitializingBean {
+    private static final String PLACEHOLDER = "<schema_name>";
+
+    @Value("${spring.jpa.properties.hibernate.default_schema}")
+    private String schemaName;
+    @Value("base_event_report_db.sql")
+    private String sqlRequestFileName;
+    private volatile String basePartOfRequest;
+
+    @Override
+    public void afterPropertiesSet() {
+        loadBasePartOfRequest();
+    }
+
+    /**
+     * Reads the base part of the request from the classpath once, so that it isn't read again on every report
+     */
+    public void loadBasePartOfRequest() {
+        URL resource = getClass().getClassLoader().getResource(sqlRequestFileName);
+        if (resource == null) {
+            log.error("Request query was not found!");
+            return;
+        }
+
+        try (InputStream stream = resource.openStream()) {
+            basePartOfRequest = IOUtils.toString(stream, StandardCharsets.UTF_8).replace(PLACEHOLDER, schemaName);
+        } catch (IOException e) {
+            log.error("Request query was not found!");
+        }
+    }
+
+    public String getBasePartOfRequest() throws IOException {
+        if (basePartOfRequest == null) {
+            loadBasePartOfRequest();
+        }
+        if (basePartOfRequest == null) {
+            throw new IOException("Request query " + sqlRequestFileName + " was not found");
+        }
+        return basePartOfRequest;
+    }
+
+    /**
+     * @return new builder of a query, starting with the base part of the request
+     */
+    public SqlEventReportBuilder baseRequest() {
+        try {
+            return new SqlEventReportBuilder(getBasePartOfRequest());
+        } catch (IOException e) {
+            log.error("Request query was not found!");
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+}
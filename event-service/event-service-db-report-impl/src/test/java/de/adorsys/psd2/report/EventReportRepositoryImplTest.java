@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.report;
+
+import de.adorsys.psd2.event.persist.model.ReportEvent;
+import de.adorsys.psd2.report.entity.EventEntityForReport;
+import de.adorsys.psd2.report.jpa.EventReportJPARepository;
+import de.adorsys.psd2.report.mapper.EventReportDBMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventReportRepositoryImplTest {
+    private static final OffsetDateTime START = OffsetDateTime.parse("2019-07-09T12:29:50.042136Z");
+    private static final OffsetDateTime END = OffsetDateTime.parse("2019-07-09T14:29:50.042136Z");
+    private static final String INSTANCE_ID = "3de76f19-1df7-44d8-b760-ca972d2f945c";
+
+    @InjectMocks
+    private EventReportRepositoryImpl eventReportRepository;
+
+    @Mock
+    private EventReportJPARepository eventReportJPARepository;
+    @Spy
+    private EventReportDBMapper eventReportDBMapper = Mappers.getMapper(EventReportDBMapper.class);
+
+    @Test
+    void getEventsForPeriod_rowsOfOneEventAreMerged() {
+        // Given
+        List<EventEntityForReport> rows = Arrays.asList(buildRow(1L, "PSU 1"), buildRow(1L, "PSU 2"), buildRow(2L, "PSU 3"));
+        List<Boolean> continueReading = new ArrayList<>();
+        doAnswer(invocation -> {
+            Predicate<EventEntityForReport> rowHandler = invocation.getArgument(5);
+            rows.forEach(row -> continueReading.add(rowHandler.test(row)));
+            return null;
+        }).when(eventReportJPARepository).readEventsForPeriod(eq(START), eq(END), eq(INSTANCE_ID), isNull(), isNull(), any());
+        List<ReportEvent> actual = new ArrayList<>();
+
+        // When
+        int count = eventReportRepository.getEventsForPeriod(START, END, INSTANCE_ID, null, null, 10, actual::add);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals(2, actual.size());
+        assertEquals(1L, actual.get(0).getId());
+        assertEquals(2, actual.get(0).getPsuIdData().size());
+        assertEquals(2L, actual.get(1).getId());
+        assertEquals(Arrays.asList(true, true, true), continueReading);
+    }
+
+    @Test
+    void getEventsForPeriod_stopsAfterLimit() {
+        // Given
+        List<EventEntityForReport> rows = Arrays.asList(buildRow(1L, "PSU 1"), buildRow(2L, "PSU 2"), buildRow(2L, "PSU 3"), buildRow(3L, "PSU 4"));
+        OffsetDateTime afterTimestamp = START.plusMinutes(1);
+        doAnswer(invocation -> {
+            Predicate<EventEntityForReport> rowHandler = invocation.getArgument(5);
+            for (EventEntityForReport row : rows) {
+                if (!rowHandler.test(row)) {
+                    break;
+                }
+            }
+            return null;
+        }).when(eventReportJPARepository).readEventsForPeriod(eq(START), eq(END), eq(INSTANCE_ID), eq(afterTimestamp), eq(0L), any());
+        List<ReportEvent> actual = new ArrayList<>();
+
+        // When
+        int count = eventReportRepository.getEventsForPeriod(START, END, INSTANCE_ID, afterTimestamp, 0L, 2, actual::add);
+
+        // Then
+        assertEquals(2, count);
+        assertEquals(2, actual.size());
+        assertEquals(2L, actual.get(1).getId());
+        assertEquals(2, actual.get(1).getPsuIdData().size());
+    }
+
+    @Test
+    void getEventsForPeriod_zeroLimit() {
+        // When
+        int count = eventReportRepository.getEventsForPeriod(START, END, INSTANCE_ID, null, null, 0, event -> {});
+
+        // Then
+        assertEquals(0, count);
+        verifyNoInteractions(eventReportJPARepository);
+    }
+
+    private EventEntityForReport buildRow(Long id, String psuId) {
+        EventEntityForReport row = new EventEntityForReport();
+        row.setId(id);
+        row.setTimestamp(START.plusMinutes(id));
+        row.setEventOrigin("TPP");
+        row.setEventType("PAYMENT_INITIATION_REQUEST_RECEIVED");
+        row.setPsuId(psuId);
+        return row;
+    }
+}
@@ -20,16 +20,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class SqlEventReportBuilderTest {
     private static final String TEST_REQUEST_NAME = "json/test_event_report_db.sql";
 
-    private SqlEventReportBuilder builder;
+    private SqlEventReportTemplate builder;
 
     @BeforeEach
     void init() {
-        builder = new SqlEventReportBuilder();
+        builder = new SqlEventReportTemplate();
         ReflectionTestUtils.setField(builder, "schemaName", "event");
         ReflectionTestUtils.setField(builder, "sqlRequestFileName", TEST_REQUEST_NAME);
     }
@@ -130,4 +130,87 @@ class SqlEventReportBuilderTest {
         assertEquals(expectedSql, actualSql);
     }
 
+    @Test
+    void test_afterEvent_orderedById() {
+        // Given
+        String expectedSql = "select * from event\n" +
+                                 "where timestamp between :periodFrom and :periodTo " +
+                                 "and  (timestamp > :afterTimestamp or (timestamp = :afterTimestamp and ev.id > :afterId)) " +
+                                 "order by timestamp, ev.id ";
+
+        // When
+        String actualSql = builder
+                               .baseRequest()
+                               .period()
+                               .afterEvent()
+                               .orderedById()
+                               .build();
+
+        // Then
+        assertEquals(expectedSql, actualSql);
+    }
+
+    @Test
+    void test_orderedByIdIsReset() {
+        // Given
+        String expectedSql = "select * from event\n" +
+                                 "where timestamp between :periodFrom and :periodTo order by timestamp ";
+        builder.baseRequest()
+            .orderedById()
+            .build();
+
+        // When
+        String actualSql = builder
+                               .baseRequest()
+                               .period()
+                               .build();
+
+        // Then
+        assertEquals(expectedSql, actualSql);
+    }
+
+    @Test
+    void test_interleavedQueriesDontShareState() {
+        // Given
+        String expectedFirstSql = "select * from event\n" +
+                                      "where ev.consent_id = :consentId order by timestamp, ev.id ";
+        String expectedSecondSql = "select * from event\n" +
+                                       "where ev.payment_id = :paymentId order by timestamp ";
+        SqlEventReportBuilder first = builder.baseRequest()
+                                          .consentId();
+        SqlEventReportBuilder second = builder.baseRequest()
+                                           .paymentId();
+
+        // When
+        String actualFirstSql = first.orderedById()
+                                    .build();
+        String actualSecondSql = second.build();
+
+        // Then
+        assertEquals(expectedFirstSql, actualFirstSql);
+        assertEquals(expectedSecondSql, actualSecondSql);
+    }
+
+    @Test
+    void baseRequest_requestNotFound_shouldThrowException() {
+        // Given
+        ReflectionTestUtils.setField(builder, "sqlRequestFileName", "unknown.sql");
+
+        // When
+        assertThrows(IllegalStateException.class, () -> builder.baseRequest());
+    }
+
+    @Test
+    void getBasePartOfRequest_readOnce() throws Exception {
+        // Given
+        builder.afterPropertiesSet();
+        String basePart = builder.getBasePartOfRequest();
+        ReflectionTestUtils.setField(builder, "sqlRequestFileName", "unknown.sql");
+
+        // When
+        String actual = builder.getBasePartOfRequest();
+
+        // Then
+        assertSame(basePart, actual);
+    }
 }
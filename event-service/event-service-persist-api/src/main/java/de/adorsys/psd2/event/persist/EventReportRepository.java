@@ -24,6 +24,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EventReportRepository {
 
@@ -37,6 +38,24 @@ public interface EventReportRepository {
      */
     List<ReportEvent> getEventsForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId);
 
+    /**
+     * Passes Event objects, recorded in given time period, to the consumer one by one ordered by timestamp and id,
+     * without loading all of them into memory. Only events following the given timestamp and id are read, so that
+     * the whole period can be read page by page using the last passed event as position of the next page.
+     *
+     * @param start          First date of the period
+     * @param end            Last date of the period
+     * @param instanceId     The id of particular service instance
+     * @param afterTimestamp Timestamp of the last event of the previous page, <code>null</code> for the first page
+     * @param afterId        Id of the last event of the previous page, <code>null</code> for the first page
+     * @param limit          Maximum number of events to be passed to the consumer
+     * @param consumer       Consumer of the events
+     * @return number of events passed to the consumer
+     */
+    int getEventsForPeriod(@NotNull OffsetDateTime start, @NotNull OffsetDateTime end, @Nullable String instanceId,
+                           @Nullable OffsetDateTime afterTimestamp, @Nullable Long afterId, int limit,
+                           @NotNull Consumer<ReportEvent> consumer);
+
     /**
      * Returns a list of Event objects, recorded in given time period and with the given consentId
      *
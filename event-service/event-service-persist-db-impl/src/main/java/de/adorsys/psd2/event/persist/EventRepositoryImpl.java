@@ -24,6 +24,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -38,4 +42,15 @@ public class EventRepositoryImpl implements EventRepository {
         eventRepository.save(entity);
         return entity.getId();
     }
+
+    @Override
+    @Transactional
+    public List<Long> saveAll(List<EventPO> eventPOs) {
+        List<EventEntity> entities = eventPOs.stream()
+                                         .map(eventDBMapper::toEventEntity)
+                                         .collect(Collectors.toList());
+        return StreamSupport.stream(eventRepository.saveAll(entities).spliterator(), false)
+                   .map(EventEntity::getId)
+                   .collect(Collectors.toList());
+    }
 }
@@ -19,6 +19,8 @@ package de.adorsys.psd2.event.persist.entity;
 import de.adorsys.psd2.event.core.model.EventOrigin;
 import de.adorsys.psd2.event.core.model.EventType;
 import lombok.Data;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import javax.persistence.*;
 import java.time.OffsetDateTime;
@@ -30,7 +32,10 @@ public class EventEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_generator")
-    @SequenceGenerator(name = "event_generator", sequenceName = "event_id_seq", allocationSize = 1)
+    @GenericGenerator(name = "event_generator", strategy = "enhanced-sequence", parameters = {
+        @Parameter(name = "sequence_name", value = "event_id_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo")})
     private Long id;
 
     @Column(name = "timestamp", nullable = false)
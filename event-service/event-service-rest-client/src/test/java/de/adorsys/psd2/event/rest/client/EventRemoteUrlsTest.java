@@ -35,4 +35,9 @@ class EventRemoteUrlsTest {
     void createEvent() {
         assertEquals("base.url/events/", eventRemoteUrls.createEvent());
     }
+
+    @Test
+    void createEvents() {
+        assertEquals("base.url/events/batch", eventRemoteUrls.createEvents());
+    }
 }
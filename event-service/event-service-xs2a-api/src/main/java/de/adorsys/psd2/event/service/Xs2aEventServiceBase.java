@@ -19,6 +19,8 @@ package de.adorsys.psd2.event.service;
 import de.adorsys.psd2.event.service.model.EventBO;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+
 public interface Xs2aEventServiceBase {
     /**
      * Records new Event in the CMS
@@ -27,4 +29,18 @@ public interface Xs2aEventServiceBase {
      * @return <code>true</code> if the event was recorded. <code>false</code> otherwise.
      */
     boolean recordEvent(@NotNull EventBO event);
+
+    /**
+     * Records several Events in the CMS at once
+     *
+     * @param events Events to be recorded
+     * @return <code>true</code> if all events were recorded. <code>false</code> otherwise.
+     */
+    default boolean recordEvents(@NotNull List<EventBO> events) {
+        boolean recorded = true;
+        for (EventBO event : events) {
+            recorded &= recordEvent(event);
+        }
+        return recorded;
+    }
 }
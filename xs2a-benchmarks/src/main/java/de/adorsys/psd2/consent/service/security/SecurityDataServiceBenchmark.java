@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.security;
+
+import de.adorsys.psd2.consent.service.security.provider.CryptoProvider;
+import de.adorsys.psd2.consent.service.security.provider.CryptoProviderHolder;
+import de.adorsys.psd2.consent.service.security.provider.DerivedKeyCache;
+import de.adorsys.psd2.consent.service.security.provider.aes.AesEcbInstanceFactoryImpl;
+import de.adorsys.psd2.consent.service.security.provider.jwe.JweGsmInstanceFactoryImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of encrypted ID and consent data handling with and without cache of derived keys.
+ * Providers are configured the same way as in the default CMS database.
+ * <p>
+ * Can be started via {@link #main(String[])} or with the <code>benchmark</code> profile of <code>xs2a-benchmarks</code> module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class SecurityDataServiceBenchmark {
+    private static final String ID_PROVIDER_ID = "psGLvQpt9Q";
+    private static final String DATA_PROVIDER_ID = "JcHZwvJMuc";
+    private static final String CONSENT_ID = "fa6e687b-1ac9-4b1a-9c74-357c35c82ba1";
+    private static final byte[] ASPSP_CONSENT_DATA = "{\"aspspConsentData\": \"some data\"}".getBytes();
+
+    @Param({"0", "1000"})
+    private int keyCacheMaxSize;
+
+    private SecurityDataService securityDataService;
+    private String encryptedId;
+    private byte[] encryptedConsentData;
+
+    @Setup
+    public void setUp() {
+        DerivedKeyCache derivedKeyCache = new DerivedKeyCache(keyCacheMaxSize, TimeUnit.MINUTES.toMillis(10));
+        Map<String, CryptoProvider> providers = new HashMap<>();
+        providers.put(ID_PROVIDER_ID, new AesEcbInstanceFactoryImpl()
+                                          .initProvider(ID_PROVIDER_ID, "AES/ECB/PKCS5Padding_#_5_#_256_#_1024_#_PBKDF2WithHmacSHA256", derivedKeyCache));
+        providers.put(DATA_PROVIDER_ID, new JweGsmInstanceFactoryImpl()
+                                            .initProvider(DATA_PROVIDER_ID, "JWE/GCM/256_#_6_#_256_#_1024_#_PBKDF2WithHmacSHA256", derivedKeyCache));
+
+        MockEnvironment environment = new MockEnvironment().withProperty("server_key", "my_very_secret_key");
+        securityDataService = new SecurityDataService(environment, new CryptoProviderHolder(providers, DATA_PROVIDER_ID, ID_PROVIDER_ID));
+
+        encryptedId = securityDataService.encryptId(CONSENT_ID).orElseThrow(IllegalStateException::new);
+        encryptedConsentData = securityDataService.encryptConsentData(encryptedId, ASPSP_CONSENT_DATA)
+                                   .map(EncryptedData::getData)
+                                   .orElseThrow(IllegalStateException::new);
+    }
+
+    @Benchmark
+    public Optional<String> encryptId() {
+        return securityDataService.encryptId(CONSENT_ID);
+    }
+
+    @Benchmark
+    public Optional<String> decryptId() {
+        return securityDataService.decryptId(encryptedId);
+    }
+
+    @Benchmark
+    public Optional<DecryptedData> decryptConsentData() {
+        return securityDataService.decryptConsentData(encryptedId, encryptedConsentData);
+    }
+
+    @Benchmark
+    public Optional<EncryptedData> encryptConsentData() {
+        return securityDataService.encryptConsentData(encryptedId, ASPSP_CONSENT_DATA);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                       .include(SecurityDataServiceBenchmark.class.getSimpleName())
+                       .build())
+            .run();
+    }
+}
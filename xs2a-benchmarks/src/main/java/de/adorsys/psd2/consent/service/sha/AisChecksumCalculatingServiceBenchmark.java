@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.consent.service.sha;
+
+import de.adorsys.psd2.consent.service.sha.v3.AisChecksumCalculatingServiceV3;
+import de.adorsys.psd2.consent.service.sha.v4.AisChecksumCalculatingServiceV4;
+import de.adorsys.psd2.core.data.AccountAccess;
+import de.adorsys.psd2.core.data.ais.AisConsent;
+import de.adorsys.psd2.core.data.ais.AisConsentData;
+import de.adorsys.psd2.xs2a.core.profile.AccountReference;
+import de.adorsys.psd2.xs2a.core.profile.AccountReferenceType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares throughput of AIS consent checksum calculation and verification of versions 3 and 4
+ * for dedicated consents with different number of accounts, half of them IBAN and half masked PAN accounts.
+ * <p>
+ * Can be started via {@link #main(String[])} or with the <code>benchmark</code> profile of <code>xs2a-benchmarks</code> module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class AisChecksumCalculatingServiceBenchmark {
+    private static final Currency EUR = Currency.getInstance("EUR");
+
+    @Param({"1", "50", "500"})
+    private int accounts;
+
+    private final AisChecksumCalculatingServiceV3 serviceV3 = new AisChecksumCalculatingServiceV3();
+    private final AisChecksumCalculatingServiceV4 serviceV4 = new AisChecksumCalculatingServiceV4();
+    private AisConsent aisConsent;
+    private byte[] checksumV3;
+    private byte[] checksumV4;
+
+    @Setup
+    public void setUp() {
+        aisConsent = new AisConsent();
+        aisConsent.setConsentData(AisConsentData.buildDefaultAisConsentData());
+        aisConsent.setRecurringIndicator(true);
+        aisConsent.setValidUntil(LocalDate.now().plusDays(90));
+        aisConsent.setFrequencyPerDay(4);
+        aisConsent.setTppAccountAccesses(buildAccess(false));
+        aisConsent.setAspspAccountAccesses(buildAccess(true));
+
+        checksumV3 = serviceV3.calculateChecksumForConsent(aisConsent);
+        checksumV4 = serviceV4.calculateChecksumForConsent(aisConsent);
+    }
+
+    @Benchmark
+    public byte[] calculateV3() {
+        return serviceV3.calculateChecksumForConsent(aisConsent);
+    }
+
+    @Benchmark
+    public byte[] calculateV4() {
+        return serviceV4.calculateChecksumForConsent(aisConsent);
+    }
+
+    @Benchmark
+    public boolean verifyV3() {
+        return serviceV3.verifyConsentWithChecksum(aisConsent, checksumV3);
+    }
+
+    @Benchmark
+    public boolean verifyV4() {
+        return serviceV4.verifyConsentWithChecksum(aisConsent, checksumV4);
+    }
+
+    private AccountAccess buildAccess(boolean aspspAccess) {
+        List<AccountReference> references = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            String resourceId = aspspAccess ? "resource-" + i : null;
+            String aspspAccountId = aspspAccess ? "aspsp-account-" + i : null;
+            references.add(i % 2 == 0
+                               ? new AccountReference(AccountReferenceType.IBAN, String.format("DE%020d", i), EUR, resourceId, aspspAccountId)
+                               : new AccountReference(AccountReferenceType.MASKED_PAN, String.format("525412******%04d", i), EUR, resourceId, aspspAccountId));
+        }
+        return new AccountAccess(references, references, references, null);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                       .include(AisChecksumCalculatingServiceBenchmark.class.getSimpleName())
+                       .build())
+            .run();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.core.mapper;
+
+import de.adorsys.psd2.core.data.ais.AisConsentData;
+import de.adorsys.psd2.core.data.piis.PiisConsentData;
+import de.adorsys.psd2.xs2a.core.ais.AccountAccessType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of consent data decoding and encoding with JSON and binary codecs.
+ * <p>
+ * Can be started via {@link #main(String[])} or with the <code>benchmark</code> profile of <code>xs2a-benchmarks</code> module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ConsentDataMapperBenchmark {
+    private static final AisConsentData AIS_CONSENT_DATA = new AisConsentData(null, AccountAccessType.ALL_ACCOUNTS, null, true);
+    private static final PiisConsentData PIIS_CONSENT_DATA = new PiisConsentData("1234567891234", LocalDate.of(2030, 12, 31),
+                                                                                 "card information", "registration information");
+
+    @Param({"false", "true"})
+    private boolean binaryEncodingEnabled;
+
+    private ConsentDataMapper consentDataMapper;
+    private byte[] aisConsentDataBytes;
+    private byte[] piisConsentDataBytes;
+
+    @Setup
+    public void setUp() {
+        consentDataMapper = new ConsentDataMapper(binaryEncodingEnabled);
+        aisConsentDataBytes = consentDataMapper.getBytesFromConsentData(AIS_CONSENT_DATA);
+        piisConsentDataBytes = consentDataMapper.getBytesFromConsentData(PIIS_CONSENT_DATA);
+    }
+
+    @Benchmark
+    public AisConsentData decodeAisConsentData() {
+        return consentDataMapper.mapToAisConsentData(aisConsentDataBytes);
+    }
+
+    @Benchmark
+    public PiisConsentData decodePiisConsentData() {
+        return consentDataMapper.mapToPiisConsentData(piisConsentDataBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeAisConsentData() {
+        return consentDataMapper.getBytesFromConsentData(AIS_CONSENT_DATA);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                       .include(ConsentDataMapperBenchmark.class.getSimpleName())
+                       .build())
+            .run();
+    }
+}
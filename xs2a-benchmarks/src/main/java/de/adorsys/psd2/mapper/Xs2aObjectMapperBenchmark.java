@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.adorsys.psd2.mapper.config.ObjectMapperConfig;
+import de.adorsys.psd2.model.BulkPaymentInitiationJson;
+import de.adorsys.psd2.model.PaymentInitiationJson;
+import de.adorsys.xs2a.reader.JsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of payment request bodies (de)serialisation with the object mapper configured as in XS2A.
+ * Bulk payments contain given number of payments.
+ * <p>
+ * Can be started via {@link #main(String[])} or with the <code>benchmark</code> profile of <code>xs2a-benchmarks</code> module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class Xs2aObjectMapperBenchmark {
+    @Param({"1", "100"})
+    private int bulkPayments;
+
+    private Xs2aObjectMapper xs2aObjectMapper;
+    private byte[] singlePaymentBody;
+    private byte[] bulkPaymentBody;
+    private PaymentInitiationJson singlePayment;
+    private BulkPaymentInitiationJson bulkPayment;
+
+    @Setup
+    public void setUp() throws IOException {
+        xs2aObjectMapper = new ObjectMapperConfig().xs2aObjectMapper();
+        JsonReader jsonReader = new JsonReader();
+
+        singlePaymentBody = jsonReader.getBytesFromFile("json/single-payment.json");
+        ObjectNode bulkPaymentNode = (ObjectNode) xs2aObjectMapper.readTree(jsonReader.getBytesFromFile("json/bulk-payment.json"));
+        ArrayNode payments = (ArrayNode) bulkPaymentNode.get("payments");
+        JsonNode payment = payments.get(0);
+        for (int i = 1; i < bulkPayments; i++) {
+            payments.add(payment.deepCopy());
+        }
+        bulkPaymentBody = xs2aObjectMapper.writeValueAsBytes(bulkPaymentNode);
+
+        singlePayment = xs2aObjectMapper.readValue(singlePaymentBody, PaymentInitiationJson.class);
+        bulkPayment = xs2aObjectMapper.readValue(bulkPaymentBody, BulkPaymentInitiationJson.class);
+    }
+
+    @Benchmark
+    public PaymentInitiationJson readSinglePayment() throws IOException {
+        return xs2aObjectMapper.readValue(singlePaymentBody, PaymentInitiationJson.class);
+    }
+
+    @Benchmark
+    public BulkPaymentInitiationJson readBulkPayment() throws IOException {
+        return xs2aObjectMapper.readValue(bulkPaymentBody, BulkPaymentInitiationJson.class);
+    }
+
+    @Benchmark
+    public byte[] writeSinglePayment() throws IOException {
+        return xs2aObjectMapper.writeValueAsBytes(singlePayment);
+    }
+
+    @Benchmark
+    public byte[] writeBulkPayment() throws IOException {
+        return xs2aObjectMapper.writeValueAsBytes(bulkPayment);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                       .include(Xs2aObjectMapperBenchmark.class.getSimpleName())
+                       .build())
+            .run();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.validator.certificate.util;
+
+import no.difi.certvalidator.api.CertificateValidationException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of TPP data extraction from QWAC certificate, as done for every request without cached certificate data.
+ * <p>
+ * Can be started via {@link #main(String[])} or with the <code>benchmark</code> profile of <code>xs2a-benchmarks</code> module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class CertificateExtractorUtilBenchmark {
+    private String encodedCertificate;
+
+    @Setup
+    public void setUp() {
+        encodedCertificate = CertificateUtils.getCertificateByName("certificateValid.crt");
+    }
+
+    @Benchmark
+    public TppCertificateData extract() throws CertificateValidationException {
+        return CertificateExtractorUtil.extract(encodedCertificate);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                       .include(CertificateExtractorUtilBenchmark.class.getSimpleName())
+                       .build())
+            .run();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.validator.signature.impl;
+
+import de.adorsys.xs2a.reader.JsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of request signature and digest verification, including parsing of TPP signing certificate.
+ * <p>
+ * Can be started via {@link #main(String[])} or with the <code>benchmark</code> profile of <code>xs2a-benchmarks</code> module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class SignatureVerifierBenchmark {
+    private static final String METHOD = "POST";
+    private static final String URI = "/request-uri/example";
+    private static final String DIGEST = "SHA-256=x2iyTnu8glTS4NQk/X7jdpga/v4+AuxVRteArO42n9c=";
+
+    private final SignatureVerifierImpl signatureVerifier = new SignatureVerifierImpl();
+    private final DigestVerifierImpl digestVerifier = new DigestVerifierImpl();
+
+    private String signature;
+    private String certificate;
+    private String body;
+    private Map<String, String> headers;
+
+    @Setup
+    public void setUp() {
+        JsonReader jsonReader = new JsonReader();
+        signature = jsonReader.getStringFromFile("signature/correct_signature.txt");
+        certificate = jsonReader.getStringFromFile("signature/tpp_signature_certificate.txt");
+        body = jsonReader.getStringFromFile("json/consent-request.json");
+
+        headers = new HashMap<>();
+        headers.put("accept", "application/json");
+        headers.put("psu-ip-address", "1.1.1.1");
+        headers.put("psu-id", "anton.brueckner");
+        headers.put("x-request-id", "2f77a125-aa7a-45c0-b414-cea25a116035");
+        headers.put("signature", signature);
+        headers.put("digest", "SHA-256=cE4iyBDKyP5qdfUyHuB4eZf5iqA5pSAjTzl8l89Oh20=");
+        headers.put("date", "Sun, 06 Aug 2019 15:02:37 GMT");
+        headers.put("tpp-signature-certificate", certificate);
+        headers.put("tpp-redirect-uri", "http://bank.de.com/redirect-uri");
+
+        if (!verifySignature() || !verifyDigest()) {
+            throw new IllegalStateException("Benchmark data doesn't pass verification");
+        }
+    }
+
+    @Benchmark
+    public boolean verifySignature() {
+        return signatureVerifier.verify(signature, certificate, headers, METHOD, URI);
+    }
+
+    @Benchmark
+    public boolean verifyDigest() {
+        return digestVerifier.verify(DIGEST, body);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                       .include(SignatureVerifierBenchmark.class.getSimpleName())
+                       .build())
+            .run();
+    }
+}
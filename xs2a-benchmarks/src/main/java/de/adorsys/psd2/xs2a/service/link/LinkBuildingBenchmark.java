@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.link;
+
+import de.adorsys.psd2.core.data.AccountAccess;
+import de.adorsys.psd2.core.data.ais.AisConsent;
+import de.adorsys.psd2.core.data.ais.AisConsentData;
+import de.adorsys.psd2.xs2a.domain.ResponseObject;
+import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountDetails;
+import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountListHolder;
+import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
+import de.adorsys.psd2.xs2a.web.controller.AccountController;
+import de.adorsys.psd2.xs2a.web.link.AccountDetailsLinks;
+import de.adorsys.xs2a.reader.JsonReader;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.web.servlet.mvc.method.annotation.MvcUriComponentsBuilder.fromController;
+
+/**
+ * Measures building of the account links for an account list response, once with the base URL resolved
+ * from the controller for every link (as link builders used to do) and once via {@link AccountAspectService},
+ * which resolves it once per request.
+ * <p>
+ * Can be started via {@link #main(String[])} or with the <code>benchmark</code> profile of <code>xs2a-benchmarks</code> module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class LinkBuildingBenchmark {
+    @Param({"1", "100"})
+    private int accounts;
+
+    private AccountAspectService accountAspectService;
+    private AisConsent aisConsent;
+    private Xs2aAccountDetails accountDetails;
+
+    @Setup
+    public void setUp() {
+        JsonReader jsonReader = new JsonReader();
+        aisConsent = jsonReader.getObjectFromFile("json/aspect/ais-consent.json", AisConsent.class);
+        AccountAccess accountAccess = jsonReader.getObjectFromFile("json/aspect/account-access.json", AccountAccess.class);
+        aisConsent.setTppAccountAccesses(accountAccess);
+        aisConsent.setAspspAccountAccesses(accountAccess);
+        aisConsent.setConsentData(new AisConsentData(null, null, null, false));
+        accountDetails = jsonReader.getObjectFromFile("json/aspect/account_details.json", Xs2aAccountDetails.class);
+
+        // Base URL isn't forced, so that links are built from the current request
+        accountAspectService = new AccountAspectService(new AspspProfileServiceWrapper(null, null) {
+            @Override
+            public boolean isForceXs2aBaseLinksUrl() {
+                return false;
+            }
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public List<Xs2aAccountDetails> resolveUrlPerLink() {
+        List<Xs2aAccountDetails> accountDetailsList = buildAccountDetailsList();
+        accountDetailsList.forEach(acc -> acc.setLinks(new AccountDetailsLinks(fromController(AccountController.class).pathSegment(StringUtils.EMPTY).toUriString(),
+                                                                               acc.getResourceId(), aisConsent)));
+        return accountDetailsList;
+    }
+
+    @Benchmark
+    public List<Xs2aAccountDetails> resolveUrlPerRequest() {
+        List<Xs2aAccountDetails> accountDetailsList = buildAccountDetailsList();
+        accountAspectService.getAccountDetailsListAspect(ResponseObject.<Xs2aAccountListHolder>builder()
+                                                             .body(new Xs2aAccountListHolder(accountDetailsList, aisConsent))
+                                                             .build());
+        return accountDetailsList;
+    }
+
+    private List<Xs2aAccountDetails> buildAccountDetailsList() {
+        List<Xs2aAccountDetails> accountDetailsList = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            accountDetailsList.add(accountDetails);
+        }
+        return accountDetailsList;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                       .include(LinkBuildingBenchmark.class.getSimpleName())
+                       .build())
+            .run();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import de.adorsys.psd2.mapper.config.ObjectMapperConfig;
+import de.adorsys.psd2.model.BulkPaymentInitiationJson;
+import de.adorsys.psd2.model.PaymentInitiationJson;
+import de.adorsys.psd2.xs2a.domain.pis.BulkPayment;
+import de.adorsys.psd2.xs2a.domain.pis.SinglePayment;
+import de.adorsys.psd2.xs2a.web.mapper.PurposeCodeMapperImpl;
+import de.adorsys.psd2.xs2a.web.mapper.RemittanceMapperImpl;
+import de.adorsys.psd2.xs2a.web.mapper.Xs2aAddressMapperImpl;
+import de.adorsys.xs2a.reader.JsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of mapping of deserialised payment requests into XS2A payment objects.
+ * Bulk payments contain given number of payments.
+ * <p>
+ * Can be started via {@link #main(String[])} or with the <code>benchmark</code> profile of <code>xs2a-benchmarks</code> module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PaymentModelMapperBenchmark {
+    @Param({"1", "100"})
+    private int bulkPayments;
+
+    private AnnotationConfigApplicationContext mapperContext;
+    private PaymentModelMapper paymentModelMapper;
+    private PaymentInitiationJson singlePayment;
+    private BulkPaymentInitiationJson bulkPayment;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Mappers are generated with Spring component model, so nested mappers are injected by the context
+        mapperContext = new AnnotationConfigApplicationContext(PaymentModelMapperImpl.class, Xs2aAddressMapperImpl.class,
+                                                               RemittanceMapperImpl.class, PurposeCodeMapperImpl.class);
+        paymentModelMapper = mapperContext.getBean(PaymentModelMapper.class);
+
+        Xs2aObjectMapper xs2aObjectMapper = new ObjectMapperConfig().xs2aObjectMapper();
+        JsonReader jsonReader = new JsonReader();
+        singlePayment = xs2aObjectMapper.readValue(jsonReader.getBytesFromFile("json/single-payment.json"), PaymentInitiationJson.class);
+        ObjectNode bulkPaymentNode = (ObjectNode) xs2aObjectMapper.readTree(jsonReader.getBytesFromFile("json/bulk-payment.json"));
+        ArrayNode payments = (ArrayNode) bulkPaymentNode.get("payments");
+        JsonNode payment = payments.get(0);
+        for (int i = 1; i < bulkPayments; i++) {
+            payments.add(payment.deepCopy());
+        }
+        bulkPayment = xs2aObjectMapper.treeToValue(bulkPaymentNode, BulkPaymentInitiationJson.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mapperContext.close();
+    }
+
+    @Benchmark
+    public SinglePayment mapSinglePayment() {
+        return paymentModelMapper.mapToXs2aPayment(singlePayment);
+    }
+
+    @Benchmark
+    public BulkPayment mapBulkPayment() {
+        return paymentModelMapper.mapToXs2aPayment(bulkPayment);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                       .include(PaymentModelMapperBenchmark.class.getSimpleName())
+                       .build())
+            .run();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.web.validator.body.payment;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import de.adorsys.psd2.mapper.config.ObjectMapperConfig;
+import de.adorsys.psd2.xs2a.component.MultiReadHttpServletRequest;
+import de.adorsys.psd2.xs2a.core.error.ErrorType;
+import de.adorsys.psd2.xs2a.core.error.MessageError;
+import de.adorsys.psd2.xs2a.service.discovery.ServiceTypeDiscoveryService;
+import de.adorsys.psd2.xs2a.service.mapper.psd2.ServiceTypeToErrorTypeMapper;
+import de.adorsys.psd2.xs2a.web.PathParameterExtractor;
+import de.adorsys.psd2.xs2a.web.converter.LocalDateConverter;
+import de.adorsys.psd2.xs2a.web.validator.ErrorBuildingService;
+import de.adorsys.psd2.xs2a.web.validator.body.CurrencyValidator;
+import de.adorsys.psd2.xs2a.web.validator.body.DateFieldValidator;
+import de.adorsys.psd2.xs2a.web.validator.body.raw.FieldExtractor;
+import de.adorsys.xs2a.reader.JsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of raw data validation of payment request bodies, i.e. the part of {@link PaymentBodyValidatorImpl}
+ * that reads dates, currencies, frequency, booking and purpose code fields from the JSON body.
+ * Each invocation uses a new request, so parsing of the body is measured as well.
+ * Validation of fields that depends on ASPSP profile settings is not measured.
+ * <p>
+ * Can be started via {@link #main(String[])} or with the <code>benchmark</code> profile of <code>xs2a-benchmarks</code> module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PaymentBodyValidatorBenchmark {
+    private static final String PAYMENT_SERVICE_PATH_VAR = "payment-service";
+    private static final String PAYMENT_PRODUCT_PATH_VAR = "payment-product";
+    private static final String SINGLE_PAYMENT_PATH_VAR = "payments";
+    private static final String PAYMENT_PRODUCT = "sepa-credit-transfers";
+
+    @Param({"1", "100"})
+    private int bulkPayments;
+
+    private PaymentBodyValidatorImpl paymentBodyValidator;
+    private byte[] singlePaymentBody;
+    private byte[] bulkPaymentBody;
+
+    @Setup
+    public void setUp() throws IOException {
+        Xs2aObjectMapper xs2aObjectMapper = new ObjectMapperConfig().xs2aObjectMapper();
+        ErrorBuildingService errorBuildingService = new ErrorBuildingService(new ServiceTypeDiscoveryService(new MockHttpServletRequest()),
+                                                                             new ServiceTypeToErrorTypeMapper(), null, xs2aObjectMapper);
+        FieldExtractor fieldExtractor = new FieldExtractor(errorBuildingService, xs2aObjectMapper);
+        DateFieldValidator dateFieldValidator = new DateFieldValidator(errorBuildingService, new LocalDateConverter(), fieldExtractor);
+        paymentBodyValidator = new PaymentBodyValidatorImpl(errorBuildingService, xs2aObjectMapper, null, null,
+                                                            dateFieldValidator, fieldExtractor, new CurrencyValidator(errorBuildingService),
+                                                            new PathParameterExtractor(), null, null);
+
+        JsonReader jsonReader = new JsonReader();
+        singlePaymentBody = jsonReader.getBytesFromFile("json/single-payment.json");
+        ObjectNode bulkPaymentNode = (ObjectNode) xs2aObjectMapper.readTree(jsonReader.getBytesFromFile("json/bulk-payment.json"));
+        ArrayNode payments = (ArrayNode) bulkPaymentNode.get("payments");
+        JsonNode payment = payments.get(0);
+        for (int i = 1; i < bulkPayments; i++) {
+            payments.add(payment.deepCopy());
+        }
+        bulkPaymentBody = xs2aObjectMapper.writeValueAsBytes(bulkPaymentNode);
+
+        if (!validateSinglePayment().getTppMessages().isEmpty() || !validateBulkPayment().getTppMessages().isEmpty()) {
+            throw new IllegalStateException("Benchmark data doesn't pass validation");
+        }
+    }
+
+    @Benchmark
+    public MessageError validateSinglePayment() {
+        return paymentBodyValidator.validateRawData(buildRequest(singlePaymentBody, SINGLE_PAYMENT_PATH_VAR), new MessageError(ErrorType.PIS_400));
+    }
+
+    @Benchmark
+    public MessageError validateBulkPayment() {
+        return paymentBodyValidator.validateRawData(buildRequest(bulkPaymentBody, PaymentBodyValidatorImpl.BULK_PAYMENT_PATH_VAR),
+                                                    new MessageError(ErrorType.PIS_400));
+    }
+
+    private HttpServletRequest buildRequest(byte[] body, String paymentService) {
+        Map<String, String> pathParameters = new HashMap<>();
+        pathParameters.put(PAYMENT_SERVICE_PATH_VAR, paymentService);
+        pathParameters.put(PAYMENT_PRODUCT_PATH_VAR, PAYMENT_PRODUCT);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(body);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, pathParameters);
+        return new MultiReadHttpServletRequest(request);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                       .include(PaymentBodyValidatorBenchmark.class.getSimpleName())
+                       .build())
+            .run();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.web.validator.body.raw;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import de.adorsys.psd2.xs2a.component.MultiReadHttpServletRequest;
+import de.adorsys.psd2.xs2a.core.error.ErrorType;
+import de.adorsys.psd2.xs2a.core.error.MessageError;
+import de.adorsys.psd2.xs2a.service.discovery.ServiceTypeDiscoveryService;
+import de.adorsys.psd2.xs2a.service.mapper.psd2.ServiceTypeToErrorTypeMapper;
+import de.adorsys.psd2.xs2a.web.validator.ErrorBuildingService;
+import de.adorsys.xs2a.reader.JsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures raw body validation of a bulk payment, once with every field read from a freshly parsed body
+ * (as validators used to do) and once with the body parsed once per request.
+ * Number of JSON parses per request is reported by the <code>parses</code> counter.
+ * <p>
+ * Can be started via {@link #main(String[])} or with the <code>benchmark</code> profile of <code>xs2a-benchmarks</code> module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class RequestBodyParsingBenchmark {
+    private static final List<String> FIELD_NAMES = Arrays.asList("dayOfExecution", "requestedExecutionDate", "requestedExecutionTime",
+                                                                  "batchBookingPreferred", "frequency", "startDate", "endDate");
+    private static final List<String> LIST_FIELD_NAMES = Arrays.asList("currency", "purposeCode");
+
+    @Param({"10", "1000"})
+    private int transactions;
+
+    private byte[] body;
+    private CountingObjectMapper xs2aObjectMapper;
+    private FieldExtractor fieldExtractor;
+
+    @Setup
+    public void setUp() throws IOException {
+        xs2aObjectMapper = new CountingObjectMapper();
+        ErrorBuildingService errorBuildingService = new ErrorBuildingService(new ServiceTypeDiscoveryService(new MockHttpServletRequest()),
+                                                                             new ServiceTypeToErrorTypeMapper(), null, xs2aObjectMapper);
+        fieldExtractor = new FieldExtractor(errorBuildingService, xs2aObjectMapper);
+
+        ObjectNode bulkPayment = (ObjectNode) xs2aObjectMapper.readTree(new JsonReader().getBytesFromFile("json/bulk-payment.json"));
+        ArrayNode payments = (ArrayNode) bulkPayment.get("payments");
+        JsonNode payment = payments.get(0);
+        for (int i = 1; i < transactions; i++) {
+            payments.add(payment.deepCopy());
+        }
+        body = xs2aObjectMapper.writeValueAsBytes(bulkPayment);
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class ParseCounter {
+        public long parses;
+    }
+
+    @Benchmark
+    public int parsePerField(ParseCounter counter) throws IOException {
+        HttpServletRequest request = buildRequest();
+        long parsesBefore = xs2aObjectMapper.parses;
+        int found = 0;
+        for (String fieldName : FIELD_NAMES) {
+            found += xs2aObjectMapper.toJsonField(request.getInputStream(), fieldName, new TypeReference<String>() {
+            }).isPresent() ? 1 : 0;
+        }
+        for (String fieldName : LIST_FIELD_NAMES) {
+            found += xs2aObjectMapper.toJsonGetValuesForField(request.getInputStream(), fieldName).size();
+        }
+        found += xs2aObjectMapper.readValue(request.getInputStream(), Object.class) != null ? 1 : 0;
+        counter.parses += xs2aObjectMapper.parses - parsesBefore + 1;
+        return found;
+    }
+
+    @Benchmark
+    public int parseOnce(ParseCounter counter) {
+        HttpServletRequest request = buildRequest();
+        MessageError messageError = new MessageError(ErrorType.PIS_400);
+        long parsesBefore = xs2aObjectMapper.parses;
+        int found = 0;
+        for (String fieldName : FIELD_NAMES) {
+            found += fieldExtractor.extractField(request, fieldName, messageError).isPresent() ? 1 : 0;
+        }
+        for (String fieldName : LIST_FIELD_NAMES) {
+            found += fieldExtractor.extractList(request, fieldName, messageError).size();
+        }
+        found += fieldExtractor.mapBodyToInstance(request, messageError, Object.class).isPresent() ? 1 : 0;
+        counter.parses += xs2aObjectMapper.parses - parsesBefore;
+        return found;
+    }
+
+    private HttpServletRequest buildRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(body);
+        return new MultiReadHttpServletRequest(request);
+    }
+
+    /**
+     * Counts JSON trees built by the mapper, full deserialisation via readValue is counted by the benchmark itself
+     */
+    private static class CountingObjectMapper extends Xs2aObjectMapper {
+        private long parses;
+
+        @Override
+        public JsonNode readTree(InputStream in) throws IOException {
+            parses++;
+            return super.readTree(in);
+        }
+
+        @Override
+        public JsonNode readTree(byte[] content) throws IOException {
+            parses++;
+            return super.readTree(content);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                       .include(RequestBodyParsingBenchmark.class.getSimpleName())
+                       .build())
+            .run();
+    }
+}
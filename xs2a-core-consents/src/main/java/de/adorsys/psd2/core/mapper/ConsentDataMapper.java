@@ -16,27 +16,44 @@
 
 package de.adorsys.psd2.core.mapper;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.adorsys.psd2.core.data.ais.AisConsentData;
 import de.adorsys.psd2.core.data.piis.PiisConsentData;
-import de.adorsys.psd2.mapper.config.ObjectMapperConfig;
+import de.adorsys.psd2.core.mapper.codec.BinaryConsentDataCodec;
+import de.adorsys.psd2.core.mapper.codec.ConsentDataCodec;
+import de.adorsys.psd2.core.mapper.codec.JsonConsentDataCodec;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 
+/**
+ * Maps consent data to and from its serialised form. Codec for decoding is chosen by the serialised data itself,
+ * so consent data written as JSON stays readable after enabling the binary encoding.
+ */
 @Slf4j
 @Component
 public class ConsentDataMapper {
-    private final ObjectMapper objectMapper = buildObjectMapper();
+    private final ConsentDataCodec binaryCodec = new BinaryConsentDataCodec();
+    private final ConsentDataCodec jsonCodec = new JsonConsentDataCodec();
+    private final boolean binaryEncodingEnabled;
+
+    public ConsentDataMapper() {
+        this(false);
+    }
+
+    @Autowired
+    public ConsentDataMapper(@Value("${xs2a.consent-data.binary-encoding.enabled:false}") boolean binaryEncodingEnabled) {
+        this.binaryEncodingEnabled = binaryEncodingEnabled;
+    }
 
     public AisConsentData mapToAisConsentData(byte[] consentData) {
         if (consentData == null) {
             return AisConsentData.buildDefaultAisConsentData();
         }
         try {
-            return objectMapper.readValue(consentData, AisConsentData.class);
+            return getDecoder(consentData).decodeAisConsentData(consentData);
         } catch (IOException e) {
             log.info("Can't convert byte[] to AisConsentData: {}", e.getMessage());
             return null;
@@ -48,7 +65,7 @@ public class ConsentDataMapper {
             return PiisConsentData.buildDefaultConsentData();
         }
         try {
-            return objectMapper.readValue(consentData, PiisConsentData.class);
+            return getDecoder(consentData).decodePiisConsentData(consentData);
         } catch (IOException e) {
             log.info("Can't convert byte[] to PiisConsentData: {}", e.getMessage());
             return null;
@@ -57,15 +74,35 @@ public class ConsentDataMapper {
 
     public byte[] getBytesFromConsentData(Object consentData) {
         try {
-            return objectMapper.writeValueAsBytes(consentData);
-        } catch (JsonProcessingException e) {
+            return getEncoder(consentData).encode(consentData);
+        } catch (IOException e) {
             log.info("Can't convert consentData to byte[]: {}", e.getMessage());
             return new byte[0];
         }
     }
 
-    private ObjectMapper buildObjectMapper() {
-        ObjectMapperConfig objectMapperConfig = new ObjectMapperConfig();
-        return objectMapperConfig.xs2aObjectMapper();
+    /**
+     * Checks whether stored consent data should be rewritten in the currently configured format
+     *
+     * @param consentData serialised consent data
+     * @return <code>true</code> if binary encoding is enabled and the data was written in another format
+     */
+    public boolean isReencodingNeeded(byte[] consentData) {
+        return binaryEncodingEnabled
+                   && consentData != null
+                   && consentData.length > 0
+                   && !binaryCodec.canDecode(consentData);
+    }
+
+    private ConsentDataCodec getDecoder(byte[] consentData) {
+        return binaryCodec.canDecode(consentData)
+                   ? binaryCodec
+                   : jsonCodec;
+    }
+
+    private ConsentDataCodec getEncoder(Object consentData) {
+        return binaryEncodingEnabled && binaryCodec.canEncode(consentData)
+                   ? binaryCodec
+                   : jsonCodec;
     }
 }
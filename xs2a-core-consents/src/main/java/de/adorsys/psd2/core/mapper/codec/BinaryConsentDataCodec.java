@@ -0,0 +1,216 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.core.mapper.codec;
+
+import de.adorsys.psd2.core.data.ais.AisConsentData;
+import de.adorsys.psd2.core.data.piis.PiisConsentData;
+import de.adorsys.psd2.xs2a.core.ais.AccountAccessType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Compact binary codec for consent data.
+ * <p>
+ * Layout: header byte, schema version byte, data type byte, followed by the fields of the consent data in declaration order.
+ * Strings are written as UTF-8 bytes prefixed by their length + 1 encoded as varint, zero length prefix denotes <code>null</code>.
+ * Dates are written as varint of zigzag encoded epoch day + 1, zero denotes <code>null</code>. Enums are written as single byte
+ * codes defined by the schema version, zero denotes <code>null</code>.
+ * <p>
+ * Header byte is never a valid first byte of UTF-8 text, so binary data can always be distinguished from JSON.
+ */
+public class BinaryConsentDataCodec implements ConsentDataCodec {
+    public static final byte HEADER = (byte) 0xC5;
+    public static final byte SCHEMA_VERSION = 1;
+
+    private static final byte AIS_CONSENT_DATA_TYPE = 1;
+    private static final byte PIIS_CONSENT_DATA_TYPE = 2;
+    private static final int COMBINED_SERVICE_INDICATOR_FLAG = 1;
+    // Codes of account access types in schema version 1 are the positions in this array + 1, new values may only be appended
+    private static final AccountAccessType[] ACCOUNT_ACCESS_TYPES = {AccountAccessType.ALL_ACCOUNTS, AccountAccessType.ALL_ACCOUNTS_WITH_OWNER_NAME};
+
+    @Override
+    public boolean canDecode(byte[] consentData) {
+        return consentData.length > 0 && consentData[0] == HEADER;
+    }
+
+    @Override
+    public boolean canEncode(Object consentData) {
+        return consentData instanceof AisConsentData || consentData instanceof PiisConsentData;
+    }
+
+    @Override
+    public AisConsentData decodeAisConsentData(byte[] consentData) throws IOException {
+        ByteBuffer buffer = readHeader(consentData, AIS_CONSENT_DATA_TYPE);
+        try {
+            int flags = buffer.get();
+            return new AisConsentData(readAccountAccessType(buffer),
+                                      readAccountAccessType(buffer),
+                                      readAccountAccessType(buffer),
+                                      (flags & COMBINED_SERVICE_INDICATOR_FLAG) != 0);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated AIS consent data", e);
+        }
+    }
+
+    @Override
+    public PiisConsentData decodePiisConsentData(byte[] consentData) throws IOException {
+        ByteBuffer buffer = readHeader(consentData, PIIS_CONSENT_DATA_TYPE);
+        try {
+            return new PiisConsentData(readString(buffer),
+                                       readDate(buffer),
+                                       readString(buffer),
+                                       readString(buffer));
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated PIIS consent data", e);
+        }
+    }
+
+    @Override
+    public byte[] encode(Object consentData) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        if (consentData instanceof AisConsentData) {
+            AisConsentData aisConsentData = (AisConsentData) consentData;
+            writeHeader(out, AIS_CONSENT_DATA_TYPE);
+            out.write(aisConsentData.isCombinedServiceIndicator() ? COMBINED_SERVICE_INDICATOR_FLAG : 0);
+            writeAccountAccessType(out, aisConsentData.getAvailableAccounts());
+            writeAccountAccessType(out, aisConsentData.getAllPsd2());
+            writeAccountAccessType(out, aisConsentData.getAvailableAccountsWithBalance());
+        } else if (consentData instanceof PiisConsentData) {
+            PiisConsentData piisConsentData = (PiisConsentData) consentData;
+            writeHeader(out, PIIS_CONSENT_DATA_TYPE);
+            writeString(out, piisConsentData.getCardNumber());
+            writeDate(out, piisConsentData.getCardExpiryDate());
+            writeString(out, piisConsentData.getCardInformation());
+            writeString(out, piisConsentData.getRegistrationInformation());
+        } else {
+            throw new IOException("Unsupported consent data type: " + (consentData == null ? null : consentData.getClass().getName()));
+        }
+        return out.toByteArray();
+    }
+
+    private ByteBuffer readHeader(byte[] consentData, byte expectedType) throws IOException {
+        if (consentData.length < 3 || consentData[0] != HEADER) {
+            throw new IOException("Consent data is not in binary format");
+        }
+        if (consentData[1] != SCHEMA_VERSION) {
+            throw new IOException("Unsupported consent data schema version: " + consentData[1]);
+        }
+        if (consentData[2] != expectedType) {
+            throw new IOException("Unexpected consent data type: " + consentData[2]);
+        }
+        return ByteBuffer.wrap(consentData, 3, consentData.length - 3);
+    }
+
+    private void writeHeader(ByteArrayOutputStream out, byte type) {
+        out.write(HEADER);
+        out.write(SCHEMA_VERSION);
+        out.write(type);
+    }
+
+    private AccountAccessType readAccountAccessType(ByteBuffer buffer) throws IOException {
+        int code = buffer.get();
+        if (code == 0) {
+            return null;
+        }
+        if (code < 0 || code > ACCOUNT_ACCESS_TYPES.length) {
+            throw new IOException("Unknown account access type code: " + code);
+        }
+        return ACCOUNT_ACCESS_TYPES[code - 1];
+    }
+
+    private void writeAccountAccessType(ByteArrayOutputStream out, AccountAccessType accountAccessType) throws IOException {
+        if (accountAccessType == null) {
+            out.write(0);
+            return;
+        }
+        for (int i = 0; i < ACCOUNT_ACCESS_TYPES.length; i++) {
+            if (ACCOUNT_ACCESS_TYPES[i] == accountAccessType) {
+                out.write(i + 1);
+                return;
+            }
+        }
+        throw new IOException("No binary code for account access type: " + accountAccessType);
+    }
+
+    private String readString(ByteBuffer buffer) throws IOException {
+        long lengthPrefix = readVarLong(buffer);
+        if (lengthPrefix == 0) {
+            return null;
+        }
+        int length = (int) (lengthPrefix - 1);
+        if (length > buffer.remaining()) {
+            throw new IOException("String length exceeds consent data size");
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private LocalDate readDate(ByteBuffer buffer) throws IOException {
+        long value = readVarLong(buffer);
+        return value == 0 ? null : LocalDate.ofEpochDay(zigZagDecode(value - 1));
+    }
+
+    private void writeDate(ByteArrayOutputStream out, LocalDate date) {
+        writeVarLong(out, date == null ? 0 : zigZagEncode(date.toEpochDay()) + 1);
+    }
+
+    private long readVarLong(ByteBuffer buffer) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte next = buffer.get();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in consent data");
+    }
+
+    private void writeVarLong(ByteArrayOutputStream out, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
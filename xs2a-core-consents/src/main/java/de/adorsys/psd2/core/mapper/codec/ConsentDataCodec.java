@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.core.mapper.codec;
+
+import de.adorsys.psd2.core.data.ais.AisConsentData;
+import de.adorsys.psd2.core.data.piis.PiisConsentData;
+
+import java.io.IOException;
+
+/**
+ * Converts consent data (stored in CMS as a byte array) from and into its serialised form.
+ * Each codec marks its output in a way that allows to determine the codec needed for decoding by the data itself,
+ * so that the data written by different codecs may be stored side by side.
+ */
+public interface ConsentDataCodec {
+
+    /**
+     * Checks whether the given serialised consent data was written by this codec
+     *
+     * @param consentData serialised consent data, not null
+     * @return <code>true</code> if the data can be decoded by this codec, <code>false</code> otherwise
+     */
+    boolean canDecode(byte[] consentData);
+
+    /**
+     * Checks whether the given consent data object can be written by this codec
+     *
+     * @param consentData consent data object
+     * @return <code>true</code> if the data can be encoded by this codec, <code>false</code> otherwise
+     */
+    boolean canEncode(Object consentData);
+
+    AisConsentData decodeAisConsentData(byte[] consentData) throws IOException;
+
+    PiisConsentData decodePiisConsentData(byte[] consentData) throws IOException;
+
+    byte[] encode(Object consentData) throws IOException;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.core.mapper.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.adorsys.psd2.core.data.ais.AisConsentData;
+import de.adorsys.psd2.core.data.piis.PiisConsentData;
+import de.adorsys.psd2.mapper.config.ObjectMapperConfig;
+
+import java.io.IOException;
+
+/**
+ * Codec for consent data stored as JSON. Used for all the data that was written before binary codec was introduced
+ * and for consent data objects not supported by other codecs.
+ */
+public class JsonConsentDataCodec implements ConsentDataCodec {
+    private final ObjectMapper objectMapper = new ObjectMapperConfig().xs2aObjectMapper();
+
+    @Override
+    public boolean canDecode(byte[] consentData) {
+        return true;
+    }
+
+    @Override
+    public boolean canEncode(Object consentData) {
+        return true;
+    }
+
+    @Override
+    public AisConsentData decodeAisConsentData(byte[] consentData) throws IOException {
+        return objectMapper.readValue(consentData, AisConsentData.class);
+    }
+
+    @Override
+    public PiisConsentData decodePiisConsentData(byte[] consentData) throws IOException {
+        return objectMapper.readValue(consentData, PiisConsentData.class);
+    }
+
+    @Override
+    public byte[] encode(Object consentData) throws IOException {
+        return objectMapper.writeValueAsBytes(consentData);
+    }
+}
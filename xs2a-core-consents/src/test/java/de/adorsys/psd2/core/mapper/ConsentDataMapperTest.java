@@ -18,11 +18,12 @@ package de.adorsys.psd2.core.mapper;
 
 import de.adorsys.psd2.core.data.ais.AisConsentData;
 import de.adorsys.psd2.core.data.piis.PiisConsentData;
+import de.adorsys.psd2.core.mapper.codec.BinaryConsentDataCodec;
 import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class ConsentDataMapperTest {
 
@@ -50,4 +51,37 @@ class ConsentDataMapperTest {
 
         assertEquals(consentData, consentDataMapper.mapToPiisConsentData(bytesFromConsentData));
     }
+
+    @Test
+    void mapToAisConsentData_binaryEncodingEnabled() {
+        ConsentDataMapper binaryConsentDataMapper = new ConsentDataMapper(true);
+        AisConsentData consentData = jsonReader.getObjectFromFile("json/data/ais/ais-consent-data.json", AisConsentData.class);
+        byte[] bytesFromConsentData = binaryConsentDataMapper.getBytesFromConsentData(consentData);
+
+        assertEquals(BinaryConsentDataCodec.HEADER, bytesFromConsentData[0]);
+        assertEquals(consentData, binaryConsentDataMapper.mapToAisConsentData(bytesFromConsentData));
+        assertEquals(consentData, consentDataMapper.mapToAisConsentData(bytesFromConsentData));
+    }
+
+    @Test
+    void mapToPiisConsentData_binaryEncodingEnabled_jsonData() {
+        ConsentDataMapper binaryConsentDataMapper = new ConsentDataMapper(true);
+        PiisConsentData consentData = jsonReader.getObjectFromFile("json/data/piis/piis-consent-data.json", PiisConsentData.class);
+        byte[] jsonBytes = consentDataMapper.getBytesFromConsentData(consentData);
+
+        assertEquals(consentData, binaryConsentDataMapper.mapToPiisConsentData(jsonBytes));
+    }
+
+    @Test
+    void isReencodingNeeded() {
+        ConsentDataMapper binaryConsentDataMapper = new ConsentDataMapper(true);
+        AisConsentData consentData = jsonReader.getObjectFromFile("json/data/ais/ais-consent-data.json", AisConsentData.class);
+        byte[] jsonBytes = consentDataMapper.getBytesFromConsentData(consentData);
+        byte[] binaryBytes = binaryConsentDataMapper.getBytesFromConsentData(consentData);
+
+        assertTrue(binaryConsentDataMapper.isReencodingNeeded(jsonBytes));
+        assertFalse(binaryConsentDataMapper.isReencodingNeeded(binaryBytes));
+        assertFalse(binaryConsentDataMapper.isReencodingNeeded(null));
+        assertFalse(consentDataMapper.isReencodingNeeded(jsonBytes));
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.core.mapper.codec;
+
+import de.adorsys.psd2.core.data.ais.AisConsentData;
+import de.adorsys.psd2.core.data.piis.PiisConsentData;
+import de.adorsys.psd2.xs2a.core.ais.AccountAccessType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryConsentDataCodecTest {
+    private static final AisConsentData AIS_CONSENT_DATA = new AisConsentData(AccountAccessType.ALL_ACCOUNTS, null,
+                                                                              AccountAccessType.ALL_ACCOUNTS_WITH_OWNER_NAME, true);
+    private static final PiisConsentData PIIS_CONSENT_DATA = new PiisConsentData("1234567891234", LocalDate.of(2030, 12, 31),
+                                                                                 "Kartenbezeichnung mit Umlauten äöü", null);
+
+    private final BinaryConsentDataCodec binaryCodec = new BinaryConsentDataCodec();
+    private final JsonConsentDataCodec jsonCodec = new JsonConsentDataCodec();
+
+    @Test
+    void aisConsentData_roundTrip() throws IOException {
+        // When
+        byte[] encoded = binaryCodec.encode(AIS_CONSENT_DATA);
+
+        // Then
+        assertTrue(binaryCodec.canDecode(encoded));
+        assertEquals(AIS_CONSENT_DATA, binaryCodec.decodeAisConsentData(encoded));
+    }
+
+    @Test
+    void aisConsentData_defaultData_roundTrip() throws IOException {
+        // Given
+        AisConsentData defaultData = AisConsentData.buildDefaultAisConsentData();
+
+        // When
+        byte[] encoded = binaryCodec.encode(defaultData);
+
+        // Then
+        assertEquals(defaultData, binaryCodec.decodeAisConsentData(encoded));
+    }
+
+    @Test
+    void aisConsentData_allAccountAccessTypes_roundTrip() throws IOException {
+        for (AccountAccessType accountAccessType : AccountAccessType.values()) {
+            // Given
+            AisConsentData aisConsentData = new AisConsentData(accountAccessType, accountAccessType, accountAccessType, false);
+
+            // When
+            byte[] encoded = binaryCodec.encode(aisConsentData);
+
+            // Then
+            assertEquals(aisConsentData, binaryCodec.decodeAisConsentData(encoded));
+        }
+    }
+
+    @Test
+    void piisConsentData_roundTrip() throws IOException {
+        // When
+        byte[] encoded = binaryCodec.encode(PIIS_CONSENT_DATA);
+
+        // Then
+        assertTrue(binaryCodec.canDecode(encoded));
+        assertEquals(PIIS_CONSENT_DATA, binaryCodec.decodePiisConsentData(encoded));
+    }
+
+    @Test
+    void piisConsentData_pastDate_roundTrip() throws IOException {
+        // Given
+        PiisConsentData piisConsentData = new PiisConsentData(null, LocalDate.of(1960, 1, 1), null, "registration");
+
+        // When
+        byte[] encoded = binaryCodec.encode(piisConsentData);
+
+        // Then
+        assertEquals(piisConsentData, binaryCodec.decodePiisConsentData(encoded));
+    }
+
+    @Test
+    void encode_isSmallerThanJson() throws IOException {
+        assertTrue(binaryCodec.encode(AIS_CONSENT_DATA).length * 3 < jsonCodec.encode(AIS_CONSENT_DATA).length);
+        assertTrue(binaryCodec.encode(PIIS_CONSENT_DATA).length < jsonCodec.encode(PIIS_CONSENT_DATA).length);
+    }
+
+    @Test
+    void canDecode_json_false() throws IOException {
+        assertFalse(binaryCodec.canDecode(jsonCodec.encode(AIS_CONSENT_DATA)));
+        assertFalse(binaryCodec.canDecode(new byte[0]));
+    }
+
+    @Test
+    void canEncode() {
+        assertTrue(binaryCodec.canEncode(AIS_CONSENT_DATA));
+        assertTrue(binaryCodec.canEncode(PIIS_CONSENT_DATA));
+        assertFalse(binaryCodec.canEncode("consent data"));
+        assertFalse(binaryCodec.canEncode(null));
+    }
+
+    @Test
+    void encode_unsupportedType_throwsException() {
+        assertThrows(IOException.class, () -> binaryCodec.encode("consent data"));
+    }
+
+    @Test
+    void decode_wrongDataType_throwsException() throws IOException {
+        // Given
+        byte[] encodedPiis = binaryCodec.encode(PIIS_CONSENT_DATA);
+
+        // Then
+        assertThrows(IOException.class, () -> binaryCodec.decodeAisConsentData(encodedPiis));
+    }
+
+    @Test
+    void decode_unsupportedSchemaVersion_throwsException() throws IOException {
+        // Given
+        byte[] encoded = binaryCodec.encode(AIS_CONSENT_DATA);
+        encoded[1] = BinaryConsentDataCodec.SCHEMA_VERSION + 1;
+
+        // Then
+        assertThrows(IOException.class, () -> binaryCodec.decodeAisConsentData(encoded));
+    }
+
+    @Test
+    void decode_truncatedData_throwsException() throws IOException {
+        // Given
+        byte[] encoded = binaryCodec.encode(PIIS_CONSENT_DATA);
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 5);
+
+        // Then
+        assertThrows(IOException.class, () -> binaryCodec.decodePiisConsentData(truncated));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import org.springframework.web.util.UriTemplateHandler;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Remembers the URL template of the current request, so that the latency of requests to the same endpoint
+ * is recorded together regardless of the values of path and query variables
+ */
+class EndpointRecordingUriTemplateHandler implements UriTemplateHandler {
+    private static final ThreadLocal<String> CURRENT_URL_TEMPLATE = new ThreadLocal<>();
+
+    private final UriTemplateHandler delegate;
+
+    EndpointRecordingUriTemplateHandler(UriTemplateHandler delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public URI expand(String uriTemplate, Map<String, ?> uriVariables) {
+        CURRENT_URL_TEMPLATE.set(uriTemplate);
+        return delegate.expand(uriTemplate, uriVariables);
+    }
+
+    @Override
+    public URI expand(String uriTemplate, Object... uriVariables) {
+        CURRENT_URL_TEMPLATE.set(uriTemplate);
+        return delegate.expand(uriTemplate, uriVariables);
+    }
+
+    static String pollUrlTemplate() {
+        String urlTemplate = CURRENT_URL_TEMPLATE.get();
+        CURRENT_URL_TEMPLATE.remove();
+        return urlTemplate;
+    }
+}
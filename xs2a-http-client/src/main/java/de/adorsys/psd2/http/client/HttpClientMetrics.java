@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Connection pool gauges and per endpoint latency histograms of one {@link PooledHttpClient}
+ */
+public class HttpClientMetrics {
+    private final String clientName;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final Map<String, LatencyHistogram> latencyHistograms = new ConcurrentHashMap<>();
+
+    HttpClientMetrics(String clientName, PoolingHttpClientConnectionManager connectionManager) {
+        this.clientName = clientName;
+        this.connectionManager = connectionManager;
+    }
+
+    public String getClientName() {
+        return clientName;
+    }
+
+    /**
+     * @return number of connections that are currently used by requests
+     */
+    public int getLeasedConnections() {
+        return connectionManager.getTotalStats().getLeased();
+    }
+
+    /**
+     * @return number of requests that are waiting for a free connection
+     */
+    public int getPendingConnections() {
+        return connectionManager.getTotalStats().getPending();
+    }
+
+    /**
+     * @return number of idle connections that are kept open for reuse
+     */
+    public int getAvailableConnections() {
+        return connectionManager.getTotalStats().getAvailable();
+    }
+
+    public int getMaxConnections() {
+        return connectionManager.getTotalStats().getMax();
+    }
+
+    /**
+     * Returns latency histograms of all called endpoints
+     *
+     * @return map of histograms, where key is the HTTP method and URL template of the endpoint
+     */
+    public Map<String, LatencyHistogram> getLatencyHistograms() {
+        return Collections.unmodifiableMap(latencyHistograms);
+    }
+
+    void recordLatency(String endpoint, long durationMs) {
+        latencyHistograms.computeIfAbsent(endpoint, e -> new LatencyHistogram())
+            .record(durationMs);
+    }
+}
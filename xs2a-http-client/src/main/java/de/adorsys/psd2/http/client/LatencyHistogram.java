@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of request durations with fixed buckets
+ */
+public class LatencyHistogram {
+    /**
+     * Upper bounds of the buckets in milliseconds, the last bucket counts all longer requests
+     */
+    public static final long[] BUCKET_BOUNDS_MS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalTimeMs = new LongAdder();
+
+    LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long durationMs) {
+        int index = Arrays.binarySearch(BUCKET_BOUNDS_MS, durationMs);
+        buckets[index >= 0 ? index : -index - 1].increment();
+        count.increment();
+        totalTimeMs.add(durationMs);
+    }
+
+    /**
+     * Returns number of requests per bucket, bucket <code>i</code> counts requests that took no longer than
+     * <code>BUCKET_BOUNDS_MS[i]</code> milliseconds and longer than the previous bound
+     *
+     * @return array with one element per bucket
+     */
+    public long[] getBucketCounts() {
+        return Arrays.stream(buckets)
+                   .mapToLong(LongAdder::sum)
+                   .toArray();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalTimeMs() {
+        return totalTimeMs.sum();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Records duration of every request in the latency histogram of its endpoint
+ */
+class MetricsClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+    private final HttpClientMetrics metrics;
+
+    MetricsClientHttpRequestInterceptor(HttpClientMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        String urlTemplate = Optional.ofNullable(EndpointRecordingUriTemplateHandler.pollUrlTemplate())
+                                 .orElseGet(() -> request.getURI().getPath());
+        String endpoint = request.getMethodValue() + " " + urlTemplate;
+
+        long start = System.nanoTime();
+        try {
+            return execution.execute(request, body);
+        } finally {
+            metrics.recordLatency(endpoint, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
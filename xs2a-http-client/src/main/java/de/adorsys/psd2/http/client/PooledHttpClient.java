@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP/1.1 client with a pool of keep-alive connections, shared by all requests of one {@link RestTemplate}.
+ * <p>
+ * Should be registered as a bean, so that the pool is closed on shutdown.
+ */
+@Slf4j
+public class PooledHttpClient implements DisposableBean {
+    private final CloseableHttpClient httpClient;
+    private final HttpComponentsClientHttpRequestFactory requestFactory;
+    private final HttpClientMetrics metrics;
+
+    public PooledHttpClient(String clientName, PooledHttpClientSettings settings) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(settings.getMaxTotalConnections());
+        connectionManager.setDefaultMaxPerRoute(settings.getMaxConnectionsPerRoute());
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                                          .setConnectTimeout(settings.getConnectionTimeoutMs())
+                                          .setSocketTimeout(settings.getReadTimeoutMs())
+                                          .setConnectionRequestTimeout(settings.getConnectionRequestTimeoutMs())
+                                          .build();
+
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create()
+                                                  .setConnectionManager(connectionManager)
+                                                  .setDefaultRequestConfig(requestConfig)
+                                                  .evictExpiredConnections();
+        if (settings.getIdleEvictionMs() > 0) {
+            httpClientBuilder.evictIdleConnections(settings.getIdleEvictionMs(), TimeUnit.MILLISECONDS);
+        }
+        if (!settings.isGzipEnabled()) {
+            httpClientBuilder.disableContentCompression();
+        }
+
+        this.httpClient = httpClientBuilder.build();
+        this.requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        this.metrics = new HttpClientMetrics(clientName, connectionManager);
+    }
+
+    /**
+     * Makes the given template send its requests via this client and record their latency
+     *
+     * @param restTemplate template to be configured
+     */
+    public void configure(RestTemplate restTemplate) {
+        restTemplate.setRequestFactory(requestFactory);
+        restTemplate.setUriTemplateHandler(new EndpointRecordingUriTemplateHandler(restTemplate.getUriTemplateHandler()));
+        restTemplate.getInterceptors().add(0, new MetricsClientHttpRequestInterceptor(metrics));
+    }
+
+    public ClientHttpRequestFactory getRequestFactory() {
+        return requestFactory;
+    }
+
+    public HttpClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            log.warn("Couldn't close HTTP client {}: {}", metrics.getClientName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Settings of the {@link PooledHttpClient}
+ */
+@Value
+@Builder
+public class PooledHttpClientSettings {
+    /**
+     * Timeout for establishing a new connection in milliseconds
+     */
+    @Builder.Default
+    int connectionTimeoutMs = 10000;
+    /**
+     * Timeout for waiting for data on an established connection in milliseconds
+     */
+    @Builder.Default
+    int readTimeoutMs = 10000;
+    /**
+     * Timeout for leasing a connection from the pool in milliseconds
+     */
+    @Builder.Default
+    int connectionRequestTimeoutMs = 5000;
+    /**
+     * Maximum number of open connections to all hosts
+     */
+    @Builder.Default
+    int maxTotalConnections = 100;
+    /**
+     * Maximum number of open connections to one host
+     */
+    @Builder.Default
+    int maxConnectionsPerRoute = 50;
+    /**
+     * Time in milliseconds after which an idle connection is closed, 0 keeps idle connections open
+     */
+    @Builder.Default
+    long idleEvictionMs = 30000;
+    /**
+     * Whether gzip compressed responses should be requested and decompressed
+     */
+    @Builder.Default
+    boolean gzipEnabled = false;
+}
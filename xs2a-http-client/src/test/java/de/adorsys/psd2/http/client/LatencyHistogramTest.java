@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyHistogramTest {
+
+    @Test
+    void record() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        histogram.record(0);
+        histogram.record(5);
+        histogram.record(6);
+        histogram.record(300);
+        histogram.record(60000);
+
+        // Then
+        long[] expectedBuckets = {2, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1};
+        assertArrayEquals(expectedBuckets, histogram.getBucketCounts());
+        assertEquals(5, histogram.getCount());
+        assertEquals(60311, histogram.getTotalTimeMs());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.http.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PooledHttpClientTest {
+    private static final String RESPONSE = "{\"status\":\"VALID\"}";
+    private static final String URL_TEMPLATE = "http://localhost:{port}/consents/{consent-id}";
+
+    private HttpServer httpServer;
+    private PooledHttpClient pooledHttpClient;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/", exchange -> {
+            byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        httpServer.start();
+
+        pooledHttpClient = new PooledHttpClient("test", PooledHttpClientSettings.builder()
+                                                            .maxTotalConnections(5)
+                                                            .maxConnectionsPerRoute(2)
+                                                            .build());
+        restTemplate = new RestTemplate();
+        pooledHttpClient.configure(restTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pooledHttpClient.destroy();
+        httpServer.stop(0);
+    }
+
+    @Test
+    void configure() {
+        // Then
+        assertTrue(restTemplate.getRequestFactory() instanceof InterceptingClientHttpRequestFactory);
+        assertTrue(pooledHttpClient.getRequestFactory() instanceof HttpComponentsClientHttpRequestFactory);
+        assertEquals(1, restTemplate.getInterceptors().size());
+    }
+
+    @Test
+    void request_connectionIsReusedAndLatencyIsRecorded() {
+        // Given
+        int port = httpServer.getAddress().getPort();
+
+        // When
+        String firstResponse = restTemplate.getForObject(URL_TEMPLATE, String.class, port, "consent-1");
+        String secondResponse = restTemplate.getForObject(URL_TEMPLATE, String.class, port, "consent-2");
+
+        // Then
+        assertEquals(RESPONSE, firstResponse);
+        assertEquals(RESPONSE, secondResponse);
+
+        HttpClientMetrics metrics = pooledHttpClient.getMetrics();
+        assertEquals(0, metrics.getLeasedConnections());
+        assertEquals(0, metrics.getPendingConnections());
+        assertEquals(1, metrics.getAvailableConnections());
+        assertEquals(5, metrics.getMaxConnections());
+
+        Map<String, LatencyHistogram> histograms = metrics.getLatencyHistograms();
+        assertEquals(1, histograms.size());
+        LatencyHistogram histogram = histograms.get("GET " + URL_TEMPLATE);
+        assertNotNull(histogram);
+        assertEquals(2, histogram.getCount());
+    }
+}
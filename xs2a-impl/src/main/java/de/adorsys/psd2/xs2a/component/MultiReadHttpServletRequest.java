@@ -17,6 +17,7 @@
 package de.adorsys.psd2.xs2a.component;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
@@ -28,7 +29,7 @@ import java.io.*;
  * This class decorates incoming HttpServletRequest, caches its body and is used by spring framework further
  */
 public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
-    private ByteArrayOutputStream cachedBytes;
+    private byte[] cachedBytes;
 
     public MultiReadHttpServletRequest(HttpServletRequest request) {
         super(request);
@@ -36,11 +37,42 @@ public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
+        return new CachedServletInputStream(getCachedBody());
+    }
+
+    /**
+     * Returns body of the request, reading it from the original request on first access.
+     * Returned array is shared by all readers of the request and must not be modified.
+     *
+     * @return body of the request
+     * @throws IOException if body of the original request can't be read
+     */
+    public byte[] getCachedBody() throws IOException {
+        if (cachedBytes == null) {
+            cachedBytes = IOUtils.toByteArray(super.getInputStream());
+        }
+
+        return cachedBytes;
+    }
+
+    /**
+     * Reads body of the original request, unless it is longer than the given size.
+     * At most <code>maxBodySize + 1</code> bytes are read, so oversized bodies are never buffered as a whole.
+     *
+     * @param maxBodySize maximum size of the body in bytes
+     * @return <code>true</code> if the body has been cached, <code>false</code> if it exceeds the given size
+     * @throws IOException if body of the original request can't be read
+     */
+    public boolean cacheBody(long maxBodySize) throws IOException {
         if (cachedBytes == null) {
-            cacheInputStream();
+            byte[] body = IOUtils.toByteArray(new BoundedInputStream(super.getInputStream(), maxBodySize + 1));
+            if (body.length > maxBodySize) {
+                return false;
+            }
+            cachedBytes = body;
         }
 
-        return new CachedServletInputStream();
+        return cachedBytes.length <= maxBodySize;
     }
 
     @Override
@@ -48,16 +80,11 @@ public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
         return new BufferedReader(new InputStreamReader(getInputStream()));
     }
 
-    private void cacheInputStream() throws IOException {
-        cachedBytes = new ByteArrayOutputStream();
-        IOUtils.copy(super.getInputStream(), cachedBytes);
-    }
-
-    private class CachedServletInputStream extends ServletInputStream {
-        private ByteArrayInputStream input;
+    private static class CachedServletInputStream extends ServletInputStream {
+        private final ByteArrayInputStream input;
 
-        public CachedServletInputStream() {
-            input = new ByteArrayInputStream(cachedBytes.toByteArray());
+        public CachedServletInputStream(byte[] cachedBytes) {
+            input = new ByteArrayInputStream(cachedBytes);
         }
 
         @Override
@@ -65,6 +92,11 @@ public class MultiReadHttpServletRequest extends HttpServletRequestWrapper {
             return input.read();
         }
 
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return input.read(b, off, len);
+        }
+
 		@Override
 		public boolean isFinished() {
 			return false;
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Body of the incoming request that is read once and shared by filters, validators and mappers within the request.
+ * <p>
+ * The instance is stored as an attribute of the request. Raw bytes are taken from {@link MultiReadHttpServletRequest}
+ * without copying, JSON tree of the body is built on first access. Both are shared and must not be modified.
+ */
+@Slf4j
+public class ParsedRequestBody {
+    private static final String ATTRIBUTE_NAME = ParsedRequestBody.class.getName();
+
+    private final byte[] content;
+    private JsonNode jsonNode;
+    private boolean parsed;
+
+    private ParsedRequestBody(byte[] content) {
+        this.content = content;
+    }
+
+    /**
+     * Returns body of given request, reading it on first access
+     *
+     * @param request HTTP request
+     * @return body of the request
+     * @throws IOException if body of the request can't be read
+     */
+    @NotNull
+    public static ParsedRequestBody of(HttpServletRequest request) throws IOException {
+        Object attribute = request.getAttribute(ATTRIBUTE_NAME);
+        if (attribute instanceof ParsedRequestBody) {
+            return (ParsedRequestBody) attribute;
+        }
+
+        MultiReadHttpServletRequest multiReadRequest = WebUtils.getNativeRequest(request, MultiReadHttpServletRequest.class);
+        byte[] content = multiReadRequest != null
+                             ? multiReadRequest.getCachedBody()
+                             : IOUtils.toByteArray(request.getInputStream());
+        ParsedRequestBody parsedRequestBody = new ParsedRequestBody(content);
+        request.setAttribute(ATTRIBUTE_NAME, parsedRequestBody);
+        return parsedRequestBody;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    public String getContentAsString() {
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns JSON tree of the body, parsing the body on first access
+     *
+     * @param objectMapper object mapper to be used for parsing
+     * @return JSON tree or <code>null</code> if the body is empty or is not a valid JSON
+     */
+    @Nullable
+    public JsonNode getJsonNode(ObjectMapper objectMapper) {
+        if (!parsed) {
+            parsed = true;
+            try {
+                JsonNode tree = objectMapper.readTree(content);
+                jsonNode = tree == null || tree.isMissingNode() ? null : tree;
+            } catch (IOException e) {
+                log.info("Couldn't parse request body as json: {}", e.getMessage());
+            }
+        }
+
+        return jsonNode;
+    }
+}
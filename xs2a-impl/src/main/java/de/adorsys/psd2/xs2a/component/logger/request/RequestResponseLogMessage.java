@@ -21,7 +21,6 @@ import de.adorsys.psd2.xs2a.component.MultiReadHttpServletResponse;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
-import org.apache.commons.io.IOUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.web.util.WebUtils;
@@ -190,7 +189,7 @@ public class RequestResponseLogMessage {
                 WebUtils.getNativeRequest(request, MultiReadHttpServletRequest.class);
             if (wrapper != null) {
                 try {
-                    byte[] requestBytes = IOUtils.toByteArray(wrapper.getInputStream());
+                    byte[] requestBytes = wrapper.getCachedBody();
                     return extractBody(requestBytes);
                 } catch (IOException e) {
                     return null;
@@ -16,7 +16,6 @@
 
 package de.adorsys.psd2.xs2a.config;
 
-import de.adorsys.psd2.consent.api.service.TppStopListService;
 import de.adorsys.psd2.logger.context.LoggingContextService;
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
 import de.adorsys.psd2.validator.signature.DigestVerifier;
@@ -31,12 +30,14 @@ import de.adorsys.psd2.xs2a.domain.RedirectIdHolder;
 import de.adorsys.psd2.xs2a.domain.ScaApproachHolder;
 import de.adorsys.psd2.xs2a.service.RedirectIdService;
 import de.adorsys.psd2.xs2a.service.TppService;
+import de.adorsys.psd2.xs2a.service.TppStopListCache;
 import de.adorsys.psd2.xs2a.service.discovery.ServiceTypeDiscoveryService;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ErrorMapperContainer;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ServiceTypeToErrorTypeMapper;
 import de.adorsys.psd2.xs2a.service.validator.tpp.TppInfoHolder;
 import de.adorsys.psd2.xs2a.web.PathParameterExtractor;
 import de.adorsys.psd2.xs2a.web.advice.Xs2aRestExceptionHandler;
+import de.adorsys.psd2.xs2a.web.interceptor.AspspConsentDataInterceptor;
 import de.adorsys.psd2.xs2a.web.interceptor.logging.*;
 import de.adorsys.psd2.xs2a.web.interceptor.tpp.TppStopListInterceptor;
 import de.adorsys.psd2.xs2a.web.interceptor.validator.PaymentParametersValidationInterceptor;
@@ -72,7 +73,7 @@ public class WebConfig implements WebMvcConfigurer {
     @Qualifier("xs2aCorsConfigProperties")
     private final CorsConfigurationProperties corsConfigurationProperties;
     private final TppService tppService;
-    private final TppStopListService tppStopListService;
+    private final TppStopListCache tppStopListCache;
     private final ServiceTypeDiscoveryService serviceTypeDiscoveryService;
     private final ServiceTypeToErrorTypeMapper errorTypeMapper;
     private final ErrorMapperContainer errorMapperContainer;
@@ -84,6 +85,7 @@ public class WebConfig implements WebMvcConfigurer {
     private final PathParameterExtractor pathParameterExtractor;
     private final Xs2aRestExceptionHandler xs2aRestExceptionHandler;
     private final PaymentParametersValidationInterceptor paymentParametersValidationInterceptor;
+    private final AspspConsentDataInterceptor aspspConsentDataInterceptor;
 
     @Override
     public void extendHandlerExceptionResolvers(List<HandlerExceptionResolver> resolvers) {
@@ -99,6 +101,8 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         // Please, keep this interceptor's order, because it is important, that logging interceptors will be called before the validation ones to log all the requests (even wrong ones).
         // The interceptors are executed in the order in which they are declared for preHandle(...) and vice versa for postHandle(...).
+        // AspspConsentData interceptor is the first one, so its postHandle(...) writing deferred AspspConsentData is called after all other interceptors.
+        registry.addInterceptor(aspspConsentDataInterceptor).addPathPatterns(GLOBAL_PATH, V2.CONSENTS_V2_PATH);
         // Logging interceptors:
         registry.addInterceptor(new AccountLoggingInterceptor(tppService, loggingContextService, pathParameterExtractor)).addPathPatterns(ACCOUNTS_PATH, BENEFICIARIES_PATH, CARD_ACCOUNTS_PATH);
         registry.addInterceptor(new ConsentLoggingInterceptor(tppService, redirectIdService, loggingContextService, pathParameterExtractor)).addPathPatterns(CONSENTS_PATH);
@@ -106,7 +110,7 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addInterceptor(new PaymentLoggingInterceptor(tppService, redirectIdService, loggingContextService, pathParameterExtractor)).addPathPatterns(SINGLE_PAYMENTS_PATH, BULK_PAYMENTS_PATH, PERIODIC_PAYMENTS_PATH);
         registry.addInterceptor(new SigningBasketLoggingInterceptor(tppService, redirectIdService, pathParameterExtractor)).addPathPatterns(SIGNING_BASKETS_PATH);
         registry.addInterceptor(new RequestResponseLoggingInterceptor(requestResponseLogger)).addPathPatterns(getAllXs2aEndpointPaths());
-        registry.addInterceptor(new TppStopListInterceptor(errorMapperContainer, tppService, tppStopListService, serviceTypeDiscoveryService, errorTypeMapper, xs2aObjectMapper))
+        registry.addInterceptor(new TppStopListInterceptor(errorMapperContainer, tppService, tppStopListCache, serviceTypeDiscoveryService, errorTypeMapper, xs2aObjectMapper))
             .addPathPatterns(getAllXs2aEndpointPaths());
 
         // This interceptor cannot use some definite path from constants, as payment services have nothing common in
@@ -24,9 +24,11 @@ public class Xs2aEndpointPathConstant {
     public static final String FUNDS_CONFIRMATION_PATH = "/v1/funds-confirmations/**";
     public static final String SINGLE_PAYMENTS_PATH = "/v1/payments/**";
     public static final String BULK_PAYMENTS_PATH = "/v1/bulk-payments/**";
+    public static final String BULK_PAYMENT_INITIATION_PATH = "/v1/bulk-payments/*";
     public static final String PERIODIC_PAYMENTS_PATH = "/v1/periodic-payments/**";
     public static final String SIGNING_BASKETS_PATH = "/v1/signing-baskets/**";
     public static final String GLOBAL_PATH= "/v1/**";
+    public static final String TRANSACTIONS_DOWNLOAD_PATH = "/v1/accounts/*/transactions/download/*";
 
     public class V2 { // NOPMD
         public static final String CONSENTS_V2_PATH = "/v2/consents/**";
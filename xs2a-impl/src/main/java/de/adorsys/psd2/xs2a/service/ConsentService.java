@@ -87,6 +87,7 @@ public class ConsentService {
     private final SpiAspspConsentDataProviderFactory aspspConsentDataProviderFactory;
     private final LoggingContextService loggingContextService;
     private final AdditionalInformationSupportedService additionalInformationSupportedService;
+    private final StatusETagService statusETagService;
 
     /**
      * Performs create consent operation either by filling the appropriate AccountAccess fields with corresponding
@@ -192,6 +193,13 @@ public class ConsentService {
         xs2aEventService.recordAisTppRequest(consentId, EventType.GET_AIS_CONSENT_STATUS_REQUEST_RECEIVED);
         ResponseObject.ResponseBuilder<ConsentStatusResponse> responseBuilder = ResponseObject.builder();
 
+        Optional<ConsentStatusResponse> notModifiedResponse = getNotModifiedConsentStatus(consentId);
+        if (notModifiedResponse.isPresent()) {
+            return responseBuilder
+                       .body(notModifiedResponse.get())
+                       .build();
+        }
+
         Optional<AisConsent> validatedAisConsentOptional = aisConsentService.getAccountConsentById(consentId);
 
         if (validatedAisConsentOptional.isEmpty()) {
@@ -239,6 +247,24 @@ public class ConsentService {
                    .build();
     }
 
+    /**
+     * Finalised consent status never changes, so the TPP polling it with the ETag of previous response can be
+     * answered from the status column only, as the ETag proves that the same TPP already passed validation of the consent
+     */
+    private Optional<ConsentStatusResponse> getNotModifiedConsentStatus(String consentId) {
+        if (!statusETagService.isConditionalRequest()) {
+            return Optional.empty();
+        }
+
+        return aisConsentService.getConsentStatusById(consentId)
+                   .filter(ConsentStatus::isFinalisedStatus)
+                   .filter(status -> statusETagService.isNotModified(statusETagService.getConsentStatusETag(consentId, new ConsentStatusResponse(status, null))))
+                   .map(status -> {
+                       loggingContextService.storeConsentStatus(status);
+                       return new ConsentStatusResponse(status, null);
+                   });
+    }
+
     /**
      * Terminates account consent on PSU request
      *
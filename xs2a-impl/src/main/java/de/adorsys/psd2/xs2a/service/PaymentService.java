@@ -73,6 +73,7 @@ public class PaymentService {
     private final PaymentServiceResolver paymentServiceResolver;
     private final LoggingContextService loggingContextService;
     private final ScaApproachResolver scaApproachResolver;
+    private final StatusETagService statusETagService;
 
     /**
      * Initiates a payment though "payment service" corresponding service method
@@ -181,6 +182,11 @@ public class PaymentService {
      */
     public ResponseObject<GetPaymentStatusResponse> getPaymentStatusById(PaymentType paymentType, String paymentProduct, String encryptedPaymentId) {
         xs2aEventService.recordPisTppRequest(encryptedPaymentId, EventType.GET_TRANSACTION_STATUS_REQUEST_RECEIVED);
+
+        if (isRejectedPaymentNotModified(paymentType, paymentProduct, encryptedPaymentId)) {
+            return ResponseObject.<GetPaymentStatusResponse>builder().body(buildRejectedPaymentStatusResponse()).build();
+        }
+
         Optional<PisCommonPaymentResponse> pisCommonPaymentOptional = pisCommonPaymentService.getPisCommonPaymentById(encryptedPaymentId);
 
         if (pisCommonPaymentOptional.isEmpty()) {
@@ -201,7 +207,7 @@ public class PaymentService {
         }
 
         if (pisCommonPaymentResponse.getTransactionStatus() == TransactionStatus.RJCT) {
-            return ResponseObject.<GetPaymentStatusResponse>builder().body(new GetPaymentStatusResponse(TransactionStatus.RJCT, null, MediaType.APPLICATION_JSON, null, null)).build();
+            return ResponseObject.<GetPaymentStatusResponse>builder().body(buildRejectedPaymentStatusResponse()).build();
         }
 
         SpiContextData spiContextData = spiContextDataProvider.provideWithPsuIdData(getPsuIdDataFromRequest());
@@ -237,6 +243,27 @@ public class PaymentService {
         return ResponseObject.<GetPaymentStatusResponse>builder().body(response).build();
     }
 
+    /**
+     * Status of rejected payment is never requested from ASPSP and never changes, so the TPP polling it with the ETag of
+     * previous response can be answered from the status column only, as the ETag proves that the same TPP already passed
+     * validation of the payment
+     */
+    private boolean isRejectedPaymentNotModified(PaymentType paymentType, String paymentProduct, String encryptedPaymentId) {
+        if (!statusETagService.isConditionalRequest()) {
+            return false;
+        }
+
+        return pisCommonPaymentService.getPisCommonPaymentStatusById(encryptedPaymentId)
+                   .filter(status -> status == TransactionStatus.RJCT)
+                   .map(status -> statusETagService.getPaymentStatusETag(paymentType, paymentProduct, encryptedPaymentId, buildRejectedPaymentStatusResponse()))
+                   .filter(statusETagService::isNotModified)
+                   .isPresent();
+    }
+
+    private GetPaymentStatusResponse buildRejectedPaymentStatusResponse() {
+        return new GetPaymentStatusResponse(TransactionStatus.RJCT, null, MediaType.APPLICATION_JSON, null, null);
+    }
+
     /**
      * Cancels payment by its ASPSP identifier and payment type
      *
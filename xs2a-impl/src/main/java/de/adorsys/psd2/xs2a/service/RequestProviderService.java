@@ -173,6 +173,10 @@ public class RequestProviderService {
         return getHeader(HttpHeaders.CONTENT_TYPE);
     }
 
+    public String getIfNoneMatchHeader() {
+        return getHeader(HttpHeaders.IF_NONE_MATCH);
+    }
+
     public String getEncodedTppQwacCert() {
         return getHeader(TPP_QWAC_CERTIFICATE_HEADER);
     }
@@ -16,10 +16,10 @@
 
 package de.adorsys.psd2.xs2a.service;
 
-import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.sca.AuthorisationScaApproachResponse;
 import de.adorsys.psd2.xs2a.service.authorization.Xs2aAuthorisationService;
+import de.adorsys.psd2.xs2a.service.profile.AspspSettingsCache;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
@@ -33,14 +33,14 @@ import static de.adorsys.psd2.xs2a.core.profile.ScaApproach.REDIRECT;
 @Service
 public class ScaApproachResolver {
     private final Xs2aAuthorisationService xs2aAuthorisationService;
-    private final AspspProfileService aspspProfileService;
+    private final AspspSettingsCache aspspSettingsCache;
     private final RequestProviderService requestProviderService;
 
     public ScaApproachResolver(Xs2aAuthorisationService xs2aAuthorisationService,
-                               AspspProfileService aspspProfileService,
+                               AspspSettingsCache aspspSettingsCache,
                                RequestProviderService requestProviderService) {
         this.xs2aAuthorisationService = xs2aAuthorisationService;
-        this.aspspProfileService = aspspProfileService;
+        this.aspspSettingsCache = aspspSettingsCache;
         this.requestProviderService = requestProviderService;
     }
 
@@ -56,7 +56,7 @@ public class ScaApproachResolver {
      * @return chosen ScaApproach to be used for authorisation
      */
     public ScaApproach resolveScaApproach() {
-        List<ScaApproach> scaApproaches = aspspProfileService.getScaApproaches(requestProviderService.getInstanceId());
+        List<ScaApproach> scaApproaches = aspspSettingsCache.getScaApproaches(requestProviderService.getInstanceId());
         ScaApproach firstScaApproach = getFirst(scaApproaches);
         Optional<Boolean> tppRedirectPreferredOptional = requestProviderService.resolveTppRedirectPreferred();
         if (tppRedirectPreferredOptional.isEmpty()) {
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service;
+
+import de.adorsys.psd2.xs2a.core.profile.PaymentType;
+import de.adorsys.psd2.xs2a.domain.consent.ConsentStatusResponse;
+import de.adorsys.psd2.xs2a.domain.pis.GetPaymentStatusResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Builds ETags of consent and payment status responses and evaluates <code>If-None-Match</code> header of TPP status polls.
+ * <p>
+ * ETag is a HMAC of the resource ID, the status response and the authorisation number of the requesting TPP, so
+ * a TPP can't get a "Not Modified" answer for a resource, it didn't get the status of before.
+ * All XS2A instances behind a load balancer have to use the same secret, otherwise ETags of other instances never match.
+ */
+@Slf4j
+@Service
+public class StatusETagService {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int ETAG_LENGTH_BYTES = 16;
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
+    private final TppService tppService;
+    private final RequestProviderService requestProviderService;
+    private final boolean enabled;
+    private final SecretKeySpec secretKey;
+
+    public StatusETagService(TppService tppService,
+                             RequestProviderService requestProviderService,
+                             @Value("${xs2a.status-etag.enabled:false}") boolean enabled,
+                             @Value("${xs2a.status-etag.secret:}") String secret) {
+        this.tppService = tppService;
+        this.requestProviderService = requestProviderService;
+        this.enabled = enabled;
+        this.secretKey = new SecretKeySpec(getSecretBytes(enabled, secret), HMAC_ALGORITHM);
+    }
+
+    /**
+     * @return <code>true</code> if ETags are enabled and the current request contains <code>If-None-Match</code> header
+     */
+    public boolean isConditionalRequest() {
+        return enabled && StringUtils.isNotBlank(requestProviderService.getIfNoneMatchHeader());
+    }
+
+    /**
+     * Builds ETag of consent status response for the current TPP
+     *
+     * @param consentId      encrypted ID of the consent
+     * @param statusResponse consent status response
+     * @return quoted ETag, <code>null</code> if ETags are disabled
+     */
+    @Nullable
+    public String getConsentStatusETag(@NotNull String consentId, @NotNull ConsentStatusResponse statusResponse) {
+        if (!enabled) {
+            return null;
+        }
+        return buildETag(consentId.getBytes(StandardCharsets.UTF_8),
+                         toBytes(statusResponse.getConsentStatus()),
+                         toBytes(statusResponse.getPsuMessage()));
+    }
+
+    /**
+     * Builds ETag of payment status response for the current TPP
+     *
+     * @param paymentType    type of the payment from the request path
+     * @param paymentProduct product of the payment from the request path
+     * @param paymentId      encrypted ID of the payment
+     * @param statusResponse payment status response
+     * @return quoted ETag, <code>null</code> if ETags are disabled
+     */
+    @Nullable
+    public String getPaymentStatusETag(@NotNull PaymentType paymentType, @NotNull String paymentProduct, @NotNull String paymentId,
+                                       @NotNull GetPaymentStatusResponse statusResponse) {
+        if (!enabled) {
+            return null;
+        }
+        return buildETag(toBytes(paymentType.getValue()),
+                         toBytes(paymentProduct),
+                         paymentId.getBytes(StandardCharsets.UTF_8),
+                         toBytes(statusResponse.getTransactionStatus().getTransactionStatus()),
+                         toBytes(String.valueOf(statusResponse.getFundsAvailable())),
+                         toBytes(statusResponse.getResponseContentType().toString()),
+                         statusResponse.getPaymentStatusRaw(),
+                         toBytes(statusResponse.getPsuMessage()));
+    }
+
+    /**
+     * Checks whether the TPP already has the representation with given ETag.
+     * Only exact ETags are accepted, <code>If-None-Match: *</code> is ignored, as it doesn't prove that the TPP ever
+     * got the status of the resource and would let status polls skip loading and validation of the consent or payment.
+     *
+     * @param eTag quoted ETag of the current representation, may be <code>null</code>
+     * @return <code>true</code> if <code>If-None-Match</code> header of the current request contains the ETag
+     */
+    public boolean isNotModified(@Nullable String eTag) {
+        if (eTag == null) {
+            return false;
+        }
+
+        String ifNoneMatch = requestProviderService.getIfNoneMatchHeader();
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                   .map(String::trim)
+                   .map(tag -> StringUtils.removeStart(tag, WEAK_ETAG_PREFIX))
+                   .anyMatch(eTag::equals);
+    }
+
+    private String buildETag(byte[]... parts) {
+        Mac mac = getMac();
+        mac.update(toBytes(tppService.getTppInfo().getAuthorisationNumber()));
+        for (byte[] part : parts) {
+            mac.update((byte) 0);
+            if (part != null) {
+                mac.update(part);
+            }
+        }
+        byte[] hash = Arrays.copyOf(mac.doFinal(), ETAG_LENGTH_BYTES);
+        return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + '"';
+    }
+
+    private Mac getMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Status ETags can't be calculated", e);
+        }
+    }
+
+    private static byte[] toBytes(@Nullable String value) {
+        return value == null
+                   ? null
+                   : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] getSecretBytes(boolean enabled, String secret) {
+        if (StringUtils.isNotBlank(secret)) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+
+        if (enabled) {
+            log.warn("Status ETags are enabled without xs2a.status-etag.secret, a random secret is used. ETags of different XS2A instances won't match.");
+        }
+        byte[] randomSecret = new byte[32];
+        new SecureRandom().nextBytes(randomSecret);
+        return randomSecret;
+    }
+}
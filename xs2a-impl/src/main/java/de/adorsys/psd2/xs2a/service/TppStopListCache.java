@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service;
+
+import de.adorsys.psd2.consent.api.CmsResponse;
+import de.adorsys.psd2.consent.api.service.TppStopListService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.BooleanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per Instance-ID in-process replica of the TPP stop list.
+ * <p>
+ * Authorisation numbers of all blocked TPPs of an instance are loaded from the CMS at once and are used for at most
+ * <code>xs2a.tpp-stop-list.cache.max-staleness.ms</code> milliseconds (<code>0</code> disables the replica).
+ * If the replica is disabled or can't be loaded, every check is sent to the CMS.
+ */
+@Slf4j
+@Component
+public class TppStopListCache {
+    private static final String NO_INSTANCE_KEY = "";
+
+    private final TppStopListService tppStopListService;
+    private final long maxStalenessMs;
+
+    private final Map<String, StopListSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<StopListSnapshot>> loads = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public TppStopListCache(TppStopListService tppStopListService,
+                            @Value("${xs2a.tpp-stop-list.cache.max-staleness.ms:0}") long maxStalenessMs) {
+        this.tppStopListService = tppStopListService;
+        this.maxStalenessMs = maxStalenessMs;
+    }
+
+    /**
+     * Checks whether the TPP is blocked for the given instance
+     *
+     * @param tppAuthorisationNumber authorisation number of the TPP
+     * @param instanceId             ID of the instance
+     * @return <code>true</code> if the TPP is blocked, <code>false</code> otherwise
+     */
+    public boolean isTppBlocked(String tppAuthorisationNumber, String instanceId) {
+        StopListSnapshot snapshot = maxStalenessMs > 0
+                                        ? getSnapshot(instanceId)
+                                        : null;
+
+        if (snapshot == null) {
+            missCount.increment();
+            CmsResponse<Boolean> cmsResponse = tppStopListService.checkIfTppBlocked(tppAuthorisationNumber, instanceId);
+            return cmsResponse.isSuccessful() && BooleanUtils.isTrue(cmsResponse.getPayload());
+        }
+
+        hitCount.increment();
+        return snapshot.blockedTpps.contains(tppAuthorisationNumber);
+    }
+
+    /**
+     * Drops all replicated stop lists, so that they are loaded from the CMS on the next check
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        snapshots.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    private StopListSnapshot getSnapshot(String instanceId) {
+        String key = Objects.toString(instanceId, NO_INSTANCE_KEY);
+        StopListSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.isActual()) {
+            return snapshot;
+        }
+
+        // Concurrent checks of the same instance wait for a single refresh instead of loading the stop list several times
+        CompletableFuture<StopListSnapshot> load = new CompletableFuture<>();
+        CompletableFuture<StopListSnapshot> runningLoad = loads.putIfAbsent(key, load);
+        if (runningLoad != null) {
+            return runningLoad.join();
+        }
+
+        StopListSnapshot loadedSnapshot = null;
+        try {
+            // Another check might have stored a fresh snapshot right before the load has been registered
+            StopListSnapshot current = snapshots.get(key);
+            if (current != null && current.isActual()) {
+                loadedSnapshot = current;
+                return current;
+            }
+
+            long loadedGeneration = generation.get();
+            loadedSnapshot = loadSnapshot(instanceId);
+            if (loadedSnapshot != null && loadedGeneration == generation.get()) {
+                snapshots.put(key, loadedSnapshot);
+                // Replica might have been invalidated right before the put, in this case the loaded snapshot is dropped again
+                if (loadedGeneration != generation.get()) {
+                    snapshots.remove(key, loadedSnapshot);
+                }
+            }
+            return loadedSnapshot;
+        } finally {
+            loads.remove(key, load);
+            load.complete(loadedSnapshot);
+        }
+    }
+
+    private StopListSnapshot loadSnapshot(String instanceId) {
+        try {
+            CmsResponse<List<String>> cmsResponse = tppStopListService.getBlockedTppAuthorisationNumbers(instanceId);
+            if (cmsResponse.hasError()) {
+                log.info("Instance ID: [{}]. TPP stop list couldn't be loaded, TPPs will be checked in CMS", instanceId);
+                return null;
+            }
+
+            refreshCount.increment();
+            return new StopListSnapshot(new HashSet<>(cmsResponse.getPayload()), System.currentTimeMillis() + maxStalenessMs);
+        } catch (RuntimeException e) {
+            log.warn("Instance ID: [{}]. TPP stop list couldn't be loaded: {}", instanceId, e.getMessage());
+            return null;
+        }
+    }
+
+    private static class StopListSnapshot {
+        private final Set<String> blockedTpps;
+        private final long expiresAt;
+
+        private StopListSnapshot(Set<String> blockedTpps, long expiresAt) {
+            this.blockedTpps = blockedTpps;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isActual() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+    }
+}
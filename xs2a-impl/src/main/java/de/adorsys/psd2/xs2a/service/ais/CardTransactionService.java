@@ -32,7 +32,6 @@ import de.adorsys.psd2.xs2a.domain.account.Xs2aCardTransactionsReport;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReportByPeriodRequest;
 import de.adorsys.psd2.xs2a.service.TppService;
 import de.adorsys.psd2.xs2a.service.consent.CardAccountHandler;
-import de.adorsys.psd2.xs2a.service.consent.Xs2aAccountService;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aAisConsentService;
 import de.adorsys.psd2.xs2a.service.event.Xs2aEventService;
 import de.adorsys.psd2.xs2a.service.mapper.cms_xs2a_mappers.Xs2aAisConsentMapper;
@@ -71,7 +70,6 @@ public class CardTransactionService {
     private final SpiToXs2aBalanceMapper balanceMapper;
     private final SpiCardTransactionListToXs2aAccountReportMapper cardTransactionListToXs2aAccountReportMapper;
     private final Xs2aAisConsentService aisConsentService;
-    private final Xs2aAccountService xs2aAccountService;
     private final Xs2aAisConsentMapper consentMapper;
     private final TppService tppService;
     private final AspspProfileServiceWrapper aspspProfileService;
@@ -125,8 +123,6 @@ public class CardTransactionService {
 
         loggingContextService.storeConsentStatus(aisConsent.getConsentStatus());
 
-        xs2aAccountService.saveNumberOfTransaction(request.getConsentId(), request.getAccountId(), spiResponse.getPayload().getCardTransactions().size());
-
         return getXs2aCardTransactionsReportResponseObject(request, aisConsent, spiResponse.getPayload());
     }
 
@@ -201,7 +197,8 @@ public class CardTransactionService {
                                            accountHelperService.createActionStatus(request.isWithBalance(), TypeAccess.TRANSACTION, response),
                                            request.getRequestUri(),
                                            accountHelperService.needsToUpdateUsage(aisConsent),
-                                           accountReference == null ? null : accountReference.getResourceId(), null);
+                                           accountReference == null ? null : accountReference.getResourceId(), null,
+                                           request.getAccountId(), spiTransactionReport.getCardTransactions().size());
         return response;
     }
 
@@ -33,7 +33,6 @@ import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsDownloadResponse;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReport;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReportByPeriodRequest;
 import de.adorsys.psd2.xs2a.service.TppService;
-import de.adorsys.psd2.xs2a.service.consent.Xs2aAccountService;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aAisConsentService;
 import de.adorsys.psd2.xs2a.service.event.Xs2aEventService;
 import de.adorsys.psd2.xs2a.service.mapper.cms_xs2a_mappers.Xs2aAisConsentMapper;
@@ -79,7 +78,6 @@ public class TransactionService {
 
     private final ValueValidatorService validatorService;
     private final Xs2aAisConsentService aisConsentService;
-    private final Xs2aAccountService xs2aAccountService;
     private final Xs2aAisConsentMapper consentMapper;
     private final TppService tppService;
     private final AspspProfileServiceWrapper aspspProfileService;
@@ -137,14 +135,7 @@ public class TransactionService {
 
         loggingContextService.storeConsentStatus(aisConsent.getConsentStatus());
 
-        SpiTransactionReport spiTransactionReport = spiResponse.getPayload();
-        List<SpiTransaction> spiTransactions = spiTransactionReport.getTransactions();
-
-        if (CollectionUtils.isNotEmpty(spiTransactions)) {
-            xs2aAccountService.saveNumberOfTransaction(request.getConsentId(), request.getAccountId(), spiTransactions.size());
-        }
-
-        return getXs2aTransactionsReportResponseObject(request, aisConsent, spiTransactionReport);
+        return getXs2aTransactionsReportResponseObject(request, aisConsent, spiResponse.getPayload());
     }
 
     /**
@@ -357,12 +348,16 @@ public class TransactionService {
                                                               .body(transactionsReport)
                                                               .build();
 
+        List<SpiTransaction> spiTransactions = spiTransactionReport.getTransactions();
+        Integer numberOfTransactions = CollectionUtils.isNotEmpty(spiTransactions) ? spiTransactions.size() : null;
+
         aisConsentService.consentActionLog(tppService.getTppId(),
                                            request.getConsentId(),
                                            accountHelperService.createActionStatus(request.isWithBalance(), TypeAccess.TRANSACTION, response),
                                            request.getRequestUri(),
                                            accountHelperService.needsToUpdateUsage(aisConsent),
-                                           transactionsReport.getAccountReference().getResourceId(), null);
+                                           transactionsReport.getAccountReference().getResourceId(), null,
+                                           request.getAccountId(), numberOfTransactions);
         return response;
     }
 
@@ -16,47 +16,125 @@
 
 package de.adorsys.psd2.xs2a.service.authorization;
 
+import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
+import de.adorsys.psd2.xs2a.core.mapper.ServiceType;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import de.adorsys.psd2.xs2a.service.authorization.processor.*;
 import de.adorsys.psd2.xs2a.service.authorization.processor.model.AuthorisationProcessorRequest;
 import de.adorsys.psd2.xs2a.service.authorization.processor.model.AuthorisationProcessorResponse;
+import de.adorsys.psd2.xs2a.service.authorization.processor.service.AisAuthorisationProcessorServiceImpl;
+import de.adorsys.psd2.xs2a.service.authorization.processor.service.AuthorisationProcessorService;
+import de.adorsys.psd2.xs2a.service.authorization.processor.service.PisAuthorisationProcessorServiceImpl;
+import de.adorsys.psd2.xs2a.service.authorization.processor.service.PisCancellationAuthorisationProcessorServiceImpl;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Executes authorisation steps of embedded and decoupled SCA.
+ * <p>
+ * Step for the current status of the authorisation is taken from a table of {@link AuthorisationProcessor}s by
+ * {@link ScaStatus}, processor services are looked up once on startup. ASPSP may add processors for further statuses
+ * or replace the built-in ones by declaring beans of type {@link AuthorisationProcessor}.
+ * Each executed step is recorded in {@link AuthorisationTransitionMetrics}.
+ */
 @Slf4j
 @Service
-public class AuthorisationChainResponsibilityService {
-
-    private AuthorisationProcessor receivedAuthorisationProcessor;
-    private ApplicationContext applicationContext;
+public class AuthorisationChainResponsibilityService implements SmartInitializingSingleton {
+    private final ApplicationContext applicationContext;
+    private final AuthorisationTransitionMetrics authorisationTransitionMetrics;
+    private final Map<ScaStatus, AuthorisationProcessor> authorisationProcessors = new EnumMap<>(ScaStatus.class);
+    private final Map<AuthorisationType, AuthorisationProcessorService> processorServices = new EnumMap<>(AuthorisationType.class);
+    private volatile boolean initialised;
 
     @Autowired
-    public AuthorisationChainResponsibilityService(ApplicationContext applicationContext) {
+    public AuthorisationChainResponsibilityService(ApplicationContext applicationContext,
+                                                   AuthorisationTransitionMetrics authorisationTransitionMetrics) {
         this.applicationContext = applicationContext;
-        initAuthorisationChains();
+        this.authorisationTransitionMetrics = authorisationTransitionMetrics;
+        initAuthorisationProcessors();
+    }
+
+    @Override
+    public synchronized void afterSingletonsInstantiated() {
+        if (initialised) {
+            return;
+        }
+
+        putProcessorService(AuthorisationType.CONSENT, applicationContext.getBean(AisAuthorisationProcessorServiceImpl.class));
+        putProcessorService(AuthorisationType.PIS_CREATION, applicationContext.getBean(PisAuthorisationProcessorServiceImpl.class));
+        putProcessorService(AuthorisationType.PIS_CANCELLATION, applicationContext.getBean(PisCancellationAuthorisationProcessorServiceImpl.class));
+
+        applicationContext.getBeansOfType(AuthorisationProcessor.class).values().forEach(processor -> {
+            log.info("Authorisation processor {} is registered for SCA status {}", processor.getClass().getSimpleName(), processor.getScaStatus());
+            authorisationProcessors.put(processor.getScaStatus(), processor);
+        });
+        initialised = true;
     }
 
     public AuthorisationProcessorResponse apply(AuthorisationProcessorRequest request) {
-        return receivedAuthorisationProcessor.apply(request);
+        if (!initialised) {
+            afterSingletonsInstantiated();
+        }
+
+        long startTime = System.nanoTime();
+        AuthorisationProcessorService processorService = getProcessorService(request);
+        AuthorisationProcessor authorisationProcessor = authorisationProcessors.get(request.getScaStatus());
+        AuthorisationProcessorResponse processorResponse = authorisationProcessor == null
+                                                               ? null
+                                                               : authorisationProcessor.handle(request, processorService);
+
+        //update authorisation
+        processorService.updateAuthorisation(request, processorResponse);
+
+        ScaStatus toStatus = processorResponse == null || processorResponse.getScaStatus() == null
+                                 ? request.getScaStatus()
+                                 : processorResponse.getScaStatus();
+        authorisationTransitionMetrics.record(request.getScaApproach(), request.getScaStatus(), toStatus, System.nanoTime() - startTime);
+        return processorResponse;
+    }
+
+    private AuthorisationProcessorService getProcessorService(AuthorisationProcessorRequest request) {
+        AuthorisationType authorisationType = null;
+        if (request.getServiceType() == ServiceType.AIS) {
+            authorisationType = AuthorisationType.CONSENT;
+        } else if (request.getServiceType() == ServiceType.PIS
+                       && request.getAuthorisation().getAuthorisationType() != AuthorisationType.CONSENT) {
+            authorisationType = request.getAuthorisation().getAuthorisationType();
+        }
+
+        AuthorisationProcessorService processorService = authorisationType == null
+                                                             ? null
+                                                             : processorServices.get(authorisationType);
+        if (processorService == null) {
+            throw new IllegalArgumentException("Authorisation processor service is unknown: " + request);
+        }
+        return processorService;
+    }
+
+    private void putProcessorService(AuthorisationType authorisationType, AuthorisationProcessorService processorService) {
+        if (processorService != null) {
+            processorServices.put(authorisationType, processorService);
+        }
+    }
+
+    private void initAuthorisationProcessors() {
+        putAuthorisationProcessor(new ReceivedAuthorisationProcessor(applicationContext));
+        putAuthorisationProcessor(new PsuIdentifiedAuthorisationProcessor(applicationContext));
+        putAuthorisationProcessor(new PsuAuthenticatedAuthorisationProcessor(applicationContext));
+        putAuthorisationProcessor(new ScaMethodSelectedAuthorisationProcessor(applicationContext));
+        putAuthorisationProcessor(new StartedAuthorisationProcessor(applicationContext));
+        putAuthorisationProcessor(new FinalisedAuthorisationProcessor(applicationContext));
+        putAuthorisationProcessor(new FailedAuthorisationProcessor(applicationContext));
+        putAuthorisationProcessor(new ExemptedAuthorisationProcessor(applicationContext));
     }
 
-    private void initAuthorisationChains() {
-        receivedAuthorisationProcessor = new ReceivedAuthorisationProcessor(applicationContext);
-        AuthorisationProcessor psuIdentifiedAuthorisationProcessor = new PsuIdentifiedAuthorisationProcessor(applicationContext);
-        AuthorisationProcessor psuAuthenticatedAuthorisationProcessor = new PsuAuthenticatedAuthorisationProcessor(applicationContext);
-        AuthorisationProcessor scaMethodSelectedAuthorisationProcessor = new ScaMethodSelectedAuthorisationProcessor(applicationContext);
-        AuthorisationProcessor startedAuthorisationProcessor = new StartedAuthorisationProcessor(applicationContext);
-        AuthorisationProcessor finalisedAuthorisationProcessor = new FinalisedAuthorisationProcessor(applicationContext);
-        AuthorisationProcessor failedAuthorisationProcessor = new FailedAuthorisationProcessor(applicationContext);
-        AuthorisationProcessor exemptedAuthorisationProcessor = new ExemptedAuthorisationProcessor(applicationContext);
-
-        receivedAuthorisationProcessor.setNext(psuIdentifiedAuthorisationProcessor);
-        psuIdentifiedAuthorisationProcessor.setNext(psuAuthenticatedAuthorisationProcessor);
-        psuAuthenticatedAuthorisationProcessor.setNext(scaMethodSelectedAuthorisationProcessor);
-        scaMethodSelectedAuthorisationProcessor.setNext(startedAuthorisationProcessor);
-        startedAuthorisationProcessor.setNext(finalisedAuthorisationProcessor);
-        finalisedAuthorisationProcessor.setNext(failedAuthorisationProcessor);
-        failedAuthorisationProcessor.setNext(exemptedAuthorisationProcessor);
+    private void putAuthorisationProcessor(AuthorisationProcessor authorisationProcessor) {
+        authorisationProcessors.put(authorisationProcessor.getScaStatus(), authorisationProcessor);
     }
 }
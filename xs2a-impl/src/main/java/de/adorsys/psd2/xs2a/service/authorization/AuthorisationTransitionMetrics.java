@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.authorization;
+
+import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
+import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects number and duration of authorisation status transitions performed by
+ * {@link AuthorisationChainResponsibilityService}, separately for each SCA approach
+ */
+@Component
+public class AuthorisationTransitionMetrics {
+    private final Map<Transition, TransitionStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * Records one executed authorisation step
+     *
+     * @param scaApproach SCA approach of the authorisation
+     * @param fromStatus status of the authorisation before the step
+     * @param toStatus status of the authorisation after the step
+     * @param durationNanos execution time of the step in nanoseconds
+     */
+    public void record(ScaApproach scaApproach, ScaStatus fromStatus, ScaStatus toStatus, long durationNanos) {
+        TransitionStatistics transitionStatistics = statistics.computeIfAbsent(new Transition(scaApproach, fromStatus, toStatus),
+                                                                               t -> new TransitionStatistics());
+        transitionStatistics.count.increment();
+        transitionStatistics.durationNanos.add(durationNanos);
+    }
+
+    public long getTransitionCount(ScaApproach scaApproach, ScaStatus fromStatus, ScaStatus toStatus) {
+        TransitionStatistics transitionStatistics = statistics.get(new Transition(scaApproach, fromStatus, toStatus));
+        return transitionStatistics == null ? 0 : transitionStatistics.count.sum();
+    }
+
+    public long getTransitionDurationNanos(ScaApproach scaApproach, ScaStatus fromStatus, ScaStatus toStatus) {
+        TransitionStatistics transitionStatistics = statistics.get(new Transition(scaApproach, fromStatus, toStatus));
+        return transitionStatistics == null ? 0 : transitionStatistics.durationNanos.sum();
+    }
+
+    @Value
+    private static class Transition {
+        private ScaApproach scaApproach;
+        private ScaStatus fromStatus;
+        private ScaStatus toStatus;
+    }
+
+    private static class TransitionStatistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder durationNanos = new LongAdder();
+    }
+}
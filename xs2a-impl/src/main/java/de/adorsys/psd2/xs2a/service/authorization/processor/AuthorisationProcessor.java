@@ -44,6 +44,18 @@ public abstract class AuthorisationProcessor {
     protected abstract AuthorisationProcessorResponse execute(AuthorisationProcessorRequest request,
                                                               AuthorisationProcessorService processorService);
 
+    /**
+     * Executes the step of this processor with already resolved processor service, without looking up the chain
+     *
+     * @param request          the request object, containing incoming data from controller and authorisation data from CMS
+     * @param processorService service, containing the business logic for the type of the authorisation
+     * @return the result object, containing the successful result of authorisation or the error response
+     */
+    public AuthorisationProcessorResponse handle(AuthorisationProcessorRequest request,
+                                                 AuthorisationProcessorService processorService) {
+        return execute(request, processorService);
+    }
+
     public AuthorisationProcessorResponse apply(AuthorisationProcessorRequest request) {
         AuthorisationProcessorResponse processorResponse = process(request);
 
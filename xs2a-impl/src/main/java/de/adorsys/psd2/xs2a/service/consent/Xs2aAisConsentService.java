@@ -115,6 +115,23 @@ public class Xs2aAisConsentService {
         return Optional.ofNullable(aisConsentMapper.mapToAisConsent(consentById.getPayload()));
     }
 
+    /**
+     * Requests CMS to retrieve status of AIS consent without loading the whole consent
+     *
+     * @param consentId String representation of identifier of stored consent
+     * @return status of the consent, empty if the consent wasn't found
+     */
+    public Optional<ConsentStatus> getConsentStatusById(String consentId) {
+        CmsResponse<ConsentStatus> response = consentService.getConsentStatusById(consentId);
+
+        if (response.hasError()) {
+            log.info("Get consent status by id failed due to CMS problems");
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(response.getPayload());
+    }
+
     /**
      * Requests CMS to find old consents for current TPP and PSU and terminate them.
      *
@@ -160,8 +177,28 @@ public class Xs2aAisConsentService {
      */
     public void consentActionLog(String tppId, String consentId, ActionStatus actionStatus, String requestUri, boolean updateUsage,
                                  String resourceId, String transactionId) {
+        consentActionLog(tppId, consentId, actionStatus, requestUri, updateUsage, resourceId, transactionId, null, null);
+    }
+
+    /**
+     * Sends a POST request to CMS to perform decrement of consent usages, report status of the operation held with certain AIS consent
+     * and save number of transactions read for the given account, all within one CMS call
+     *
+     * @param tppId                  String representation of TPP`s identifier from TPP Certificate
+     * @param consentId              String representation of identifier of stored consent
+     * @param actionStatus           Enum value representing whether the action is successful or errors occurred
+     * @param requestUri             target URL of the request
+     * @param updateUsage            Update usage indicator
+     * @param resourceId             The identification that denotes the addressed account
+     * @param transactionId          String representation of ASPSP transaction primary identifier
+     * @param transactionsResourceId ID of the account from the request, the number of transactions is saved for
+     * @param numberOfTransactions   Number of transactions read for the account, <code>null</code> if it shouldn't be saved
+     */
+    public void consentActionLog(String tppId, String consentId, ActionStatus actionStatus, String requestUri, boolean updateUsage,
+                                 String resourceId, String transactionId, String transactionsResourceId, Integer numberOfTransactions) {
         try {
-            aisConsentService.checkConsentAndSaveActionLog(new AisConsentActionRequest(tppId, consentId, actionStatus, requestUri, updateUsage, resourceId, transactionId));
+            aisConsentService.checkConsentAndSaveActionLog(new AisConsentActionRequest(tppId, consentId, actionStatus, requestUri, updateUsage,
+                                                                                       resourceId, transactionId, transactionsResourceId, numberOfTransactions));
         } catch (WrongChecksumException e) {
             log.info("consentActionLog cannot be executed, checksum verification failed");
         }
@@ -21,6 +21,7 @@ import de.adorsys.psd2.consent.api.pis.CreatePisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisCommonPaymentResponse;
 import de.adorsys.psd2.consent.api.pis.proto.PisPaymentInfo;
 import de.adorsys.psd2.consent.api.service.PisCommonPaymentServiceEncrypted;
+import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -55,6 +56,22 @@ public class Xs2aPisCommonPaymentService {
         return Optional.ofNullable(response.getPayload());
     }
 
+    /**
+     * Reads transaction status of the payment without loading the whole payment
+     *
+     * @param paymentId Payment ID
+     * @return transaction status of the payment, empty if the payment wasn't found
+     */
+    public Optional<TransactionStatus> getPisCommonPaymentStatusById(String paymentId) {
+        CmsResponse<TransactionStatus> response = pisCommonPaymentServiceEncrypted.getPisCommonPaymentStatusById(paymentId);
+
+        if (response.hasError()) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(response.getPayload());
+    }
+
     /**
      * Updates multilevelScaRequired and stores changes into database
      *
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.event;
+
+/**
+ * Defines what happens to a TPP event when the asynchronous event queue is full
+ */
+public enum EventQueueOverflowPolicy {
+    /**
+     * Request thread waits until there is free space in the queue
+     */
+    BLOCK,
+    /**
+     * Event is discarded, only the counter of dropped events is increased
+     */
+    DROP,
+    /**
+     * Event is written to the event log instead of being recorded in the CMS
+     */
+    LOG
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import de.adorsys.psd2.event.service.Xs2aEventServiceEncrypted;
+import de.adorsys.psd2.event.service.model.EventBO;
+import de.adorsys.psd2.event.service.model.PsuIdDataBO;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded in-memory queue of TPP events that are recorded in the CMS in batches by a background writer thread.
+ * <p>
+ * Disabled by default, can be enabled with <code>xs2a.event.async.enabled=true</code>. When the queue is full,
+ * the event is handled according to <code>xs2a.event.async.overflow-policy</code> (see {@link EventQueueOverflowPolicy}),
+ * by default it is written to the event log. Batches that couldn't be recorded in the CMS are written to the event log too.
+ * Events that are still queued on shutdown are recorded within <code>xs2a.event.async.shutdown-timeout.ms</code>,
+ * the rest of them is written to the event log. Events that are submitted after the shutdown are not accepted
+ * and have to be recorded by the caller.
+ * <p>
+ * Events are written to the event log in the same format as by the event log repository of the CMS, except that
+ * consent and payment IDs are written encrypted, as they can only be decrypted by the CMS.
+ */
+@Slf4j
+@Component
+public class EventRecordingQueue {
+    private static final Logger EVENT_LOG = LoggerFactory.getLogger("event-log");
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final Xs2aEventServiceEncrypted eventService;
+    private final Xs2aObjectMapper xs2aObjectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final EventQueueOverflowPolicy overflowPolicy;
+    private final long shutdownTimeoutMs;
+    private final BlockingQueue<EventBO> queue;
+    private final Thread writer;
+
+    private final LongAdder recordedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder spilledCount = new LongAdder();
+
+    private volatile boolean running;
+
+    public EventRecordingQueue(Xs2aEventServiceEncrypted eventService,
+                               Xs2aObjectMapper xs2aObjectMapper,
+                               @Value("${xs2a.event.async.enabled:false}") boolean enabled,
+                               @Value("${xs2a.event.async.queue-capacity:10000}") int queueCapacity,
+                               @Value("${xs2a.event.async.batch-size:100}") int batchSize,
+                               @Value("${xs2a.event.async.overflow-policy:LOG}") EventQueueOverflowPolicy overflowPolicy,
+                               @Value("${xs2a.event.async.shutdown-timeout.ms:10000}") long shutdownTimeoutMs) {
+        this.eventService = eventService;
+        this.xs2aObjectMapper = xs2aObjectMapper;
+        this.enabled = enabled;
+        this.batchSize = Math.max(batchSize, 1);
+        this.overflowPolicy = overflowPolicy;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+        this.writer = new Thread(this::writeEvents, "xs2a-event-writer");
+        this.writer.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            running = true;
+            writer.start();
+        }
+    }
+
+    /**
+     * Puts the event into the queue to be recorded in the CMS by the background writer
+     *
+     * @param event Event to be recorded
+     * @return <code>false</code> if asynchronous recording is not active and the event should be recorded by the caller,
+     * <code>true</code> otherwise
+     */
+    public boolean submit(@NotNull EventBO event) {
+        if (!running) {
+            return false;
+        }
+
+        if (queue.offer(event)) {
+            return isAccepted(event);
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK:
+                if (putBlocking(event)) {
+                    return isAccepted(event);
+                }
+                break;
+            case DROP:
+                droppedCount.increment();
+                log.debug("TPP ID: [{}]. Event queue is full, event from TPP request has been dropped", event.getTppAuthorisationNumber());
+                break;
+            case LOG:
+            default:
+                spillToLog(event);
+                break;
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        try {
+            writer.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (writer.isAlive()) {
+            writer.interrupt();
+        }
+
+        List<EventBO> remainingEvents = new ArrayList<>();
+        queue.drainTo(remainingEvents);
+        if (!remainingEvents.isEmpty()) {
+            log.warn("{} events couldn't be recorded before shutdown and will be written to the event log", remainingEvents.size());
+            spillToLog(remainingEvents);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getRecordedCount() {
+        return recordedCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getSpilledCount() {
+        return spilledCount.sum();
+    }
+
+    private boolean putBlocking(EventBO event) {
+        try {
+            queue.put(event);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            spillToLog(event);
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether the queued event will be handled by the writer or by the shutdown.
+     * An event that has been queued after the queue was drained on shutdown is taken back from the queue.
+     */
+    private boolean isAccepted(EventBO event) {
+        return running || !queue.remove(event);
+    }
+
+    private void writeEvents() {
+        List<EventBO> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                EventBO event = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    continue;
+                }
+                batch.add(event);
+                queue.drainTo(batch, batchSize - 1);
+                recordBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void recordBatch(List<EventBO> batch) {
+        try {
+            if (eventService.recordEvents(batch)) {
+                recordedCount.add(batch.size());
+            } else {
+                failedCount.add(batch.size());
+                log.warn("Couldn't record {} events from TPP requests, they will be written to the event log", batch.size());
+                spillToLog(batch);
+            }
+        } catch (Exception e) {
+            failedCount.add(batch.size());
+            log.warn("Couldn't record {} events from TPP requests, they will be written to the event log: {}", batch.size(), e.getMessage());
+            spillToLog(batch);
+        }
+    }
+
+    private void spillToLog(Collection<EventBO> events) {
+        events.forEach(this::spillToLog);
+    }
+
+    private void spillToLog(EventBO event) {
+        spilledCount.increment();
+        try {
+            EVENT_LOG.info(toLogMessage(event));
+        } catch (JsonProcessingException e) {
+            log.warn("TPP ID: [{}]. Couldn't write event to the event log: {}", event.getTppAuthorisationNumber(), e.getMessage());
+        }
+    }
+
+    String toLogMessage(EventBO event) throws JsonProcessingException {
+        Map<String, Object> logParams = new LinkedHashMap<>();
+        logParams.put("timestamp", event.getTimestamp());
+        logParams.put("eventOrigin", event.getEventOrigin());
+        logParams.put("eventType", event.getEventType());
+        logParams.put("internalRequestId", event.getInternalRequestId());
+        logParams.put("xRequestId", event.getXRequestId());
+        putOptionalParameter(logParams, "consentId", event.getConsentId());
+        putOptionalParameter(logParams, "paymentId", event.getPaymentId());
+        logParams.put("tppAuthorisationNumber", event.getTppAuthorisationNumber());
+
+        PsuIdDataBO psuIdData = event.getPsuIdData();
+        if (psuIdData != null) {
+            List<String> psuDataParts = new ArrayList<>();
+            addOptionalPsuDataPart(psuDataParts, "psuId", psuIdData.getPsuId());
+            addOptionalPsuDataPart(psuDataParts, "psuIdType", psuIdData.getPsuIdType());
+            addOptionalPsuDataPart(psuDataParts, "psuCorporateId", psuIdData.getPsuCorporateId());
+            addOptionalPsuDataPart(psuDataParts, "psuCorporateIdType", psuIdData.getPsuCorporateIdType());
+            logParams.put("psuData", String.join(", ", psuDataParts));
+        }
+
+        if (event.getPayload() != null) {
+            logParams.put("payload", xs2aObjectMapper.writeValueAsString(event.getPayload()));
+        }
+
+        return logParams.entrySet()
+                   .stream()
+                   .map(e -> e.getKey() + ": [" + e.getValue() + "]")
+                   .collect(Collectors.joining(", "));
+    }
+
+    private void putOptionalParameter(Map<String, Object> logParams, String name, @Nullable String value) {
+        if (value != null) {
+            logParams.put(name, value);
+        }
+    }
+
+    private void addOptionalPsuDataPart(List<String> psuDataParts, String name, @Nullable String value) {
+        if (value != null) {
+            psuDataParts.add(name + ": " + value);
+        }
+    }
+}
@@ -18,25 +18,60 @@ package de.adorsys.psd2.xs2a.service.link;
 
 import de.adorsys.psd2.xs2a.core.profile.ScaRedirectFlow;
 import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
-import lombok.AllArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.lang.reflect.ParameterizedType;
 
 import static org.springframework.web.servlet.mvc.method.annotation.MvcUriComponentsBuilder.fromController;
 
-@AllArgsConstructor
 public class BaseAspectService<T> {
+    private static final String HTTP_URL_ATTRIBUTE_PREFIX = BaseAspectService.class.getName() + ".httpUrl.";
+
     final AspspProfileServiceWrapper aspspProfileServiceWrapper;
+    private final Class<T> controllerClass;
+    private final String httpUrlAttributeName;
+
+    public BaseAspectService(AspspProfileServiceWrapper aspspProfileServiceWrapper) {
+        this.aspspProfileServiceWrapper = aspspProfileServiceWrapper;
+        this.controllerClass = resolveControllerClass();
+        this.httpUrlAttributeName = HTTP_URL_ATTRIBUTE_PREFIX + controllerClass.getName();
+    }
 
+    /**
+     * Returns base URL for the links of the response.
+     * <p>
+     * Forced base URL is read from the ASPSP profile on every call, so that changes of the profile are applied at once.
+     * Otherwise the URL is derived from the current request and the controller mapping once per request
+     * and reused for all links built while handling this request.
+     *
+     * @return base URL for the links
+     */
     String getHttpUrl() {
-        return aspspProfileServiceWrapper.isForceXs2aBaseLinksUrl()
-                   ? aspspProfileServiceWrapper.getXs2aBaseLinksUrl()
-                   : fromController(this.getControllerClass()).pathSegment(StringUtils.EMPTY).toUriString();
+        if (aspspProfileServiceWrapper.isForceXs2aBaseLinksUrl()) {
+            return aspspProfileServiceWrapper.getXs2aBaseLinksUrl();
+        }
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return buildControllerUrl();
+        }
+
+        String httpUrl = (String) requestAttributes.getAttribute(httpUrlAttributeName, RequestAttributes.SCOPE_REQUEST);
+        if (httpUrl == null) {
+            httpUrl = buildControllerUrl();
+            requestAttributes.setAttribute(httpUrlAttributeName, httpUrl, RequestAttributes.SCOPE_REQUEST);
+        }
+        return httpUrl;
+    }
+
+    private String buildControllerUrl() {
+        return fromController(controllerClass).pathSegment(StringUtils.EMPTY).toUriString();
     }
 
     @SuppressWarnings("unchecked")
-    private Class<T> getControllerClass() {
+    private Class<T> resolveControllerClass() {
         try {
             String className = ((ParameterizedType) this.getClass().getGenericSuperclass())
                                    .getActualTypeArguments()[0]
@@ -158,6 +158,18 @@ public class ResponseMapper {
         return generateResponse(response, ACCEPTED);
     }
 
+    /**
+     * Generates {@link ResponseEntity} without body in response to a conditional request for unchanged resource
+     *
+     * @param responseHeaders headers to be returned in the response
+     * @return response entity with Not Modified HTTP status and headers
+     */
+    public ResponseEntity notModified(ResponseHeaders responseHeaders) {
+        return ResponseEntity.status(NOT_MODIFIED)
+                   .headers(responseHeaders.getHttpHeaders())
+                   .build();
+    }
+
     private <T> ResponseEntity generateResponse(ResponseObject<T> response, HttpStatus positiveStatus) {
         return generateResponse(response, positiveStatus, null);
     }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service.mapper.payment;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import de.adorsys.psd2.model.BulkPaymentInitiationJson;
+import de.adorsys.psd2.model.PaymentInitiationBulkElementJson;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Reads JSON bulk payment bodies with the streaming parser, so that only one entry of the bulk is materialised at a time.
+ * Also enforces the limits for the number of entries and the size of the bulk payment body.
+ * <p>
+ * The raw body itself is still buffered once per request, and the whole body is additionally deserialised by the
+ * shared JSON tree of body validators, by the payment body fields validation and by controller binding of
+ * {@link BulkPaymentInitiationJson}. Peak heap of a bulk payment is therefore bounded by
+ * <code>xs2a.bulk-payment.max-body-size</code>, which is checked before the body is buffered, not by the size of one entry.
+ */
+@Slf4j
+@Component
+public class BulkPaymentStreamReader {
+    static final String PAYMENTS_FIELD_NAME = "payments";
+
+    private final Xs2aObjectMapper xs2aObjectMapper;
+    private final int maxEntries;
+    private final long maxBodySize;
+
+    @Autowired
+    public BulkPaymentStreamReader(Xs2aObjectMapper xs2aObjectMapper,
+                                   @Value("${xs2a.bulk-payment.max-entries:0}") int maxEntries,
+                                   @Value("${xs2a.bulk-payment.max-body-size:0}") long maxBodySize) {
+        this.xs2aObjectMapper = xs2aObjectMapper;
+        this.maxEntries = maxEntries;
+        this.maxBodySize = maxBodySize;
+    }
+
+    /**
+     * Checks whether the bulk payment body exceeds the configured number of entries or body size.
+     * Entries are counted without being deserialised, counting stops as soon as the limit is exceeded.
+     * Body size of requests is already checked before buffering by the content caching filter, the check here
+     * covers bodies that don't come from the filtered request.
+     *
+     * @param body raw bulk payment body
+     * @return <code>true</code> if one of the limits is exceeded, <code>false</code> otherwise or if the body is not a valid JSON object
+     */
+    public boolean exceedsLimits(byte[] body) {
+        if (maxBodySize > 0 && body.length > maxBodySize) {
+            log.info("Bulk payment body size {} exceeds the limit of {} bytes", body.length, maxBodySize);
+            return true;
+        }
+
+        if (maxEntries <= 0) {
+            return false;
+        }
+
+        try (JsonParser parser = createParser(body)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                JsonToken valueToken = parser.nextToken();
+                if (isPaymentsArray(parser.getCurrentName(), valueToken) && countEntries(parser) > maxEntries) {
+                    log.info("Bulk payment exceeds the limit of {} entries", maxEntries);
+                    return true;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            log.debug("Bulk payment entries couldn't be counted: {}", e.getMessage());
+        }
+
+        return false;
+    }
+
+    /**
+     * Reads the bulk payment body entry by entry.
+     *
+     * @param body            raw bulk payment body
+     * @param elementConsumer consumer of bulk entries, invoked for every entry of the <code>payments</code> array in the order of the body
+     * @return bulk payment with all fields of the body except for the entries, which are passed to the consumer instead
+     * @throws IOException if the body is not a valid bulk payment JSON
+     */
+    public BulkPaymentInitiationJson read(byte[] body, Consumer<PaymentInitiationBulkElementJson> elementConsumer) throws IOException {
+        try (JsonParser parser = createParser(body)) {
+            ObjectNode bulkHeader = xs2aObjectMapper.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (isPaymentsArray(fieldName, valueToken)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        elementConsumer.accept(parser.readValueAs(PaymentInitiationBulkElementJson.class));
+                    }
+                } else {
+                    bulkHeader.set(fieldName, parser.readValueAsTree());
+                }
+            }
+            return xs2aObjectMapper.treeToValue(bulkHeader, BulkPaymentInitiationJson.class);
+        }
+    }
+
+    private JsonParser createParser(byte[] body) throws IOException {
+        JsonParser parser = xs2aObjectMapper.getFactory().createParser(body);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Bulk payment body is expected to be a JSON object");
+        }
+        return parser;
+    }
+
+    private boolean isPaymentsArray(String fieldName, JsonToken valueToken) {
+        return PAYMENTS_FIELD_NAME.equals(fieldName) && valueToken == JsonToken.START_ARRAY;
+    }
+
+    private int countEntries(JsonParser parser) throws IOException {
+        int entries = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY && entries <= maxEntries) {
+            entries++;
+            parser.skipChildren();
+        }
+        return entries;
+    }
+}
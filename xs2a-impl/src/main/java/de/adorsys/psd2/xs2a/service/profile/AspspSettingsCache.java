@@ -0,0 +1,205 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.profile;
+
+import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
+import de.adorsys.psd2.aspsp.profile.event.AspspProfileChangedEvent;
+import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
+import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Per Instance-ID in-memory snapshot of ASPSP profile settings.
+ * <p>
+ * Entries live for <code>xs2a.aspsp-profile.cache.ttl.ms</code> milliseconds (<code>0</code> disables caching).
+ * If <code>xs2a.aspsp-profile.cache.refresh-ahead.ms</code> is set, an entry that is about to expire is reloaded
+ * in background while the old value is still being served. All entries are dropped on {@link AspspProfileChangedEvent}.
+ */
+@Slf4j
+@Component
+public class AspspSettingsCache {
+    private static final String NO_INSTANCE_KEY = "";
+
+    private final AspspProfileService aspspProfileService;
+    private final long ttlMs;
+    private final long refreshAheadMs;
+    private final ExecutorService refreshExecutor;
+
+    private final Map<String, CacheEntry<AspspSettings>> aspspSettings = new ConcurrentHashMap<>();
+    private final Map<String, CacheEntry<List<ScaApproach>>> scaApproaches = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder refreshCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+    // Incremented on every invalidation, values loaded before it are not stored in the cache
+    private final AtomicLong generation = new AtomicLong();
+
+    public AspspSettingsCache(AspspProfileService aspspProfileService,
+                              @Value("${xs2a.aspsp-profile.cache.ttl.ms:0}") long ttlMs,
+                              @Value("${xs2a.aspsp-profile.cache.refresh-ahead.ms:0}") long refreshAheadMs) {
+        this.aspspProfileService = aspspProfileService;
+        this.ttlMs = ttlMs;
+        this.refreshAheadMs = Math.min(refreshAheadMs, ttlMs);
+        this.refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "aspsp-profile-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns ASPSP settings for given instance, loading them from ASPSP profile if no actual snapshot is present
+     *
+     * @param instanceId ID of the instance
+     * @return ASPSP settings
+     */
+    public AspspSettings getAspspSettings(String instanceId) {
+        return get(aspspSettings, instanceId, aspspProfileService::getAspspSettings);
+    }
+
+    /**
+     * Returns list of SCA approaches for given instance, loading them from ASPSP profile if no actual snapshot is present
+     *
+     * @param instanceId ID of the instance
+     * @return list of SCA approaches ordered by priority
+     */
+    public List<ScaApproach> getScaApproaches(String instanceId) {
+        return get(scaApproaches, instanceId, aspspProfileService::getScaApproaches);
+    }
+
+    /**
+     * Drops all cached snapshots
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        aspspSettings.clear();
+        scaApproaches.clear();
+        invalidationCount.increment();
+    }
+
+    @EventListener
+    public void onAspspProfileChanged(AspspProfileChangedEvent event) {
+        log.info("Instance ID: [{}]. ASPSP profile has been changed, cached settings will be dropped", event.getInstanceId());
+        invalidateAll();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private <T> T get(Map<String, CacheEntry<T>> cache, String instanceId, Function<String, T> loader) {
+        if (ttlMs <= 0) {
+            missCount.increment();
+            return loader.apply(instanceId);
+        }
+
+        String key = Objects.toString(instanceId, NO_INSTANCE_KEY);
+        long now = System.currentTimeMillis();
+        CacheEntry<T> entry = cache.get(key);
+
+        if (entry != null && now < entry.expiresAt) {
+            hitCount.increment();
+            if (refreshAheadMs > 0 && now >= entry.expiresAt - refreshAheadMs) {
+                refreshAhead(cache, key, instanceId, entry, loader);
+            }
+            return entry.value;
+        }
+
+        missCount.increment();
+        long loadedGeneration = generation.get();
+        T value = loader.apply(instanceId);
+        if (value != null && loadedGeneration == generation.get()) {
+            CacheEntry<T> loadedEntry = new CacheEntry<>(value, now + ttlMs);
+            cache.put(key, loadedEntry);
+            // Cache might have been invalidated right before the put, in this case the loaded value is dropped again
+            if (loadedGeneration != generation.get()) {
+                cache.remove(key, loadedEntry);
+            }
+        }
+        return value;
+    }
+
+    private <T> void refreshAhead(Map<String, CacheEntry<T>> cache, String key, String instanceId, CacheEntry<T> entry, Function<String, T> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    T value = loader.apply(instanceId);
+                    if (value != null) {
+                        // Entry might have been invalidated in the meantime, in this case the fresh value is not stored
+                        cache.replace(key, entry, new CacheEntry<>(value, System.currentTimeMillis() + ttlMs));
+                        refreshCount.increment();
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Instance ID: [{}]. Refresh of ASPSP profile settings has failed: {}", instanceId, e.getMessage());
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static class CacheEntry<T> {
+        private final T value;
+        private final long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private CacheEntry(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service.spi;
+
+import de.adorsys.psd2.consent.api.AspspDataService;
+import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * AspspConsentData of all consents and payments accessed within the current request.
+ * <p>
+ * Data is read from the CMS once per request and shared by all {@link SpiAspspConsentDataProviderImpl} objects of the
+ * request. If write-behind is enabled, updates are collected and only the last one for each consent/payment is written
+ * on {@link #flush(AspspDataService)}, which has to be called before the response is sent to the TPP.
+ * <p>
+ * Data is copied when it is put into the context and every time it is returned, so SPI implementations can't modify
+ * data of the context (and of pending writes) by modifying returned arrays.
+ */
+public class AspspConsentDataRequestContext {
+    private static final String ATTRIBUTE_NAME = AspspConsentDataRequestContext.class.getName();
+
+    private final boolean writeBehind;
+    private final Map<String, byte[]> knownData = new HashMap<>();
+    private final Map<String, byte[]> pendingWrites = new LinkedHashMap<>();
+
+    private int loadCount;
+    private int writeCount;
+
+    AspspConsentDataRequestContext(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    /**
+     * Opens context for the current request, replacing previously opened one
+     *
+     * @param writeBehind whether updates should be deferred until {@link #flush(AspspDataService)}
+     * @return opened context or <code>null</code> if there is no current request
+     */
+    @Nullable
+    public static AspspConsentDataRequestContext open(boolean writeBehind) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        AspspConsentDataRequestContext context = new AspspConsentDataRequestContext(writeBehind);
+        requestAttributes.setAttribute(ATTRIBUTE_NAME, context, RequestAttributes.SCOPE_REQUEST);
+        return context;
+    }
+
+    /**
+     * Returns context of the current request
+     *
+     * @return context or <code>null</code> if there is no current request or no context was opened for it
+     */
+    @Nullable
+    public static AspspConsentDataRequestContext current() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        Object attribute = requestAttributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        return attribute instanceof AspspConsentDataRequestContext
+                   ? (AspspConsentDataRequestContext) attribute
+                   : null;
+    }
+
+    /**
+     * Writes all deferred updates to the CMS. Every update is attempted only once: if writing fails, remaining updates
+     * are discarded and the exception is propagated to the caller.
+     *
+     * @param aspspDataService service to write the data with
+     */
+    public void flush(@NotNull AspspDataService aspspDataService) {
+        Map<String, byte[]> writes = new LinkedHashMap<>(pendingWrites);
+        pendingWrites.clear();
+        writes.forEach((encryptedConsentId, data) -> write(aspspDataService, encryptedConsentId, data));
+    }
+
+    /**
+     * @return <code>true</code> if there are deferred updates that haven't been written yet
+     */
+    public boolean hasPendingWrites() {
+        return !pendingWrites.isEmpty();
+    }
+
+    /**
+     * @return number of AspspConsentData reads from the CMS within the request
+     */
+    public int getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * @return number of AspspConsentData updates and deletions sent to the CMS within the request
+     */
+    public int getWriteCount() {
+        return writeCount;
+    }
+
+    @Nullable
+    byte[] getKnownData(@NotNull String encryptedConsentId) {
+        byte[] data = knownData.get(encryptedConsentId);
+        return data == null ? null : data.clone();
+    }
+
+    void onLoad(@NotNull String encryptedConsentId, @NotNull byte[] data) {
+        loadCount++;
+        knownData.put(encryptedConsentId, data.clone());
+    }
+
+    /**
+     * Stores new data of the consent/payment, writing it immediately unless write-behind is enabled
+     *
+     * @param aspspDataService   service to write the data with
+     * @param encryptedConsentId Consent/Payment ID
+     * @param data               new data, empty array means removal of the data
+     */
+    void update(@NotNull AspspDataService aspspDataService, @NotNull String encryptedConsentId, @NotNull byte[] data) {
+        knownData.put(encryptedConsentId, data.clone());
+        if (writeBehind) {
+            pendingWrites.put(encryptedConsentId, data.clone());
+        } else {
+            write(aspspDataService, encryptedConsentId, data);
+        }
+    }
+
+    private void write(AspspDataService aspspDataService, String encryptedConsentId, byte[] data) {
+        writeCount++;
+        if (data.length == 0) {
+            aspspDataService.deleteAspspConsentData(encryptedConsentId);
+        } else {
+            aspspDataService.updateAspspConsentData(new AspspConsentData(data, encryptedConsentId));
+        }
+    }
+}
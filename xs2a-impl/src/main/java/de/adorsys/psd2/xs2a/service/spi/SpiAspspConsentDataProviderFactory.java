@@ -31,13 +31,14 @@ public class SpiAspspConsentDataProviderFactory {
     private final AspspDataService aspspDataService;
 
     /**
-     * Establishes SpiAspspConsentDataProvider object that is linked to existing Consent/Payment ID
+     * Establishes SpiAspspConsentDataProvider object that is linked to existing Consent/Payment ID.
+     * Providers established within the same request share the data through {@link AspspConsentDataRequestContext}.
      * @param encryptedConsentId Consent/Payment ID received from TPP
      * @return stateful SpiAspspConsentDataProvider object
      */
     @NotNull
     public SpiAspspConsentDataProvider getSpiAspspDataProviderFor(@NotNull String encryptedConsentId) {
-        return new SpiAspspConsentDataProviderImpl(encryptedConsentId, aspspDataService);
+        return new SpiAspspConsentDataProviderImpl(encryptedConsentId, aspspDataService, AspspConsentDataRequestContext.current());
     }
 
     /**
@@ -30,28 +30,47 @@ import static org.apache.commons.lang3.ArrayUtils.EMPTY_BYTE_ARRAY;
 import static org.apache.commons.lang3.ArrayUtils.nullToEmpty;
 
 /**
- * This is a stateful object that provides access to encrypted AspspConsentData array stored in the database
+ * This is a stateful object that provides access to encrypted AspspConsentData array stored in the database.
+ * <p>
+ * If created within a request with opened {@link AspspConsentDataRequestContext}, the data is read once per request
+ * and updates are passed to the context.
  */
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class SpiAspspConsentDataProviderImpl implements SpiAspspConsentDataProvider {
     private final String encryptedConsentId;
     private final AspspDataService aspspDataService;
+    @Nullable
+    private final AspspConsentDataRequestContext requestContext;
 
     private byte[] lastKnownData = EMPTY_BYTE_ARRAY;
 
+    SpiAspspConsentDataProviderImpl(String encryptedConsentId, AspspDataService aspspDataService) {
+        this(encryptedConsentId, aspspDataService, null);
+    }
+
     @Override
     @NotNull
     public byte[] loadAspspConsentData() {
+        if (requestContext != null) {
+            byte[] knownData = requestContext.getKnownData(encryptedConsentId);
+            if (knownData != null) {
+                return knownData;
+            }
+        }
+
         byte[] readData = aspspDataService.readAspspConsentData(encryptedConsentId)
                                      .map(AspspConsentData::getAspspConsentData)
                                      .orElse(EMPTY_BYTE_ARRAY);
-        lastKnownData = readData;
+        lastKnownData = readData.clone();
+        if (requestContext != null) {
+            requestContext.onLoad(encryptedConsentId, readData);
+        }
         return readData;
     }
 
     @Override
     public void updateAspspConsentData(@Nullable byte[] aspspConsentData) {
-        if (Arrays.equals(nullToEmpty(aspspConsentData), lastKnownData)) {
+        if (Arrays.equals(nullToEmpty(aspspConsentData), getLastKnownData())) {
             // Do nothing if nothing changed
             return;
         }
@@ -60,13 +79,31 @@ public class SpiAspspConsentDataProviderImpl implements SpiAspspConsentDataProvi
             return;
         }
 
-        aspspDataService.updateAspspConsentData(new AspspConsentData(aspspConsentData, encryptedConsentId));
-        lastKnownData = aspspConsentData;
+        if (requestContext != null) {
+            requestContext.update(aspspDataService, encryptedConsentId, aspspConsentData);
+        } else {
+            aspspDataService.updateAspspConsentData(new AspspConsentData(aspspConsentData, encryptedConsentId));
+        }
+        lastKnownData = aspspConsentData.clone();
     }
 
     @Override
     public void clearAspspConsentData() {
-        aspspDataService.deleteAspspConsentData(encryptedConsentId);
+        if (requestContext != null) {
+            requestContext.update(aspspDataService, encryptedConsentId, EMPTY_BYTE_ARRAY);
+        } else {
+            aspspDataService.deleteAspspConsentData(encryptedConsentId);
+        }
         lastKnownData = EMPTY_BYTE_ARRAY;
     }
+
+    private byte[] getLastKnownData() {
+        if (requestContext != null) {
+            byte[] knownData = requestContext.getKnownData(encryptedConsentId);
+            if (knownData != null) {
+                return knownData;
+            }
+        }
+        return lastKnownData;
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.validator.tpp;
+
+import de.adorsys.psd2.validator.certificate.util.CertificateExtractorUtil;
+import de.adorsys.psd2.validator.certificate.util.TppCertificateData;
+import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
+import de.adorsys.psd2.xs2a.core.tpp.TppRole;
+import lombok.EqualsAndHashCode;
+import no.difi.certvalidator.api.CertificateValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-memory cache for data derived from TPP QWAC certificates.
+ * <p>
+ * Parsed certificates are identified by SHA-256 digest of the encoded certificate and live for
+ * <code>xs2a.qwac-certificate.cache.ttl.ms</code> milliseconds, but never longer than the certificate itself is valid.
+ * Additionally the cache remembers TPP information last stored in CMS per authorisation number,
+ * so that CMS is only updated when roles or other attributes of the TPP have actually changed.
+ * The least recently used entry is evicted if cache exceeds <code>xs2a.qwac-certificate.cache.max-size</code> entries,
+ * <code>0</code> for any of these properties disables caching.
+ */
+@Component
+public class TppCertificateCache {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final int maxSize;
+    private final long ttlMs;
+    private final LinkedHashMap<String, CacheEntry<TppCertificateData>> certificates = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, CacheEntry<TppInfoSnapshot>> storedTppInfos = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public TppCertificateCache(@Value("${xs2a.qwac-certificate.cache.max-size:1000}") int maxSize,
+                               @Value("${xs2a.qwac-certificate.cache.ttl.ms:3600000}") long ttlMs) {
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Returns data of given QWAC certificate, parsing the certificate if it is not cached yet.
+     * Returned object is shared between requests and must not be modified.
+     *
+     * @param encodedCertificate PEM encoded QWAC certificate
+     * @return data extracted from the certificate
+     * @throws CertificateValidationException if certificate can't be parsed
+     */
+    public TppCertificateData getCertificateData(String encodedCertificate) throws CertificateValidationException {
+        if (isDisabled()) {
+            missCount.increment();
+            return CertificateExtractorUtil.extract(encodedCertificate);
+        }
+
+        String cacheKey = digest(encodedCertificate);
+        long now = System.currentTimeMillis();
+        Optional<TppCertificateData> cachedData = get(certificates, cacheKey, now);
+        if (cachedData.isPresent()) {
+            hitCount.increment();
+            return cachedData.get();
+        }
+
+        missCount.increment();
+        TppCertificateData tppCertificateData = CertificateExtractorUtil.extract(encodedCertificate);
+        long expiresAt = Optional.ofNullable(tppCertificateData.getNotAfter())
+                             .map(Date::getTime)
+                             .map(notAfter -> Math.min(notAfter, now + ttlMs))
+                             .orElse(now);
+        if (expiresAt > now) {
+            put(certificates, cacheKey, new CacheEntry<>(tppCertificateData, expiresAt), now);
+        }
+        return tppCertificateData;
+    }
+
+    /**
+     * Checks whether given TPP information differs from the one that was last stored in CMS for the same TPP
+     *
+     * @param tppInfo TPP information to be stored
+     * @return <code>true</code> if CMS has to be updated, <code>false</code> otherwise
+     */
+    public boolean isTppInfoChanged(TppInfo tppInfo) {
+        if (isDisabled()) {
+            return true;
+        }
+
+        return get(storedTppInfos, tppInfo.getAuthorisationNumber(), System.currentTimeMillis())
+                   .map(snapshot -> !snapshot.equals(new TppInfoSnapshot(tppInfo)))
+                   .orElse(true);
+    }
+
+    /**
+     * Remembers TPP information that has been successfully stored in CMS
+     *
+     * @param tppInfo stored TPP information
+     */
+    public void tppInfoStored(TppInfo tppInfo) {
+        if (isDisabled() || tppInfo.getAuthorisationNumber() == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        put(storedTppInfos, tppInfo.getAuthorisationNumber(), new CacheEntry<>(new TppInfoSnapshot(tppInfo), now + ttlMs), now);
+    }
+
+    /**
+     * Removes all entries from the cache
+     */
+    public void clear() {
+        synchronized (certificates) {
+            certificates.clear();
+        }
+        synchronized (storedTppInfos) {
+            storedTppInfos.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private boolean isDisabled() {
+        return maxSize <= 0 || ttlMs <= 0;
+    }
+
+    private <T> Optional<T> get(LinkedHashMap<String, CacheEntry<T>> cache, String key, long now) {
+        if (key == null) {
+            return Optional.empty();
+        }
+
+        synchronized (cache) {
+            CacheEntry<T> entry = cache.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (now >= entry.expiresAt) {
+                cache.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.value);
+        }
+    }
+
+    private <T> void put(LinkedHashMap<String, CacheEntry<T>> cache, String key, CacheEntry<T> entry, long now) {
+        synchronized (cache) {
+            cache.put(key, entry);
+            Iterator<Map.Entry<String, CacheEntry<T>>> iterator = cache.entrySet().iterator();
+            while (iterator.hasNext()) {
+                CacheEntry<T> cachedEntry = iterator.next().getValue();
+                if (cache.size() > maxSize || now >= cachedEntry.expiresAt) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private String digest(String encodedCertificate) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            return Base64.getEncoder().encodeToString(messageDigest.digest(encodedCertificate.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Digest algorithm " + DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static class CacheEntry<T> {
+        private final T value;
+        private final long expiresAt;
+
+        private CacheEntry(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * TPP attributes compared to detect changes, as {@link TppInfo} itself is only compared by authorisation number
+     */
+    @EqualsAndHashCode
+    private static class TppInfoSnapshot {
+        private final Set<TppRole> tppRoles;
+        private final String tppName;
+        private final String authorityId;
+        private final String authorityName;
+        private final String country;
+        private final String organisation;
+        private final String organisationUnit;
+        private final String city;
+        private final String state;
+        private final String issuerCN;
+
+        private TppInfoSnapshot(TppInfo tppInfo) {
+            this.tppRoles = tppInfo.getTppRoles() == null ? null : new HashSet<>(tppInfo.getTppRoles());
+            this.tppName = tppInfo.getTppName();
+            this.authorityId = tppInfo.getAuthorityId();
+            this.authorityName = tppInfo.getAuthorityName();
+            this.country = tppInfo.getCountry();
+            this.organisation = tppInfo.getOrganisation();
+            this.organisationUnit = tppInfo.getOrganisationUnit();
+            this.city = tppInfo.getCity();
+            this.state = tppInfo.getState();
+            this.issuerCN = tppInfo.getIssuerCN();
+        }
+    }
+}
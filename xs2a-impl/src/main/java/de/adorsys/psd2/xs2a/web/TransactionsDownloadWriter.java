@@ -0,0 +1,199 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.web;
+
+import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsDownloadResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes downloaded transaction lists to the HTTP response.
+ * <p>
+ * The stream provided by the ASPSP is copied with a single buffer of fixed size, so that the file is never kept in memory as a whole.
+ * If the size of the file is known, a single byte range may be requested with the <code>Range</code> header to resume an interrupted download.
+ * Otherwise, if enabled, the file is compressed on the fly for TPPs accepting gzip encoding.
+ */
+@Slf4j
+@Component
+public class TransactionsDownloadWriter {
+    private static final Pattern BYTE_RANGE_PATTERN = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+    private static final String BYTES_RANGE_UNIT = "bytes";
+    private static final String GZIP_ENCODING = "gzip";
+
+    private final int bufferSize;
+    private final boolean gzipEnabled;
+
+    @Autowired
+    public TransactionsDownloadWriter(@Value("${xs2a.transactions-download.buffer-size:8192}") int bufferSize,
+                                      @Value("${xs2a.transactions-download.gzip.enabled:false}") boolean gzipEnabled) {
+        this.bufferSize = bufferSize;
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    /**
+     * Writes the downloaded transactions to the response and closes the transaction stream
+     *
+     * @param request  request of the TPP, used for <code>Range</code> and <code>Accept-Encoding</code> headers
+     * @param response response to write the transactions to
+     * @param download transactions download, provided by the ASPSP
+     * @throws IOException if reading the transaction stream or writing the response failed
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, Xs2aTransactionsDownloadResponse download) throws IOException {
+        Integer dataSizeBytes = download.getDataSizeBytes();
+
+        try (InputStream transactions = download.getTransactionStream()) {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.addHeader(HttpHeaders.CONTENT_DISPOSITION, resolveContentDisposition(download.getDataFileName()));
+
+            if (dataSizeBytes == null) {
+                writeFull(request, response, transactions, null);
+                return;
+            }
+
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, BYTES_RANGE_UNIT);
+            Optional<ByteRange> byteRange = parseByteRange(request.getHeader(HttpHeaders.RANGE), dataSizeBytes);
+
+            if (byteRange.isEmpty()) {
+                writeFull(request, response, transactions, dataSizeBytes);
+            } else if (byteRange.get().isSatisfiable()) {
+                writeRange(response, transactions, byteRange.get(), dataSizeBytes);
+            } else {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, BYTES_RANGE_UNIT + " */" + dataSizeBytes);
+            }
+        }
+
+        response.flushBuffer();
+    }
+
+    private void writeFull(HttpServletRequest request, HttpServletResponse response, InputStream transactions, @Nullable Integer dataSizeBytes) throws IOException {
+        if (gzipEnabled && isGzipAccepted(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(response.getOutputStream(), bufferSize);
+            copy(transactions, gzipOutputStream, Long.MAX_VALUE);
+            gzipOutputStream.finish();
+            return;
+        }
+
+        if (dataSizeBytes != null) {
+            response.setContentLength(dataSizeBytes);
+        }
+        copy(transactions, response.getOutputStream(), Long.MAX_VALUE);
+    }
+
+    private void writeRange(HttpServletResponse response, InputStream transactions, ByteRange byteRange, int dataSizeBytes) throws IOException {
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, String.format("%s %d-%d/%d", BYTES_RANGE_UNIT, byteRange.getFirst(), byteRange.getLast(), dataSizeBytes));
+        response.setContentLengthLong(byteRange.getLength());
+
+        IOUtils.skipFully(transactions, byteRange.getFirst());
+        copy(transactions, response.getOutputStream(), byteRange.getLength());
+    }
+
+    private void copy(InputStream input, OutputStream output, long maxLength) throws IOException {
+        byte[] buffer = new byte[bufferSize];
+        long remaining = maxLength;
+        int read;
+        while (remaining > 0 && (read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+            output.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    /**
+     * Parses a single byte range of the <code>Range</code> header. Multiple or malformed ranges are ignored,
+     * in that case the whole file is sent, as permitted by RFC 7233.
+     */
+    private Optional<ByteRange> parseByteRange(@Nullable String rangeHeader, int dataSizeBytes) {
+        if (rangeHeader == null) {
+            return Optional.empty();
+        }
+
+        Matcher matcher = BYTE_RANGE_PATTERN.matcher(rangeHeader.trim());
+        if (!matcher.matches()) {
+            log.info("Unsupported range [{}] of the transactions download is ignored", rangeHeader);
+            return Optional.empty();
+        }
+
+        String first = matcher.group(1);
+        String last = matcher.group(2);
+        try {
+            if (StringUtils.isEmpty(first)) {
+                if (StringUtils.isEmpty(last)) {
+                    return Optional.empty();
+                }
+                long suffixLength = Math.min(Long.parseLong(last), dataSizeBytes);
+                return Optional.of(new ByteRange(dataSizeBytes - suffixLength, dataSizeBytes - 1L));
+            }
+
+            long firstByte = Long.parseLong(first);
+            long lastByte = StringUtils.isEmpty(last) ? dataSizeBytes - 1L : Math.min(Long.parseLong(last), dataSizeBytes - 1L);
+            if (firstByte > lastByte && firstByte < dataSizeBytes) {
+                return Optional.empty();
+            }
+            return Optional.of(new ByteRange(firstByte, lastByte));
+        } catch (NumberFormatException e) {
+            log.info("Malformed range [{}] of the transactions download is ignored", rangeHeader);
+            return Optional.empty();
+        }
+    }
+
+    private boolean isGzipAccepted(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP_ENCODING);
+    }
+
+    private String resolveContentDisposition(String fileName) {
+        return String.format("attachment; filename=%s", fileName == null ? System.currentTimeMillis() : fileName);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ByteRange {
+        private final long first;
+        private final long last;
+
+        boolean isSatisfiable() {
+            return first <= last;
+        }
+
+        long getLength() {
+            return last - first + 1;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package de.adorsys.psd2.xs2a.web;
 import de.adorsys.psd2.xs2a.config.Xs2aEndpointPathConstant;
 import de.adorsys.psd2.xs2a.web.request.RequestPathResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.util.AntPathMatcher;
 
@@ -37,4 +38,20 @@ public class Xs2aEndpointChecker {
         return Stream.of(Xs2aEndpointPathConstant.getAllXs2aEndpointPaths())
                    .anyMatch(en -> matcher.match(en, requestPath));
     }
+
+    public boolean isTransactionsDownloadEndpoint(HttpServletRequest request) {
+        String requestPath = requestPathResolver.resolveRequestPath(request);
+
+        return matcher.match(Xs2aEndpointPathConstant.TRANSACTIONS_DOWNLOAD_PATH, requestPath);
+    }
+
+    public boolean isBulkPaymentInitiationEndpoint(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return false;
+        }
+
+        String requestPath = requestPathResolver.resolveRequestPath(request);
+
+        return matcher.match(Xs2aEndpointPathConstant.BULK_PAYMENT_INITIATION_PATH, requestPath);
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.web.advice;
+
+import de.adorsys.psd2.consent.api.AspspDataService;
+import de.adorsys.psd2.xs2a.service.spi.AspspConsentDataRequestContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Writes deferred AspspConsentData updates of the request before the response body is written, so the response is not
+ * committed yet and a failed write results in an error response instead of a successful one.
+ */
+@RequiredArgsConstructor
+@ControllerAdvice(basePackages = "de.adorsys.psd2.xs2a.web.controller")
+public class AspspConsentDataFlushAdvice implements ResponseBodyAdvice<Object> {
+    private final AspspDataService aspspDataService;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request, ServerHttpResponse response) {
+        AspspConsentDataRequestContext context = AspspConsentDataRequestContext.current();
+        if (context != null && context.hasPendingWrites()) {
+            context.flush(aspspDataService);
+        }
+        return body;
+    }
+}
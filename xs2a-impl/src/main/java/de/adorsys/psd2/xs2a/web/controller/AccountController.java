@@ -28,14 +28,13 @@ import de.adorsys.psd2.xs2a.service.mapper.AccountModelMapper;
 import de.adorsys.psd2.xs2a.service.mapper.ResponseMapper;
 import de.adorsys.psd2.xs2a.service.mapper.TrustedBeneficiariesModelMapper;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ResponseErrorMapper;
+import de.adorsys.psd2.xs2a.web.TransactionsDownloadWriter;
 import de.adorsys.psd2.xs2a.web.error.TppErrorMessageWriter;
 import de.adorsys.psd2.xs2a.web.filter.TppErrorMessage;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -45,7 +44,6 @@ import org.springframework.web.bind.annotation.RestController;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
@@ -70,6 +68,7 @@ public class AccountController implements AccountApi {
     private final TrustedBeneficiariesModelMapper trustedBeneficiariesModelMapper;
     private final ResponseErrorMapper responseErrorMapper;
     private final TppErrorMessageWriter tppErrorMessageWriter;
+    private final TransactionsDownloadWriter transactionsDownloadWriter;
 
     @Override
     public ResponseEntity getAccountList(UUID xRequestID, String consentID, Boolean withBalance, String digest, String signature, byte[] tpPSignatureCertificate, String psUIPAddress, String psUIPPort, String psUAccept, String psUAcceptCharset, String psUAcceptEncoding, String psUAcceptLanguage, String psUUserAgent, String psUHttpMethod, UUID psUDeviceID, String psUGeoLocation) {
@@ -129,18 +128,8 @@ public class AccountController implements AccountApi {
             return;
         }
 
-        Xs2aTransactionsDownloadResponse responseBody = downloadTransactionsResponse.getBody();
-        Integer dataSizeBytes = responseBody.getDataSizeBytes();
-        String dataFileName = responseBody.getDataFileName();
-
-        try (InputStream transactions = responseBody.getTransactionStream()) {
-            IOUtils.copy(transactions, response.getOutputStream(), 4096);
-            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
-            response.addHeader("Content-Disposition", resolveContentDisposition(dataFileName));
-            if (dataSizeBytes != null) {
-                response.setContentLength(dataSizeBytes);
-            }
-            response.flushBuffer();
+        try {
+            transactionsDownloadWriter.write(request, response, downloadTransactionsResponse.getBody());
         } catch (IOException e) {
             log.info("Consent-ID: [{}], Account-ID: [{}]. Download-ID [{}]. Download transactions failed: IOException occurred in downloadTransactions controller.",
                      consentId, accountId, downloadId);
@@ -166,10 +155,6 @@ public class AccountController implements AccountApi {
         return result;
     }
 
-    private String resolveContentDisposition(String fileName) {
-        return String.format("attachment; filename=%s", fileName == null ? System.currentTimeMillis() : fileName);
-    }
-
     private void flushResponseError(TppErrorMessage errorMessage) {
         try {
             tppErrorMessageWriter.writeError(response, errorMessage);
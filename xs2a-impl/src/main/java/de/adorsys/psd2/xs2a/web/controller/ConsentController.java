@@ -31,6 +31,7 @@ import de.adorsys.psd2.xs2a.domain.consent.*;
 import de.adorsys.psd2.xs2a.service.ConsentService;
 import de.adorsys.psd2.xs2a.service.NotificationSupportedModeService;
 import de.adorsys.psd2.xs2a.service.RequestProviderService;
+import de.adorsys.psd2.xs2a.service.StatusETagService;
 import de.adorsys.psd2.xs2a.service.mapper.ResponseMapper;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ResponseErrorMapper;
 import de.adorsys.psd2.xs2a.web.header.ConsentHeadersBuilder;
@@ -62,6 +63,7 @@ public class ConsentController implements ConsentApi {
     private final ConsentHeadersBuilder consentHeadersBuilder;
     private final NotificationSupportedModeService notificationSupportedModeService;
     private final RequestProviderService requestProviderService;
+    private final StatusETagService statusETagService;
 
     @Override
     public ResponseEntity createConsent(UUID xRequestID, String psuIpAddress, Consents body, String digest, String signature,
@@ -109,9 +111,17 @@ public class ConsentController implements ConsentApi {
                                            UUID psUDeviceID, String psUGeoLocation) {
 
         ResponseObject<ConsentStatusResponse> accountConsentsStatusByIdResponse = consentService.getAccountConsentsStatusById(consentId);
-        return accountConsentsStatusByIdResponse.hasError()
-                   ? responseErrorMapper.generateErrorResponse(accountConsentsStatusByIdResponse.getError())
-                   : responseMapper.ok(accountConsentsStatusByIdResponse, consentModelMapper::mapToConsentStatusResponse200);
+        if (accountConsentsStatusByIdResponse.hasError()) {
+            return responseErrorMapper.generateErrorResponse(accountConsentsStatusByIdResponse.getError());
+        }
+
+        String eTag = statusETagService.getConsentStatusETag(consentId, accountConsentsStatusByIdResponse.getBody());
+        ResponseHeaders responseHeaders = ResponseHeaders.builder()
+                                              .eTag(eTag)
+                                              .build();
+        return statusETagService.isNotModified(eTag)
+                   ? responseMapper.notModified(responseHeaders)
+                   : responseMapper.ok(accountConsentsStatusByIdResponse, consentModelMapper::mapToConsentStatusResponse200, responseHeaders);
     }
 
     @Override
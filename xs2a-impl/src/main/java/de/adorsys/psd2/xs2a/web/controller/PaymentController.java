@@ -80,6 +80,7 @@ public class PaymentController implements PaymentApi {
     private final PaymentServiceForAuthorisationImpl paymentServiceForAuthorisation;
     private final PaymentCancellationServiceForAuthorisationImpl paymentCancellationServiceForAuthorisation;
     private final RequestProviderService requestProviderService;
+    private final StatusETagService statusETagService;
 
     private static final MessageError MESSAGE_ERROR_RESOURCE_UNKNOWN_404 = new MessageError(ErrorType.PIS_404, TppMessageInformation.of(RESOURCE_UNKNOWN_404));
 
@@ -92,7 +93,8 @@ public class PaymentController implements PaymentApi {
                                                      String psuAcceptLanguage, String psuUserAgent, String psuHttpMethod,
                                                      UUID psuDeviceId, String psuGeoLocation) {
 
-        ResponseObject<GetPaymentStatusResponse> serviceResponse = PaymentType.getByValue(paymentService)
+        Optional<PaymentType> paymentType = PaymentType.getByValue(paymentService);
+        ResponseObject<GetPaymentStatusResponse> serviceResponse = paymentType
                                                                        .map(pt -> xs2aPaymentService.getPaymentStatusById(pt, paymentProduct, paymentId))
                                                                        .orElseGet(ResponseObject.<GetPaymentStatusResponse>builder()
                                                                                       .fail(MESSAGE_ERROR_RESOURCE_UNKNOWN_404)::build);
@@ -101,10 +103,18 @@ public class PaymentController implements PaymentApi {
             return responseErrorMapper.generateErrorResponse(serviceResponse.getError());
         }
 
+        String eTag = statusETagService.getPaymentStatusETag(paymentType.get(), paymentProduct, paymentId, serviceResponse.getBody());
+        ResponseHeaders responseHeaders = ResponseHeaders.builder()
+                                              .eTag(eTag)
+                                              .build();
+        if (statusETagService.isNotModified(eTag)) {
+            return responseMapper.notModified(responseHeaders);
+        }
+
         if (serviceResponse.getBody().isResponseContentTypeJson()) {
-            return responseMapper.ok(serviceResponse, paymentModelMapperPsd2::mapToStatusResponseJson);
+            return responseMapper.ok(serviceResponse, paymentModelMapperPsd2::mapToStatusResponseJson, responseHeaders);
         } else {
-            return responseMapper.ok(serviceResponse, paymentModelMapperPsd2::mapToStatusResponseRaw);
+            return responseMapper.ok(serviceResponse, paymentModelMapperPsd2::mapToStatusResponseRaw, responseHeaders);
         }
     }
 
@@ -20,6 +20,8 @@ import de.adorsys.psd2.xs2a.component.MultiReadHttpServletRequest;
 import de.adorsys.psd2.xs2a.component.MultiReadHttpServletResponse;
 import de.adorsys.psd2.xs2a.web.Xs2aEndpointChecker;
 import de.adorsys.psd2.xs2a.web.error.TppErrorMessageWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.FilterChain;
@@ -28,20 +30,54 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
+import static de.adorsys.psd2.xs2a.core.domain.MessageCategory.ERROR;
+import static de.adorsys.psd2.xs2a.core.error.MessageErrorCode.FORMAT_ERROR_BULK_SIZE_EXCEEDED;
+
+@Slf4j
 @Component
 public class ContentCachingWrappingFilter extends AbstractXs2aFilter {
+    private final TppErrorMessageWriter tppErrorMessageWriter;
+    private final Xs2aEndpointChecker xs2aEndpointChecker;
+    private final long maxBulkPaymentBodySize;
 
-    public ContentCachingWrappingFilter(TppErrorMessageWriter tppErrorMessageWriter, Xs2aEndpointChecker xs2aEndpointChecker) {
+    public ContentCachingWrappingFilter(TppErrorMessageWriter tppErrorMessageWriter, Xs2aEndpointChecker xs2aEndpointChecker,
+                                        @Value("${xs2a.bulk-payment.max-body-size:0}") long maxBulkPaymentBodySize) {
         super(tppErrorMessageWriter, xs2aEndpointChecker);
+        this.tppErrorMessageWriter = tppErrorMessageWriter;
+        this.xs2aEndpointChecker = xs2aEndpointChecker;
+        this.maxBulkPaymentBodySize = maxBulkPaymentBodySize;
     }
 
     @Override
     protected void doFilterInternalCustom(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         MultiReadHttpServletRequest multiReadRequest = new MultiReadHttpServletRequest(request);
+
+        // Oversized bulk payments are rejected before their body is buffered in memory
+        if (isBulkPaymentBodySizeLimited(request) && exceedsBulkPaymentBodySize(multiReadRequest)) {
+            log.info("Bulk payment body exceeds the limit of {} bytes", maxBulkPaymentBodySize);
+            tppErrorMessageWriter.writeError(response, new TppErrorMessage(ERROR, FORMAT_ERROR_BULK_SIZE_EXCEEDED));
+            return;
+        }
+
+        // Downloaded transaction lists are streamed directly to the TPP instead of being cached in memory
+        if (xs2aEndpointChecker.isTransactionsDownloadEndpoint(request)) {
+            doFilter(multiReadRequest, response, filterChain);
+            return;
+        }
+
         MultiReadHttpServletResponse multiReadResponse = new MultiReadHttpServletResponse(response);
 
         doFilter(multiReadRequest, multiReadResponse, filterChain);
 
         multiReadResponse.copyBodyToResponse();
     }
+
+    private boolean isBulkPaymentBodySizeLimited(HttpServletRequest request) {
+        return maxBulkPaymentBodySize > 0 && xs2aEndpointChecker.isBulkPaymentInitiationEndpoint(request);
+    }
+
+    private boolean exceedsBulkPaymentBodySize(MultiReadHttpServletRequest request) throws IOException {
+        return request.getContentLengthLong() > maxBulkPaymentBodySize
+                   || !request.cacheBody(maxBulkPaymentBodySize);
+    }
 }
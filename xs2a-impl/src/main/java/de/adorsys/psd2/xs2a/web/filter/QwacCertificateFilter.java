@@ -16,14 +16,15 @@
 
 package de.adorsys.psd2.xs2a.web.filter;
 
+import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.service.TppService;
-import de.adorsys.psd2.validator.certificate.util.CertificateExtractorUtil;
 import de.adorsys.psd2.validator.certificate.util.TppCertificateData;
 import de.adorsys.psd2.xs2a.core.error.MessageErrorCode;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
 import de.adorsys.psd2.xs2a.core.tpp.TppRole;
 import de.adorsys.psd2.xs2a.service.RequestProviderService;
 import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
+import de.adorsys.psd2.xs2a.service.validator.tpp.TppCertificateCache;
 import de.adorsys.psd2.xs2a.service.validator.tpp.TppInfoHolder;
 import de.adorsys.psd2.xs2a.service.validator.tpp.TppRoleValidationService;
 import de.adorsys.psd2.xs2a.web.Xs2aEndpointChecker;
@@ -62,8 +63,9 @@ public class QwacCertificateFilter extends AbstractXs2aFilter {
     private final Xs2aTppInfoMapper xs2aTppInfoMapper;
     private final TppInfoRolesMapper tppInfoRolesMapper;
     private final TppErrorMessageWriter tppErrorMessageWriter;
+    private final TppCertificateCache tppCertificateCache;
 
-    public QwacCertificateFilter(TppErrorMessageWriter tppErrorMessageWriter, Xs2aEndpointChecker xs2aEndpointChecker, TppInfoHolder tppInfoHolder, RequestProviderService requestProviderService, TppRoleValidationService tppRoleValidationService, TppService tppService, AspspProfileServiceWrapper aspspProfileService, Xs2aTppInfoMapper xs2aTppInfoMapper, TppInfoRolesMapper tppInfoRolesMapper, TppErrorMessageWriter tppErrorMessageWriter1) {
+    public QwacCertificateFilter(TppErrorMessageWriter tppErrorMessageWriter, Xs2aEndpointChecker xs2aEndpointChecker, TppInfoHolder tppInfoHolder, RequestProviderService requestProviderService, TppRoleValidationService tppRoleValidationService, TppService tppService, AspspProfileServiceWrapper aspspProfileService, Xs2aTppInfoMapper xs2aTppInfoMapper, TppInfoRolesMapper tppInfoRolesMapper, TppErrorMessageWriter tppErrorMessageWriter1, TppCertificateCache tppCertificateCache) {
         super(tppErrorMessageWriter, xs2aEndpointChecker);
         this.tppInfoHolder = tppInfoHolder;
         this.requestProviderService = requestProviderService;
@@ -73,6 +75,7 @@ public class QwacCertificateFilter extends AbstractXs2aFilter {
         this.xs2aTppInfoMapper = xs2aTppInfoMapper;
         this.tppInfoRolesMapper = tppInfoRolesMapper;
         this.tppErrorMessageWriter = tppErrorMessageWriter1;
+        this.tppCertificateCache = tppCertificateCache;
     }
 
     @Override
@@ -81,7 +84,7 @@ public class QwacCertificateFilter extends AbstractXs2aFilter {
 
         if (StringUtils.isNotBlank(encodedTppQwacCert)) {
             try {
-                TppCertificateData tppCertificateData = CertificateExtractorUtil.extract(encodedTppQwacCert);
+                TppCertificateData tppCertificateData = tppCertificateCache.getCertificateData(encodedTppQwacCert);
                 if (isCertificateExpired(tppCertificateData.getNotAfter())) {
                     buildCertificateExpiredErrorResponse(response);
                     return;
@@ -132,7 +135,19 @@ public class QwacCertificateFilter extends AbstractXs2aFilter {
     private void setTppRolesAndUpdateTppInfo(TppInfo tppInfo, List<TppRole> roles) {
         if (!roles.isEmpty()) {
             tppInfo.setTppRoles(roles);
-            tppService.updateTppInfo(tppInfo);
+            updateTppInfoIfChanged(tppInfo);
+        }
+    }
+
+    private void updateTppInfoIfChanged(TppInfo tppInfo) {
+        if (!tppCertificateCache.isTppInfoChanged(tppInfo)) {
+            return;
+        }
+
+        CmsResponse<Boolean> response = tppService.updateTppInfo(tppInfo);
+        // TPP that is not known to CMS yet will be stored together with its first consent or payment
+        if (response != null && response.isSuccessful() && response.getPayload()) {
+            tppCertificateCache.tppInfoStored(tppInfo);
         }
     }
 
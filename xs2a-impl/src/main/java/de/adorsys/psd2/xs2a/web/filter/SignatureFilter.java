@@ -18,6 +18,7 @@ package de.adorsys.psd2.xs2a.web.filter;
 
 import de.adorsys.psd2.validator.signature.DigestVerifier;
 import de.adorsys.psd2.validator.signature.SignatureVerifier;
+import de.adorsys.psd2.xs2a.component.ParsedRequestBody;
 import de.adorsys.psd2.xs2a.core.error.MessageErrorCode;
 import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
 import de.adorsys.psd2.xs2a.web.Xs2aEndpointChecker;
@@ -70,7 +71,8 @@ public class SignatureFilter extends AbstractXs2aFilter {
         }
 
         String digest = request.getHeader(DIGEST);
-        String body = request.getReader().lines().collect(Collectors.joining(System.lineSeparator()));
+        String body = ParsedRequestBody.of(request).getContentAsString().lines()
+                          .collect(Collectors.joining(System.lineSeparator()));
 
         boolean digestValid = digestVerifier.verify(digest, body);
         if (!digestValid) {
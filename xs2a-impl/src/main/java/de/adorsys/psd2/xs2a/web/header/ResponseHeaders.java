@@ -66,6 +66,13 @@ public class ResponseHeaders {
             return this;
         }
 
+        public ResponseHeadersBuilder eTag(String eTag) {
+            if (StringUtils.isNotBlank(eTag)) {
+                this.httpHeaders.setETag(eTag);
+            }
+            return this;
+        }
+
         public ResponseHeaders build() {
             return new ResponseHeaders(httpHeaders);
         }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.web.interceptor;
+
+import de.adorsys.psd2.consent.api.AspspDataService;
+import de.adorsys.psd2.xs2a.service.spi.AspspConsentDataRequestContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Opens {@link AspspConsentDataRequestContext} for each XS2A request and writes deferred AspspConsentData updates.
+ * <p>
+ * Updates are deferred only if <code>xs2a.aspsp-consent-data.write-behind.enabled</code> is set to <code>true</code>.
+ * They are written by {@link de.adorsys.psd2.xs2a.web.advice.AspspConsentDataFlushAdvice} right before the response
+ * body is written, or in {@link #postHandle} for responses without body, so a failed write fails the request.
+ * Updates left after a handler failure are written on completion of the request, as the TPP gets an error anyway.
+ */
+@Slf4j
+@Component
+public class AspspConsentDataInterceptor extends HandlerInterceptorAdapter {
+    private final AspspDataService aspspDataService;
+    private final boolean writeBehindEnabled;
+
+    public AspspConsentDataInterceptor(AspspDataService aspspDataService,
+                                       @Value("${xs2a.aspsp-consent-data.write-behind.enabled:false}") boolean writeBehindEnabled) {
+        this.aspspDataService = aspspDataService;
+        this.writeBehindEnabled = writeBehindEnabled;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AspspConsentDataRequestContext.open(writeBehindEnabled);
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+        AspspConsentDataRequestContext context = AspspConsentDataRequestContext.current();
+        if (context != null && context.hasPendingWrites()) {
+            context.flush(aspspDataService);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        AspspConsentDataRequestContext context = AspspConsentDataRequestContext.current();
+        if (context == null) {
+            return;
+        }
+
+        if (context.hasPendingWrites()) {
+            try {
+                context.flush(aspspDataService);
+            } catch (RuntimeException e) {
+                log.error("Deferred AspspConsentData of failed request couldn't be written", e);
+            }
+        }
+        log.debug("AspspConsentData accessed within request: {} load(s), {} write(s)",
+                  context.getLoadCount(), context.getWriteCount());
+    }
+}
@@ -21,6 +21,7 @@ import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import de.adorsys.psd2.xs2a.domain.HrefType;
 import de.adorsys.psd2.xs2a.domain.Links;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Objects;
@@ -31,21 +32,30 @@ import static org.springframework.web.util.UriComponentsBuilder.fromPath;
 class AbstractLinks extends Links {
 
     private String httpUrl;
+    private transient UriComponents baseUriComponents;
 
     AbstractLinks(String httpUrl) {
         this.httpUrl = httpUrl;
     }
 
     HrefType buildPath(String path, Object... params) {
-        UriComponentsBuilder uriComponentsBuilder = StringUtils.startsWith(httpUrl, "/")
-                                                        ? fromPath(httpUrl)
-                                                        : fromHttpUrl(httpUrl);
-        return new HrefType(uriComponentsBuilder
+        return new HrefType(UriComponentsBuilder.newInstance()
+                                .uriComponents(getBaseUriComponents())
                                 .path(path)
                                 .buildAndExpand(params)
                                 .toUriString());
     }
 
+    private UriComponents getBaseUriComponents() {
+        if (baseUriComponents == null) {
+            UriComponentsBuilder uriComponentsBuilder = StringUtils.startsWith(httpUrl, "/")
+                                                            ? fromPath(httpUrl)
+                                                            : fromHttpUrl(httpUrl);
+            baseUriComponents = uriComponentsBuilder.build();
+        }
+        return baseUriComponents;
+    }
+
     protected boolean isScaStatusMethodSelected(AuthenticationObject chosenScaMethod, ScaStatus scaStatus) {
         return chosenScaMethod != null
                    && scaStatus == ScaStatus.SCAMETHODSELECTED;
@@ -19,10 +19,10 @@ package de.adorsys.psd2.xs2a.web.mapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
 import de.adorsys.psd2.model.PeriodicPaymentInitiationXmlPart2StandingorderTypeJson;
+import de.adorsys.psd2.xs2a.component.ParsedRequestBody;
 import de.adorsys.psd2.xs2a.domain.pis.PaymentInitiationParameters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletRequest;
@@ -53,7 +53,7 @@ public class PaymentModelMapperXs2a {
 
     private byte[] buildBinaryBodyData(HttpServletRequest httpServletRequest) {
         try {
-            return IOUtils.toByteArray(httpServletRequest.getInputStream());
+            return ParsedRequestBody.of(httpServletRequest).getContent();
         } catch (IOException e) {
             log.warn("Cannot deserialize httpServletRequest body!", e);
             return new byte[0];
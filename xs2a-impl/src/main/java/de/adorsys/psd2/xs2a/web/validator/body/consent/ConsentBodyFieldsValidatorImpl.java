@@ -20,6 +20,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
 import de.adorsys.psd2.model.AccountAccess;
 import de.adorsys.psd2.model.Consents;
+import de.adorsys.psd2.xs2a.component.ParsedRequestBody;
 import de.adorsys.psd2.xs2a.core.domain.TppMessageInformation;
 import de.adorsys.psd2.xs2a.core.error.MessageError;
 import de.adorsys.psd2.xs2a.web.validator.ErrorBuildingService;
@@ -149,7 +150,7 @@ public class ConsentBodyFieldsValidatorImpl extends AbstractBodyValidatorImpl im
     private Map<String, Object> extractConsentAccessMap(HttpServletRequest request, MessageError messageError) {
         Optional<Map<String, Object>> access = Optional.empty();
         try {
-            access = xs2aObjectMapper.toJsonField(request.getInputStream(), ACCESS_FIELD_NAME, new TypeReference<Map<String, Object>>() {
+            access = xs2aObjectMapper.toJsonField(ParsedRequestBody.of(request).getJsonNode(xs2aObjectMapper), ACCESS_FIELD_NAME, new TypeReference<Map<String, Object>>() {
             });
         } catch (IOException e) {
             errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(FORMAT_ERROR_DESERIALIZATION_FAIL));
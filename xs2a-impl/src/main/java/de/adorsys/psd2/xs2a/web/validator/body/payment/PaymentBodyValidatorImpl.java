@@ -21,6 +21,8 @@ import de.adorsys.psd2.model.FrequencyCode;
 import de.adorsys.psd2.xs2a.core.domain.TppMessageInformation;
 import de.adorsys.psd2.xs2a.core.error.MessageError;
 import de.adorsys.psd2.xs2a.core.pis.PurposeCode;
+import de.adorsys.psd2.xs2a.component.ParsedRequestBody;
+import de.adorsys.psd2.xs2a.service.mapper.payment.BulkPaymentStreamReader;
 import de.adorsys.psd2.xs2a.service.profile.StandardPaymentProductsResolver;
 import de.adorsys.psd2.xs2a.validator.payment.CountryPaymentValidatorResolver;
 import de.adorsys.psd2.xs2a.web.PathParameterExtractor;
@@ -36,6 +38,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -65,6 +68,7 @@ public class PaymentBodyValidatorImpl extends AbstractBodyValidatorImpl implemen
     private final FieldExtractor fieldExtractor;
     private final PathParameterExtractor pathParameterExtractor;
     private CountryPaymentValidatorResolver countryPaymentValidatorResolver;
+    private final BulkPaymentStreamReader bulkPaymentStreamReader;
 
     @Autowired
     public PaymentBodyValidatorImpl(ErrorBuildingService errorBuildingService, Xs2aObjectMapper xs2aObjectMapper,
@@ -72,7 +76,8 @@ public class PaymentBodyValidatorImpl extends AbstractBodyValidatorImpl implemen
                                     TppRedirectUriBodyValidatorImpl tppRedirectUriBodyValidator,
                                     DateFieldValidator dateFieldValidator, FieldExtractor fieldExtractor,
                                     CurrencyValidator currencyValidator,
-                                    PathParameterExtractor pathParameterExtractor, CountryPaymentValidatorResolver countryPaymentValidatorResolver) {
+                                    PathParameterExtractor pathParameterExtractor, CountryPaymentValidatorResolver countryPaymentValidatorResolver,
+                                    BulkPaymentStreamReader bulkPaymentStreamReader) {
         super(errorBuildingService, xs2aObjectMapper);
         this.standardPaymentProductsResolver = standardPaymentProductsResolver;
         this.dateFieldValidator = dateFieldValidator;
@@ -81,15 +86,22 @@ public class PaymentBodyValidatorImpl extends AbstractBodyValidatorImpl implemen
         this.currencyValidator = currencyValidator;
         this.pathParameterExtractor = pathParameterExtractor;
         this.countryPaymentValidatorResolver = countryPaymentValidatorResolver;
+        this.bulkPaymentStreamReader = bulkPaymentStreamReader;
     }
 
     @Override
     public MessageError validate(HttpServletRequest request, MessageError messageError) {
-        if (isRawPaymentProduct(getPathParameters(request))) {
+        Map<String, String> pathParameters = getPathParameters(request);
+        if (isRawPaymentProduct(pathParameters)) {
             log.info("Raw payment product is detected.");
             return messageError;
         }
 
+        if (isBulkPaymentExceedingLimits(request, pathParameters)) {
+            errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(FORMAT_ERROR_BULK_SIZE_EXCEEDED));
+            return messageError;
+        }
+
         return super.validate(request, messageError);
     }
 
@@ -156,6 +168,19 @@ public class PaymentBodyValidatorImpl extends AbstractBodyValidatorImpl implemen
         }
     }
 
+    private boolean isBulkPaymentExceedingLimits(HttpServletRequest request, Map<String, String> pathParametersMap) {
+        if (!BULK_PAYMENT_PATH_VAR.equals(pathParametersMap.get(PAYMENT_SERVICE_PATH_VAR))) {
+            return false;
+        }
+
+        try {
+            return bulkPaymentStreamReader.exceedsLimits(ParsedRequestBody.of(request).getContent());
+        } catch (IOException e) {
+            log.info("Bulk payment body couldn't be read: {}", e.getMessage());
+            return false;
+        }
+    }
+
     private boolean isRawPaymentProduct(Map<String, String> pathParametersMap) {
         String paymentProduct = pathParametersMap.get(PAYMENT_PRODUCT_PATH_VAR);
         return standardPaymentProductsResolver.isRawPaymentProduct(paymentProduct);
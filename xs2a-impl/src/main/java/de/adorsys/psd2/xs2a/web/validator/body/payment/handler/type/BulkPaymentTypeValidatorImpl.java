@@ -32,6 +32,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Iterator;
 import java.util.List;
 
 
@@ -53,7 +54,9 @@ public class BulkPaymentTypeValidatorImpl extends SinglePaymentTypeValidatorImpl
     @Override
     public MessageError validate(Object body, MessageError messageError, PaymentValidationConfig validationConfig) {
         try {
-            doBulkValidation(paymentMapper.mapToBulkPayment(body), messageError, validationConfig);
+            BulkPayment bulkPayment = paymentMapper.mapToBulkPaymentWithoutEntries(body);
+            Iterator<SinglePayment> payments = paymentMapper.mapToBulkPaymentEntries(body, bulkPayment).iterator();
+            doBulkValidation(bulkPayment, payments, messageError, validationConfig);
         } catch (IllegalArgumentException e) {
             if (e.getMessage().startsWith("Unrecognized field")) {
                 errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(MessageErrorCode.FORMAT_ERROR_EXTRA_FIELD, extractErrorField(e.getMessage())));
@@ -65,6 +68,11 @@ public class BulkPaymentTypeValidatorImpl extends SinglePaymentTypeValidatorImpl
     }
 
     void doBulkValidation(BulkPayment bulkPayment, MessageError messageError, PaymentValidationConfig validationConfig) {
+        List<SinglePayment> payments = bulkPayment.getPayments();
+        doBulkValidation(bulkPayment, CollectionUtils.emptyIfNull(payments).iterator(), messageError, validationConfig);
+    }
+
+    private void doBulkValidation(BulkPayment bulkPayment, Iterator<SinglePayment> payments, MessageError messageError, PaymentValidationConfig validationConfig) {
 
         if (bulkPayment.getDebtorAccount() == null) {
             errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(MessageErrorCode.FORMAT_ERROR_NULL_VALUE, "debtorAccount"));
@@ -72,12 +80,10 @@ public class BulkPaymentTypeValidatorImpl extends SinglePaymentTypeValidatorImpl
             validateAccount(bulkPayment.getDebtorAccount(), messageError, validationConfig);
         }
 
-        List<SinglePayment> payments = bulkPayment.getPayments();
-
-        if (CollectionUtils.isEmpty(payments)) {
+        if (!payments.hasNext()) {
             errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(MessageErrorCode.FORMAT_ERROR_BULK));
         } else {
-            payments.forEach(singlePayment -> super.doSingleValidation(singlePayment, messageError, validationConfig));
+            payments.forEachRemaining(singlePayment -> super.doSingleValidation(singlePayment, messageError, validationConfig));
         }
 
         if (isDateInThePast(bulkPayment.getRequestedExecutionDate())) {
@@ -35,14 +35,19 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Currency;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class PaymentMapper {
+    private static final String PAYMENTS_FIELD_NAME = "payments";
 
     private Xs2aObjectMapper xs2aObjectMapper;
     private PurposeCodeMapper purposeCodeMapper;
@@ -67,6 +72,47 @@ public class PaymentMapper {
         return mapToXs2aBulkPayment(convertPayment(body, BulkPaymentInitiationJson.class));
     }
 
+    /**
+     * Maps bulk payment body without converting its entries, which may then be converted one by one with
+     * {@link #mapToBulkPaymentEntries(Object, BulkPayment)}
+     *
+     * @param body bulk payment body
+     * @return bulk payment with an empty list of payments, if the body contains a collection of entries,
+     * fully mapped bulk payment otherwise
+     */
+    public BulkPayment mapToBulkPaymentWithoutEntries(Object body) {
+        if (getBulkPaymentEntries(body).isEmpty()) {
+            return mapToBulkPayment(body);
+        }
+
+        Map<Object, Object> bulkPaymentHeader = new LinkedHashMap<>((Map<?, ?>) body);
+        bulkPaymentHeader.remove(PAYMENTS_FIELD_NAME);
+        return mapToXs2aBulkPayment(convertPayment(bulkPaymentHeader, BulkPaymentInitiationJson.class));
+    }
+
+    /**
+     * Lazily maps entries of the bulk payment body, so that only one entry is converted at a time
+     *
+     * @param body        bulk payment body
+     * @param bulkPayment bulk payment, mapped by {@link #mapToBulkPaymentWithoutEntries(Object)}
+     * @return stream of bulk payment entries
+     */
+    public Stream<SinglePayment> mapToBulkPaymentEntries(Object body, BulkPayment bulkPayment) {
+        return getBulkPaymentEntries(body)
+                   .map(entries -> entries.stream()
+                                       .map(e -> convertPayment(e, PaymentInitiationBulkElementJson.class))
+                                       .map(e -> mapToXs2aBulkPaymentEntry(bulkPayment, e)))
+                   .orElseGet(() -> CollectionUtils.emptyIfNull(bulkPayment.getPayments()).stream());
+    }
+
+    private Optional<Collection<?>> getBulkPaymentEntries(Object body) {
+        return Optional.of(body)
+                   .filter(Map.class::isInstance)
+                   .map(b -> ((Map<?, ?>) b).get(PAYMENTS_FIELD_NAME))
+                   .filter(Collection.class::isInstance)
+                   .map(e -> (Collection<?>) e);
+    }
+
     private <R> R convertPayment(Object payment, Class<R> clazz) {
         return xs2aObjectMapper.convertValue(payment, clazz);
     }
@@ -204,27 +250,39 @@ public class PaymentMapper {
     private List<SinglePayment> mapBulkPaymentToSinglePayments(BulkPaymentInitiationJson paymentRequest) {
         return paymentRequest.getPayments().stream()
                    .map(p -> {
-                       SinglePayment payment = new SinglePayment();
+                       SinglePayment payment = mapToXs2aBulkPaymentEntry(p);
                        payment.setDebtorAccount(mapToXs2aAccountReference(paymentRequest.getDebtorAccount()));
                        payment.setRequestedExecutionDate(paymentRequest.getRequestedExecutionDate());
-                       payment.setEndToEndIdentification(p.getEndToEndIdentification());
-                       payment.setInstructedAmount(mapToXs2aAmount(p.getInstructedAmount()));
-                       payment.setCreditorAccount(mapToXs2aAccountReference(p.getCreditorAccount()));
-                       payment.setCreditorAgent(p.getCreditorAgent());
-                       payment.setCreditorName(p.getCreditorName());
-                       payment.setCreditorAddress(mapToXs2aAddress(p.getCreditorAddress()));
-                       payment.setRemittanceInformationUnstructured(p.getRemittanceInformationUnstructured());
                        payment.setRequestedExecutionTime(paymentRequest.getRequestedExecutionTime());
-                       payment.setUltimateDebtor(p.getUltimateDebtor());
-                       payment.setUltimateCreditor(p.getUltimateCreditor());
-                       payment.setPurposeCode(purposeCodeMapper.mapToPurposeCode(p.getPurposeCode()));
-                       payment.setRemittanceInformationStructured(remittanceMapper.mapToRemittance(p.getRemittanceInformationStructured()));
-                       payment.setRemittanceInformationStructuredArray(mapToRemittanceList(p.getRemittanceInformationStructuredArray()));
-                       payment.setInstructionIdentification(p.getInstructionIdentification());
-                       payment.setDebtorName(p.getDebtorName());
-
                        return payment;
                    })
                    .collect(Collectors.toList());
     }
+
+    private SinglePayment mapToXs2aBulkPaymentEntry(BulkPayment bulkPayment, PaymentInitiationBulkElementJson paymentRequest) {
+        SinglePayment payment = mapToXs2aBulkPaymentEntry(paymentRequest);
+        payment.setDebtorAccount(bulkPayment.getDebtorAccount());
+        payment.setRequestedExecutionDate(bulkPayment.getRequestedExecutionDate());
+        payment.setRequestedExecutionTime(bulkPayment.getRequestedExecutionTime());
+        return payment;
+    }
+
+    private SinglePayment mapToXs2aBulkPaymentEntry(PaymentInitiationBulkElementJson p) {
+        SinglePayment payment = new SinglePayment();
+        payment.setEndToEndIdentification(p.getEndToEndIdentification());
+        payment.setInstructedAmount(mapToXs2aAmount(p.getInstructedAmount()));
+        payment.setCreditorAccount(mapToXs2aAccountReference(p.getCreditorAccount()));
+        payment.setCreditorAgent(p.getCreditorAgent());
+        payment.setCreditorName(p.getCreditorName());
+        payment.setCreditorAddress(mapToXs2aAddress(p.getCreditorAddress()));
+        payment.setRemittanceInformationUnstructured(p.getRemittanceInformationUnstructured());
+        payment.setUltimateDebtor(p.getUltimateDebtor());
+        payment.setUltimateCreditor(p.getUltimateCreditor());
+        payment.setPurposeCode(purposeCodeMapper.mapToPurposeCode(p.getPurposeCode()));
+        payment.setRemittanceInformationStructured(remittanceMapper.mapToRemittance(p.getRemittanceInformationStructured()));
+        payment.setRemittanceInformationStructuredArray(mapToRemittanceList(p.getRemittanceInformationStructuredArray()));
+        payment.setInstructionIdentification(p.getInstructionIdentification());
+        payment.setDebtorName(p.getDebtorName());
+        return payment;
+    }
 }
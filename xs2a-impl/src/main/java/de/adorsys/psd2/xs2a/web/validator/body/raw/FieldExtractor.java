@@ -17,11 +17,15 @@
 package de.adorsys.psd2.xs2a.web.validator.body.raw;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import de.adorsys.psd2.xs2a.component.ParsedRequestBody;
 import de.adorsys.psd2.xs2a.core.domain.TppMessageInformation;
 import de.adorsys.psd2.xs2a.core.error.MessageError;
 import de.adorsys.psd2.xs2a.web.validator.ErrorBuildingService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletRequest;
@@ -33,6 +37,7 @@ import java.util.Optional;
 
 import static de.adorsys.psd2.xs2a.core.error.MessageErrorCode.FORMAT_ERROR_DESERIALIZATION_FAIL;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class FieldExtractor {
@@ -43,7 +48,7 @@ public class FieldExtractor {
     public Optional<String> extractField(HttpServletRequest request, String fieldName, MessageError messageError) {
         Optional<String> fieldOptional = Optional.empty();
         try {
-            fieldOptional = xs2aObjectMapper.toJsonField(request.getInputStream(), fieldName, new TypeReference<String>() {
+            fieldOptional = xs2aObjectMapper.toJsonField(getJsonNode(request), fieldName, new TypeReference<String>() {
             });
         } catch (IOException e) {
             errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(FORMAT_ERROR_DESERIALIZATION_FAIL));
@@ -54,7 +59,7 @@ public class FieldExtractor {
 
     public Optional<String> extractOptionalField(HttpServletRequest request, String fieldName) {
         try {
-            return xs2aObjectMapper.toJsonField(request.getInputStream(), fieldName, new TypeReference<String>() {
+            return xs2aObjectMapper.toJsonField(getJsonNode(request), fieldName, new TypeReference<String>() {
             });
         } catch (IOException e) {
             return Optional.empty();
@@ -64,7 +69,7 @@ public class FieldExtractor {
     public List<String> extractList(HttpServletRequest request, String fieldName, MessageError messageError) {
         List<String> fieldList = new ArrayList<>();
         try {
-            fieldList.addAll(xs2aObjectMapper.toJsonGetValuesForField(request.getInputStream(), fieldName));
+            fieldList.addAll(xs2aObjectMapper.toJsonGetValuesForField(getJsonNode(request), fieldName));
         } catch (IOException e) {
             errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(FORMAT_ERROR_DESERIALIZATION_FAIL));
         }
@@ -73,7 +78,7 @@ public class FieldExtractor {
 
     public List<String> extractOptionalList(HttpServletRequest request, String fieldName) {
         try {
-            return xs2aObjectMapper.toJsonGetValuesForField(request.getInputStream(), fieldName);
+            return xs2aObjectMapper.toJsonGetValuesForField(getJsonNode(request), fieldName);
 
         } catch (IOException e) {
             return Collections.emptyList();
@@ -82,11 +87,28 @@ public class FieldExtractor {
 
     public <T> Optional<T> mapBodyToInstance(HttpServletRequest request, MessageError messageError, Class<T> clazz) {
         try {
-            return Optional.of(xs2aObjectMapper.readValue(request.getInputStream(), clazz));
+            JsonNode jsonNode = getJsonNode(request);
+            T value = jsonNode == null ? null : xs2aObjectMapper.treeToValue(jsonNode, clazz);
+            if (value != null) {
+                return Optional.of(value);
+            }
         } catch (IOException e) {
-            errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(FORMAT_ERROR_DESERIALIZATION_FAIL));
+            log.info("Couldn't map request body to {}: {}", clazz.getSimpleName(), e.getMessage());
         }
 
+        errorBuildingService.enrichMessageError(messageError, TppMessageInformation.of(FORMAT_ERROR_DESERIALIZATION_FAIL));
         return Optional.empty();
     }
+
+    /**
+     * Returns JSON tree of the request body, which is parsed only once per request and shared by all validators
+     *
+     * @param request HTTP request
+     * @return JSON tree or <code>null</code> if the body is empty or is not a valid JSON
+     * @throws IOException if body of the request can't be read
+     */
+    @Nullable
+    public JsonNode getJsonNode(HttpServletRequest request) throws IOException {
+        return ParsedRequestBody.of(request).getJsonNode(xs2aObjectMapper);
+    }
 }
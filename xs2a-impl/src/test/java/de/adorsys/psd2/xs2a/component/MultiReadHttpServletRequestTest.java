@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.component;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MultiReadHttpServletRequestTest {
+    private static final byte[] BODY = "{\"payments\": []}".getBytes();
+
+    @Test
+    void cacheBody_withinLimit_shouldCacheBody() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(BODY);
+        MultiReadHttpServletRequest multiReadRequest = new MultiReadHttpServletRequest(request);
+
+        // When
+        boolean actual = multiReadRequest.cacheBody(BODY.length);
+
+        // Then
+        assertTrue(actual);
+        assertArrayEquals(BODY, multiReadRequest.getCachedBody());
+    }
+
+    @Test
+    void cacheBody_exceedsLimit_shouldNotCacheBody() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(BODY);
+        MultiReadHttpServletRequest multiReadRequest = new MultiReadHttpServletRequest(request);
+
+        // When
+        boolean actual = multiReadRequest.cacheBody(BODY.length - 1);
+
+        // Then
+        assertFalse(actual);
+    }
+
+    @Test
+    void cacheBody_alreadyCached_shouldCheckCachedBody() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(BODY);
+        MultiReadHttpServletRequest multiReadRequest = new MultiReadHttpServletRequest(request);
+        multiReadRequest.getCachedBody();
+
+        // When
+        boolean withinLimit = multiReadRequest.cacheBody(BODY.length);
+        boolean exceedsLimit = multiReadRequest.cacheBody(BODY.length - 1);
+
+        // Then
+        assertTrue(withinLimit);
+        assertFalse(exceedsLimit);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParsedRequestBodyTest {
+    private static final byte[] BODY = "{\"endToEndIdentification\":\"WBG-123456789\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final Xs2aObjectMapper xs2aObjectMapper = new Xs2aObjectMapper();
+
+    @Test
+    void of_multiReadRequest_shouldShareCachedBody() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(BODY);
+        MultiReadHttpServletRequest multiReadRequest = new MultiReadHttpServletRequest(request);
+
+        // When
+        ParsedRequestBody parsedRequestBody = ParsedRequestBody.of(multiReadRequest);
+
+        // Then
+        assertSame(multiReadRequest.getCachedBody(), parsedRequestBody.getContent());
+        assertSame(parsedRequestBody, ParsedRequestBody.of(multiReadRequest));
+    }
+
+    @Test
+    void getJsonNode_shouldParseBodyOnce() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent(BODY);
+        ParsedRequestBody parsedRequestBody = ParsedRequestBody.of(request);
+
+        // When
+        JsonNode first = parsedRequestBody.getJsonNode(xs2aObjectMapper);
+        JsonNode second = ParsedRequestBody.of(request).getJsonNode(xs2aObjectMapper);
+
+        // Then
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals("WBG-123456789", first.get("endToEndIdentification").asText());
+    }
+
+    @Test
+    void getJsonNode_invalidJson_shouldReturnNull() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent("{invalid".getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertNull(ParsedRequestBody.of(request).getJsonNode(xs2aObjectMapper));
+    }
+
+    @Test
+    void getJsonNode_emptyBody_shouldReturnNull() throws IOException {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // Then
+        assertNull(ParsedRequestBody.of(request).getJsonNode(xs2aObjectMapper));
+    }
+}
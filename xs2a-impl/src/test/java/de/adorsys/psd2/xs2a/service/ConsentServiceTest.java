@@ -67,8 +67,11 @@ import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -82,6 +85,7 @@ class ConsentServiceTest {
     private static final String ASPSP_ACCOUNT_ID = "3278921mxl-n2131-13nw";
     private static final String WRONG_CONSENT_ID = "wrong_consent_id";
     private static final String CONSENT_ID_FINALISED = "finalised_consent_id";
+    private static final String E_TAG = "\"etag\"";
     private static final String TPP_ID = "Test TppId";
     private static final String CORRECT_PSU_ID = "marion.mueller";
     private static final String CONSENT_ID = "c966f143-f6a2-41db-9036-8abaeeef3af7";
@@ -153,6 +157,8 @@ class ConsentServiceTest {
     private AccountReferenceInConsentUpdater accountReferenceUpdater;
     @Mock
     private AdditionalInformationSupportedService additionalInformationSupportedService;
+    @Mock
+    private StatusETagService statusETagService;
 
     private AisConsent aisConsent;
 
@@ -858,6 +864,69 @@ class ConsentServiceTest {
         assertThat(response.getBody()).isEqualTo(new ConsentStatusResponse(ConsentStatus.REJECTED, null));
     }
 
+    @Test
+    void getAccountConsentsStatusById_finalisedStatus_matchingETag_shouldNotLoadConsent() {
+        // Given
+        ConsentStatusResponse expectedResponse = new ConsentStatusResponse(ConsentStatus.REJECTED, null);
+        when(statusETagService.isConditionalRequest()).thenReturn(true);
+        when(aisConsentService.getConsentStatusById(CONSENT_ID_FINALISED))
+            .thenReturn(Optional.of(ConsentStatus.REJECTED));
+        when(statusETagService.getConsentStatusETag(CONSENT_ID_FINALISED, expectedResponse))
+            .thenReturn(E_TAG);
+        when(statusETagService.isNotModified(E_TAG))
+            .thenReturn(true);
+
+        // When
+        ResponseObject<ConsentStatusResponse> response = consentService.getAccountConsentsStatusById(CONSENT_ID_FINALISED);
+
+        // Then
+        assertThat(response.getBody()).isEqualTo(expectedResponse);
+        verify(xs2aEventService).recordAisTppRequest(CONSENT_ID_FINALISED, EventType.GET_AIS_CONSENT_STATUS_REQUEST_RECEIVED);
+        verify(loggingContextService).storeConsentStatus(ConsentStatus.REJECTED);
+        verify(aisConsentService, never()).getAccountConsentById(any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"*", "\"forged\""})
+    void getAccountConsentsStatusById_finalisedStatus_notIssuedETag_shouldValidateConsent(String ifNoneMatch) {
+        // Given
+        ReflectionTestUtils.setField(consentService, "statusETagService", new StatusETagService(tppService, requestProviderService, true, "secret"));
+        when(requestProviderService.getIfNoneMatchHeader()).thenReturn(ifNoneMatch);
+        when(tppService.getTppInfo()).thenReturn(tppInfo);
+        when(aisConsentService.getConsentStatusById(CONSENT_ID_FINALISED))
+            .thenReturn(Optional.of(ConsentStatus.REJECTED));
+        AisConsent finalisedAccountConsent = mock(AisConsent.class);
+        when(aisConsentService.getAccountConsentById(CONSENT_ID_FINALISED))
+            .thenReturn(Optional.of(finalisedAccountConsent));
+        when(consentValidationService.validateConsentOnGettingStatusById(finalisedAccountConsent))
+            .thenReturn(ValidationResult.invalid(CONSENT_UNKNOWN_403_ERROR));
+
+        // When
+        ResponseObject<ConsentStatusResponse> response = consentService.getAccountConsentsStatusById(CONSENT_ID_FINALISED);
+
+        // Then
+        assertThat(response.hasError()).isTrue();
+        assertThat(response.getError()).isEqualTo(CONSENT_UNKNOWN_403_ERROR);
+        verify(loggingContextService, never()).storeConsentStatus(any());
+    }
+
+    @Test
+    void getAccountConsentsStatusById_notFinalisedStatus_shouldLoadConsent() {
+        // Given
+        when(statusETagService.isConditionalRequest()).thenReturn(true);
+        when(aisConsentService.getConsentStatusById(CONSENT_ID))
+            .thenReturn(Optional.of(ConsentStatus.VALID));
+        when(aisConsentService.getAccountConsentById(CONSENT_ID))
+            .thenReturn(Optional.empty());
+
+        // When
+        ResponseObject<ConsentStatusResponse> response = consentService.getAccountConsentsStatusById(CONSENT_ID);
+
+        // Then
+        assertThat(response.hasError()).isTrue();
+        verify(statusETagService, never()).isNotModified(any());
+    }
+
     @Test
     void getAccountConsentsStatusById_spi_response_has_error() {
         // Given
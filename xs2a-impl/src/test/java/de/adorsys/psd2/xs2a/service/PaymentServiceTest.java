@@ -56,11 +56,14 @@ import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.List;
@@ -79,6 +82,7 @@ class PaymentServiceTest {
     private static final String PAYMENT_ID = "12345";
     private static final String WRONG_PAYMENT_ID = "777";
     private static final String PAYMENT_PRODUCT = "sepa-credit-transfers";
+    private static final String E_TAG = "\"etag\"";
     private static final String AUTHORISATION = "Bearer 1111111";
     private static final PsuIdData PSU_ID_DATA = new PsuIdData(null, null, null, null, null);
     private static final SpiPsuData SPI_PSU_DATA = SpiPsuData.builder().build();
@@ -133,6 +137,8 @@ class PaymentServiceTest {
     private LoggingContextService loggingContextService;
     @Mock
     private ScaApproachResolver scaApproachResolver;
+    @Mock
+    private StatusETagService statusETagService;
 
     private JsonReader jsonReader;
 
@@ -609,6 +615,60 @@ class PaymentServiceTest {
         assertThatErrorIs(actualResponse, VALIDATION_ERROR);
     }
 
+    @Test
+    void getPaymentStatusById_rejectedPayment_matchingETag_shouldNotLoadPayment() {
+        // Given
+        GetPaymentStatusResponse expectedResponse = new GetPaymentStatusResponse(TransactionStatus.RJCT, null, MediaType.APPLICATION_JSON, null, null);
+        when(statusETagService.isConditionalRequest()).thenReturn(true);
+        when(xs2aPisCommonPaymentService.getPisCommonPaymentStatusById(PAYMENT_ID)).thenReturn(Optional.of(TransactionStatus.RJCT));
+        when(statusETagService.getPaymentStatusETag(PaymentType.SINGLE, PAYMENT_PRODUCT, PAYMENT_ID, expectedResponse)).thenReturn(E_TAG);
+        when(statusETagService.isNotModified(E_TAG)).thenReturn(true);
+
+        // When
+        ResponseObject<GetPaymentStatusResponse> response = paymentService.getPaymentStatusById(PaymentType.SINGLE, PAYMENT_PRODUCT, PAYMENT_ID);
+
+        // Then
+        assertThat(response.getBody()).isEqualTo(expectedResponse);
+        verify(xs2aEventService).recordPisTppRequest(PAYMENT_ID, EventType.GET_TRANSACTION_STATUS_REQUEST_RECEIVED);
+        verify(xs2aPisCommonPaymentService, never()).getPisCommonPaymentById(any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"*", "\"forged\""})
+    void getPaymentStatusById_rejectedPayment_notIssuedETag_shouldValidatePayment(String ifNoneMatch) {
+        // Given
+        ReflectionTestUtils.setField(paymentService, "statusETagService", new StatusETagService(tppService, requestProviderService, true, "secret"));
+        when(requestProviderService.getIfNoneMatchHeader()).thenReturn(ifNoneMatch);
+        when(tppService.getTppInfo()).thenReturn(getTppInfo());
+        when(xs2aPisCommonPaymentService.getPisCommonPaymentStatusById(PAYMENT_ID)).thenReturn(Optional.of(TransactionStatus.RJCT));
+        when(xs2aPisCommonPaymentService.getPisCommonPaymentById(PAYMENT_ID)).thenReturn(Optional.of(invalidPisCommonPaymentResponse));
+        when(getPaymentStatusByIdValidator.validate(any(GetPaymentStatusByIdPO.class)))
+            .thenReturn(ValidationResult.invalid(VALIDATION_ERROR));
+
+        // When
+        ResponseObject<GetPaymentStatusResponse> response = paymentService.getPaymentStatusById(PaymentType.SINGLE, PAYMENT_PRODUCT, PAYMENT_ID);
+
+        // Then
+        assertThatErrorIs(response, VALIDATION_ERROR);
+    }
+
+    @Test
+    void getPaymentStatusById_rejectedPayment_notMatchingETag_shouldLoadPayment() {
+        // Given
+        when(statusETagService.isConditionalRequest()).thenReturn(true);
+        when(xs2aPisCommonPaymentService.getPisCommonPaymentStatusById(WRONG_PAYMENT_ID)).thenReturn(Optional.of(TransactionStatus.RJCT));
+        when(statusETagService.getPaymentStatusETag(eq(PaymentType.SINGLE), eq(PAYMENT_PRODUCT), eq(WRONG_PAYMENT_ID), any(GetPaymentStatusResponse.class))).thenReturn(E_TAG);
+        when(statusETagService.isNotModified(E_TAG)).thenReturn(false);
+        when(xs2aPisCommonPaymentService.getPisCommonPaymentById(WRONG_PAYMENT_ID))
+            .thenReturn(Optional.empty());
+
+        // When
+        ResponseObject actualResult = paymentService.getPaymentStatusById(PaymentType.SINGLE, PAYMENT_PRODUCT, WRONG_PAYMENT_ID);
+
+        // Then
+        assertThatPaymentHasWrongId403(actualResult);
+    }
+
     @Test
     void getPaymentStatusById_Failure_WrongId() {
         // Given
@@ -17,10 +17,10 @@
 
 package de.adorsys.psd2.xs2a.service;
 
-import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.sca.AuthorisationScaApproachResponse;
 import de.adorsys.psd2.xs2a.service.authorization.Xs2aAuthorisationService;
+import de.adorsys.psd2.xs2a.service.profile.AspspSettingsCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -45,7 +45,7 @@ class ScaApproachResolverTest {
     private ScaApproachResolver scaApproachResolver;
 
     @Mock
-    private AspspProfileService aspspProfileService;
+    private AspspSettingsCache aspspSettingsCache;
     @Mock
     private RequestProviderService requestProviderService;
     @Mock
@@ -55,7 +55,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_shouldReturn_Redirect() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID))
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID))
             .thenReturn(buildScaApproaches(EMBEDDED, REDIRECT));
         when(requestProviderService.resolveTppRedirectPreferred())
             .thenReturn(Optional.of(true));
@@ -71,7 +71,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_shouldReturn_Embedded() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID))
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID))
             .thenReturn(buildScaApproaches(EMBEDDED, REDIRECT));
         when(requestProviderService.resolveTppRedirectPreferred())
             .thenReturn(Optional.of(false));
@@ -87,7 +87,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredAbsent_Redirect_shouldReturn_Redirect() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.empty());
 
         //When
@@ -101,7 +101,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredTrue_Redirect_shouldReturn_Redirect() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(true));
 
         //When
@@ -115,7 +115,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredFalse_Redirect_shouldReturn_Redirect() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(false));
 
         //When
@@ -129,7 +129,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredAbsent_Embedded_shouldReturn_Embedded() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.empty());
 
         //When
@@ -143,7 +143,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredTrue_Embedded_shouldReturn_Embedded() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(true));
 
         //When
@@ -157,7 +157,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredFalse_Embedded_shouldReturn_Embedded() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(false));
 
         //When
@@ -171,7 +171,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredTrue_Decoupled_shouldReturn_Decoupled() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(true));
 
         //When
@@ -185,7 +185,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredFalse_Decoupled_shouldReturn_Decoupled() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(false));
 
         //When
@@ -199,7 +199,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredTrue_EmbeddedDecoupledRedirect_shouldReturn_Redirect() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED, DECOUPLED, REDIRECT));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED, DECOUPLED, REDIRECT));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(true));
 
         //When
@@ -213,7 +213,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredTrue_RedirectEmbeddedDecoupled_shouldReturn_Redirect() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT, EMBEDDED, DECOUPLED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT, EMBEDDED, DECOUPLED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(true));
 
         //When
@@ -227,7 +227,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredTrue_DecoupledEmbeddedRedirect_shouldReturn_Redirect() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED, EMBEDDED, REDIRECT));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED, EMBEDDED, REDIRECT));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(true));
 
         //When
@@ -241,7 +241,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredTrue_EmbeddedDecoupled_shouldReturn_Embedded() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED, DECOUPLED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED, DECOUPLED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(true));
 
         //When
@@ -255,7 +255,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredTrue_DecoupledEmbedded_shouldReturn_Decoupled() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED, EMBEDDED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED, EMBEDDED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(true));
 
         //When
@@ -269,7 +269,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredAbsent_RedirectEmbeddedDecoupled_shouldReturn_Redirect() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT, EMBEDDED, DECOUPLED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT, EMBEDDED, DECOUPLED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.empty());
 
         //When
@@ -283,7 +283,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredAbsent_EmbeddedDecoupledRedirect_shouldReturn_Embedded() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED, DECOUPLED, REDIRECT));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED, DECOUPLED, REDIRECT));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.empty());
 
         //When
@@ -297,7 +297,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredAbsent_DecoupledEmbeddedRedirect_shouldReturn_Decoupled() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED, EMBEDDED, REDIRECT));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED, EMBEDDED, REDIRECT));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.empty());
 
         //When
@@ -311,7 +311,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredFalse_DecoupledEmbeddedRedirect_shouldReturn_Decoupled() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED, EMBEDDED, REDIRECT));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(DECOUPLED, EMBEDDED, REDIRECT));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(false));
 
         //When
@@ -325,7 +325,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredFalse_EmbeddedRedirectDecoupled_shouldReturn_Embedded() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED, REDIRECT, DECOUPLED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(EMBEDDED, REDIRECT, DECOUPLED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(false));
 
         //When
@@ -339,7 +339,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredFalse_RedirectEmbeddedDecoupled_shouldReturn_Embedded() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT, EMBEDDED, DECOUPLED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT, EMBEDDED, DECOUPLED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(false));
 
         //When
@@ -353,7 +353,7 @@ class ScaApproachResolverTest {
     void resolveScaApproach_TppRedirectPreferredFalse_RedirectDecoupledEmbedded_shouldReturn_Decoupled() {
         //Given
         when(requestProviderService.getInstanceId()).thenReturn(INSTANCE_ID);
-        when(aspspProfileService.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT, DECOUPLED, EMBEDDED));
+        when(aspspSettingsCache.getScaApproaches(INSTANCE_ID)).thenReturn(buildScaApproaches(REDIRECT, DECOUPLED, EMBEDDED));
         when(requestProviderService.resolveTppRedirectPreferred()).thenReturn(Optional.of(false));
 
         //When
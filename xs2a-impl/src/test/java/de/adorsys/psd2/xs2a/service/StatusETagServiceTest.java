@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service;
+
+import de.adorsys.psd2.xs2a.core.consent.ConsentStatus;
+import de.adorsys.psd2.xs2a.core.pis.TransactionStatus;
+import de.adorsys.psd2.xs2a.core.profile.PaymentType;
+import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
+import de.adorsys.psd2.xs2a.domain.consent.ConsentStatusResponse;
+import de.adorsys.psd2.xs2a.domain.pis.GetPaymentStatusResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StatusETagServiceTest {
+    private static final String SECRET = "secret";
+    private static final String CONSENT_ID = "c966f143-f6a2-41db-9036-8abaeeef3af7";
+    private static final String PAYMENT_ID = "12345";
+    private static final String PAYMENT_PRODUCT = "sepa-credit-transfers";
+    private static final String TPP_AUTHORISATION_NUMBER = "12345987";
+    private static final String OTHER_TPP_AUTHORISATION_NUMBER = "98765432";
+    private static final ConsentStatusResponse CONSENT_STATUS_RESPONSE = new ConsentStatusResponse(ConsentStatus.REJECTED, null);
+    private static final GetPaymentStatusResponse PAYMENT_STATUS_RESPONSE = new GetPaymentStatusResponse(TransactionStatus.RJCT, null, MediaType.APPLICATION_JSON, null, null);
+
+    @Mock
+    private TppService tppService;
+    @Mock
+    private RequestProviderService requestProviderService;
+
+    private StatusETagService statusETagService;
+
+    @BeforeEach
+    void setUp() {
+        statusETagService = new StatusETagService(tppService, requestProviderService, true, SECRET);
+    }
+
+    @Test
+    void getConsentStatusETag_disabled_shouldReturnNull() {
+        // Given
+        statusETagService = new StatusETagService(tppService, requestProviderService, false, SECRET);
+
+        // When
+        String eTag = statusETagService.getConsentStatusETag(CONSENT_ID, CONSENT_STATUS_RESPONSE);
+
+        // Then
+        assertNull(eTag);
+        verifyNoInteractions(tppService);
+    }
+
+    @Test
+    void getConsentStatusETag_sameStatus_shouldReturnSameQuotedETag() {
+        // Given
+        when(tppService.getTppInfo()).thenReturn(buildTppInfo(TPP_AUTHORISATION_NUMBER));
+
+        // When
+        String eTag = statusETagService.getConsentStatusETag(CONSENT_ID, CONSENT_STATUS_RESPONSE);
+        String sameETag = new StatusETagService(tppService, requestProviderService, true, SECRET).getConsentStatusETag(CONSENT_ID, CONSENT_STATUS_RESPONSE);
+
+        // Then
+        assertNotNull(eTag);
+        assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+        assertEquals(eTag, sameETag);
+    }
+
+    @Test
+    void getConsentStatusETag_changedStatus_shouldReturnOtherETag() {
+        // Given
+        when(tppService.getTppInfo()).thenReturn(buildTppInfo(TPP_AUTHORISATION_NUMBER));
+
+        // When
+        String eTag = statusETagService.getConsentStatusETag(CONSENT_ID, CONSENT_STATUS_RESPONSE);
+        String changedETag = statusETagService.getConsentStatusETag(CONSENT_ID, new ConsentStatusResponse(ConsentStatus.VALID, null));
+
+        // Then
+        assertNotEquals(eTag, changedETag);
+    }
+
+    @Test
+    void getConsentStatusETag_otherTpp_shouldReturnOtherETag() {
+        // Given
+        when(tppService.getTppInfo()).thenReturn(buildTppInfo(TPP_AUTHORISATION_NUMBER), buildTppInfo(OTHER_TPP_AUTHORISATION_NUMBER));
+
+        // When
+        String eTag = statusETagService.getConsentStatusETag(CONSENT_ID, CONSENT_STATUS_RESPONSE);
+        String otherTppETag = statusETagService.getConsentStatusETag(CONSENT_ID, CONSENT_STATUS_RESPONSE);
+
+        // Then
+        assertNotEquals(eTag, otherTppETag);
+    }
+
+    @Test
+    void getPaymentStatusETag_otherPaymentType_shouldReturnOtherETag() {
+        // Given
+        when(tppService.getTppInfo()).thenReturn(buildTppInfo(TPP_AUTHORISATION_NUMBER));
+
+        // When
+        String eTag = statusETagService.getPaymentStatusETag(PaymentType.SINGLE, PAYMENT_PRODUCT, PAYMENT_ID, PAYMENT_STATUS_RESPONSE);
+        String otherTypeETag = statusETagService.getPaymentStatusETag(PaymentType.BULK, PAYMENT_PRODUCT, PAYMENT_ID, PAYMENT_STATUS_RESPONSE);
+
+        // Then
+        assertNotNull(eTag);
+        assertNotEquals(eTag, otherTypeETag);
+    }
+
+    @Test
+    void isNotModified_matchingETag_shouldReturnTrue() {
+        // Given
+        when(requestProviderService.getIfNoneMatchHeader()).thenReturn("\"other\", W/\"etag\"");
+
+        // When
+        boolean notModified = statusETagService.isNotModified("\"etag\"");
+
+        // Then
+        assertTrue(notModified);
+    }
+
+    @Test
+    void isNotModified_anyETag_shouldReturnFalse() {
+        // Given
+        when(requestProviderService.getIfNoneMatchHeader()).thenReturn("*");
+
+        // When
+        boolean notModified = statusETagService.isNotModified("\"etag\"");
+
+        // Then
+        assertFalse(notModified);
+    }
+
+    @Test
+    void isNotModified_otherETag_shouldReturnFalse() {
+        // Given
+        when(requestProviderService.getIfNoneMatchHeader()).thenReturn("\"other\"");
+
+        // When
+        boolean notModified = statusETagService.isNotModified("\"etag\"");
+
+        // Then
+        assertFalse(notModified);
+    }
+
+    @Test
+    void isNotModified_nullETag_shouldReturnFalse() {
+        // When
+        boolean notModified = statusETagService.isNotModified(null);
+
+        // Then
+        assertFalse(notModified);
+        verifyNoInteractions(requestProviderService);
+    }
+
+    @Test
+    void isConditionalRequest() {
+        // Given
+        when(requestProviderService.getIfNoneMatchHeader()).thenReturn("\"etag\"", " ");
+
+        // When
+        boolean conditionalRequest = statusETagService.isConditionalRequest();
+        boolean blankHeaderConditionalRequest = statusETagService.isConditionalRequest();
+
+        // Then
+        assertTrue(conditionalRequest);
+        assertFalse(blankHeaderConditionalRequest);
+    }
+
+    @Test
+    void isConditionalRequest_disabled_shouldReturnFalse() {
+        // Given
+        statusETagService = new StatusETagService(tppService, requestProviderService, false, SECRET);
+
+        // When
+        boolean conditionalRequest = statusETagService.isConditionalRequest();
+
+        // Then
+        assertFalse(conditionalRequest);
+        verifyNoInteractions(requestProviderService);
+    }
+
+    private TppInfo buildTppInfo(String authorisationNumber) {
+        TppInfo tppInfo = new TppInfo();
+        tppInfo.setAuthorisationNumber(authorisationNumber);
+        return tppInfo;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service;
+
+import de.adorsys.psd2.consent.api.CmsError;
+import de.adorsys.psd2.consent.api.CmsResponse;
+import de.adorsys.psd2.consent.api.service.TppStopListService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TppStopListCacheTest {
+    private static final String BLOCKED_TPP = "blocked TPP";
+    private static final String ENABLED_TPP = "enabled TPP";
+    private static final String INSTANCE_ID = "instance id";
+    private static final String OTHER_INSTANCE_ID = "other instance id";
+    private static final long TIMEOUT_MS = 5000;
+
+    @Mock
+    private TppStopListService tppStopListService;
+
+    @Test
+    void isTppBlocked_replicaDisabled_shouldCheckInCms() {
+        // Given
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, 0);
+        when(tppStopListService.checkIfTppBlocked(BLOCKED_TPP, INSTANCE_ID))
+            .thenReturn(CmsResponse.<Boolean>builder().payload(true).build());
+
+        // When
+        boolean actual = tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID);
+
+        // Then
+        assertTrue(actual);
+        verify(tppStopListService, never()).getBlockedTppAuthorisationNumbers(any());
+        assertEquals(1, tppStopListCache.getMissCount());
+    }
+
+    @Test
+    void isTppBlocked_replicaEnabled_shouldLoadStopListOnce() {
+        // Given
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, 60_000);
+        when(tppStopListService.getBlockedTppAuthorisationNumbers(INSTANCE_ID))
+            .thenReturn(buildBlockedTppsResponse());
+
+        // When
+        boolean blocked = tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID);
+        boolean enabled = tppStopListCache.isTppBlocked(ENABLED_TPP, INSTANCE_ID);
+
+        // Then
+        assertTrue(blocked);
+        assertFalse(enabled);
+        verify(tppStopListService, times(1)).getBlockedTppAuthorisationNumbers(INSTANCE_ID);
+        verify(tppStopListService, never()).checkIfTppBlocked(any(), any());
+        assertEquals(2, tppStopListCache.getHitCount());
+        assertEquals(1, tppStopListCache.getRefreshCount());
+    }
+
+    @Test
+    void isTppBlocked_differentInstances_shouldLoadStopListPerInstance() {
+        // Given
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, 60_000);
+        when(tppStopListService.getBlockedTppAuthorisationNumbers(INSTANCE_ID))
+            .thenReturn(buildBlockedTppsResponse());
+        when(tppStopListService.getBlockedTppAuthorisationNumbers(OTHER_INSTANCE_ID))
+            .thenReturn(CmsResponse.<List<String>>builder().payload(Collections.emptyList()).build());
+
+        // When
+        boolean blocked = tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID);
+        boolean blockedForOtherInstance = tppStopListCache.isTppBlocked(BLOCKED_TPP, OTHER_INSTANCE_ID);
+
+        // Then
+        assertTrue(blocked);
+        assertFalse(blockedForOtherInstance);
+    }
+
+    @Test
+    void isTppBlocked_staleStopList_shouldReload() throws InterruptedException {
+        // Given
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, 1);
+        when(tppStopListService.getBlockedTppAuthorisationNumbers(INSTANCE_ID))
+            .thenReturn(buildBlockedTppsResponse());
+        tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID);
+        Thread.sleep(5);
+
+        // When
+        tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID);
+
+        // Then
+        verify(tppStopListService, times(2)).getBlockedTppAuthorisationNumbers(INSTANCE_ID);
+        assertEquals(2, tppStopListCache.getRefreshCount());
+    }
+
+    @Test
+    void isTppBlocked_stopListNotLoaded_shouldCheckInCms() {
+        // Given
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, 60_000);
+        when(tppStopListService.getBlockedTppAuthorisationNumbers(INSTANCE_ID))
+            .thenReturn(CmsResponse.<List<String>>builder().error(CmsError.TECHNICAL_ERROR).build());
+        when(tppStopListService.checkIfTppBlocked(BLOCKED_TPP, INSTANCE_ID))
+            .thenReturn(CmsResponse.<Boolean>builder().payload(true).build());
+
+        // When
+        boolean actual = tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID);
+
+        // Then
+        assertTrue(actual);
+        assertEquals(1, tppStopListCache.getMissCount());
+        assertEquals(0, tppStopListCache.getRefreshCount());
+    }
+
+    @Test
+    void invalidateAll_shouldReloadStopList() {
+        // Given
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, 60_000);
+        when(tppStopListService.getBlockedTppAuthorisationNumbers(INSTANCE_ID))
+            .thenReturn(buildBlockedTppsResponse());
+        tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID);
+
+        // When
+        tppStopListCache.invalidateAll();
+        tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID);
+
+        // Then
+        verify(tppStopListService, times(2)).getBlockedTppAuthorisationNumbers(INSTANCE_ID);
+    }
+
+    @Test
+    void isTppBlocked_invalidatedDuringLoad_shouldNotKeepLoadedStopList() {
+        // Given
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, 60_000);
+        when(tppStopListService.getBlockedTppAuthorisationNumbers(INSTANCE_ID)).thenAnswer(invocation -> {
+            tppStopListCache.invalidateAll();
+            return buildBlockedTppsResponse();
+        });
+
+        // When
+        boolean actual = tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID);
+        tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID);
+
+        // Then
+        assertTrue(actual);
+        verify(tppStopListService, times(2)).getBlockedTppAuthorisationNumbers(INSTANCE_ID);
+    }
+
+    @Test
+    void isTppBlocked_concurrentChecks_shouldWaitForSingleLoad() throws Exception {
+        // Given
+        TppStopListCache tppStopListCache = new TppStopListCache(tppStopListService, 60_000);
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        when(tppStopListService.getBlockedTppAuthorisationNumbers(INSTANCE_ID)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return buildBlockedTppsResponse();
+        });
+        when(tppStopListService.getBlockedTppAuthorisationNumbers(OTHER_INSTANCE_ID))
+            .thenReturn(CmsResponse.<List<String>>builder().payload(Collections.emptyList()).build());
+        CompletableFuture<Boolean> firstCheck = CompletableFuture.supplyAsync(() -> tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID));
+        assertTrue(loadStarted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+        // When
+        CompletableFuture<Boolean> secondCheck = CompletableFuture.supplyAsync(() -> tppStopListCache.isTppBlocked(BLOCKED_TPP, INSTANCE_ID));
+        boolean blockedForOtherInstance = tppStopListCache.isTppBlocked(BLOCKED_TPP, OTHER_INSTANCE_ID);
+        releaseLoad.countDown();
+
+        // Then
+        assertFalse(blockedForOtherInstance);
+        assertTrue(firstCheck.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertTrue(secondCheck.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        verify(tppStopListService, times(1)).getBlockedTppAuthorisationNumbers(INSTANCE_ID);
+    }
+
+    private CmsResponse<List<String>> buildBlockedTppsResponse() {
+        return CmsResponse.<List<String>>builder()
+                   .payload(Collections.singletonList(BLOCKED_TPP))
+                   .build();
+    }
+}
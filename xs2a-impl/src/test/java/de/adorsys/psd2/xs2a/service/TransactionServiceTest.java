@@ -40,7 +40,6 @@ import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReport;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsReportByPeriodRequest;
 import de.adorsys.psd2.xs2a.service.ais.AccountHelperService;
 import de.adorsys.psd2.xs2a.service.ais.TransactionService;
-import de.adorsys.psd2.xs2a.service.consent.Xs2aAccountService;
 import de.adorsys.psd2.xs2a.service.consent.Xs2aAisConsentService;
 import de.adorsys.psd2.xs2a.service.event.Xs2aEventService;
 import de.adorsys.psd2.xs2a.service.mapper.cms_xs2a_mappers.Xs2aAisConsentMapper;
@@ -171,8 +170,6 @@ class TransactionServiceTest {
     private AccountHelperService accountHelperService;
     @Mock
     private LoggingContextService loggingContextService;
-    @Mock
-    private Xs2aAccountService xs2aAccountService;
 
     @BeforeEach
     void setUp() {
@@ -416,6 +413,8 @@ class TransactionServiceTest {
         assertEquals(xs2aAccountReport, body.getAccountReport());
         assertThat(body.getAccountReference()).isEqualTo(XS2A_ACCOUNT_REFERENCE);
         assertEquals(Collections.emptyList(), body.getBalances());
+
+        verify(aisConsentService).consentActionLog(any(), eq(CONSENT_ID), any(), eq(REQUEST_URI), anyBoolean(), any(), isNull(), eq(ACCOUNT_ID), eq(1));
     }
 
     @Test
@@ -453,6 +452,8 @@ class TransactionServiceTest {
         assertNull(body.getAccountReport());
         assertThat(body.getAccountReference()).isEqualTo(XS2A_ACCOUNT_REFERENCE);
         assertEquals(Collections.emptyList(), body.getBalances());
+
+        verify(aisConsentService).consentActionLog(any(), eq(CONSENT_ID), any(), eq(REQUEST_URI), anyBoolean(), any(), isNull(), eq(ACCOUNT_ID), isNull());
     }
 
     @Test
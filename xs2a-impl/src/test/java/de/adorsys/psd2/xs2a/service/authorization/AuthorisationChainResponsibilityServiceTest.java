@@ -17,32 +17,47 @@
 package de.adorsys.psd2.xs2a.service.authorization;
 
 import de.adorsys.psd2.xs2a.core.authorisation.Authorisation;
+import de.adorsys.psd2.xs2a.core.authorisation.AuthorisationType;
 import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
 import de.adorsys.psd2.xs2a.core.sca.ScaStatus;
 import de.adorsys.psd2.xs2a.domain.consent.pis.Xs2aUpdatePisCommonPaymentPsuDataRequest;
+import de.adorsys.psd2.xs2a.service.authorization.processor.AuthorisationProcessor;
 import de.adorsys.psd2.xs2a.service.authorization.processor.model.AisAuthorisationProcessorRequest;
+import de.adorsys.psd2.xs2a.service.authorization.processor.model.AuthorisationProcessorRequest;
 import de.adorsys.psd2.xs2a.service.authorization.processor.model.AuthorisationProcessorResponse;
+import de.adorsys.psd2.xs2a.service.authorization.processor.model.PisAuthorisationProcessorRequest;
 import de.adorsys.psd2.xs2a.service.authorization.processor.service.AisAuthorisationProcessorServiceImpl;
+import de.adorsys.psd2.xs2a.service.authorization.processor.service.AuthorisationProcessorService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationContext;
 
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AuthorisationChainResponsibilityServiceTest {
 
-    @InjectMocks
     private AuthorisationChainResponsibilityService service;
+    private AuthorisationTransitionMetrics authorisationTransitionMetrics;
 
     @Mock
     private ApplicationContext applicationContext;
     @Mock
     private AisAuthorisationProcessorServiceImpl aisAuthorisationProcessorServiceImpl;
 
+    @BeforeEach
+    void setUp() {
+        authorisationTransitionMetrics = new AuthorisationTransitionMetrics();
+        service = new AuthorisationChainResponsibilityService(applicationContext, authorisationTransitionMetrics);
+    }
+
     @Test
     void apply() {
         Authorisation authorisation = new Authorisation();
@@ -57,8 +72,88 @@ class AuthorisationChainResponsibilityServiceTest {
 
         service.apply(request);
 
-        verify(applicationContext, times(2)).getBean(AisAuthorisationProcessorServiceImpl.class);
+        verify(applicationContext, times(1)).getBean(AisAuthorisationProcessorServiceImpl.class);
         verify(aisAuthorisationProcessorServiceImpl, times(1)).doScaReceived(request);
         verify(aisAuthorisationProcessorServiceImpl, times(1)).updateAuthorisation(request, processorResponse);
     }
+
+    @Test
+    void apply_processorServicesResolvedOnce_transitionsRecorded() {
+        // Given
+        AisAuthorisationProcessorRequest receivedRequest = new AisAuthorisationProcessorRequest(ScaApproach.EMBEDDED,
+                                                                                                ScaStatus.RECEIVED,
+                                                                                                new Xs2aUpdatePisCommonPaymentPsuDataRequest(),
+                                                                                                new Authorisation());
+        AisAuthorisationProcessorRequest identifiedRequest = new AisAuthorisationProcessorRequest(ScaApproach.EMBEDDED,
+                                                                                                  ScaStatus.PSUIDENTIFIED,
+                                                                                                  new Xs2aUpdatePisCommonPaymentPsuDataRequest(),
+                                                                                                  new Authorisation());
+        when(applicationContext.getBean(AisAuthorisationProcessorServiceImpl.class)).thenReturn(aisAuthorisationProcessorServiceImpl);
+        when(aisAuthorisationProcessorServiceImpl.doScaReceived(receivedRequest)).thenReturn(buildResponse(ScaStatus.PSUIDENTIFIED));
+        when(aisAuthorisationProcessorServiceImpl.doScaPsuIdentified(identifiedRequest)).thenReturn(buildResponse(ScaStatus.PSUAUTHENTICATED));
+
+        // When
+        service.afterSingletonsInstantiated();
+        service.apply(receivedRequest);
+        service.apply(identifiedRequest);
+        service.apply(receivedRequest);
+
+        // Then
+        verify(applicationContext, times(1)).getBean(AisAuthorisationProcessorServiceImpl.class);
+        assertEquals(2, authorisationTransitionMetrics.getTransitionCount(ScaApproach.EMBEDDED, ScaStatus.RECEIVED, ScaStatus.PSUIDENTIFIED));
+        assertEquals(1, authorisationTransitionMetrics.getTransitionCount(ScaApproach.EMBEDDED, ScaStatus.PSUIDENTIFIED, ScaStatus.PSUAUTHENTICATED));
+        assertEquals(0, authorisationTransitionMetrics.getTransitionCount(ScaApproach.DECOUPLED, ScaStatus.RECEIVED, ScaStatus.PSUIDENTIFIED));
+    }
+
+    @Test
+    void apply_customProcessor_replacesBuiltInProcessor() {
+        // Given
+        AisAuthorisationProcessorRequest request = new AisAuthorisationProcessorRequest(ScaApproach.DECOUPLED,
+                                                                                        ScaStatus.UNCONFIRMED,
+                                                                                        new Xs2aUpdatePisCommonPaymentPsuDataRequest(),
+                                                                                        new Authorisation());
+        AuthorisationProcessorResponse processorResponse = buildResponse(ScaStatus.FINALISED);
+        AuthorisationProcessor customProcessor = new AuthorisationProcessor(applicationContext) {
+            @Override
+            public ScaStatus getScaStatus() {
+                return ScaStatus.UNCONFIRMED;
+            }
+
+            @Override
+            protected AuthorisationProcessorResponse execute(AuthorisationProcessorRequest request,
+                                                             AuthorisationProcessorService processorService) {
+                return processorResponse;
+            }
+        };
+        when(applicationContext.getBean(AisAuthorisationProcessorServiceImpl.class)).thenReturn(aisAuthorisationProcessorServiceImpl);
+        when(applicationContext.getBeansOfType(AuthorisationProcessor.class)).thenReturn(Collections.singletonMap("customProcessor", customProcessor));
+
+        // When
+        AuthorisationProcessorResponse actual = service.apply(request);
+
+        // Then
+        assertEquals(processorResponse, actual);
+        verify(aisAuthorisationProcessorServiceImpl, times(1)).updateAuthorisation(request, processorResponse);
+        assertEquals(1, authorisationTransitionMetrics.getTransitionCount(ScaApproach.DECOUPLED, ScaStatus.UNCONFIRMED, ScaStatus.FINALISED));
+    }
+
+    @Test
+    void apply_unknownProcessorService() {
+        // Given
+        Authorisation authorisation = new Authorisation();
+        authorisation.setAuthorisationType(AuthorisationType.CONSENT);
+        PisAuthorisationProcessorRequest request = new PisAuthorisationProcessorRequest(ScaApproach.EMBEDDED,
+                                                                                        ScaStatus.RECEIVED,
+                                                                                        new Xs2aUpdatePisCommonPaymentPsuDataRequest(),
+                                                                                        authorisation);
+
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> service.apply(request));
+    }
+
+    private AuthorisationProcessorResponse buildResponse(ScaStatus scaStatus) {
+        AuthorisationProcessorResponse processorResponse = new AuthorisationProcessorResponse();
+        processorResponse.setScaStatus(scaStatus);
+        return processorResponse;
+    }
 }
@@ -327,6 +327,25 @@ class Xs2aAisConsentServiceTest {
         assertThat(aisConsentActionRequest.getActionStatus()).isEqualTo(actionStatus);
         assertThat(aisConsentActionRequest.getRequestUri()).isEqualTo(REQUEST_URI);
         assertThat(aisConsentActionRequest.isUpdateUsage()).isTrue();
+        assertThat(aisConsentActionRequest.getNumberOfTransactions()).isNull();
+    }
+
+    @Test
+    void consentActionLog_withNumberOfTransactions() throws WrongChecksumException {
+        // Given
+        ArgumentCaptor<AisConsentActionRequest> argumentCaptor = ArgumentCaptor.forClass(AisConsentActionRequest.class);
+
+        // When
+        xs2aAisConsentService.consentActionLog(TPP_ID, CONSENT_ID, ActionStatus.SUCCESS, REQUEST_URI, true, "resource id", null, "account id", 10);
+
+        // Then
+        verify(aisConsentServiceEncrypted).checkConsentAndSaveActionLog(argumentCaptor.capture());
+
+        AisConsentActionRequest aisConsentActionRequest = argumentCaptor.getValue();
+        assertThat(aisConsentActionRequest.getConsentId()).isEqualTo(CONSENT_ID);
+        assertThat(aisConsentActionRequest.getResourceId()).isEqualTo("resource id");
+        assertThat(aisConsentActionRequest.getTransactionsResourceId()).isEqualTo("account id");
+        assertThat(aisConsentActionRequest.getNumberOfTransactions()).isEqualTo(10);
     }
 
     @Test
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.event;
+
+import de.adorsys.psd2.event.core.model.EventOrigin;
+import de.adorsys.psd2.event.core.model.EventType;
+import de.adorsys.psd2.event.service.Xs2aEventServiceEncrypted;
+import de.adorsys.psd2.event.service.model.EventBO;
+import de.adorsys.psd2.event.service.model.PsuIdDataBO;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventRecordingQueueTest {
+    private static final long VERIFY_TIMEOUT_MS = 5000;
+    private static final Object PAYLOAD = "payload";
+
+    @Mock
+    private Xs2aEventServiceEncrypted eventService;
+    @Mock
+    private Xs2aObjectMapper xs2aObjectMapper;
+
+    private EventRecordingQueue eventRecordingQueue;
+
+    @AfterEach
+    void tearDown() {
+        if (eventRecordingQueue != null) {
+            eventRecordingQueue.shutdown();
+        }
+    }
+
+    @Test
+    void submit_disabled() {
+        // Given
+        eventRecordingQueue = buildQueue(false, 10, EventQueueOverflowPolicy.LOG);
+
+        // When
+        boolean actual = eventRecordingQueue.submit(buildEvent());
+
+        // Then
+        assertFalse(actual);
+        assertFalse(eventRecordingQueue.isRunning());
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    void submit_recordedInBackground() {
+        // Given
+        when(eventService.recordEvents(anyList())).thenReturn(true);
+        eventRecordingQueue = buildQueue(true, 10, EventQueueOverflowPolicy.LOG);
+
+        // When
+        boolean actual = eventRecordingQueue.submit(buildEvent());
+
+        // Then
+        assertTrue(actual);
+        verify(eventService, timeout(VERIFY_TIMEOUT_MS)).recordEvents(anyList());
+        verify(eventService, never()).recordEvent(any());
+    }
+
+    @Test
+    void submit_queueIsFull_drop() throws InterruptedException {
+        // Given
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        when(eventService.recordEvents(anyList())).thenAnswer(invocation -> {
+            writerBlocked.countDown();
+            releaseWriter.await(VERIFY_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return true;
+        });
+        eventRecordingQueue = buildQueue(true, 1, EventQueueOverflowPolicy.DROP);
+
+        eventRecordingQueue.submit(buildEvent());
+        assertTrue(writerBlocked.await(VERIFY_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        eventRecordingQueue.submit(buildEvent());
+
+        // When
+        boolean actual = eventRecordingQueue.submit(buildEvent());
+
+        // Then
+        assertTrue(actual);
+        assertEquals(1, eventRecordingQueue.getDroppedCount());
+        assertEquals(0, eventRecordingQueue.getSpilledCount());
+        releaseWriter.countDown();
+    }
+
+    @Test
+    void submit_queueIsFull_block() throws InterruptedException {
+        // Given
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        when(eventService.recordEvents(anyList())).thenAnswer(invocation -> {
+            writerBlocked.countDown();
+            releaseWriter.await(VERIFY_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return true;
+        });
+        eventRecordingQueue = buildQueue(true, 1, EventQueueOverflowPolicy.BLOCK);
+
+        eventRecordingQueue.submit(buildEvent());
+        assertTrue(writerBlocked.await(VERIFY_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        eventRecordingQueue.submit(buildEvent());
+
+        // When
+        CountDownLatch submitted = new CountDownLatch(1);
+        Thread requestThread = new Thread(() -> {
+            eventRecordingQueue.submit(buildEvent());
+            submitted.countDown();
+        });
+        requestThread.start();
+
+        // Then
+        assertFalse(submitted.await(100, TimeUnit.MILLISECONDS));
+        releaseWriter.countDown();
+        assertTrue(submitted.await(VERIFY_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(0, eventRecordingQueue.getDroppedCount());
+        assertEquals(0, eventRecordingQueue.getSpilledCount());
+    }
+
+    @Test
+    void submit_queueIsFull_log() throws Exception {
+        // Given
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        when(eventService.recordEvents(anyList())).thenAnswer(invocation -> {
+            writerBlocked.countDown();
+            releaseWriter.await(VERIFY_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return true;
+        });
+        when(xs2aObjectMapper.writeValueAsString(PAYLOAD)).thenReturn("{}");
+        eventRecordingQueue = buildQueue(true, 1, EventQueueOverflowPolicy.LOG);
+
+        eventRecordingQueue.submit(buildEvent());
+        assertTrue(writerBlocked.await(VERIFY_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        eventRecordingQueue.submit(buildEvent());
+
+        // When
+        boolean actual = eventRecordingQueue.submit(buildEvent());
+
+        // Then
+        assertTrue(actual);
+        assertEquals(1, eventRecordingQueue.getSpilledCount());
+        assertEquals(0, eventRecordingQueue.getDroppedCount());
+        verify(xs2aObjectMapper, times(1)).writeValueAsString(PAYLOAD);
+        releaseWriter.countDown();
+    }
+
+    @Test
+    void submit_recordingFailed() throws Exception {
+        // Given
+        when(eventService.recordEvents(anyList())).thenThrow(new RuntimeException("CMS is not available"));
+        when(xs2aObjectMapper.writeValueAsString(PAYLOAD)).thenReturn("{}");
+        eventRecordingQueue = buildQueue(true, 10, EventQueueOverflowPolicy.LOG);
+
+        // When
+        eventRecordingQueue.submit(buildEvent());
+
+        // Then
+        verify(xs2aObjectMapper, timeout(VERIFY_TIMEOUT_MS)).writeValueAsString(PAYLOAD);
+        assertEquals(1, eventRecordingQueue.getFailedCount());
+        assertEquals(1, eventRecordingQueue.getSpilledCount());
+    }
+
+    @Test
+    void submit_recordingNotSuccessful() throws Exception {
+        // Given
+        when(eventService.recordEvents(anyList())).thenReturn(false);
+        when(xs2aObjectMapper.writeValueAsString(PAYLOAD)).thenReturn("{}");
+        eventRecordingQueue = buildQueue(true, 10, EventQueueOverflowPolicy.LOG);
+
+        // When
+        eventRecordingQueue.submit(buildEvent());
+
+        // Then
+        verify(xs2aObjectMapper, timeout(VERIFY_TIMEOUT_MS)).writeValueAsString(PAYLOAD);
+        assertEquals(1, eventRecordingQueue.getFailedCount());
+        assertEquals(1, eventRecordingQueue.getSpilledCount());
+        assertEquals(0, eventRecordingQueue.getRecordedCount());
+    }
+
+    @Test
+    void shutdown_drainsQueue() {
+        // Given
+        when(eventService.recordEvents(anyList())).thenAnswer(invocation -> {
+            List<EventBO> events = invocation.getArgument(0);
+            return !events.isEmpty();
+        });
+        eventRecordingQueue = buildQueue(true, 100, EventQueueOverflowPolicy.LOG);
+        for (int i = 0; i < 50; i++) {
+            eventRecordingQueue.submit(buildEvent());
+        }
+
+        // When
+        eventRecordingQueue.shutdown();
+
+        // Then
+        assertFalse(eventRecordingQueue.isRunning());
+        assertEquals(0, eventRecordingQueue.getQueueSize());
+        assertEquals(50, eventRecordingQueue.getRecordedCount());
+        assertFalse(eventRecordingQueue.submit(buildEvent()));
+    }
+
+    @Test
+    void toLogMessage_eventLogFormat() throws Exception {
+        // Given
+        when(xs2aObjectMapper.writeValueAsString(PAYLOAD)).thenReturn("{\"body\":\"value\"}");
+        eventRecordingQueue = buildQueue(false, 10, EventQueueOverflowPolicy.LOG);
+        EventBO event = EventBO.builder()
+                            .timestamp(OffsetDateTime.parse("2020-08-19T10:15:30+02:00"))
+                            .eventOrigin(EventOrigin.TPP)
+                            .eventType(EventType.READ_TRANSACTION_LIST_REQUEST_RECEIVED)
+                            .internalRequestId(UUID.fromString("3c1a24b6-8a5e-4a0b-9e39-2d6c0d4a6b3e"))
+                            .xRequestId(UUID.fromString("0c5f4b8e-1f5e-4a8f-9c3e-6f8d7b2a1c4d"))
+                            .consentId("encrypted consent ID")
+                            .tppAuthorisationNumber("999")
+                            .psuIdData(new PsuIdDataBO("PSU-1", null, null, null))
+                            .payload(PAYLOAD)
+                            .build();
+
+        // When
+        String actual = eventRecordingQueue.toLogMessage(event);
+
+        // Then
+        assertEquals("timestamp: [2020-08-19T10:15:30+02:00], eventOrigin: [TPP], eventType: [READ_TRANSACTION_LIST_REQUEST_RECEIVED], "
+                         + "internalRequestId: [3c1a24b6-8a5e-4a0b-9e39-2d6c0d4a6b3e], xRequestId: [0c5f4b8e-1f5e-4a8f-9c3e-6f8d7b2a1c4d], "
+                         + "consentId: [encrypted consent ID], tppAuthorisationNumber: [999], psuData: [psuId: PSU-1], payload: [{\"body\":\"value\"}]",
+                     actual);
+    }
+
+    private EventRecordingQueue buildQueue(boolean enabled, int capacity, EventQueueOverflowPolicy overflowPolicy) {
+        EventRecordingQueue queue = new EventRecordingQueue(eventService, xs2aObjectMapper, enabled, capacity, 10, overflowPolicy, VERIFY_TIMEOUT_MS);
+        queue.start();
+        return queue;
+    }
+
+    private EventBO buildEvent() {
+        return EventBO.builder()
+                   .tppAuthorisationNumber("999")
+                   .payload(PAYLOAD)
+                   .build();
+    }
+}
@@ -63,6 +63,8 @@ class Xs2aEventServiceTest {
     private Xs2aEventServiceEncrypted eventService;
     @Mock
     private RequestProviderService requestProviderService;
+    @Mock
+    private EventRecordingQueue eventRecordingQueue;
     @Spy
     private EventMapper eventMapper = Mappers.getMapper(EventMapper.class);
 
@@ -77,7 +79,7 @@ class Xs2aEventServiceTest {
     void setUp() {
         psuIdData = jsonReader.getObjectFromFile("json/service/event/psu-id-data.json", PsuIdDataBO.class);
 
-        when(eventService.recordEvent(eventCaptor.capture())).thenReturn(true);
+        lenient().when(eventService.recordEvent(eventCaptor.capture())).thenReturn(true);
         when(requestProviderService.getRequestData()).thenReturn(buildRequestData());
         when(tppService.getTppInfo()).thenReturn(buildTppInfo());
     }
@@ -208,6 +210,19 @@ class Xs2aEventServiceTest {
         assertThat(((RequestEventPayload) capturedEvent.getPayload()).getBody()).isNull();
     }
 
+    @Test
+    void recordTppRequest_queued() {
+        // Given
+        when(eventRecordingQueue.submit(any(EventBO.class))).thenReturn(true);
+
+        // When
+        xs2aEventService.recordTppRequest(EVENT_TYPE, BODY);
+
+        // Then
+        verify(eventRecordingQueue, times(1)).submit(any(EventBO.class));
+        verify(eventService, never()).recordEvent(any(EventBO.class));
+    }
+
     private RequestData buildRequestData() {
         return new RequestData(URI, INTERNAL_REQUEST_ID, X_REQUEST_ID, TPP_IP, Collections.emptyMap(),
                                jsonReader.getObjectFromFile("json/service/event/psu-id-data.json", PsuIdData.class));
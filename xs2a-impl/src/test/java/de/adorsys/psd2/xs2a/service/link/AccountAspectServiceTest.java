@@ -20,6 +20,7 @@ import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
 import de.adorsys.psd2.core.data.AccountAccess;
 import de.adorsys.psd2.core.data.ais.AisConsent;
 import de.adorsys.psd2.core.data.ais.AisConsentData;
+import de.adorsys.psd2.xs2a.core.ais.AccountAccessType;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountDetails;
 import de.adorsys.psd2.xs2a.domain.account.Xs2aAccountDetailsHolder;
@@ -34,6 +35,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Collections;
 
@@ -41,7 +45,7 @@ import static de.adorsys.psd2.xs2a.core.domain.TppMessageInformation.of;
 import static de.adorsys.psd2.xs2a.core.error.ErrorType.AIS_400;
 import static de.adorsys.psd2.xs2a.core.error.MessageErrorCode.CONSENT_UNKNOWN_400;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AccountAspectServiceTest {
@@ -138,4 +142,32 @@ class AccountAspectServiceTest {
         // Then
         assertTrue(actualResponse.hasError());
     }
+
+    @Test
+    void getAccountDetailsListAspect_notForcedBaseUrl_resolvesControllerUrlOncePerRequest() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName("first.host");
+        aisConsent.setConsentData(new AisConsentData(null, AccountAccessType.ALL_ACCOUNTS, null, false));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        Xs2aAccountDetails secondAccountDetails = jsonReader.getObjectFromFile("json/aspect/account_details.json", Xs2aAccountDetails.class);
+
+        try {
+            // When
+            service.getAccountDetailsListAspect(ResponseObject.<Xs2aAccountListHolder>builder()
+                                                    .body(new Xs2aAccountListHolder(Collections.singletonList(accountDetails), aisConsent))
+                                                    .build());
+            request.setServerName("second.host");
+            service.getAccountDetailsListAspect(ResponseObject.<Xs2aAccountListHolder>builder()
+                                                    .body(new Xs2aAccountListHolder(Collections.singletonList(secondAccountDetails), aisConsent))
+                                                    .build());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // Then
+        assertTrue(accountDetails.getLinks().getBalances().getHref().startsWith("http://first.host/"));
+        assertTrue(secondAccountDetails.getLinks().getBalances().getHref().startsWith("http://first.host/"));
+        verify(aspspProfileServiceWrapper, never()).getXs2aBaseLinksUrl();
+    }
 }
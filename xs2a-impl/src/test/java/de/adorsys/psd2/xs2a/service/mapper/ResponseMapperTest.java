@@ -18,10 +18,12 @@ package de.adorsys.psd2.xs2a.service.mapper;
 
 import de.adorsys.psd2.xs2a.domain.CustomContentTypeProvider;
 import de.adorsys.psd2.xs2a.domain.ResponseObject;
+import de.adorsys.psd2.xs2a.web.header.ResponseHeaders;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
@@ -57,4 +59,17 @@ class ResponseMapperTest {
 
         assertNull(responseEntity.getHeaders().getContentType());
     }
+
+    @Test
+    void notModified() {
+        ResponseHeaders responseHeaders = ResponseHeaders.builder()
+                                              .eTag("\"etag\"")
+                                              .build();
+
+        ResponseEntity responseEntity = responseMapper.notModified(responseHeaders);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, responseEntity.getStatusCode());
+        assertEquals("\"etag\"", responseEntity.getHeaders().getETag());
+        assertNull(responseEntity.getBody());
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service.mapper.payment;
+
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import de.adorsys.psd2.model.BulkPaymentInitiationJson;
+import de.adorsys.psd2.model.PaymentInitiationBulkElementJson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkPaymentStreamReaderTest {
+    private static final String BULK_PAYMENT_BODY = "{\"payments\":[{\"endToEndIdentification\":\"e2e-1\"},{\"endToEndIdentification\":\"e2e-2\"}]," +
+                                                        "\"batchBookingPreferred\":true,\"requestedExecutionDate\":\"2020-02-02\"," +
+                                                        "\"debtorAccount\":{\"iban\":\"DE52500105173911841934\"}}";
+
+    private Xs2aObjectMapper xs2aObjectMapper;
+
+    @BeforeEach
+    void setUp() {
+        xs2aObjectMapper = new Xs2aObjectMapper();
+        xs2aObjectMapper.findAndRegisterModules();
+    }
+
+    @Test
+    void read_shouldPassEntriesToConsumerAndReturnHeader() throws IOException {
+        // Given
+        BulkPaymentStreamReader reader = new BulkPaymentStreamReader(xs2aObjectMapper, 0, 0);
+        List<PaymentInitiationBulkElementJson> entries = new ArrayList<>();
+
+        // When
+        BulkPaymentInitiationJson actual = reader.read(BULK_PAYMENT_BODY.getBytes(), entries::add);
+
+        // Then
+        assertEquals(2, entries.size());
+        assertEquals("e2e-1", entries.get(0).getEndToEndIdentification());
+        assertEquals("e2e-2", entries.get(1).getEndToEndIdentification());
+        assertTrue(actual.getPayments().isEmpty());
+        assertTrue(actual.getBatchBookingPreferred());
+        assertEquals(LocalDate.of(2020, 2, 2), actual.getRequestedExecutionDate());
+        assertNotNull(actual.getDebtorAccount());
+    }
+
+    @Test
+    void read_unknownEntryField_shouldThrowException() {
+        // Given
+        BulkPaymentStreamReader reader = new BulkPaymentStreamReader(xs2aObjectMapper, 0, 0);
+        byte[] body = "{\"payments\":[{\"unknownField\":\"value\"}]}".getBytes();
+
+        // Then
+        assertThrows(IOException.class, () -> reader.read(body, e -> {}));
+    }
+
+    @Test
+    void read_notJsonObject_shouldThrowException() {
+        // Given
+        BulkPaymentStreamReader reader = new BulkPaymentStreamReader(xs2aObjectMapper, 0, 0);
+
+        // Then
+        assertThrows(IOException.class, () -> reader.read("[]".getBytes(), e -> {}));
+    }
+
+    @Test
+    void exceedsLimits_noLimits_shouldReturnFalse() {
+        // Given
+        BulkPaymentStreamReader reader = new BulkPaymentStreamReader(xs2aObjectMapper, 0, 0);
+
+        // Then
+        assertFalse(reader.exceedsLimits(BULK_PAYMENT_BODY.getBytes()));
+    }
+
+    @Test
+    void exceedsLimits_tooManyEntries_shouldReturnTrue() {
+        // Given
+        BulkPaymentStreamReader reader = new BulkPaymentStreamReader(xs2aObjectMapper, 1, 0);
+
+        // Then
+        assertTrue(reader.exceedsLimits(BULK_PAYMENT_BODY.getBytes()));
+    }
+
+    @Test
+    void exceedsLimits_entriesWithinLimit_shouldReturnFalse() {
+        // Given
+        BulkPaymentStreamReader reader = new BulkPaymentStreamReader(xs2aObjectMapper, 2, 0);
+
+        // Then
+        assertFalse(reader.exceedsLimits(BULK_PAYMENT_BODY.getBytes()));
+    }
+
+    @Test
+    void exceedsLimits_bodyTooLarge_shouldReturnTrue() {
+        // Given
+        BulkPaymentStreamReader reader = new BulkPaymentStreamReader(xs2aObjectMapper, 0, 10);
+
+        // Then
+        assertTrue(reader.exceedsLimits(BULK_PAYMENT_BODY.getBytes()));
+    }
+
+    @Test
+    void exceedsLimits_malformedBody_shouldReturnFalse() {
+        // Given
+        BulkPaymentStreamReader reader = new BulkPaymentStreamReader(xs2aObjectMapper, 1, 0);
+
+        // Then
+        assertFalse(reader.exceedsLimits("malformed body".getBytes()));
+    }
+}
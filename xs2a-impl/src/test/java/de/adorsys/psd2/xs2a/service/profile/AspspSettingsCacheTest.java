@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.xs2a.service.profile;
+
+import de.adorsys.psd2.aspsp.profile.domain.AspspSettings;
+import de.adorsys.psd2.aspsp.profile.event.AspspProfileChangedEvent;
+import de.adorsys.psd2.aspsp.profile.service.AspspProfileService;
+import de.adorsys.psd2.xs2a.core.profile.ScaApproach;
+import de.adorsys.xs2a.reader.JsonReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AspspSettingsCacheTest {
+    private static final String ASPSP_SETTINGS_JSON_PATH = "json/service/profile/AspspSettings.json";
+    private static final String INSTANCE_ID = "bank1";
+    private static final String ANOTHER_INSTANCE_ID = "bank2";
+    private static final long TTL_MS = 60_000;
+
+    @Mock
+    private AspspProfileService aspspProfileService;
+
+    private AspspSettingsCache aspspSettingsCache;
+
+    @AfterEach
+    void tearDown() {
+        aspspSettingsCache.shutdown();
+    }
+
+    @Test
+    void getAspspSettings_cacheDisabled_shouldAlwaysCallProfile() {
+        // Given
+        aspspSettingsCache = new AspspSettingsCache(aspspProfileService, 0, 0);
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(buildAspspSettings());
+
+        // When
+        aspspSettingsCache.getAspspSettings(INSTANCE_ID);
+        aspspSettingsCache.getAspspSettings(INSTANCE_ID);
+
+        // Then
+        verify(aspspProfileService, times(2)).getAspspSettings(INSTANCE_ID);
+        assertEquals(0, aspspSettingsCache.getHitCount());
+        assertEquals(2, aspspSettingsCache.getMissCount());
+    }
+
+    @Test
+    void getAspspSettings_shouldServeSnapshotPerInstance() {
+        // Given
+        aspspSettingsCache = new AspspSettingsCache(aspspProfileService, TTL_MS, 0);
+        AspspSettings aspspSettings = buildAspspSettings();
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(aspspSettings);
+        when(aspspProfileService.getAspspSettings(ANOTHER_INSTANCE_ID)).thenReturn(buildAspspSettings());
+
+        // When
+        AspspSettings first = aspspSettingsCache.getAspspSettings(INSTANCE_ID);
+        AspspSettings second = aspspSettingsCache.getAspspSettings(INSTANCE_ID);
+        aspspSettingsCache.getAspspSettings(ANOTHER_INSTANCE_ID);
+
+        // Then
+        assertSame(aspspSettings, first);
+        assertSame(aspspSettings, second);
+        verify(aspspProfileService, times(1)).getAspspSettings(INSTANCE_ID);
+        verify(aspspProfileService, times(1)).getAspspSettings(ANOTHER_INSTANCE_ID);
+        assertEquals(1, aspspSettingsCache.getHitCount());
+        assertEquals(2, aspspSettingsCache.getMissCount());
+    }
+
+    @Test
+    void getScaApproaches_nullInstanceId_shouldBeCached() {
+        // Given
+        aspspSettingsCache = new AspspSettingsCache(aspspProfileService, TTL_MS, 0);
+        List<ScaApproach> scaApproaches = Collections.singletonList(ScaApproach.REDIRECT);
+        when(aspspProfileService.getScaApproaches(null)).thenReturn(scaApproaches);
+
+        // When
+        aspspSettingsCache.getScaApproaches(null);
+        List<ScaApproach> actual = aspspSettingsCache.getScaApproaches(null);
+
+        // Then
+        assertEquals(scaApproaches, actual);
+        verify(aspspProfileService, times(1)).getScaApproaches(null);
+    }
+
+    @Test
+    void onAspspProfileChanged_shouldDropSnapshots() {
+        // Given
+        aspspSettingsCache = new AspspSettingsCache(aspspProfileService, TTL_MS, 0);
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(buildAspspSettings());
+        aspspSettingsCache.getAspspSettings(INSTANCE_ID);
+
+        // When
+        aspspSettingsCache.onAspspProfileChanged(new AspspProfileChangedEvent(INSTANCE_ID));
+        aspspSettingsCache.getAspspSettings(INSTANCE_ID);
+
+        // Then
+        verify(aspspProfileService, times(2)).getAspspSettings(INSTANCE_ID);
+        assertEquals(1, aspspSettingsCache.getInvalidationCount());
+    }
+
+    @Test
+    void getAspspSettings_refreshAhead_shouldReloadInBackground() {
+        // Given
+        aspspSettingsCache = new AspspSettingsCache(aspspProfileService, TTL_MS, TTL_MS);
+        AspspSettings aspspSettings = buildAspspSettings();
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(aspspSettings);
+        aspspSettingsCache.getAspspSettings(INSTANCE_ID);
+
+        // When
+        AspspSettings actual = aspspSettingsCache.getAspspSettings(INSTANCE_ID);
+
+        // Then
+        assertSame(aspspSettings, actual);
+        verify(aspspProfileService, timeout(1000).times(2)).getAspspSettings(INSTANCE_ID);
+    }
+
+    @Test
+    void getAspspSettings_invalidatedDuringLoad_shouldNotCacheLoadedValue() {
+        // Given
+        aspspSettingsCache = new AspspSettingsCache(aspspProfileService, TTL_MS, 0);
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenAnswer(invocation -> {
+            aspspSettingsCache.invalidateAll();
+            return buildAspspSettings();
+        });
+
+        // When
+        aspspSettingsCache.getAspspSettings(INSTANCE_ID);
+        aspspSettingsCache.getAspspSettings(INSTANCE_ID);
+
+        // Then
+        verify(aspspProfileService, times(2)).getAspspSettings(INSTANCE_ID);
+        assertEquals(0, aspspSettingsCache.getHitCount());
+        assertEquals(2, aspspSettingsCache.getMissCount());
+    }
+
+    @Test
+    void getAspspSettings_refreshAheadReturnedNull_shouldRefreshAgain() throws InterruptedException {
+        // Given
+        aspspSettingsCache = new AspspSettingsCache(aspspProfileService, TTL_MS, TTL_MS);
+        AspspSettings aspspSettings = buildAspspSettings();
+        when(aspspProfileService.getAspspSettings(INSTANCE_ID)).thenReturn(aspspSettings, (AspspSettings) null);
+        aspspSettingsCache.getAspspSettings(INSTANCE_ID);
+
+        // When
+        long deadline = System.currentTimeMillis() + 1000;
+        while (mockingDetails(aspspProfileService).getInvocations().size() < 3 && System.currentTimeMillis() < deadline) {
+            assertSame(aspspSettings, aspspSettingsCache.getAspspSettings(INSTANCE_ID));
+            Thread.sleep(10);
+        }
+
+        // Then
+        verify(aspspProfileService, atLeast(3)).getAspspSettings(INSTANCE_ID);
+        assertEquals(0, aspspSettingsCache.getRefreshCount());
+    }
+
+    private AspspSettings buildAspspSettings() {
+        return new JsonReader().getObjectFromFile(ASPSP_SETTINGS_JSON_PATH, AspspSettings.class);
+    }
+}
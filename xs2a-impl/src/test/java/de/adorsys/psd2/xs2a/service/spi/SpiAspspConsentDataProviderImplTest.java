@@ -29,6 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -104,4 +105,100 @@ class SpiAspspConsentDataProviderImplTest {
         verify(aspspDataService, never()).updateAspspConsentData(any(AspspConsentData.class));
         verify(aspspDataService).deleteAspspConsentData(SOME_CONSENT_ID);
     }
+
+    @Test
+    void loadWithinRequestCallsAspspDataServiceOnce() {
+        // Given
+        AspspConsentDataRequestContext requestContext = new AspspConsentDataRequestContext(false);
+        when(aspspDataService.readAspspConsentData(anyString()))
+            .thenReturn(Optional.of(SOME_CONSENT_DATA));
+
+        // When
+        new SpiAspspConsentDataProviderImpl(SOME_CONSENT_ID, aspspDataService, requestContext).loadAspspConsentData();
+        byte[] readData = new SpiAspspConsentDataProviderImpl(SOME_CONSENT_ID, aspspDataService, requestContext).loadAspspConsentData();
+
+        // Then
+        assertArrayEquals(SOME_DATA, readData);
+        verify(aspspDataService, times(1)).readAspspConsentData(SOME_CONSENT_ID);
+        assertEquals(1, requestContext.getLoadCount());
+    }
+
+    @Test
+    void loadWithinRequestReturnsUpdatedData() {
+        // Given
+        AspspConsentDataRequestContext requestContext = new AspspConsentDataRequestContext(false);
+        byte[] bytes = "some another data".getBytes();
+        new SpiAspspConsentDataProviderImpl(SOME_CONSENT_ID, aspspDataService, requestContext).updateAspspConsentData(bytes);
+
+        // When
+        byte[] readData = new SpiAspspConsentDataProviderImpl(SOME_CONSENT_ID, aspspDataService, requestContext).loadAspspConsentData();
+
+        // Then
+        assertArrayEquals(bytes, readData);
+        verify(aspspDataService).updateAspspConsentData(new AspspConsentData(bytes, SOME_CONSENT_ID));
+        verify(aspspDataService, never()).readAspspConsentData(anyString());
+        assertEquals(1, requestContext.getWriteCount());
+    }
+
+    @Test
+    void writeBehindWritesLastUpdateOnFlush() {
+        // Given
+        AspspConsentDataRequestContext requestContext = new AspspConsentDataRequestContext(true);
+        SpiAspspConsentDataProvider provider = new SpiAspspConsentDataProviderImpl(SOME_CONSENT_ID, aspspDataService, requestContext);
+        byte[] bytes = "some another data".getBytes();
+
+        // When
+        provider.updateAspspConsentData("intermediate data".getBytes());
+        provider.updateAspspConsentData(bytes);
+
+        // Then
+        verifyNoInteractions(aspspDataService);
+
+        // When
+        requestContext.flush(aspspDataService);
+
+        // Then
+        verify(aspspDataService).updateAspspConsentData(new AspspConsentData(bytes, SOME_CONSENT_ID));
+        verifyNoMoreInteractions(aspspDataService);
+        assertEquals(1, requestContext.getWriteCount());
+    }
+
+    @Test
+    void writeBehindClearDeletesDataOnFlush() {
+        // Given
+        AspspConsentDataRequestContext requestContext = new AspspConsentDataRequestContext(true);
+        when(aspspDataService.readAspspConsentData(anyString()))
+            .thenReturn(Optional.of(SOME_CONSENT_DATA));
+        SpiAspspConsentDataProvider provider = new SpiAspspConsentDataProviderImpl(SOME_CONSENT_ID, aspspDataService, requestContext);
+        provider.loadAspspConsentData();
+
+        // When
+        provider.clearAspspConsentData();
+        requestContext.flush(aspspDataService);
+        requestContext.flush(aspspDataService);
+
+        // Then
+        verify(aspspDataService).deleteAspspConsentData(SOME_CONSENT_ID);
+        verify(aspspDataService, never()).updateAspspConsentData(any(AspspConsentData.class));
+        assertEquals(1, requestContext.getWriteCount());
+    }
+
+    @Test
+    void modifyingArraysWithinRequestDoesntChangeKnownAndPendingData() {
+        // Given
+        AspspConsentDataRequestContext requestContext = new AspspConsentDataRequestContext(true);
+        SpiAspspConsentDataProvider provider = new SpiAspspConsentDataProviderImpl(SOME_CONSENT_ID, aspspDataService, requestContext);
+        byte[] bytes = "some another data".getBytes();
+        provider.updateAspspConsentData(bytes);
+
+        // When
+        bytes[0] = 'X';
+        byte[] readData = provider.loadAspspConsentData();
+        readData[1] = 'X';
+        requestContext.flush(aspspDataService);
+
+        // Then
+        assertArrayEquals("some another data".getBytes(), provider.loadAspspConsentData());
+        verify(aspspDataService).updateAspspConsentData(new AspspConsentData("some another data".getBytes(), SOME_CONSENT_ID));
+    }
 }
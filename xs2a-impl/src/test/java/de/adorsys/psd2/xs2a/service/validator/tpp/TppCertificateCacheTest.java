@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.service.validator.tpp;
+
+import de.adorsys.psd2.validator.certificate.util.TppCertificateData;
+import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
+import de.adorsys.psd2.xs2a.core.tpp.TppRole;
+import no.difi.certvalidator.api.CertificateValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TppCertificateCacheTest {
+    private static final String QWAC_CERTIFICATE_VALID = "-----BEGIN CERTIFICATE-----MIIFNjCCAx6gAwIBAgIERd3y8TANBgkqhkiG9w0BAQsFADB4MQswCQYDVQQGEwJERTEQMA4GA1UECAwHQkFWQVJJQTESMBAGA1UEBwwJTnVyZW1iZXJnMSIwIAYDVQQKDBlUcnVzdCBTZXJ2aWNlIFByb3ZpZGVyIEFHMR8wHQYDVQQLDBZJbmZvcm1hdGlvbiBUZWNobm9sb2d5MB4XDTIwMDMwNTEzMzk1MFoXDTMwMDMwMzAwMDAwMFowgcExITAfBgNVBAoMGEZpY3Rpb25hbCBDb3Jwb3JhdGlvbiBBRzElMCMGCgmSJomT8ixkARkWFXB1YmxpYy5jb3Jwb3JhdGlvbi5kZTEfMB0GA1UECwwWSW5mb3JtYXRpb24gVGVjaG5vbG9neTEQMA4GA1UEBhMHR2VybWFueTEPMA0GA1UECAwGQmF5ZXJuMRIwEAYDVQQHDAlOdXJlbWJlcmcxHTAbBgNVBGEMFFBTRERFLUZBS0VOQ0EtODdCMkFDMIIBIjANBgkqhkiG9w0BAQEFAAOCAQ8AMIIBCgKCAQEAsHAdLWn7pEAlD5daEjKv7hE4FW+vMJRrA/Bw2M/Zsu8VFfW1ARmbTgTy7rGLFBK/Y2SToEj60+5GEkCgCvi+vI/Bdykk8XqjpVsJjTW67np1b2Av8F61zvCnn2UOxBtXBHCzR1j2yz2om1IMYieGu/cDTWLNkbuoGSnj0dq4CbHp2f8ch++goffqLRXr642j8cVlqZYsapB8y+Z8IydbtNBd/XAmRTAprmdRv9B4PC7P+lIYX8QbXw77f+9/2Kty7oVHtjle+GnTR8wH5nCiMQsA9V564/34lKwuEkzuryV1HzitQ/X7FSZoiSQRTxbxjVO+xdzI3hjF2FZjVvkqywIDAQABo34wfDB6BggrBgEFBQcBAwRuMGwGBgQAgZgnAjBiMDkwEQYHBACBmCcBAwwGUFNQX0FJMBEGBwQAgZgnAQIMBlBTUF9QSTARBgcEAIGYJwEEDAZQU1BfSUMMGVRydXN0IFNlcnZpY2UgUHJvdmlkZXIgQUcMCkRFLUZBS0VOQ0EwDQYJKoZIhvcNAQELBQADggIBACKUQc3O3TOFG8tWk4sQd3f9SGlOcBOMekSXCxRgskcYkjhWW4+EN1FYzlGuXPfq1yngKaM3ss9yCDVep0MFa4hDJ/hzSSD5upExzwWDkUa97AHCjZd39W6kLaCMAc5vTbR9r7zBvMKBcAmhZ9mWCvrvbHUOURv5yBfrrEk4AM1Vakf5l+fWP4JhA779+7JlwpQRpy5dgqROwKQ2L634d2osgXUV4CkqhSUQ5LcYI4uBFyKnM0pyGaNYdKhBC95J0y5GYa7NpKJNZXf+clTbe33gCt2SFSOMa7CV5NYpnohS201uNd/ffWLzGtFBnHLNpX8qTfFc16mtIcJo6Iiof2CYgfYAyJByBC1gZHf1wAtfQzAn6JcEaJzmehXKKl9x7X62aaGan7l+MblUT65Gd+Yed+rXLF6svefbrcIbZwt/W+v1fbfnip9QEFPV3VLjg0vk9Y30ftZCcFRSHLD3mdxcVEtmVxDDxyzDUwXF7J/mi4RQhZBb3OtwwEIWC2zUaycNMZWJRI+RqfLvanlDFFMoYeSZKTFf8jS/PPcfpKOAiTGu21iuuv+gYxh/rgjW419w26ya+Q3jabaz3E9Im/opSU5sQ9W92ALA14J9VZs6v8BVmqKTB5APKfeTYoXg9MjP9fjVM/hP26kIgQVs5Bz15ov8uQlQC+OTO+2y5ozs-----END CERTIFICATE-----";
+    private static final String QWAC_CERTIFICATE_EXPIRED = "-----BEGIN CERTIFICATE-----MIIEBjCCAu6gAwIBAgIEAmCHWTANBgkqhkiG9w0BAQsFADCBlDELMAkGA1UEBhMCREUxDzANBgNVBAgMBkhlc3NlbjESMBAGA1UEBwwJRnJhbmtmdXJ0MRUwEwYDVQQKDAxBdXRob3JpdHkgQ0ExCzAJBgNVBAsMAklUMSEwHwYDVQQDDBhBdXRob3JpdHkgQ0EgRG9tYWluIE5hbWUxGTAXBgkqhkiG9w0BCQEWCmNhQHRlc3QuZGUwHhcNMTgwODE3MDcxNzAyWhcNMTgwOTAzMDc1NzMxWjB6MRMwEQYDVQQDDApUUFAgU2FtcGxlMQwwCgYDVQQKDANvcmcxCzAJBgNVBAsMAm91MRAwDgYDVQQGEwdHZXJtYW55MQ8wDQYDVQQIDAZCYXllcm4xEjAQBgNVBAcMCU51cmVtYmVyZzERMA8GA1UEYQwIMTIzNDU5ODcwggEiMA0GCSqGSIb3DQEBAQUAA4IBDwAwggEKAoIBAQCMMnLvNLvqxkHbxdcWRcyUrZ4oy++R/7hWMiWH4U+5kLTLICnlFofN3EgIuP5hZz9Zm8aPoJkr8Y1xEyP8X4a5YTFtMmrXwAOgW6BVTaBeO7eV6Me1yc2NawzWMNp0Zz/Lsnrmj2h7/dRYaYofFHjWPFRW+gjVwv95NFhcD9+H5rr+fMwoci0ERFvy70TYnLfuRrG1BpYOwEV+wVFRIciXE3CKjEh2wbz1Yr4DhD+6FtOElU8VPkWqGRZmr1n54apuLrxL9vIbt7qsaQirsUp5ez2SFGFTydUv+WqZaPGzONVptAymOfTcIsgcxDWx/liKlpdqwyXpJaOIrrXcEnQ1AgMBAAGjeTB3MHUGCCsGAQUFBwEDBGkwZwYGBACBmCcCMF0wTDARBgcEAIGYJwEBDAZQU1BfQVMwEQYHBACBmCcBAgwGUFNQX1BJMBEGBwQAgZgnAQMMBlBTUF9BSTARBgcEAIGYJwEEDAZQU1BfSUMMBEF1dGgMBzEyMTkwODgwDQYJKoZIhvcNAQELBQADggEBAKrHWMriNquiC1vfNKkJFPINi2T2J5FmRQfamrkzS3AI5zPPXx32MzbrTkQb+Zl7qTvClmIFpDG45YC+JVYz+4/gMSJChJfW+JYtyW/Am6eeIYZ1sk+VPvXgxuTA0aZLQsVHsaeTHnQ7lZzN3S0Ao5O35AGKqBITu6Mo1t4WglNJLZHZ0iFL92yfezfV7LF9JYAD/6JFVTeuBwKKHNjPupjeVBku/C7qVDbogo1Ubiowt+hMMPLVLPjxe6Xo9SUtkGj3+5ID4Z8NGHDaaF2IGVGaJkHK9+PYTYEBRDsbc1GwgzTzbds5lao6eMyepL/Kl7iUNtn3Vox/XiSymunGCmQ=-----END CERTIFICATE-----";
+    private static final String AUTHORISATION_NUMBER = "PSDDE-FAKENCA-87B2AC";
+
+    @Test
+    void getCertificateData_sameCertificate_shouldReturnCachedData() throws CertificateValidationException {
+        // Given
+        TppCertificateCache tppCertificateCache = new TppCertificateCache(10, 60_000);
+
+        // When
+        TppCertificateData first = tppCertificateCache.getCertificateData(QWAC_CERTIFICATE_VALID);
+        TppCertificateData second = tppCertificateCache.getCertificateData(QWAC_CERTIFICATE_VALID);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(AUTHORISATION_NUMBER, first.getPspAuthorisationNumber());
+        assertEquals(1, tppCertificateCache.getMissCount());
+        assertEquals(1, tppCertificateCache.getHitCount());
+    }
+
+    @Test
+    void getCertificateData_expiredCertificate_shouldNotBeCached() throws CertificateValidationException {
+        // Given
+        TppCertificateCache tppCertificateCache = new TppCertificateCache(10, 60_000);
+
+        // When
+        TppCertificateData first = tppCertificateCache.getCertificateData(QWAC_CERTIFICATE_EXPIRED);
+        TppCertificateData second = tppCertificateCache.getCertificateData(QWAC_CERTIFICATE_EXPIRED);
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(2, tppCertificateCache.getMissCount());
+    }
+
+    @Test
+    void getCertificateData_disabled_shouldParseEveryTime() throws CertificateValidationException {
+        // Given
+        TppCertificateCache tppCertificateCache = new TppCertificateCache(0, 0);
+
+        // When
+        TppCertificateData first = tppCertificateCache.getCertificateData(QWAC_CERTIFICATE_VALID);
+        TppCertificateData second = tppCertificateCache.getCertificateData(QWAC_CERTIFICATE_VALID);
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(0, tppCertificateCache.getHitCount());
+    }
+
+    @Test
+    void getCertificateData_invalidCertificate_shouldThrowException() {
+        // Given
+        TppCertificateCache tppCertificateCache = new TppCertificateCache(10, 60_000);
+
+        // Then
+        assertThrows(CertificateValidationException.class, () -> tppCertificateCache.getCertificateData("invalid certificate"));
+    }
+
+    @Test
+    void isTppInfoChanged_unknownTpp_shouldReturnTrue() {
+        // Given
+        TppCertificateCache tppCertificateCache = new TppCertificateCache(10, 60_000);
+
+        // Then
+        assertTrue(tppCertificateCache.isTppInfoChanged(buildTppInfo(TppRole.AISP)));
+    }
+
+    @Test
+    void isTppInfoChanged_sameRolesInDifferentOrder_shouldReturnFalse() {
+        // Given
+        TppCertificateCache tppCertificateCache = new TppCertificateCache(10, 60_000);
+        tppCertificateCache.tppInfoStored(buildTppInfo(TppRole.AISP, TppRole.PISP));
+
+        // Then
+        assertFalse(tppCertificateCache.isTppInfoChanged(buildTppInfo(TppRole.PISP, TppRole.AISP)));
+    }
+
+    @Test
+    void isTppInfoChanged_changedRoles_shouldReturnTrue() {
+        // Given
+        TppCertificateCache tppCertificateCache = new TppCertificateCache(10, 60_000);
+        tppCertificateCache.tppInfoStored(buildTppInfo(TppRole.AISP));
+
+        // Then
+        assertTrue(tppCertificateCache.isTppInfoChanged(buildTppInfo(TppRole.AISP, TppRole.PISP)));
+    }
+
+    @Test
+    void isTppInfoChanged_changedAttributes_shouldReturnTrue() {
+        // Given
+        TppCertificateCache tppCertificateCache = new TppCertificateCache(10, 60_000);
+        tppCertificateCache.tppInfoStored(buildTppInfo(TppRole.AISP));
+        TppInfo tppInfo = buildTppInfo(TppRole.AISP);
+        tppInfo.setTppName("Renamed TPP");
+
+        // Then
+        assertTrue(tppCertificateCache.isTppInfoChanged(tppInfo));
+    }
+
+    @Test
+    void isTppInfoChanged_evictedByMaxSize_shouldReturnTrue() {
+        // Given
+        TppCertificateCache tppCertificateCache = new TppCertificateCache(1, 60_000);
+        tppCertificateCache.tppInfoStored(buildTppInfo(TppRole.AISP));
+        TppInfo otherTppInfo = buildTppInfo(TppRole.AISP);
+        otherTppInfo.setAuthorisationNumber("other authorisation number");
+        tppCertificateCache.tppInfoStored(otherTppInfo);
+
+        // Then
+        assertTrue(tppCertificateCache.isTppInfoChanged(buildTppInfo(TppRole.AISP)));
+        assertFalse(tppCertificateCache.isTppInfoChanged(otherTppInfo));
+    }
+
+    @Test
+    void isTppInfoChanged_afterClear_shouldReturnTrue() {
+        // Given
+        TppCertificateCache tppCertificateCache = new TppCertificateCache(10, 60_000);
+        tppCertificateCache.tppInfoStored(buildTppInfo(TppRole.AISP));
+
+        // When
+        tppCertificateCache.clear();
+
+        // Then
+        assertTrue(tppCertificateCache.isTppInfoChanged(buildTppInfo(TppRole.AISP)));
+    }
+
+    private TppInfo buildTppInfo(TppRole... roles) {
+        TppInfo tppInfo = new TppInfo();
+        tppInfo.setAuthorisationNumber(AUTHORISATION_NUMBER);
+        tppInfo.setTppName("Fictional Corporation AG");
+        tppInfo.setTppRoles(Arrays.asList(roles));
+        return tppInfo;
+    }
+}
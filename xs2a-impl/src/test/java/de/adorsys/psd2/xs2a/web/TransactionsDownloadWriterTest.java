@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.web;
+
+import de.adorsys.psd2.xs2a.domain.account.Xs2aTransactionsDownloadResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionsDownloadWriterTest {
+    private static final String TRANSACTIONS = "0123456789abcdefghij";
+    private static final String FILE_NAME = "transactions.xml";
+    private static final int BUFFER_SIZE = 4;
+
+    private TransactionsDownloadWriter writer;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        writer = new TransactionsDownloadWriter(BUFFER_SIZE, false);
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void write_shouldCopyWholeStream() throws IOException {
+        // When
+        writer.write(request, response, buildDownload(TRANSACTIONS.length()));
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals(TRANSACTIONS, response.getContentAsString());
+        assertEquals(TRANSACTIONS.length(), response.getContentLength());
+        assertEquals("application/octet-stream", response.getContentType());
+        assertEquals("attachment; filename=" + FILE_NAME, response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+    }
+
+    @Test
+    void write_unknownSize_shouldIgnoreRange() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+
+        // When
+        writer.write(request, response, buildDownload(null));
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals(TRANSACTIONS, response.getContentAsString());
+        assertNull(response.getHeader(HttpHeaders.ACCEPT_RANGES));
+    }
+
+    @Test
+    void write_byteRange_shouldCopyRange() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-13");
+
+        // When
+        writer.write(request, response, buildDownload(TRANSACTIONS.length()));
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals("56789abcd", response.getContentAsString());
+        assertEquals("bytes 5-13/20", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(9, response.getContentLength());
+    }
+
+    @Test
+    void write_openByteRange_shouldCopyUntilEnd() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=15-");
+
+        // When
+        writer.write(request, response, buildDownload(TRANSACTIONS.length()));
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals("fghij", response.getContentAsString());
+        assertEquals("bytes 15-19/20", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void write_suffixByteRange_shouldCopyLastBytes() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        // When
+        writer.write(request, response, buildDownload(TRANSACTIONS.length()));
+
+        // Then
+        assertEquals(206, response.getStatus());
+        assertEquals("hij", response.getContentAsString());
+        assertEquals("bytes 17-19/20", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void write_unsatisfiableByteRange_shouldReturnError() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+
+        // When
+        writer.write(request, response, buildDownload(TRANSACTIONS.length()));
+
+        // Then
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */20", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void write_multipleByteRanges_shouldCopyWholeStream() throws IOException {
+        // Given
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-1,5-6");
+
+        // When
+        writer.write(request, response, buildDownload(TRANSACTIONS.length()));
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals(TRANSACTIONS, response.getContentAsString());
+    }
+
+    @Test
+    void write_gzipEnabledAndAccepted_shouldCompress() throws IOException {
+        // Given
+        writer = new TransactionsDownloadWriter(BUFFER_SIZE, true);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+        // When
+        writer.write(request, response, buildDownload(TRANSACTIONS.length()));
+
+        // Then
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(0, response.getContentLength());
+        byte[] decompressed = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray())).readAllBytes();
+        assertEquals(TRANSACTIONS, new String(decompressed));
+    }
+
+    @Test
+    void write_gzipEnabledNotAccepted_shouldNotCompress() throws IOException {
+        // Given
+        writer = new TransactionsDownloadWriter(BUFFER_SIZE, true);
+
+        // When
+        writer.write(request, response, buildDownload(TRANSACTIONS.length()));
+
+        // Then
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(TRANSACTIONS, response.getContentAsString());
+    }
+
+    private Xs2aTransactionsDownloadResponse buildDownload(Integer dataSizeBytes) {
+        Xs2aTransactionsDownloadResponse download = new Xs2aTransactionsDownloadResponse();
+        download.setTransactionStream(new ByteArrayInputStream(TRANSACTIONS.getBytes()));
+        download.setDataFileName(FILE_NAME);
+        download.setDataSizeBytes(dataSizeBytes);
+        return download;
+    }
+}
@@ -26,12 +26,16 @@ import org.springframework.mock.web.MockHttpServletRequest;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class Xs2aEndpointCheckerTest {
     private static final String XS2A_ENDPOINT = "/v1/accounts";
     private static final String NOT_XS2A_ENDPOINT = "/v1/gifts";
+    private static final String TRANSACTIONS_DOWNLOAD_ENDPOINT = "/v1/accounts/account-id/transactions/download/ZG93bmxvYWQ=";
+    private static final String TRANSACTIONS_ENDPOINT = "/v1/accounts/account-id/transactions";
+    private static final String BULK_PAYMENT_INITIATION_ENDPOINT = "/v1/bulk-payments/sepa-credit-transfers";
 
     @InjectMocks
     private Xs2aEndpointChecker xs2aEndpointChecker;
@@ -63,4 +67,54 @@ class Xs2aEndpointCheckerTest {
         // Then
         assertFalse(actual);
     }
+
+    @Test
+    void isTransactionsDownloadEndpoint_true() {
+        // Given
+        when(requestPathResolver.resolveRequestPath(request)).thenReturn(TRANSACTIONS_DOWNLOAD_ENDPOINT);
+
+        // When
+        boolean actual = xs2aEndpointChecker.isTransactionsDownloadEndpoint(request);
+
+        // Then
+        assertTrue(actual);
+    }
+
+    @Test
+    void isTransactionsDownloadEndpoint_false() {
+        // Given
+        when(requestPathResolver.resolveRequestPath(request)).thenReturn(TRANSACTIONS_ENDPOINT);
+
+        // When
+        boolean actual = xs2aEndpointChecker.isTransactionsDownloadEndpoint(request);
+
+        // Then
+        assertFalse(actual);
+    }
+
+    @Test
+    void isBulkPaymentInitiationEndpoint_true() {
+        // Given
+        when(request.getMethod()).thenReturn("POST");
+        when(requestPathResolver.resolveRequestPath(request)).thenReturn(BULK_PAYMENT_INITIATION_ENDPOINT);
+
+        // When
+        boolean actual = xs2aEndpointChecker.isBulkPaymentInitiationEndpoint(request);
+
+        // Then
+        assertTrue(actual);
+    }
+
+    @Test
+    void isBulkPaymentInitiationEndpoint_getRequest_false() {
+        // Given
+        when(request.getMethod()).thenReturn("GET");
+
+        // When
+        boolean actual = xs2aEndpointChecker.isBulkPaymentInitiationEndpoint(request);
+
+        // Then
+        assertFalse(actual);
+        verifyNoInteractions(requestPathResolver);
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.web.advice;
+
+import de.adorsys.psd2.consent.api.AspspDataService;
+import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
+import de.adorsys.psd2.xs2a.service.spi.AspspConsentDataRequestContext;
+import de.adorsys.psd2.xs2a.service.spi.SpiAspspConsentDataProviderFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AspspConsentDataFlushAdviceTest {
+    private static final String CONSENT_ID = "some consent id";
+    private static final byte[] DATA = "some data".getBytes();
+    private static final Object BODY = "some body";
+
+    @Mock
+    private AspspDataService aspspDataService;
+
+    private AspspConsentDataFlushAdvice aspspConsentDataFlushAdvice;
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        aspspConsentDataFlushAdvice = new AspspConsentDataFlushAdvice(aspspDataService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void beforeBodyWrite_pendingWrites_shouldWriteData() {
+        // Given
+        AspspConsentDataRequestContext.open(true);
+        new SpiAspspConsentDataProviderFactory(aspspDataService).getSpiAspspDataProviderFor(CONSENT_ID)
+            .updateAspspConsentData(DATA);
+
+        // When
+        Object actual = aspspConsentDataFlushAdvice.beforeBodyWrite(BODY, null, null, null, null, null);
+
+        // Then
+        assertSame(BODY, actual);
+        verify(aspspDataService).updateAspspConsentData(new AspspConsentData(DATA, CONSENT_ID));
+    }
+
+    @Test
+    void beforeBodyWrite_writeFailed_shouldThrowException() {
+        // Given
+        AspspConsentDataRequestContext.open(true);
+        new SpiAspspConsentDataProviderFactory(aspspDataService).getSpiAspspDataProviderFor(CONSENT_ID)
+            .updateAspspConsentData(DATA);
+        doThrow(new IllegalStateException("CMS is not available")).when(aspspDataService).updateAspspConsentData(any());
+
+        // When
+        assertThrows(IllegalStateException.class, () -> aspspConsentDataFlushAdvice.beforeBodyWrite(BODY, null, null, null, null, null));
+
+        // Then
+        assertFalse(AspspConsentDataRequestContext.current().hasPendingWrites());
+    }
+
+    @Test
+    void beforeBodyWrite_noRequestContext_shouldDoNothing() {
+        // When
+        Object actual = aspspConsentDataFlushAdvice.beforeBodyWrite(BODY, null, null, null, null, null);
+
+        // Then
+        assertSame(BODY, actual);
+        verifyNoInteractions(aspspDataService);
+    }
+}
@@ -32,6 +32,7 @@ import de.adorsys.psd2.xs2a.service.mapper.AccountModelMapper;
 import de.adorsys.psd2.xs2a.service.mapper.ResponseMapper;
 import de.adorsys.psd2.xs2a.service.mapper.TrustedBeneficiariesModelMapper;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ResponseErrorMapper;
+import de.adorsys.psd2.xs2a.web.TransactionsDownloadWriter;
 import de.adorsys.psd2.xs2a.web.error.TppErrorMessageWriter;
 import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.Test;
@@ -39,6 +40,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -109,6 +111,8 @@ class AccountControllerTest {
     private TrustedBeneficiariesModelMapper trustedBeneficiariesModelMapper;
     @Mock
     private TrustedBeneficiariesService trustedBeneficiariesService;
+    @Spy
+    private TransactionsDownloadWriter transactionsDownloadWriter = new TransactionsDownloadWriter(4096, false);
 
     private JsonReader jsonReader = new JsonReader();
 
@@ -37,6 +37,7 @@ import de.adorsys.psd2.xs2a.domain.consent.Xs2aScaStatusResponse;
 import de.adorsys.psd2.xs2a.service.ConsentService;
 import de.adorsys.psd2.xs2a.service.NotificationSupportedModeService;
 import de.adorsys.psd2.xs2a.service.RequestProviderService;
+import de.adorsys.psd2.xs2a.service.StatusETagService;
 import de.adorsys.psd2.xs2a.service.mapper.ResponseMapper;
 import de.adorsys.psd2.xs2a.service.mapper.psd2.ResponseErrorMapper;
 import de.adorsys.psd2.xs2a.web.header.ConsentHeadersBuilder;
@@ -84,6 +85,7 @@ class ConsentControllerTest {
     private static final MessageError MESSAGE_ERROR_AIS_404 = new MessageError(ErrorType.AIS_404, of(MessageErrorCode.RESOURCE_UNKNOWN_404));
     private static final ResponseHeaders RESPONSE_HEADERS = ResponseHeaders.builder().aspspScaApproach(ScaApproach.REDIRECT).build();
     private static final String INTERNAL_REQUEST_ID = "5c2d5564-367f-4e03-a621-6bef76fa4208";
+    private static final String E_TAG = "\"etag\"";
 
     @InjectMocks
     private ConsentController consentController;
@@ -106,6 +108,8 @@ class ConsentControllerTest {
     private NotificationSupportedModeService notificationSupportedModeService;
     @Mock
     private RequestProviderService requestProviderService;
+    @Mock
+    private StatusETagService statusETagService;
 
     private JsonReader jsonReader = new JsonReader();
 
@@ -182,7 +186,7 @@ class ConsentControllerTest {
                             .body(new ConsentStatusResponse(ConsentStatus.RECEIVED, PSU_MESSAGE_RESPONSE))
                             .build());
 
-        doReturn(new ResponseEntity<>(ConsentStatus.RECEIVED, HttpStatus.OK)).when(responseMapper).ok(any(), any());
+        doReturn(new ResponseEntity<>(ConsentStatus.RECEIVED, HttpStatus.OK)).when(responseMapper).ok(any(), any(), any());
 
         //When:
         ResponseEntity responseEntity = consentController.getConsentStatus(CONSENT_ID, null,
@@ -194,6 +198,30 @@ class ConsentControllerTest {
         assertThat(responseEntity.getBody()).isEqualTo(ConsentStatus.RECEIVED);
     }
 
+    @Test
+    void getAccountConsentsStatusById_matchingETag_notModified() {
+        // Given
+        ConsentStatusResponse consentStatusResponse = new ConsentStatusResponse(ConsentStatus.REJECTED, null);
+        when(consentService.getAccountConsentsStatusById(CONSENT_ID))
+            .thenReturn(ResponseObject.<ConsentStatusResponse>builder()
+                            .body(consentStatusResponse)
+                            .build());
+        when(statusETagService.getConsentStatusETag(CONSENT_ID, consentStatusResponse)).thenReturn(E_TAG);
+        when(statusETagService.isNotModified(E_TAG)).thenReturn(true);
+        ResponseHeaders expectedHeaders = ResponseHeaders.builder().eTag(E_TAG).build();
+        when(responseMapper.notModified(expectedHeaders)).thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(expectedHeaders.getHttpHeaders()).build());
+
+        //When:
+        ResponseEntity responseEntity = consentController.getConsentStatus(CONSENT_ID, null,
+                                                                           null, null, null, null, null, null,
+                                                                           null, null, null, null, null,
+                                                                           null, null);
+        //Then:
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(responseEntity.getHeaders().getETag()).isEqualTo(E_TAG);
+        verify(responseMapper, never()).ok(any(), any(), any());
+    }
+
     @Test
     void getAccountConsentsStatusById_Failure() {
         // Given
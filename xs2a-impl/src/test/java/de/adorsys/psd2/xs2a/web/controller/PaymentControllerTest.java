@@ -105,6 +105,7 @@ class PaymentControllerTest {
     private static final boolean EXPLICIT_PREFERRED_FALSE = false;
     private static final String PSU_DATA_PASSWORD_JSON_PATH = "json/web/controller/psuData-password.json";
     private static final String PSU_MESSAGE = "PSU message";
+    private static final String E_TAG = "\"etag\"";
 
     @InjectMocks
     private PaymentController paymentController;
@@ -143,6 +144,8 @@ class PaymentControllerTest {
     private PaymentCancellationServiceForAuthorisationImpl paymentCancellationServiceForAuthorisation;
     @Mock
     private RequestProviderService requestProviderService;
+    @Mock
+    private StatusETagService statusETagService;
 
     private JsonReader jsonReader = new JsonReader();
 
@@ -198,7 +201,7 @@ class PaymentControllerTest {
     void getPaymentInitiationStatus_withJsonContentType_success() {
         // Given
         doReturn(new ResponseEntity<>(getPaymentInitiationStatus(), HttpStatus.OK))
-            .when(responseMapper).ok(any(), any());
+            .when(responseMapper).ok(any(), any(), any());
         when(xs2aPaymentService.getPaymentStatusById(SINGLE, PRODUCT, CORRECT_PAYMENT_ID))
             .thenReturn(ResponseObject.<GetPaymentStatusResponse>builder()
                             .body(new GetPaymentStatusResponse(TransactionStatus.ACCP, null, MediaType.APPLICATION_JSON, null, PSU_MESSAGE))
@@ -227,7 +230,7 @@ class PaymentControllerTest {
         // Given
         byte[] rawPaymentStatus = "some raw value".getBytes();
         doReturn(new ResponseEntity<>(rawPaymentStatus, HttpStatus.OK))
-            .when(responseMapper).ok(any(), any());
+            .when(responseMapper).ok(any(), any(), any());
         when(xs2aPaymentService.getPaymentStatusById(SINGLE, PRODUCT, CORRECT_PAYMENT_ID))
             .thenReturn(ResponseObject.<GetPaymentStatusResponse>builder()
                             .body(new GetPaymentStatusResponse(TransactionStatus.ACCP, null, MediaType.APPLICATION_XML, rawPaymentStatus, PSU_MESSAGE))
@@ -246,6 +249,32 @@ class PaymentControllerTest {
         assertThat(actualResponse.getBody()).isEqualTo(rawPaymentStatus);
     }
 
+    @Test
+    void getPaymentInitiationStatus_matchingETag_notModified() {
+        // Given
+        GetPaymentStatusResponse paymentStatusResponse = new GetPaymentStatusResponse(TransactionStatus.RJCT, null, MediaType.APPLICATION_JSON, null, null);
+        when(xs2aPaymentService.getPaymentStatusById(SINGLE, PRODUCT, CORRECT_PAYMENT_ID))
+            .thenReturn(ResponseObject.<GetPaymentStatusResponse>builder()
+                            .body(paymentStatusResponse)
+                            .build());
+        when(statusETagService.getPaymentStatusETag(SINGLE, PRODUCT, CORRECT_PAYMENT_ID, paymentStatusResponse)).thenReturn(E_TAG);
+        when(statusETagService.isNotModified(E_TAG)).thenReturn(true);
+        ResponseHeaders expectedHeaders = ResponseHeaders.builder().eTag(E_TAG).build();
+        when(responseMapper.notModified(expectedHeaders)).thenReturn(ResponseEntity.status(NOT_MODIFIED).headers(expectedHeaders.getHttpHeaders()).build());
+
+        // When
+        ResponseEntity<?> actualResponse = paymentController.getPaymentInitiationStatus(
+            CORRECT_PAYMENT_SERVICE, PRODUCT, CORRECT_PAYMENT_ID, null, null,
+            null, null, null, null, null,
+            null, null, null, null, null,
+            null, null);
+
+        // Then
+        assertThat(actualResponse.getStatusCode()).isEqualTo(NOT_MODIFIED);
+        assertThat(actualResponse.getHeaders().getETag()).isEqualTo(E_TAG);
+        verify(responseMapper, never()).ok(any(), any(), any());
+    }
+
     @Test
     void getPaymentInitiationStatus_WrongId() {
         // Given
@@ -19,11 +19,12 @@ package de.adorsys.psd2.xs2a.web.filter;
 import de.adorsys.psd2.xs2a.component.MultiReadHttpServletRequest;
 import de.adorsys.psd2.xs2a.component.MultiReadHttpServletResponse;
 import de.adorsys.psd2.xs2a.web.Xs2aEndpointChecker;
+import de.adorsys.psd2.xs2a.web.error.TppErrorMessageWriter;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -35,18 +36,23 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static de.adorsys.psd2.xs2a.core.domain.MessageCategory.ERROR;
+import static de.adorsys.psd2.xs2a.core.error.MessageErrorCode.FORMAT_ERROR_BULK_SIZE_EXCEEDED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ContentCachingWrappingFilterTest {
+    private static final long MAX_BULK_PAYMENT_BODY_SIZE = 10;
+
+    @Mock
+    private TppErrorMessageWriter tppErrorMessageWriter;
     @Mock
     private FilterChain filterChain;
     @Mock
     private Xs2aEndpointChecker xs2aEndpointChecker;
 
-    @InjectMocks
     private ContentCachingWrappingFilter contentCachingWrappingFilter;
 
     @Captor
@@ -54,6 +60,11 @@ class ContentCachingWrappingFilterTest {
     @Captor
     private ArgumentCaptor<HttpServletResponse> capturedResponse;
 
+    @BeforeEach
+    void setUp() {
+        contentCachingWrappingFilter = new ContentCachingWrappingFilter(tppErrorMessageWriter, xs2aEndpointChecker, MAX_BULK_PAYMENT_BODY_SIZE);
+    }
+
     @Test
     void doFilterInternal_shouldWrapRequestAndResponse() throws ServletException, IOException {
         // Given
@@ -71,4 +82,91 @@ class ContentCachingWrappingFilterTest {
         assertTrue(capturedRequest.getValue() instanceof MultiReadHttpServletRequest);
         assertTrue(capturedResponse.getValue() instanceof MultiReadHttpServletResponse);
     }
+
+    @Test
+    void doFilterInternal_transactionsDownload_shouldNotWrapResponse() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest();
+        MockHttpServletResponse mockResponse = new MockHttpServletResponse();
+
+        when(xs2aEndpointChecker.isXs2aEndpoint(mockRequest))
+            .thenReturn(true);
+        when(xs2aEndpointChecker.isTransactionsDownloadEndpoint(mockRequest))
+            .thenReturn(true);
+
+        // When
+        contentCachingWrappingFilter.doFilter(mockRequest, mockResponse, filterChain);
+
+        // Then
+        verify(filterChain).doFilter(capturedRequest.capture(), capturedResponse.capture());
+        assertTrue(capturedRequest.getValue() instanceof MultiReadHttpServletRequest);
+        assertSame(mockResponse, capturedResponse.getValue());
+    }
+
+    @Test
+    void doFilterInternal_bulkPaymentContentLengthExceedsLimit_shouldRejectWithoutReadingBody() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest mockRequest = spy(new MockHttpServletRequest());
+        mockRequest.setContent("{\"payments\": []}".getBytes());
+        MockHttpServletResponse mockResponse = new MockHttpServletResponse();
+
+        when(xs2aEndpointChecker.isXs2aEndpoint(mockRequest))
+            .thenReturn(true);
+        when(xs2aEndpointChecker.isBulkPaymentInitiationEndpoint(mockRequest))
+            .thenReturn(true);
+
+        // When
+        contentCachingWrappingFilter.doFilter(mockRequest, mockResponse, filterChain);
+
+        // Then
+        verify(tppErrorMessageWriter).writeError(mockResponse, new TppErrorMessage(ERROR, FORMAT_ERROR_BULK_SIZE_EXCEEDED));
+        verify(mockRequest, never()).getInputStream();
+        verifyNoInteractions(filterChain);
+    }
+
+    @Test
+    void doFilterInternal_bulkPaymentWithoutContentLengthExceedsLimit_shouldReject() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest() {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        mockRequest.setContent("{\"payments\": []}".getBytes());
+        MockHttpServletResponse mockResponse = new MockHttpServletResponse();
+
+        when(xs2aEndpointChecker.isXs2aEndpoint(mockRequest))
+            .thenReturn(true);
+        when(xs2aEndpointChecker.isBulkPaymentInitiationEndpoint(mockRequest))
+            .thenReturn(true);
+
+        // When
+        contentCachingWrappingFilter.doFilter(mockRequest, mockResponse, filterChain);
+
+        // Then
+        verify(tppErrorMessageWriter).writeError(mockResponse, new TppErrorMessage(ERROR, FORMAT_ERROR_BULK_SIZE_EXCEEDED));
+        verifyNoInteractions(filterChain);
+    }
+
+    @Test
+    void doFilterInternal_bulkPaymentWithinLimit_shouldPassCachedBody() throws ServletException, IOException {
+        // Given
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest();
+        mockRequest.setContent("{}".getBytes());
+        MockHttpServletResponse mockResponse = new MockHttpServletResponse();
+
+        when(xs2aEndpointChecker.isXs2aEndpoint(mockRequest))
+            .thenReturn(true);
+        when(xs2aEndpointChecker.isBulkPaymentInitiationEndpoint(mockRequest))
+            .thenReturn(true);
+
+        // When
+        contentCachingWrappingFilter.doFilter(mockRequest, mockResponse, filterChain);
+
+        // Then
+        verify(filterChain).doFilter(capturedRequest.capture(), any(HttpServletResponse.class));
+        assertArrayEquals("{}".getBytes(), ((MultiReadHttpServletRequest) capturedRequest.getValue()).getCachedBody());
+        verify(tppErrorMessageWriter, never()).writeError(any(HttpServletResponse.class), any(TppErrorMessage.class));
+    }
 }
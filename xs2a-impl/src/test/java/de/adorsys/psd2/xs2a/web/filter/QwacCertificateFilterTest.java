@@ -16,12 +16,14 @@
 
 package de.adorsys.psd2.xs2a.web.filter;
 
+import de.adorsys.psd2.consent.api.CmsResponse;
 import de.adorsys.psd2.consent.api.service.TppService;
 import de.adorsys.psd2.validator.certificate.util.TppCertificateData;
 import de.adorsys.psd2.xs2a.core.tpp.TppInfo;
 import de.adorsys.psd2.xs2a.core.tpp.TppRole;
 import de.adorsys.psd2.xs2a.service.RequestProviderService;
 import de.adorsys.psd2.xs2a.service.profile.AspspProfileServiceWrapper;
+import de.adorsys.psd2.xs2a.service.validator.tpp.TppCertificateCache;
 import de.adorsys.psd2.xs2a.service.validator.tpp.TppInfoHolder;
 import de.adorsys.psd2.xs2a.service.validator.tpp.TppRoleValidationService;
 import de.adorsys.psd2.xs2a.web.Xs2aEndpointChecker;
@@ -33,6 +35,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -89,6 +92,8 @@ class QwacCertificateFilterTest {
     private Xs2aTppInfoMapper xs2aTppInfoMapper;
     @Mock
     private TppInfoRolesMapper tppInfoRolesMapper;
+    @Spy
+    private TppCertificateCache tppCertificateCache = new TppCertificateCache(10, 60_000);
 
     @Test
     void doFilter_success() throws IOException, ServletException {
@@ -170,6 +175,46 @@ class QwacCertificateFilterTest {
         assertEquals(roles, tppInfo.getTppRoles());
     }
 
+    @Test
+    void doFilter_sameCertificateTwice_shouldParseAndUpdateTppInfoOnce() throws IOException, ServletException {
+        //Given
+        when(xs2aEndpointChecker.isXs2aEndpoint(request)).thenReturn(true);
+        when(xs2aTppInfoMapper.mapToTppInfo(any(TppCertificateData.class))).thenAnswer(invocation -> buildTppInfo());
+        when(requestProviderService.getEncodedTppQwacCert()).thenReturn(TEST_QWAC_CERTIFICATE_VALID);
+        when(tppRoleValidationService.hasAccess(any(), eq(request))).thenReturn(true);
+        when(aspspProfileService.isCheckTppRolesFromCertificateSupported()).thenReturn(true);
+        when(tppService.updateTppInfo(any(TppInfo.class))).thenReturn(CmsResponse.<Boolean>builder().payload(true).build());
+
+        //When
+        qwacCertificateFilter.doFilter(request, response, chain);
+        qwacCertificateFilter.doFilter(request, response, chain);
+
+        //Then
+        verify(chain, times(2)).doFilter(any(), any());
+        verify(tppInfoHolder, times(2)).setTppInfo(any(TppInfo.class));
+        verify(tppService, times(1)).updateTppInfo(any(TppInfo.class));
+        assertEquals(1, tppCertificateCache.getMissCount());
+        assertEquals(1, tppCertificateCache.getHitCount());
+    }
+
+    @Test
+    void doFilter_tppUnknownToCms_shouldUpdateTppInfoOnEveryRequest() throws IOException, ServletException {
+        //Given
+        when(xs2aEndpointChecker.isXs2aEndpoint(request)).thenReturn(true);
+        when(xs2aTppInfoMapper.mapToTppInfo(any(TppCertificateData.class))).thenAnswer(invocation -> buildTppInfo());
+        when(requestProviderService.getEncodedTppQwacCert()).thenReturn(TEST_QWAC_CERTIFICATE_VALID);
+        when(tppRoleValidationService.hasAccess(any(), eq(request))).thenReturn(true);
+        when(aspspProfileService.isCheckTppRolesFromCertificateSupported()).thenReturn(true);
+        when(tppService.updateTppInfo(any(TppInfo.class))).thenReturn(CmsResponse.<Boolean>builder().payload(false).build());
+
+        //When
+        qwacCertificateFilter.doFilter(request, response, chain);
+        qwacCertificateFilter.doFilter(request, response, chain);
+
+        //Then
+        verify(tppService, times(2)).updateTppInfo(any(TppInfo.class));
+    }
+
     @Test
     void doFilter_failure_wrong_tpp_roles() throws IOException, ServletException {
         //Given
@@ -223,4 +268,10 @@ class QwacCertificateFilterTest {
         verify(chain).doFilter(mockRequest, mockResponse);
         verifyNoMoreInteractions(requestProviderService, tppService, tppInfoHolder);
     }
+
+    private TppInfo buildTppInfo() {
+        TppInfo tppInfo = new TppInfo();
+        tppInfo.setAuthorisationNumber("PSDDE-FAKENCA-87B2AC");
+        return tppInfo;
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package de.adorsys.psd2.xs2a.web.interceptor;
+
+import de.adorsys.psd2.consent.api.AspspDataService;
+import de.adorsys.psd2.xs2a.core.consent.AspspConsentData;
+import de.adorsys.psd2.xs2a.service.spi.AspspConsentDataRequestContext;
+import de.adorsys.psd2.xs2a.service.spi.SpiAspspConsentDataProviderFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AspspConsentDataInterceptorTest {
+    private static final String CONSENT_ID = "some consent id";
+    private static final byte[] DATA = "some data".getBytes();
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Mock
+    private AspspDataService aspspDataService;
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void preHandle_opensRequestContext() {
+        // Given
+        AspspConsentDataInterceptor interceptor = new AspspConsentDataInterceptor(aspspDataService, false);
+
+        // When
+        boolean result = interceptor.preHandle(request, response, null);
+
+        // Then
+        assertTrue(result);
+        assertNotNull(AspspConsentDataRequestContext.current());
+    }
+
+    @Test
+    void postHandle_writeBehindEnabled_shouldWriteDeferredData() {
+        // Given
+        AspspConsentDataInterceptor interceptor = new AspspConsentDataInterceptor(aspspDataService, true);
+        interceptor.preHandle(request, response, null);
+        new SpiAspspConsentDataProviderFactory(aspspDataService).getSpiAspspDataProviderFor(CONSENT_ID)
+            .updateAspspConsentData(DATA);
+        verifyNoInteractions(aspspDataService);
+
+        // When
+        interceptor.postHandle(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Then
+        verify(aspspDataService, times(1)).updateAspspConsentData(new AspspConsentData(DATA, CONSENT_ID));
+    }
+
+    @Test
+    void postHandle_writeFailed_shouldThrowException() {
+        // Given
+        AspspConsentDataInterceptor interceptor = new AspspConsentDataInterceptor(aspspDataService, true);
+        interceptor.preHandle(request, response, null);
+        new SpiAspspConsentDataProviderFactory(aspspDataService).getSpiAspspDataProviderFor(CONSENT_ID)
+            .clearAspspConsentData();
+        doThrow(new IllegalStateException("CMS is not available")).when(aspspDataService).deleteAspspConsentData(CONSENT_ID);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> interceptor.postHandle(request, response, null, null));
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Then
+        verify(aspspDataService, times(1)).deleteAspspConsentData(CONSENT_ID);
+    }
+
+    @Test
+    void afterCompletion_handlerFailed_shouldWriteDeferredData() {
+        // Given
+        AspspConsentDataInterceptor interceptor = new AspspConsentDataInterceptor(aspspDataService, true);
+        interceptor.preHandle(request, response, null);
+        new SpiAspspConsentDataProviderFactory(aspspDataService).getSpiAspspDataProviderFor(CONSENT_ID)
+            .updateAspspConsentData(DATA);
+
+        // When
+        interceptor.afterCompletion(request, response, null, new IllegalStateException("SPI failed"));
+
+        // Then
+        verify(aspspDataService).updateAspspConsentData(new AspspConsentData(DATA, CONSENT_ID));
+    }
+
+    @Test
+    void afterCompletion_writeFailed_shouldNotThrowException() {
+        // Given
+        AspspConsentDataInterceptor interceptor = new AspspConsentDataInterceptor(aspspDataService, true);
+        interceptor.preHandle(request, response, null);
+        new SpiAspspConsentDataProviderFactory(aspspDataService).getSpiAspspDataProviderFor(CONSENT_ID)
+            .clearAspspConsentData();
+        doThrow(new IllegalStateException("CMS is not available")).when(aspspDataService).deleteAspspConsentData(CONSENT_ID);
+
+        // When
+        assertDoesNotThrow(() -> interceptor.afterCompletion(request, response, null, null));
+
+        // Then
+        verify(aspspDataService).deleteAspspConsentData(CONSENT_ID);
+    }
+
+    @Test
+    void afterCompletion_noRequestContext_shouldDoNothing() {
+        // Given
+        AspspConsentDataInterceptor interceptor = new AspspConsentDataInterceptor(aspspDataService, true);
+
+        // When
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Then
+        verifyNoInteractions(aspspDataService);
+    }
+}
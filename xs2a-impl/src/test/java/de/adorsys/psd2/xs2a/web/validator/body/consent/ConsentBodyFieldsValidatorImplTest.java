@@ -17,6 +17,7 @@
 package de.adorsys.psd2.xs2a.web.validator.body.consent;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
 import de.adorsys.psd2.model.Consents;
 import de.adorsys.psd2.xs2a.core.domain.TppMessageInformation;
@@ -38,7 +39,7 @@ import org.springframework.mock.web.MockHttpServletRequest;
 
 import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
-import java.io.InputStream;
+
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
@@ -92,7 +93,7 @@ class ConsentBodyFieldsValidatorImplTest {
         accessMap.put("allPsd2", "allAccounts");
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.of(accessMap));
 
         // When
@@ -117,7 +118,7 @@ class ConsentBodyFieldsValidatorImplTest {
         accessMap.put("allPsd2", "allAccounts");
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.of(accessMap));
 
         // When
@@ -142,7 +143,7 @@ class ConsentBodyFieldsValidatorImplTest {
         accessMap.put("availableAccounts", "allAccounts");
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.of(accessMap));
 
         // When
@@ -167,7 +168,7 @@ class ConsentBodyFieldsValidatorImplTest {
         accessMap.put("availableAccountsWithBalance", "allAccounts");
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.of(accessMap));
 
         // When
@@ -184,7 +185,7 @@ class ConsentBodyFieldsValidatorImplTest {
             .thenReturn(messageError);
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.empty());
 
         consents = jsonReader.getObjectFromFile("json/validation/ais/consents.json", Consents.class);
@@ -203,7 +204,7 @@ class ConsentBodyFieldsValidatorImplTest {
             .thenReturn(messageError);
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.empty());
 
         consents = jsonReader.getObjectFromFile("json/validation/ais/consents.json", Consents.class);
@@ -222,7 +223,7 @@ class ConsentBodyFieldsValidatorImplTest {
             .thenReturn(messageError);
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.empty());
 
         consents = jsonReader.getObjectFromFile("json/validation/ais/consents.json", Consents.class);
@@ -241,7 +242,7 @@ class ConsentBodyFieldsValidatorImplTest {
             .thenReturn(messageError);
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.empty());
 
         consents = jsonReader.getObjectFromFile("json/validation/ais/consents.json", Consents.class);
@@ -260,7 +261,7 @@ class ConsentBodyFieldsValidatorImplTest {
             .thenReturn(messageError);
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.empty());
 
         consents = jsonReader.getObjectFromFile("json/validation/ais/consents.json", Consents.class);
@@ -278,7 +279,7 @@ class ConsentBodyFieldsValidatorImplTest {
             .thenReturn(messageError);
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.empty());
 
         consents = jsonReader.getObjectFromFile("json/validation/ais/consents.json", Consents.class);
@@ -300,7 +301,7 @@ class ConsentBodyFieldsValidatorImplTest {
         accessMap.put("availableAccounts", "Accounts");
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq("access"), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq("access"), any(TypeReference.class)))
             .thenReturn(Optional.of(accessMap));
 
         // When
@@ -321,7 +322,7 @@ class ConsentBodyFieldsValidatorImplTest {
         accessMap.put("availableAccounts", 1);
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq("access"), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq("access"), any(TypeReference.class)))
             .thenReturn(Optional.of(accessMap));
 
         // When
@@ -342,7 +343,7 @@ class ConsentBodyFieldsValidatorImplTest {
         accessMap.put("allPsd2", "AllAccounts");
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq("access"), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq("access"), any(TypeReference.class)))
             .thenReturn(Optional.of(accessMap));
 
         // When
@@ -363,7 +364,7 @@ class ConsentBodyFieldsValidatorImplTest {
         accessMap.put("allPsd2", 1);
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq("access"), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq("access"), any(TypeReference.class)))
             .thenReturn(Optional.of(accessMap));
 
         // When
@@ -384,7 +385,7 @@ class ConsentBodyFieldsValidatorImplTest {
         accessMap.put("availableAccountsWithBalance", "Accounts");
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq("access"), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq("access"), any(TypeReference.class)))
             .thenReturn(Optional.of(accessMap));
 
         // When
@@ -405,7 +406,7 @@ class ConsentBodyFieldsValidatorImplTest {
         accessMap.put("availableAccountsWithBalance", 1);
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq("access"), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq("access"), any(TypeReference.class)))
             .thenReturn(Optional.of(accessMap));
 
         // When
@@ -441,7 +442,7 @@ class ConsentBodyFieldsValidatorImplTest {
             .thenReturn(new MessageError(ErrorType.AIS_400, TppMessageInformation.of(MessageErrorCode.FORMAT_ERROR_WRONG_FORMAT_DATE_FIELD, "validUntil", "ISO_DATE", "YYYY-MM-DD")));
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.empty());
 
         // When
@@ -458,7 +459,7 @@ class ConsentBodyFieldsValidatorImplTest {
             .thenReturn(messageError);
 
         // noinspection unchecked
-        when(xs2aObjectMapper.toJsonField(any(InputStream.class), eq(ACCESS_FIELD), any(TypeReference.class)))
+        when(xs2aObjectMapper.toJsonField(nullable(JsonNode.class), eq(ACCESS_FIELD), any(TypeReference.class)))
             .thenReturn(Optional.empty());
 
         consents = jsonReader.getObjectFromFile("json/validation/ais/consents.json", Consents.class);
@@ -22,6 +22,7 @@ import de.adorsys.psd2.xs2a.core.domain.TppMessageInformation;
 import de.adorsys.psd2.xs2a.core.error.ErrorType;
 import de.adorsys.psd2.xs2a.core.error.MessageError;
 import de.adorsys.psd2.xs2a.core.error.MessageErrorCode;
+import de.adorsys.psd2.xs2a.service.mapper.payment.BulkPaymentStreamReader;
 import de.adorsys.psd2.xs2a.service.profile.StandardPaymentProductsResolver;
 import de.adorsys.psd2.xs2a.validator.payment.CountryPaymentValidatorResolver;
 import de.adorsys.psd2.xs2a.web.PathParameterExtractor;
@@ -79,6 +80,9 @@ class PaymentBodyValidatorImplTest {
         new MessageError(ErrorType.PIS_400, TppMessageInformation.of(FORMAT_ERROR_BOOLEAN_VALUE, BATCH_BOOKING_PREFERRED_FIELD_NAME));
     private static final MessageError WRONG_CURRENCY_FORMAT =
         new MessageError(ErrorType.PIS_400, TppMessageInformation.of(FORMAT_ERROR_WRONG_FORMAT_VALUE, CURRENCY_STRING));
+    private static final MessageError BULK_SIZE_EXCEEDED =
+        new MessageError(ErrorType.PIS_400, TppMessageInformation.of(FORMAT_ERROR_BULK_SIZE_EXCEEDED));
+    private static final byte[] BULK_PAYMENT_BODY = "{\"payments\":[{},{}]}".getBytes();
     private static final String VALID_FREQUENCY_CODE = "Annual";
     private static final String CURRENCY_FIELD_NAME = "currency";
     private static final String CURRENCY_VALUE = "EUR";
@@ -105,6 +109,8 @@ class PaymentBodyValidatorImplTest {
     private CurrencyValidator currencyValidator;
     @Mock
     private PathParameterExtractor pathParameterExtractor;
+    @Mock
+    private BulkPaymentStreamReader bulkPaymentStreamReader;
 
     @BeforeEach
     void setUp() {
@@ -112,7 +118,8 @@ class PaymentBodyValidatorImplTest {
         messageError = new MessageError(ErrorType.PIS_400);
         ErrorBuildingService errorService = new ErrorBuildingServiceMock(ErrorType.PIS_400);
         validator = new PaymentBodyValidatorImpl(errorService, xs2aObjectMapper, standardPaymentProductsResolver, tppRedirectUriBodyValidator,
-                                                 dateFieldValidator, fieldExtractor, currencyValidator, pathParameterExtractor, countryPaymentValidatorResolver);
+                                                 dateFieldValidator, fieldExtractor, currencyValidator, pathParameterExtractor, countryPaymentValidatorResolver,
+                                                 bulkPaymentStreamReader);
     }
 
     @Test
@@ -358,6 +365,43 @@ class PaymentBodyValidatorImplTest {
         assertEquals(WRONG_BATCH_BOOKING_PREFERRED, messageError);
     }
 
+    @Test
+    void validate_bulkPaymentExceedingLimits_shouldReturnError() {
+        // Given
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest();
+        mockRequest.setContent(BULK_PAYMENT_BODY);
+        Map<String, String> templates = buildTemplateVariables(JSON_PAYMENT_PRODUCT, BULK_PAYMENT_PATH_VAR);
+        when(pathParameterExtractor.extractParameters(mockRequest)).thenReturn(templates);
+        when(bulkPaymentStreamReader.exceedsLimits(BULK_PAYMENT_BODY)).thenReturn(true);
+
+        // When
+        validator.validate(mockRequest, messageError);
+
+        // Then
+        assertEquals(BULK_SIZE_EXCEEDED, messageError);
+        verify(dateFieldValidator, never()).validateDayOfExecution(any(), any());
+        verify(countryPaymentValidatorResolver, never()).getPaymentBodyFieldValidator();
+    }
+
+    @Test
+    void validate_bulkPaymentWithinLimits_shouldValidateBody() {
+        // Given
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest();
+        mockRequest.setContent(BULK_PAYMENT_BODY);
+        Map<String, String> templates = buildTemplateVariables(JSON_PAYMENT_PRODUCT, BULK_PAYMENT_PATH_VAR);
+        when(pathParameterExtractor.extractParameters(mockRequest)).thenReturn(templates);
+        when(bulkPaymentStreamReader.exceedsLimits(BULK_PAYMENT_BODY)).thenReturn(false);
+        when(countryPaymentValidatorResolver.getPaymentBodyFieldValidator()).thenReturn(paymentBodyFieldsValidator);
+        when(paymentBodyFieldsValidator.validate(mockRequest, BULK_PAYMENT_PATH_VAR, messageError)).thenReturn(messageError);
+
+        // When
+        validator.validate(mockRequest, messageError);
+
+        // Then
+        assertTrue(messageError.getTppMessages().isEmpty());
+        verify(paymentBodyFieldsValidator).validate(mockRequest, BULK_PAYMENT_PATH_VAR, messageError);
+    }
+
     private Map<String, String> buildTemplateVariables(String paymentProduct, String paymentService) {
         Map<String, String> templates = new HashMap<>();
         templates.put(PAYMENT_PRODUCT_PATH_VAR, paymentProduct);
@@ -47,6 +47,8 @@ import org.mapstruct.factory.Mappers;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -278,6 +280,51 @@ class BulkPaymentTypeValidatorImplTest {
         assertArrayEquals(new Object[]{"referenceIssuer", 35}, messageError.getTppMessage().getTextParameters());
     }
 
+    @Test
+    void doValidation_mapBody_success() {
+        validator.validate(getBulkPaymentBody(), messageError, validationConfig);
+        assertTrue(messageError.getTppMessages().isEmpty());
+    }
+
+    @Test
+    void doValidation_mapBody_extraFieldInEntry_error() {
+        Map<String, Object> body = getBulkPaymentBody();
+        getBulkPaymentEntry(body).put("unknownField", "value");
+
+        validator.validate(body, messageError, validationConfig);
+        assertEquals(MessageErrorCode.FORMAT_ERROR_EXTRA_FIELD, messageError.getTppMessage().getMessageErrorCode());
+        assertArrayEquals(new Object[]{"unknownField"}, messageError.getTppMessage().getTextParameters());
+    }
+
+    @Test
+    void doValidation_mapBody_entryEndToEndIdentification_tooLong_error() {
+        Map<String, Object> body = getBulkPaymentBody();
+        getBulkPaymentEntry(body).put("endToEndIdentification", VALUE_36_LENGTH);
+
+        validator.validate(body, messageError, validationConfig);
+        assertEquals(MessageErrorCode.FORMAT_ERROR_OVERSIZE_FIELD, messageError.getTppMessage().getMessageErrorCode());
+        assertArrayEquals(new Object[]{"endToEndIdentification", 35}, messageError.getTppMessage().getTextParameters());
+    }
+
+    @Test
+    void doValidation_mapBody_emptyPayments_error() {
+        Map<String, Object> body = getBulkPaymentBody();
+        body.put("payments", Collections.emptyList());
+
+        validator.validate(body, messageError, validationConfig);
+        assertEquals(MessageErrorCode.FORMAT_ERROR_BULK, messageError.getTppMessage().getMessageErrorCode());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getBulkPaymentBody() {
+        return new Xs2aObjectMapper().convertValue(getBulkPaymentInitiationJson(), Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getBulkPaymentEntry(Map<String, Object> body) {
+        return ((List<Map<String, Object>>) body.get("payments")).get(0);
+    }
+
     private BulkPaymentInitiationJson getBulkPaymentInitiationJson() {
         BulkPaymentInitiationJson bulkPaymentInitiationJson = new BulkPaymentInitiationJson();
         bulkPaymentInitiationJson.setDebtorAccount(new AccountReference());
@@ -34,10 +34,12 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 class FieldExtractorTest {
     private static final String FIELD_NAME = "endToEndIdentification";
@@ -122,6 +124,50 @@ class FieldExtractorTest {
         assertTrue(actualResult.isEmpty());
     }
 
+    @Test
+    void extract_severalFields_shouldParseBodyOnce() throws IOException {
+        // Given
+        Xs2aObjectMapper xs2aObjectMapper = Mockito.spy(new Xs2aObjectMapper());
+        FieldExtractor extractor = new FieldExtractor(new ErrorBuildingServiceMock(ErrorType.PIS_400), xs2aObjectMapper);
+
+        // When
+        extractor.extractField(mockRequest, FIELD_NAME, messageError);
+        extractor.extractOptionalField(mockRequest, FIELD_NAME);
+        extractor.extractList(mockRequest, CURRENCY_FIELD_NAME, messageError);
+        extractor.extractOptionalList(mockRequest, CURRENCY_FIELD_NAME);
+        extractor.mapBodyToInstance(mockRequest, messageError, Object.class);
+
+        // Then
+        verify(xs2aObjectMapper, times(1)).readTree(any(byte[].class));
+        assertTrue(messageError.getTppMessages().isEmpty());
+    }
+
+    @Test
+    void mapBodyToInstance_Success() {
+        Optional<Map> actualResult = fieldExtractor.mapBodyToInstance(mockRequest, messageError, Map.class);
+        assertTrue(actualResult.isPresent());
+        assertEquals(FIELD_VALUE, actualResult.get().get(FIELD_NAME));
+        assertTrue(messageError.getTppMessages().isEmpty());
+    }
+
+    @Test
+    void mapBodyToInstance_invalidJson_error() {
+        MockHttpServletRequest invalidRequest = new MockHttpServletRequest();
+        invalidRequest.setContent("{invalid".getBytes(StandardCharsets.UTF_8));
+
+        Optional<Object> actualResult = fieldExtractor.mapBodyToInstance(invalidRequest, messageError, Object.class);
+
+        assertFalse(actualResult.isPresent());
+        assertEquals(DESERIALIZATION_ERROR, messageError);
+    }
+
+    @Test
+    void mapBodyToInstance_Exception() {
+        Optional<Object> actualResult = fieldExtractor.mapBodyToInstance(mockedRequest, messageError, Object.class);
+        assertFalse(actualResult.isPresent());
+        assertEquals(DESERIALIZATION_ERROR, messageError);
+    }
+
     private List<String> getCurrencyList() {
         List<String> currencyList = new ArrayList<>();
         currencyList.add("EUR");
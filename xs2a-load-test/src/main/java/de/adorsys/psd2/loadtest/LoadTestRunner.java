@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest;
+
+import de.adorsys.psd2.loadtest.client.ScenarioStepFailedException;
+import de.adorsys.psd2.loadtest.client.Xs2aClientFactory;
+import de.adorsys.psd2.loadtest.config.LoadTestSettings;
+import de.adorsys.psd2.loadtest.metrics.ClientMetrics;
+import de.adorsys.psd2.loadtest.report.LoadTestReport;
+import de.adorsys.psd2.loadtest.report.LoadTestReportFactory;
+import de.adorsys.psd2.loadtest.scenario.LoadTestScenario;
+import de.adorsys.psd2.loadtest.scenario.VirtualUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the configured scenarios by concurrent virtual users: first the warm-up iterations, then the measured ones
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner {
+    private final LoadTestSettings settings;
+    private final List<LoadTestScenario> scenarios;
+    private final Xs2aClientFactory xs2aClientFactory;
+    private final ClientMetrics clientMetrics;
+    private final LoadTestReportFactory loadTestReportFactory;
+
+    public LoadTestReport run() {
+        List<LoadTestScenario> selectedScenarios = selectScenarios();
+        List<VirtualUser> users = IntStream.range(0, settings.getUsers())
+                                      .mapToObj(i -> new VirtualUser("load-test-psu-" + i,
+                                                                     xs2aClientFactory.createClient(true),
+                                                                     xs2aClientFactory.createClient(false)))
+                                      .collect(Collectors.toList());
+
+        log.info("Warming up with {} users, {} iterations", settings.getUsers(), settings.getWarmupIterations());
+        runPhase(users, selectedScenarios, settings.getWarmupIterations(), false);
+
+        log.info("Measuring with {} users, {} iterations", settings.getUsers(), settings.getIterations());
+        long start = System.nanoTime();
+        runPhase(users, selectedScenarios, settings.getIterations(), true);
+        long durationNanos = System.nanoTime() - start;
+
+        return loadTestReportFactory.createReport(selectedScenarios, durationNanos);
+    }
+
+    private List<LoadTestScenario> selectScenarios() {
+        Map<String, LoadTestScenario> scenariosByName = scenarios.stream()
+                                                            .collect(Collectors.toMap(LoadTestScenario::getName, Function.identity()));
+        List<LoadTestScenario> selectedScenarios = new ArrayList<>();
+        for (String name : settings.getScenarios()) {
+            LoadTestScenario scenario = scenariosByName.get(name.trim());
+            if (scenario == null) {
+                throw new IllegalArgumentException("Unknown load test scenario: " + name + ", available: " + scenariosByName.keySet());
+            }
+            selectedScenarios.add(scenario);
+        }
+        return selectedScenarios;
+    }
+
+    private void runPhase(List<VirtualUser> users, List<LoadTestScenario> selectedScenarios, int iterations, boolean measured) {
+        ExecutorService executorService = Executors.newFixedThreadPool(users.size());
+        try {
+            List<Future<?>> futures = users.stream()
+                                          .map(user -> executorService.submit(() -> runIterations(user, selectedScenarios, iterations, measured)))
+                                          .collect(Collectors.toList());
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load test was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Virtual user failed", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void runIterations(VirtualUser user, List<LoadTestScenario> selectedScenarios, int iterations, boolean measured) {
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            long iterationStart = System.currentTimeMillis();
+            for (LoadTestScenario scenario : selectedScenarios) {
+                runScenario(user, scenario, measured);
+            }
+            pace(iterationStart);
+        }
+    }
+
+    private void runScenario(VirtualUser user, LoadTestScenario scenario, boolean measured) {
+        try {
+            scenario.run(user, measured ? user.getMeasuredClient() : user.getSetupClient());
+        } catch (ScenarioStepFailedException e) {
+            log.warn("Scenario {} of {} failed: {}", scenario.getName(), user.getPsuId(), e.getMessage());
+            if (measured) {
+                clientMetrics.recordScenarioFailure(scenario.getName());
+            }
+        }
+    }
+
+    private void pace(long iterationStart) {
+        long remainingMs = settings.getPacingMs() - (System.currentTimeMillis() - iterationStart);
+        if (remainingMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(remainingMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
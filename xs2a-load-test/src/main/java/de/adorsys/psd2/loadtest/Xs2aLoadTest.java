@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest;
+
+import de.adorsys.psd2.loadtest.report.LoadTestReport;
+import de.adorsys.psd2.loadtest.report.LoadTestReportWriter;
+import de.adorsys.psd2.starter.Xs2aEmbeddedStarter;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Starts XS2A in embedded mode with SPI stub and in-memory CMS on a random port
+ * and runs load test scenarios against it from the same process.
+ * <p>
+ * Settings are read from <code>xs2a.load-test.*</code> properties, see <code>application-load-test.properties</code>.
+ */
+@Configuration
+@ComponentScan(basePackages = "de.adorsys.psd2.loadtest")
+public class Xs2aLoadTest {
+    private static final String LOAD_TEST_PROFILE = "load-test";
+    private static final String MOCK_QWAC_PROFILE = "mock-qwac";
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Xs2aEmbeddedStarter.class, Xs2aLoadTest.class)
+                                                          .profiles(LOAD_TEST_PROFILE, MOCK_QWAC_PROFILE)
+                                                          .run(args)) {
+            LoadTestReport report = context.getBean(LoadTestRunner.class).run();
+            context.getBean(LoadTestReportWriter.class).write(report);
+        }
+    }
+}
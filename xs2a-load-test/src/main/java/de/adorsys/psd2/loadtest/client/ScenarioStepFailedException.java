@@ -0,0 +1,26 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.client;
+
+/**
+ * Thrown when XS2A rejects a request of a scenario step, aborts the current scenario run
+ */
+public class ScenarioStepFailedException extends RuntimeException {
+    public ScenarioStepFailedException(String step, int status, String responseBody) {
+        super(String.format("Step %s failed with status %s: %s", step, status, responseBody));
+    }
+}
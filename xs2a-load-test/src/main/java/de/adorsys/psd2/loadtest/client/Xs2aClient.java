@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import de.adorsys.psd2.loadtest.metrics.ClientMetrics;
+import de.adorsys.psd2.loadtest.metrics.RequestMetricsFilter;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Sends requests of scenario steps to XS2A.
+ * <p>
+ * A measured client records the latency of every request and marks the request for server-side measurement,
+ * a non-measured one is used for warm-up and for preparing data of the scenarios.
+ */
+@RequiredArgsConstructor
+public class Xs2aClient {
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final Xs2aObjectMapper xs2aObjectMapper;
+    private final ClientMetrics clientMetrics;
+    private final boolean measured;
+
+    /**
+     * Sends request to XS2A
+     *
+     * @param step    name of the scenario step
+     * @param method  HTTP method
+     * @param path    path of the XS2A endpoint including query parameters
+     * @param headers request headers
+     * @param body    JSON request body, may be <code>null</code>
+     * @return parsed response body, {@link NullNode} if the response has no body
+     * @throws ScenarioStepFailedException if XS2A doesn't respond with 2xx status
+     */
+    public JsonNode send(String step, HttpMethod method, String path, HttpHeaders headers, @Nullable String body) {
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.addAll(headers);
+        if (measured) {
+            requestHeaders.set(RequestMetricsFilter.STEP_HEADER, step);
+        }
+
+        long start = System.nanoTime();
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + path, method, new HttpEntity<>(body, requestHeaders), String.class);
+        long latencyNanos = System.nanoTime() - start;
+
+        boolean successful = response.getStatusCode().is2xxSuccessful();
+        if (measured) {
+            clientMetrics.getLatencies(step).record(latencyNanos, successful);
+        }
+        if (!successful) {
+            throw new ScenarioStepFailedException(step, response.getStatusCodeValue(), response.getBody());
+        }
+        return readBody(response.getBody());
+    }
+
+    private JsonNode readBody(@Nullable String body) {
+        if (StringUtils.isBlank(body)) {
+            return NullNode.getInstance();
+        }
+        try {
+            return xs2aObjectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.client;
+
+import de.adorsys.psd2.http.client.PooledHttpClient;
+import de.adorsys.psd2.loadtest.metrics.ClientMetrics;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+@RequiredArgsConstructor
+public class Xs2aClientFactory {
+    private static final String LOCAL_SERVER_PORT_PROPERTY = "local.server.port";
+
+    private final Environment environment;
+    private final PooledHttpClient loadTestHttpClient;
+    private final Xs2aObjectMapper xs2aObjectMapper;
+    private final ClientMetrics clientMetrics;
+
+    /**
+     * Creates client for XS2A running in this application, should only be called once the web server is started
+     *
+     * @param measured whether requests of the client should be measured
+     * @return XS2A client
+     */
+    public Xs2aClient createClient(boolean measured) {
+        RestTemplate restTemplate = new RestTemplate();
+        loadTestHttpClient.configure(restTemplate);
+        // Rejected requests are handled by Xs2aClient, so that they are counted as errors of the step
+        restTemplate.setErrorHandler(new DefaultResponseErrorHandler() {
+            @Override
+            public boolean hasError(ClientHttpResponse response) {
+                return false;
+            }
+        });
+
+        String baseUrl = "http://localhost:" + environment.getRequiredProperty(LOCAL_SERVER_PORT_PROPERTY);
+        return new Xs2aClient(restTemplate, baseUrl, xs2aObjectMapper, clientMetrics, measured);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.config;
+
+import de.adorsys.psd2.http.client.PooledHttpClient;
+import de.adorsys.psd2.http.client.PooledHttpClientSettings;
+import de.adorsys.psd2.loadtest.metrics.RequestMetricsFilter;
+import de.adorsys.psd2.loadtest.metrics.ServerMetrics;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class LoadTestConfig {
+    private static final String LOAD_TEST_CLIENT_NAME = "load-test";
+
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(ServerMetrics serverMetrics) {
+        FilterRegistrationBean<RequestMetricsFilter> registrationBean = new FilterRegistrationBean<>(new RequestMetricsFilter(serverMetrics));
+        // Has to wrap all XS2A filters to measure the whole request
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registrationBean;
+    }
+
+    @Bean
+    public PooledHttpClient loadTestHttpClient(LoadTestSettings settings) {
+        PooledHttpClientSettings clientSettings = PooledHttpClientSettings.builder()
+                                                      .maxTotalConnections(settings.getUsers())
+                                                      .maxConnectionsPerRoute(settings.getUsers())
+                                                      .readTimeoutMs(60000)
+                                                      .build();
+        return new PooledHttpClient(LOAD_TEST_CLIENT_NAME, clientSettings);
+    }
+}
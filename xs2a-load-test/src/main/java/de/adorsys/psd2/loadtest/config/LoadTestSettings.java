@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Getter
+@Component
+public class LoadTestSettings {
+    /**
+     * Number of virtual users running scenarios concurrently
+     */
+    @Value("${xs2a.load-test.users:10}")
+    private int users;
+
+    /**
+     * Number of measured iterations per virtual user, each iteration runs every scenario once
+     */
+    @Value("${xs2a.load-test.iterations:20}")
+    private int iterations;
+
+    /**
+     * Number of iterations per virtual user run before the measurement, their results are discarded
+     */
+    @Value("${xs2a.load-test.warmup-iterations:5}")
+    private int warmupIterations;
+
+    /**
+     * Minimum time between starts of two iterations of one virtual user in milliseconds, 0 runs iterations back to back
+     */
+    @Value("${xs2a.load-test.pacing-ms:0}")
+    private long pacingMs;
+
+    /**
+     * Names of scenarios to be run
+     */
+    @Value("#{'${xs2a.load-test.scenarios:ais-consent,account-read,single-payment,bulk-payment,periodic-payment}'.split(',')}")
+    private List<String> scenarios;
+
+    /**
+     * Number of payments in every bulk payment
+     */
+    @Value("${xs2a.load-test.bulk-size:10}")
+    private int bulkSize;
+
+    /**
+     * File the JSON report is written to, the report is only logged if empty
+     */
+    @Value("${xs2a.load-test.report-file:}")
+    private String reportFile;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client-side latencies of the measured scenario steps and failures of the measured scenario runs
+ */
+@Component
+public class ClientMetrics {
+    // Keeps steps in the order of their first execution, so that the report follows the scenario flows
+    private final Map<String, LatencyStatistics> latenciesByStep = new LinkedHashMap<>();
+    private final Map<String, LongAdder> failuresByScenario = new ConcurrentHashMap<>();
+
+    public LatencyStatistics getLatencies(String step) {
+        synchronized (latenciesByStep) {
+            return latenciesByStep.computeIfAbsent(step, s -> new LatencyStatistics());
+        }
+    }
+
+    public List<String> getSteps() {
+        synchronized (latenciesByStep) {
+            return new ArrayList<>(latenciesByStep.keySet());
+        }
+    }
+
+    public void recordScenarioFailure(String scenario) {
+        failuresByScenario.computeIfAbsent(scenario, s -> new LongAdder()).increment();
+    }
+
+    public long getScenarioFailures(String scenario) {
+        LongAdder failures = failuresByScenario.get(scenario);
+        return failures == null ? 0 : failures.sum();
+    }
+}
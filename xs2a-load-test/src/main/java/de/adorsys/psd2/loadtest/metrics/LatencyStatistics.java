@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Client-side latencies and errors of one scenario step
+ */
+public class LatencyStatistics {
+    private long[] latenciesNanos = new long[1024];
+    private int requests;
+    private int errors;
+
+    public synchronized void record(long latencyNanos, boolean successful) {
+        if (requests == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, requests * 2);
+        }
+        latenciesNanos[requests++] = latencyNanos;
+        if (!successful) {
+            errors++;
+        }
+    }
+
+    public synchronized int getRequests() {
+        return requests;
+    }
+
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    /**
+     * Calculates percentile of the recorded latencies using nearest-rank method
+     *
+     * @param percentile percentile between 0 (exclusive) and 100 (inclusive)
+     * @return latency in nanoseconds, 0 if nothing was recorded
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        if (requests == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latenciesNanos, requests);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * requests);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    public synchronized long getMaxNanos() {
+        return requests == 0 ? 0 : Arrays.stream(latenciesNanos, 0, requests).max().orElse(0);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures heap allocated and SQL statements prepared by the thread handling a request of a load test scenario step.
+ * XS2A and CMS run in the same thread in embedded mode, so this covers the whole request except asynchronous work
+ * like event recording.
+ * <p>
+ * Requests without {@link #STEP_HEADER} (e.g. warm-up requests) are not measured.
+ */
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    public static final String STEP_HEADER = "Load-Test-Step";
+
+    private final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final ServerMetrics serverMetrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String step = request.getHeader(STEP_HEADER);
+        if (step == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        SqlStatementCounter.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+            serverMetrics.record(step, allocatedBytes, SqlStatementCounter.reset());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.metrics;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-side costs of the requests sent by load test scenarios, aggregated per scenario step
+ */
+@Component
+public class ServerMetrics {
+    private final Map<String, StepCosts> costsByStep = new ConcurrentHashMap<>();
+
+    public void record(String step, long allocatedBytes, long sqlStatements) {
+        StepCosts costs = costsByStep.computeIfAbsent(step, s -> new StepCosts());
+        costs.requests.increment();
+        costs.allocatedBytes.add(allocatedBytes);
+        costs.sqlStatements.add(sqlStatements);
+    }
+
+    public StepCosts getCosts(String step) {
+        return costsByStep.getOrDefault(step, new StepCosts());
+    }
+
+    @Getter
+    public static class StepCosts {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder sqlStatements = new LongAdder();
+
+        public long getAllocatedBytesPerRequest() {
+            long count = requests.sum();
+            return count == 0 ? 0 : allocatedBytes.sum() / count;
+        }
+
+        public double getSqlStatementsPerRequest() {
+            long count = requests.sum();
+            return count == 0 ? 0 : (double) sqlStatements.sum() / count;
+        }
+    }
+}
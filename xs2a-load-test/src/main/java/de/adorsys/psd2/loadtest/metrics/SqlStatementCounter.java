@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts SQL statements prepared by Hibernate in the current thread.
+ * <p>
+ * Registered via <code>spring.jpa.properties.hibernate.session_factory.statement_inspector</code>,
+ * Hibernate creates its own instance, so the counters are kept per thread, not per instance.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<long[]> STATEMENTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Resets the counter of the current thread
+     *
+     * @return number of statements counted in the current thread since the previous reset
+     */
+    public static long reset() {
+        long[] statements = STATEMENTS.get();
+        long count = statements[0];
+        statements[0] = 0;
+        return count;
+    }
+}
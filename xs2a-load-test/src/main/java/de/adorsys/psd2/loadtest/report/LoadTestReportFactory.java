@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.report;
+
+import de.adorsys.psd2.loadtest.config.LoadTestSettings;
+import de.adorsys.psd2.loadtest.metrics.ClientMetrics;
+import de.adorsys.psd2.loadtest.metrics.LatencyStatistics;
+import de.adorsys.psd2.loadtest.metrics.ServerMetrics;
+import de.adorsys.psd2.loadtest.scenario.LoadTestScenario;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class LoadTestReportFactory {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final LoadTestSettings settings;
+    private final ClientMetrics clientMetrics;
+    private final ServerMetrics serverMetrics;
+
+    public LoadTestReport createReport(List<LoadTestScenario> scenarios, long durationNanos) {
+        double durationSeconds = durationNanos / NANOS_PER_SECOND;
+        List<StepReport> steps = clientMetrics.getSteps().stream()
+                                     .map(step -> createStepReport(step, durationSeconds))
+                                     .collect(Collectors.toList());
+
+        Map<String, Long> scenarioFailures = new LinkedHashMap<>();
+        scenarios.forEach(s -> scenarioFailures.put(s.getName(), clientMetrics.getScenarioFailures(s.getName())));
+
+        long requests = steps.stream()
+                            .mapToLong(StepReport::getRequests)
+                            .sum();
+        return LoadTestReport.builder()
+                   .users(settings.getUsers())
+                   .iterations(settings.getIterations())
+                   .durationMs(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                   .requests(requests)
+                   .requestsPerSecond(requests / durationSeconds)
+                   .scenarioFailures(scenarioFailures)
+                   .steps(steps)
+                   .build();
+    }
+
+    private StepReport createStepReport(String step, double durationSeconds) {
+        LatencyStatistics latencies = clientMetrics.getLatencies(step);
+        ServerMetrics.StepCosts costs = serverMetrics.getCosts(step);
+        return StepReport.builder()
+                   .step(step)
+                   .requests(latencies.getRequests())
+                   .errors(latencies.getErrors())
+                   .requestsPerSecond(latencies.getRequests() / durationSeconds)
+                   .p50Ms(latencies.getPercentileNanos(50) / NANOS_PER_MILLI)
+                   .p99Ms(latencies.getPercentileNanos(99) / NANOS_PER_MILLI)
+                   .maxMs(latencies.getMaxNanos() / NANOS_PER_MILLI)
+                   .allocatedBytesPerRequest(costs.getAllocatedBytesPerRequest())
+                   .sqlStatementsPerRequest(costs.getSqlStatementsPerRequest())
+                   .build();
+    }
+}
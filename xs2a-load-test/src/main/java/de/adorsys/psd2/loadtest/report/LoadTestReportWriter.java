@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.report;
+
+import de.adorsys.psd2.loadtest.config.LoadTestSettings;
+import de.adorsys.psd2.mapper.Xs2aObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Logs the report as a table and writes it as JSON to <code>xs2a.load-test.report-file</code>,
+ * so that the results of two runs can be compared by tools
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestReportWriter {
+    private static final String ROW_FORMAT = "%-45s %8s %6s %9s %9s %9s %9s %12s %6s";
+
+    private final LoadTestSettings settings;
+    private final Xs2aObjectMapper xs2aObjectMapper;
+
+    public void write(LoadTestReport report) {
+        log.info("Load test finished: {} users, {} iterations, {} requests in {} ms, {} requests/s",
+                 report.getUsers(), report.getIterations(), report.getRequests(), report.getDurationMs(),
+                 String.format("%.1f", report.getRequestsPerSecond()));
+        log.info("Failed scenario runs: {}", report.getScenarioFailures());
+        log.info(String.format(ROW_FORMAT, "step", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms", "alloc bytes", "sql"));
+        for (StepReport step : report.getSteps()) {
+            log.info(String.format(ROW_FORMAT, step.getStep(), step.getRequests(), step.getErrors(),
+                                   format(step.getRequestsPerSecond()), format(step.getP50Ms()), format(step.getP99Ms()),
+                                   format(step.getMaxMs()), step.getAllocatedBytesPerRequest(), format(step.getSqlStatementsPerRequest())));
+        }
+
+        if (StringUtils.isNotBlank(settings.getReportFile())) {
+            writeJson(report, new File(settings.getReportFile()));
+        }
+    }
+
+    private void writeJson(LoadTestReport report, File reportFile) {
+        try {
+            xs2aObjectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile, report);
+            log.info("Load test report written to {}", reportFile.getAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Couldn't write load test report to " + reportFile, e);
+        }
+    }
+
+    private String format(double value) {
+        return String.format("%.1f", value);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import de.adorsys.psd2.loadtest.client.Xs2aClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Initiates SEPA credit transfer and authorises it
+ */
+@RequiredArgsConstructor
+public abstract class AbstractPaymentScenario implements LoadTestScenario {
+    private static final String PAYMENT_PRODUCT = "sepa-credit-transfers";
+
+    private final EmbeddedScaFlow embeddedScaFlow;
+
+    @Override
+    public void run(VirtualUser user, Xs2aClient client) {
+        String paymentPath = "/v1/" + getPaymentService() + "/" + PAYMENT_PRODUCT;
+        JsonNode paymentResponse = client.send(getName() + "/initiate-payment", HttpMethod.POST, paymentPath,
+                                               user.buildHeaders(), buildPaymentBody());
+        String paymentId = paymentResponse.path("paymentId").asText();
+        embeddedScaFlow.authorise(user, client, getName(), paymentPath + "/" + paymentId);
+    }
+
+    /**
+     * @return payment service as used in XS2A paths, e.g. <code>payments</code>
+     */
+    protected abstract String getPaymentService();
+
+    protected abstract String buildPaymentBody();
+}
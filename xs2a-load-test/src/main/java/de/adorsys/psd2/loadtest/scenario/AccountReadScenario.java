@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import de.adorsys.psd2.loadtest.client.Xs2aClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Reads account list, balances and booked transactions with AIS consent of the virtual user.
+ * <p>
+ * The consent is created once per virtual user by non-measured requests, so that only the reads are measured.
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountReadScenario implements LoadTestScenario {
+    private static final String NAME = "account-read";
+    private static final String SETUP_SCENARIO = "account-read-setup";
+    private static final String CONSENT_ID_HEADER = "Consent-ID";
+
+    private final AisConsentScenario aisConsentScenario;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void run(VirtualUser user, Xs2aClient client) {
+        if (user.getAccountConsentId() == null) {
+            prepareConsent(user);
+        }
+
+        String accountPath = "/v1/accounts/" + user.getAccountId();
+        client.send(NAME + "/read-account-list", HttpMethod.GET, "/v1/accounts?withBalance=false", buildHeaders(user), null);
+        client.send(NAME + "/read-balances", HttpMethod.GET, accountPath + "/balances", buildHeaders(user), null);
+
+        LocalDate today = LocalDate.now();
+        String transactionsQuery = "?bookingStatus=booked&dateFrom=" + today.minusMonths(1) + "&dateTo=" + today;
+        client.send(NAME + "/read-transactions", HttpMethod.GET, accountPath + "/transactions" + transactionsQuery, buildHeaders(user), null);
+    }
+
+    private void prepareConsent(VirtualUser user) {
+        Xs2aClient setupClient = user.getSetupClient();
+        user.setAccountConsentId(aisConsentScenario.createValidConsent(user, setupClient, SETUP_SCENARIO));
+
+        JsonNode accountList = setupClient.send(SETUP_SCENARIO + "/read-account-list", HttpMethod.GET,
+                                                "/v1/accounts?withBalance=false", buildHeaders(user), null);
+        user.setAccountId(accountList.path("accounts").path(0).path("resourceId").asText());
+    }
+
+    private HttpHeaders buildHeaders(VirtualUser user) {
+        HttpHeaders headers = user.buildHeaders();
+        headers.set(CONSENT_ID_HEADER, user.getAccountConsentId());
+        return headers;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import de.adorsys.psd2.loadtest.client.Xs2aClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates AIS consent for dedicated account and authorises it
+ */
+@Component
+@RequiredArgsConstructor
+public class AisConsentScenario implements LoadTestScenario {
+    private static final String NAME = "ais-consent";
+
+    private final ScenarioBodies scenarioBodies;
+    private final EmbeddedScaFlow embeddedScaFlow;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void run(VirtualUser user, Xs2aClient client) {
+        createValidConsent(user, client, NAME);
+    }
+
+    /**
+     * Creates and authorises AIS consent
+     *
+     * @param user     virtual user giving the consent
+     * @param client   client the requests are sent with
+     * @param scenario name of the scenario, used as prefix of the step names
+     * @return ID of the valid consent
+     */
+    String createValidConsent(VirtualUser user, Xs2aClient client, String scenario) {
+        JsonNode consentResponse = client.send(scenario + "/create-consent", HttpMethod.POST, "/v1/consents",
+                                               user.buildHeaders(), scenarioBodies.aisConsent());
+        String consentId = consentResponse.path("consentId").asText();
+        embeddedScaFlow.authorise(user, client, scenario, "/v1/consents/" + consentId);
+        return consentId;
+    }
+}
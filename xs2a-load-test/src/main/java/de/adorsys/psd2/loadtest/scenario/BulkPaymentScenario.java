@@ -0,0 +1,44 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.scenario;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class BulkPaymentScenario extends AbstractPaymentScenario {
+    private final ScenarioBodies scenarioBodies;
+
+    public BulkPaymentScenario(EmbeddedScaFlow embeddedScaFlow, ScenarioBodies scenarioBodies) {
+        super(embeddedScaFlow);
+        this.scenarioBodies = scenarioBodies;
+    }
+
+    @Override
+    public String getName() {
+        return "bulk-payment";
+    }
+
+    @Override
+    protected String getPaymentService() {
+        return "bulk-payments";
+    }
+
+    @Override
+    protected String buildPaymentBody() {
+        return scenarioBodies.bulkPayment();
+    }
+}
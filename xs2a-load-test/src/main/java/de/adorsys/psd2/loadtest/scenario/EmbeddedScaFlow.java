@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import de.adorsys.psd2.loadtest.client.Xs2aClient;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authorises a consent or a payment with embedded SCA approach, using the credentials accepted by SPI stub
+ */
+@Component
+public class EmbeddedScaFlow {
+    private static final String PSU_PASSWORD_BODY = "{\"psuData\":{\"password\":\"12345\"}}";
+    private static final String SCA_METHOD_BODY = "{\"authenticationMethodId\":\"sms\"}";
+    private static final String TAN_BODY = "{\"scaAuthenticationData\":\"123456\"}";
+    private static final String PSU_AUTHENTICATED_STATUS = "psuAuthenticated";
+
+    /**
+     * Runs the whole authorisation of the resource
+     *
+     * @param user         virtual user authorising the resource
+     * @param client       client the requests are sent with
+     * @param scenario     name of the scenario, used as prefix of the step names
+     * @param resourcePath path of the consent or payment
+     */
+    public void authorise(VirtualUser user, Xs2aClient client, String scenario, String resourcePath) {
+        JsonNode startResponse = client.send(scenario + "/start-authorisation", HttpMethod.POST,
+                                             resourcePath + "/authorisations", user.buildHeaders(), null);
+        String authorisationPath = resourcePath + "/authorisations/" + startResponse.path("authorisationId").asText();
+
+        JsonNode psuAuthenticationResponse = client.send(scenario + "/authenticate-psu", HttpMethod.PUT,
+                                                         authorisationPath, user.buildHeaders(), PSU_PASSWORD_BODY);
+        // SPI stub offers several SCA methods, one of them has to be selected before sending the TAN
+        if (PSU_AUTHENTICATED_STATUS.equals(psuAuthenticationResponse.path("scaStatus").asText())) {
+            client.send(scenario + "/select-sca-method", HttpMethod.PUT, authorisationPath, user.buildHeaders(), SCA_METHOD_BODY);
+        }
+
+        client.send(scenario + "/authorise-transaction", HttpMethod.PUT, authorisationPath, user.buildHeaders(), TAN_BODY);
+    }
+}
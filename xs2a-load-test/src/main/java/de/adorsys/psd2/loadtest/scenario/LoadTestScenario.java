@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.scenario;
+
+import de.adorsys.psd2.loadtest.client.Xs2aClient;
+
+/**
+ * Flow of TPP requests run by every virtual user in each load test iteration
+ */
+public interface LoadTestScenario {
+    /**
+     * @return name used to select the scenario in <code>xs2a.load-test.scenarios</code> and as prefix of its step names
+     */
+    String getName();
+
+    /**
+     * Runs the scenario once
+     *
+     * @param user   virtual user running the scenario
+     * @param client client the requests of the scenario are sent with
+     */
+    void run(VirtualUser user, Xs2aClient client);
+}
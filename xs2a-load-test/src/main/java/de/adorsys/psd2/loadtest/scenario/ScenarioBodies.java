@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.scenario;
+
+import de.adorsys.psd2.loadtest.config.LoadTestSettings;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Request bodies of the scenarios, built from the templates in <code>scenario</code> folder of the classpath.
+ * <p>
+ * Dates are resolved on every call, so that the bodies stay valid however long the load test runs.
+ */
+@Component
+public class ScenarioBodies {
+    public static final String IBAN = "DE52500105173911841934";
+    private static final String CREDITOR_IBAN = "DE15500105172295759744";
+
+    private final String aisConsentTemplate = readTemplate("ais-consent.json");
+    private final String paymentTemplate = readTemplate("payment.json");
+    private final String bulkPaymentTemplate = readTemplate("bulk-payment.json");
+    private final String periodicPaymentTemplate = readTemplate("periodic-payment.json");
+    private final String bulkPayments;
+
+    public ScenarioBodies(LoadTestSettings settings) {
+        String bulkPaymentElement = readTemplate("bulk-payment-element.json");
+        this.bulkPayments = String.join(",", Collections.nCopies(settings.getBulkSize(), bulkPaymentElement));
+    }
+
+    public String aisConsent() {
+        return resolve(aisConsentTemplate, Collections.singletonMap("valid_until", LocalDate.now().plusDays(30).toString()));
+    }
+
+    public String singlePayment() {
+        return resolve(paymentTemplate, Collections.emptyMap());
+    }
+
+    public String bulkPayment() {
+        return resolve(bulkPaymentTemplate, Map.of("payments", bulkPayments,
+                                                   "requested_execution_date", LocalDate.now().plusDays(1).toString()));
+    }
+
+    public String periodicPayment() {
+        return resolve(periodicPaymentTemplate, Map.of("start_date", LocalDate.now().plusDays(1).toString(),
+                                                       "end_date", LocalDate.now().plusYears(1).toString()));
+    }
+
+    private String resolve(String template, Map<String, String> values) {
+        String body = template.replace("{{iban}}", IBAN)
+                          .replace("{{creditor_iban}}", CREDITOR_IBAN);
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            body = body.replace("{{" + value.getKey() + "}}", value.getValue());
+        }
+        return body;
+    }
+
+    private static String readTemplate(String name) {
+        try (InputStream inputStream = new ClassPathResource("scenario/" + name).getInputStream()) {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Couldn't read scenario template " + name, e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.scenario;
+
+import de.adorsys.psd2.loadtest.client.Xs2aClient;
+import lombok.Data;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * PSU whose requests are sent by one load test thread, keeps the data shared between the scenario runs of this PSU
+ */
+@Data
+public class VirtualUser {
+    private static final String PSU_IP_ADDRESS = "127.0.0.1";
+
+    private final String psuId;
+    private final Xs2aClient measuredClient;
+    private final Xs2aClient setupClient;
+
+    private String accountConsentId;
+    private String accountId;
+
+    /**
+     * Builds headers of a TPP request on behalf of this PSU with new request ID
+     *
+     * @return request headers
+     */
+    public HttpHeaders buildHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+        headers.set("X-Request-ID", UUID.randomUUID().toString());
+        headers.set("PSU-ID", psuId);
+        headers.set("PSU-IP-Address", PSU_IP_ADDRESS);
+        headers.set("TPP-Redirect-Preferred", "false");
+        return headers;
+    }
+}
@@ -0,0 +1,5 @@
+INSERT INTO crypto_algorithm (algorithm_id, external_id, encryptor_class, encryptor_params)
+VALUES(1000504, 'psGLvQpt9Q', 'de.adorsys.psd2.consent.service.security.provider.aes.AesEcbInstanceFactoryImpl', 'AES/ECB/PKCS5Padding_#_5_#_256_#_1024_#_PBKDF2WithHmacSHA256');
+
+INSERT INTO crypto_algorithm (algorithm_id, external_id, encryptor_class, encryptor_params)
+VALUES(1000505, 'JcHZwvJMuc', 'de.adorsys.psd2.consent.service.security.provider.jwe.JweGsmInstanceFactoryImpl', 'JWE/GCM/256_#_6_#_256_#_1024_#_PBKDF2WithHmacSHA256');
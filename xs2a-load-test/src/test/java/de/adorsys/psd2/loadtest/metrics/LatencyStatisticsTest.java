@@ -0,0 +1,73 @@
+/*
+ * Copyright 2018-2020 adorsys GmbH & Co KG
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package de.adorsys.psd2.loadtest.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyStatisticsTest {
+
+    @Test
+    void getPercentileNanos() {
+        // Given
+        LatencyStatistics statistics = new LatencyStatistics();
+        for (int latency = 100; latency >= 1; latency--) {
+            statistics.record(latency, true);
+        }
+
+        // When
+        long p50 = statistics.getPercentileNanos(50);
+        long p99 = statistics.getPercentileNanos(99);
+        long p100 = statistics.getPercentileNanos(100);
+
+        // Then
+        assertEquals(50, p50);
+        assertEquals(99, p99);
+        assertEquals(100, p100);
+        assertEquals(100, statistics.getMaxNanos());
+    }
+
+    @Test
+    void getPercentileNanos_noRequests() {
+        // Given
+        LatencyStatistics statistics = new LatencyStatistics();
+
+        // When
+        long p99 = statistics.getPercentileNanos(99);
+
+        // Then
+        assertEquals(0, p99);
+        assertEquals(0, statistics.getMaxNanos());
+    }
+
+    @Test
+    void record_growsBeyondInitialCapacity() {
+        // Given
+        LatencyStatistics statistics = new LatencyStatistics();
+
+        // When
+        for (int i = 0; i < 3000; i++) {
+            statistics.record(i, i % 10 != 0);
+        }
+
+        // Then
+        assertEquals(3000, statistics.getRequests());
+        assertEquals(300, statistics.getErrors());
+        assertEquals(2999, statistics.getMaxNanos());
+    }
+}
@@ -24,12 +24,15 @@ import de.adorsys.psd2.xs2a.domain.pis.BulkPayment;
 import de.adorsys.psd2.xs2a.domain.pis.PeriodicPayment;
 import de.adorsys.psd2.xs2a.domain.pis.SinglePayment;
 import de.adorsys.psd2.xs2a.service.mapper.PaymentModelMapper;
+import de.adorsys.psd2.xs2a.service.mapper.payment.BulkPaymentStreamReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ArrayUtils;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -37,6 +40,7 @@ import java.io.IOException;
 public class RawToXs2aPaymentMapper {
     private final PaymentModelMapper paymentModelMapper;
     private final Xs2aObjectMapper xs2aObjectMapper;
+    private final BulkPaymentStreamReader bulkPaymentStreamReader;
 
     public SinglePayment mapToSinglePayment(byte[] paymentBody) {
         if (ArrayUtils.isEmpty(paymentBody)) {
@@ -73,16 +77,36 @@ public class RawToXs2aPaymentMapper {
             return null;
         }
 
-        BulkPaymentInitiationJson paymentInitiationJson = readBytes(paymentBody, BulkPaymentInitiationJson.class);
-        BulkPayment bulkPayment = paymentModelMapper.mapToXs2aPayment(paymentInitiationJson);
+        List<SinglePayment> payments = new ArrayList<>();
+        BulkPaymentInitiationJson bulkPaymentHeader = readBulkPayment(paymentBody, payments);
+        if (bulkPaymentHeader == null) {
+            return null;
+        }
+
+        BulkPayment bulkPayment = paymentModelMapper.mapToXs2aPayment(bulkPaymentHeader);
 
         if (bulkPayment != null) {
+            payments.forEach(p -> {
+                p.setRequestedExecutionDate(bulkPayment.getRequestedExecutionDate());
+                p.setRequestedExecutionTime(bulkPayment.getRequestedExecutionTime());
+                p.setDebtorAccount(bulkPayment.getDebtorAccount());
+            });
+            bulkPayment.setPayments(payments);
             bulkPayment.setPaymentData(paymentBody);
         }
 
         return bulkPayment;
     }
 
+    private BulkPaymentInitiationJson readBulkPayment(byte[] paymentBody, List<SinglePayment> payments) {
+        try {
+            return bulkPaymentStreamReader.read(paymentBody, e -> payments.add(paymentModelMapper.mapToXs2aPayment(e)));
+        } catch (IOException e) {
+            log.warn("Couldn't deserialize bulk payment from bytes");
+            return null;
+        }
+    }
+
     private <T> T readBytes(byte[] paymentBody, Class<T> clazz) {
         try {
             return xs2aObjectMapper.readValue(paymentBody, clazz);
@@ -18,12 +18,14 @@ package de.adorsys.psd2.xs2a.service.payment.support.mapper;
 
 import de.adorsys.psd2.mapper.Xs2aObjectMapper;
 import de.adorsys.psd2.model.BulkPaymentInitiationJson;
+import de.adorsys.psd2.model.PaymentInitiationBulkElementJson;
 import de.adorsys.psd2.model.PaymentInitiationJson;
 import de.adorsys.psd2.model.PeriodicPaymentInitiationJson;
 import de.adorsys.psd2.xs2a.domain.pis.BulkPayment;
 import de.adorsys.psd2.xs2a.domain.pis.PeriodicPayment;
 import de.adorsys.psd2.xs2a.domain.pis.SinglePayment;
 import de.adorsys.psd2.xs2a.service.mapper.PaymentModelMapper;
+import de.adorsys.psd2.xs2a.service.mapper.payment.BulkPaymentStreamReader;
 import de.adorsys.xs2a.reader.JsonReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +33,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
@@ -56,7 +61,8 @@ public class RawToXs2aPaymentMapperTest {
     @BeforeEach
     void setUp() {
         xs2aObjectMapper.findAndRegisterModules();
-        rawToXs2aPaymentMapper = new RawToXs2aPaymentMapper(paymentModelMapper, xs2aObjectMapper);
+        rawToXs2aPaymentMapper = new RawToXs2aPaymentMapper(paymentModelMapper, xs2aObjectMapper,
+                                                            new BulkPaymentStreamReader(xs2aObjectMapper, 0, 0));
     }
 
     @Test
@@ -169,10 +175,19 @@ public class RawToXs2aPaymentMapperTest {
         // Given
         BulkPaymentInitiationJson paymentInitiationJson = jsonReader.getObjectFromFile(BULK_PAYMENT_PSD2_JSON_PATH, BulkPaymentInitiationJson.class);
         BulkPayment xs2aBulkPayment = jsonReader.getObjectFromFile(BULK_PAYMENT_XS2A_JSON_PATH, BulkPayment.class);
+        List<SinglePayment> xs2aEntries = xs2aBulkPayment.getPayments();
+        xs2aBulkPayment.setPayments(new ArrayList<>());
+        PaymentInitiationBulkElementJson bulkEntry = paymentInitiationJson.getPayments().get(0);
+        paymentInitiationJson.setPayments(new ArrayList<>());
         when(paymentModelMapper.mapToXs2aPayment(paymentInitiationJson)).thenReturn(xs2aBulkPayment);
+        when(paymentModelMapper.mapToXs2aPayment(bulkEntry)).thenReturn(xs2aEntries.get(0));
 
         byte[] paymentBody = jsonReader.getBytesFromFile(BULK_PAYMENT_PSD2_JSON_PATH);
         BulkPayment expectedBulkPayment = jsonReader.getObjectFromFile(BULK_PAYMENT_XS2A_JSON_PATH, BulkPayment.class);
+        expectedBulkPayment.getPayments().forEach(p -> {
+            p.setDebtorAccount(expectedBulkPayment.getDebtorAccount());
+            p.setRequestedExecutionDate(expectedBulkPayment.getRequestedExecutionDate());
+        });
         expectedBulkPayment.setPaymentData(paymentBody);
 
         // When
@@ -199,12 +214,15 @@ public class RawToXs2aPaymentMapperTest {
         // Then
         assertNull(actual);
         verify(paymentModelMapper, never()).mapToXs2aPayment(any(BulkPaymentInitiationJson.class));
+        verify(paymentModelMapper, never()).mapToXs2aPayment(any(PaymentInitiationBulkElementJson.class));
     }
 
     @Test
     void mapToBulkPayment_nullBulkPayment() {
         // Given
         BulkPaymentInitiationJson paymentInitiationJson = jsonReader.getObjectFromFile(BULK_PAYMENT_PSD2_JSON_PATH, BulkPaymentInitiationJson.class);
+        paymentInitiationJson.setPayments(new ArrayList<>());
+        when(paymentModelMapper.mapToXs2aPayment(any(PaymentInitiationBulkElementJson.class))).thenReturn(new SinglePayment());
         when(paymentModelMapper.mapToXs2aPayment(paymentInitiationJson)).thenReturn(null);
 
         byte[] paymentBody = jsonReader.getBytesFromFile(BULK_PAYMENT_PSD2_JSON_PATH);